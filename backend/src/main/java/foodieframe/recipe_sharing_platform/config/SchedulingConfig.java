@@ -0,0 +1,10 @@
+package foodieframe.recipe_sharing_platform.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+    // Enables @Scheduled background jobs (log fsync, window rotation, etc.)
+}
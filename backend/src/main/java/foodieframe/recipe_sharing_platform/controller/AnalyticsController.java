@@ -0,0 +1,36 @@
+package foodieframe.recipe_sharing_platform.controller;
+
+import foodieframe.recipe_sharing_platform.model.HotRecipe;
+import foodieframe.recipe_sharing_platform.service.HotRecipeService;
+import foodieframe.recipe_sharing_platform.service.HotRecipeService.EngagementType;
+import foodieframe.recipe_sharing_platform.service.HotRecipeService.Window;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@CrossOrigin(origins = "http://localhost:5173", allowCredentials = "true")
+@RequestMapping("/api/analytics")
+public class AnalyticsController {
+
+    @Autowired
+    private HotRecipeService hotRecipeService;
+
+    // Get the most-engaged recipes in the last hour or day
+    @GetMapping("/hot")
+    public ResponseEntity<List<HotRecipe>> getHotRecipes(
+            @RequestParam(defaultValue = "HOUR") Window window,
+            @RequestParam(defaultValue = "ALL") EngagementType type,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        if (limit < 1) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        return new ResponseEntity<>(
+                hotRecipeService.getHotRecipes(type, window, limit),
+                HttpStatus.OK);
+    }
+}
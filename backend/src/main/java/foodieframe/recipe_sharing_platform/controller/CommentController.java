@@ -1,13 +1,19 @@
 package foodieframe.recipe_sharing_platform.controller;
 
 import foodieframe.recipe_sharing_platform.model.Comment;
+import foodieframe.recipe_sharing_platform.model.CommentPage;
 import foodieframe.recipe_sharing_platform.service.CommentService;
+import foodieframe.recipe_sharing_platform.service.LiveUpdateHub;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * REST Controller for handling Comment-related HTTP requests
@@ -21,6 +27,9 @@ public class CommentController {
     @Autowired
     private CommentService commentService;
 
+    @Autowired
+    private LiveUpdateHub liveUpdateHub;
+
     /**
      * Get all comments
      * @return List of all comments
@@ -46,47 +55,158 @@ public class CommentController {
     }
 
     /**
-     * Get all comments by a specific user
+     * Get a newest-first page of comments by a specific user
      * @param userId The ID of the user
-     * @return List of comments by the user
+     * @param cursor Cursor from the previous page (omit for the first page)
+     * @param limit Maximum number of comments to return
+     * @param viewerId The ID of the user reading (optional); hides comments across blocks
+     * @return Page of comments by the user with the cursor of the next page, 400 for a bad cursor or limit
      */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<Comment>> getCommentsByUserId(@PathVariable Long userId) {
-        List<Comment> comments = commentService.getCommentsByUserId(userId);
-        return new ResponseEntity<>(comments, HttpStatus.OK);
+    public ResponseEntity<CommentPage> getCommentsByUserId(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) Long viewerId) {
+        try {
+            CommentPage comments = commentService.getCommentsByUserId(userId, cursor, limit, viewerId);
+            return new ResponseEntity<>(comments, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
     }
 
     /**
-     * Get all comments for a specific post
+     * Get a newest-first page of comment threads for a specific post
      * @param postId The ID of the post
-     * @return List of comments on the post
+     * @param cursor Cursor from the previous page (omit for the first page)
+     * @param limit Maximum number of top-level comments to return
+     * @param replies Maximum number of replies to nest under each comment
+     * @param viewerId The ID of the user reading (optional); hides comments across blocks
+     * @return Page of comment threads on the post with the cursor of the next page, 400 for bad paging values
      */
     @GetMapping("/post/{postId}")
-    public ResponseEntity<List<Comment>> getCommentsByPostId(@PathVariable Long postId) {
-        List<Comment> comments = commentService.getCommentsByPostId(postId);
-        return new ResponseEntity<>(comments, HttpStatus.OK);
+    public ResponseEntity<CommentPage> getCommentsByPostId(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = "3") int replies,
+            @RequestParam(required = false) Long viewerId) {
+        try {
+            CommentPage comments = commentService.getCommentsByPostId(postId, cursor, limit, replies, viewerId);
+            return new ResponseEntity<>(comments, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
     }
 
     /**
-     * Get all comments for a specific event
+     * Get a newest-first page of comment threads for a specific event
      * @param eventId The ID of the event
-     * @return List of comments on the event
+     * @param cursor Cursor from the previous page (omit for the first page)
+     * @param limit Maximum number of top-level comments to return
+     * @param replies Maximum number of replies to nest under each comment
+     * @param viewerId The ID of the user reading (optional); hides comments across blocks
+     * @return Page of comment threads on the event with the cursor of the next page, 400 for bad paging values
      */
     @GetMapping("/event/{eventId}")
-    public ResponseEntity<List<Comment>> getCommentsByEventId(@PathVariable Long eventId) {
-        List<Comment> comments = commentService.getCommentsByEventId(eventId);
-        return new ResponseEntity<>(comments, HttpStatus.OK);
+    public ResponseEntity<CommentPage> getCommentsByEventId(
+            @PathVariable Long eventId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = "3") int replies,
+            @RequestParam(required = false) Long viewerId) {
+        try {
+            CommentPage comments = commentService.getCommentsByEventId(eventId, cursor, limit, replies, viewerId);
+            return new ResponseEntity<>(comments, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
     }
 
     /**
-     * Create a new comment
+     * Get the stored comment counts of several posts and events in one call
+     * @param postIds IDs of the posts (optional)
+     * @param eventIds IDs of the events (optional)
+     * @return Comment count per ID under "posts" and "events", 400 if more than 100 IDs are requested
+     */
+    @GetMapping("/counts")
+    public ResponseEntity<Map<String, Map<Long, Long>>> getCommentCounts(
+            @RequestParam(defaultValue = "") List<Long> postIds,
+            @RequestParam(defaultValue = "") List<Long> eventIds) {
+        if (postIds.size() + eventIds.size() > CommentService.MAX_PAGE_SIZE) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        Map<String, Map<Long, Long>> counts = Map.of(
+                "posts", commentService.getPostCommentCounts(postIds),
+                "events", commentService.getEventCommentCounts(eventIds));
+        return new ResponseEntity<>(counts, HttpStatus.OK);
+    }
+
+    /**
+     * Stream live comment and interaction changes on a post as Server-Sent Events
+     * Each "batch" event carries a JSON array of changes
+     * @param postId The ID of the post
+     * @return An open event stream
+     */
+    @GetMapping(value = "/post/{postId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPostUpdates(@PathVariable Long postId) {
+        return liveUpdateHub.subscribe(LiveUpdateHub.postTopic(postId));
+    }
+
+    /**
+     * Stream live comment changes on an event as Server-Sent Events
+     * Each "batch" event carries a JSON array of changes
+     * @param eventId The ID of the event
+     * @return An open event stream
+     */
+    @GetMapping(value = "/event/{eventId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEventUpdates(@PathVariable Long eventId) {
+        return liveUpdateHub.subscribe(LiveUpdateHub.eventTopic(eventId));
+    }
+
+    /**
+     * Get the replies below a comment as a nested tree
+     * @param id The ID of the comment
+     * @param limit Maximum number of replies to return
+     * @param viewerId The ID of the user reading (optional); hides replies across blocks
+     * @return The comment with nested replies, 404 if not found, 400 for a bad limit
+     */
+    @GetMapping("/{id}/replies")
+    public ResponseEntity<Comment> getCommentReplies(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) Long viewerId) {
+        try {
+            Comment comment = commentService.getCommentWithReplies(id, limit, viewerId);
+            if (comment != null) {
+                return new ResponseEntity<>(comment, HttpStatus.OK);
+            }
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Create a new comment, or a reply when parentId is set
      * @param comment The comment to create
-     * @return The created comment with 201 status
+     * With group commit enabled the insert is batched with concurrent ones and the
+     * response is sent once its batch has committed
+     * @return The created comment with 201 status, 400 if the parent is missing or too deep
      */
     @PostMapping
-    public ResponseEntity<Comment> createComment(@RequestBody Comment comment) {
-        Comment newComment = commentService.createComment(comment);
-        return new ResponseEntity<>(newComment, HttpStatus.CREATED);
+    public CompletableFuture<ResponseEntity<Comment>> createComment(@RequestBody Comment comment) {
+        try {
+            if (commentService.isGroupCommitEnabled()) {
+                return commentService.createCommentGrouped(comment)
+                        .thenApply(newComment -> new ResponseEntity<>(newComment, HttpStatus.CREATED));
+            }
+            Comment newComment = commentService.createComment(comment);
+            return CompletableFuture.completedFuture(new ResponseEntity<>(newComment, HttpStatus.CREATED));
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(new ResponseEntity<>(HttpStatus.BAD_REQUEST));
+        }
     }
 
     /**
@@ -105,7 +225,7 @@ public class CommentController {
     }
 
     /**
-     * Delete a comment
+     * Delete a comment and all of its replies
      * @param id The ID of the comment to delete
      * @return 204 if deleted, 404 if not found
      */
@@ -1,19 +1,32 @@
 package foodieframe.recipe_sharing_platform.controller;
 
 import foodieframe.recipe_sharing_platform.model.Event;
+import foodieframe.recipe_sharing_platform.model.EventPage;
+import foodieframe.recipe_sharing_platform.model.EventRsvp;
+import foodieframe.recipe_sharing_platform.model.EventRsvp.RsvpStatus;
+import foodieframe.recipe_sharing_platform.model.NearbyEvent;
+import foodieframe.recipe_sharing_platform.service.EventRsvpService;
 import foodieframe.recipe_sharing_platform.service.EventService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -21,8 +34,13 @@ import java.util.UUID;
 @RequestMapping("/api/events")
 public class EventController {
 
+    private static final MediaType TEXT_CALENDAR = new MediaType("text", "calendar", StandardCharsets.UTF_8);
+
     @Autowired
     private EventService eventService;
+
+    @Autowired
+    private EventRsvpService eventRsvpService;
     
     // Enhanced create event method with detailed error handling
     @PostMapping
@@ -46,18 +64,14 @@ public class EventController {
                 event.setImage("https://example.com/default-image.jpg");
             }
 
-            if (event.getDate() == null || event.getDate().trim().length() < 6) {
-                validationErrors.append("Date must be at least 6 characters long. ");
+            if (!eventService.isValidDateTime(event.getDate(), event.getTime())) {
+                validationErrors.append("Date must be YYYY-MM-DD and time HH:mm. ");
             }
 
             if (event.getLocation() == null || event.getLocation().trim().length() < 6) {
                 validationErrors.append("Location must be at least 6 characters long. ");
             }
 
-            if (event.getTime() == null || event.getTime().trim().length() < 6) {
-                validationErrors.append("Time must be at least 6 characters long. ");
-            }
-
             if (event.getUserId() == null) {
                 validationErrors.append("UserId is required. ");
             }
@@ -71,6 +85,8 @@ public class EventController {
             Event savedEvent = eventService.saveEvent(event);
             System.out.println("[DEBUG] Event successfully saved: " + savedEvent);
             return new ResponseEntity<Event>(savedEvent, HttpStatus.CREATED);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
         } catch (Exception e) {
             System.err.println("[ERROR] Failed to save event: " + e.getMessage());
             e.printStackTrace();
@@ -98,6 +114,8 @@ public class EventController {
     public ResponseEntity<Event> updateEvent(@PathVariable Long id, @RequestBody Event event) {
         try {
             return new ResponseEntity<Event>(eventService.updateEvent(id, event), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         } catch (RuntimeException e) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
@@ -109,7 +127,11 @@ public class EventController {
         if (event.getId() == null) {
             return new ResponseEntity<>("Event ID is required for update", HttpStatus.BAD_REQUEST);
         }
-        return new ResponseEntity<>(eventService.updateEvent(event.getId(), event), HttpStatus.OK);
+        try {
+            return new ResponseEntity<>(eventService.updateEvent(event.getId(), event), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
     }
     
     // Delete
@@ -123,13 +145,74 @@ public class EventController {
         }
     }
     
-    // Search events
+    // Search events; viewerId hides events by users blocked either way
     @GetMapping("/search")
-    public ResponseEntity<List<Event>> searchEvents(@RequestParam String term) {
-        List<Event> events = eventService.searchEvents(term);
+    public ResponseEntity<List<Event>> searchEvents(
+            @RequestParam String term,
+            @RequestParam(required = false) Long viewerId) {
+        List<Event> events = eventService.searchEvents(term, viewerId);
         return new ResponseEntity<>(events, HttpStatus.OK);
     }
     
+    // Upcoming events starting in [from, to), soonest first, with keyset paging
+    // from/to accept ISO instants or YYYY-MM-DD; from defaults to now and to to one year later
+    @GetMapping("/upcoming")
+    public ResponseEntity<EventPage> getUpcomingEvents(
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        try {
+            Instant start = from == null ? Instant.now() : eventService.parseInstant(from);
+            Instant end = to == null ? start.plus(365, ChronoUnit.DAYS) : eventService.parseInstant(to);
+            return new ResponseEntity<>(eventService.getUpcomingEvents(start, end, cursor, limit), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+    
+    // Events within radiusKm of a point, nearest first, limited to the same time window as /upcoming
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyEvent>> getNearbyEvents(
+            @RequestParam double lat,
+            @RequestParam double lon,
+            @RequestParam(defaultValue = "10") double radiusKm,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(defaultValue = "20") int limit) {
+        try {
+            Instant start = from == null ? Instant.now() : eventService.parseInstant(from);
+            Instant end = to == null ? start.plus(365, ChronoUnit.DAYS) : eventService.parseInstant(to);
+            return new ResponseEntity<>(eventService.getNearbyEvents(lat, lon, radiusKm, start, end, limit),
+                    HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+    
+    // Events overlapping a time window, or another event when eventId is given
+    // With userId, only events that user created or RSVPed to; the window defaults like /upcoming
+    @GetMapping("/conflicts")
+    public ResponseEntity<List<Event>> getConflicts(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Long eventId,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(defaultValue = "50") int limit) {
+        try {
+            if (eventId != null) {
+                return new ResponseEntity<>(eventService.getConflictsWith(eventId, userId), HttpStatus.OK);
+            }
+            Instant start = from == null ? Instant.now() : eventService.parseInstant(from);
+            Instant end = to == null ? start.plus(365, ChronoUnit.DAYS) : eventService.parseInstant(to);
+            return new ResponseEntity<>(eventService.getOverlappingEvents(userId, start, end, limit), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } catch (RuntimeException e) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+    }
+    
     // Get events by user ID
     @GetMapping("/user/{userId}")
     public ResponseEntity<List<Event>> getEventsByUserId(@PathVariable Long userId) {
@@ -137,6 +220,59 @@ public class EventController {
         return new ResponseEntity<>(events, HttpStatus.OK);
     }
     
+    // iCalendar feed of a user's events for calendar apps; answers 304 when nothing changed
+    // since If-Modified-Since, otherwise streams the events straight from the database
+    @GetMapping(value = "/user/{userId}/calendar.ics", produces = "text/calendar")
+    public ResponseEntity<StreamingResponseBody> getUserCalendar(@PathVariable Long userId, WebRequest request) {
+        long lastModified = eventService.getCalendarLastModified(userId).toEpochMilli();
+        if (request.checkNotModified(lastModified)) {
+            return new ResponseEntity<>(HttpStatus.NOT_MODIFIED);
+        }
+        StreamingResponseBody body = output -> eventService.writeCalendar(userId, output);
+        return ResponseEntity.ok()
+                .contentType(TEXT_CALENDAR)
+                .lastModified(lastModified)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"events.ics\"")
+                .body(body);
+    }
+    
+    // RSVP to an event; GOING while seats last, WAITLISTED (with position) once it is full
+    @PostMapping("/{id}/rsvps/users/{userId}")
+    public ResponseEntity<?> rsvp(@PathVariable Long id, @PathVariable Long userId) {
+        try {
+            return new ResponseEntity<>(eventRsvpService.rsvp(id, userId), HttpStatus.OK);
+        } catch (DataIntegrityViolationException e) {
+            // The same user RSVPed twice at once; the other request won
+            return new ResponseEntity<>(Map.of("error", "RSVP already in progress"), HttpStatus.CONFLICT);
+        } catch (RuntimeException e) {
+            return new ResponseEntity<>(Map.of("error", e.getMessage()), HttpStatus.NOT_FOUND);
+        }
+    }
+    
+    // A user's RSVP to an event
+    @GetMapping("/{id}/rsvps/users/{userId}")
+    public ResponseEntity<EventRsvp> getRsvp(@PathVariable Long id, @PathVariable Long userId) {
+        return eventRsvpService.getRsvp(id, userId)
+                .map(rsvp -> new ResponseEntity<>(rsvp, HttpStatus.OK))
+                .orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+    
+    // Cancel an RSVP; a freed seat goes to the first user on the waitlist
+    @DeleteMapping("/{id}/rsvps/users/{userId}")
+    public ResponseEntity<Void> cancelRsvp(@PathVariable Long id, @PathVariable Long userId) {
+        return eventRsvpService.cancel(id, userId)
+                ? new ResponseEntity<>(HttpStatus.NO_CONTENT)
+                : new ResponseEntity<>(HttpStatus.NOT_FOUND);
+    }
+    
+    // Attendees and waitlist of an event, each in arrival order
+    @GetMapping("/{id}/rsvps")
+    public ResponseEntity<Map<String, List<EventRsvp>>> getRsvps(@PathVariable Long id) {
+        return new ResponseEntity<>(Map.of(
+                "going", eventRsvpService.getRsvps(id, RsvpStatus.GOING),
+                "waitlist", eventRsvpService.getRsvps(id, RsvpStatus.WAITLISTED)), HttpStatus.OK);
+    }
+    
     // Upload event with image file
     @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<?> createEventWithImage(
@@ -146,7 +282,11 @@ public class EventController {
             @RequestParam("date") String date,
             @RequestParam("time") String time,
             @RequestParam("location") String location,
-            @RequestParam("userId") Long userId) {
+            @RequestParam("userId") Long userId,
+            @RequestParam(value = "latitude", required = false) Double latitude,
+            @RequestParam(value = "longitude", required = false) Double longitude,
+            @RequestParam(value = "capacity", required = false) Integer capacity,
+            @RequestParam(value = "durationMinutes", required = false) Integer durationMinutes) {
 
         try {
             // Validate required fields
@@ -160,18 +300,14 @@ public class EventController {
                 validationErrors.append("Description must be at least 6 characters long. ");
             }
 
-            if (date == null || date.trim().length() < 6) {
-                validationErrors.append("Date must be at least 6 characters long. ");
+            if (!eventService.isValidDateTime(date, time)) {
+                validationErrors.append("Date must be YYYY-MM-DD and time HH:mm. ");
             }
 
             if (location == null || location.trim().length() < 6) {
                 validationErrors.append("Location must be at least 6 characters long. ");
             }
 
-            if (time == null || time.trim().length() < 6) {
-                validationErrors.append("Time must be at least 6 characters long. ");
-            }
-
             if (userId == null) {
                 validationErrors.append("UserId is required. ");
             }
@@ -194,6 +330,10 @@ public class EventController {
             event.setTime(time);
             event.setLocation(location);
             event.setUserId(userId);
+            event.setLatitude(latitude);
+            event.setLongitude(longitude);
+            event.setCapacity(capacity);
+            event.setDurationMinutes(durationMinutes);
             
             // Save image file
             if (imageFile != null && !imageFile.isEmpty()) {
@@ -207,6 +347,8 @@ public class EventController {
             System.out.println("[DEBUG] Event successfully saved with image upload: " + savedEvent);
             return new ResponseEntity<>(savedEvent, HttpStatus.CREATED);
 
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
         } catch (Exception e) {
             System.err.println("[ERROR] Failed to save event with image: " + e.getMessage());
             e.printStackTrace();
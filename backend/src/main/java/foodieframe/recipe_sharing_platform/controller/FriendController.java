@@ -1,7 +1,12 @@
 package foodieframe.recipe_sharing_platform.controller;
 
 import foodieframe.recipe_sharing_platform.model.Friend;
+import foodieframe.recipe_sharing_platform.model.FriendConnection;
+import foodieframe.recipe_sharing_platform.model.FriendPage;
+import foodieframe.recipe_sharing_platform.model.FriendSuggestion;
+import foodieframe.recipe_sharing_platform.model.MutualFriends;
 import foodieframe.recipe_sharing_platform.service.FriendService;
+import foodieframe.recipe_sharing_platform.service.FriendSuggestionService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -18,6 +23,9 @@ public class FriendController {
     @Autowired
     private FriendService friendService;
 
+    @Autowired
+    private FriendSuggestionService friendSuggestionService;
+
     // Send a friend request
     @PostMapping("/request")
     public ResponseEntity<Friend> sendFriendRequest(@RequestBody Map<String, Long> request) {
@@ -116,6 +124,94 @@ public class FriendController {
                 HttpStatus.OK);
     }
 
+    // Get one page of a user's friends with their profiles, ordered by name or most recent
+    @GetMapping("/users/{userId}/profiles")
+    public ResponseEntity<FriendPage> getFriendPage(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "name") String order,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return new ResponseEntity<>(friendService.getFriendPage(userId, order, page, size), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    // Get one page of pending requests sent to a user, with the senders' profiles
+    @GetMapping("/users/{userId}/pending/profiles")
+    public ResponseEntity<FriendPage> getPendingRequestPage(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "recent") String order,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return new ResponseEntity<>(friendService.getPendingRequestPage(userId, order, page, size),
+                    HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    // Get one page of pending requests sent by a user, with the recipients' profiles
+    @GetMapping("/users/{userId}/sent/profiles")
+    public ResponseEntity<FriendPage> getSentRequestPage(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "recent") String order,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return new ResponseEntity<>(friendService.getSentRequestPage(userId, order, page, size), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    // Get the IDs of a user's friends, ascending
+    @GetMapping("/users/{userId}/ids")
+    public ResponseEntity<long[]> getFriendIds(@PathVariable Long userId) {
+        return new ResponseEntity<>(
+                friendService.getFriendIds(userId),
+                HttpStatus.OK);
+    }
+
+    // Friends two users have in common: the count and the first few
+    @GetMapping("/users/{userId}/mutual/{otherUserId}")
+    public ResponseEntity<MutualFriends> getMutualFriends(
+            @PathVariable Long userId,
+            @PathVariable Long otherUserId,
+            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            return new ResponseEntity<>(friendService.getMutualFriends(userId, otherUserId, limit), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    // Degree of separation between two users (up to 3) with one shortest chain of friends
+    @GetMapping("/users/{userId}/connection/{otherUserId}")
+    public ResponseEntity<FriendConnection> getConnection(
+            @PathVariable Long userId,
+            @PathVariable Long otherUserId) {
+        try {
+            return new ResponseEntity<>(friendService.getConnection(userId, otherUserId), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    // People a user may know, ranked by mutual friends and shared groups
+    @GetMapping("/users/{userId}/suggestions")
+    public ResponseEntity<List<FriendSuggestion>> getSuggestions(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            return new ResponseEntity<>(friendSuggestionService.getSuggestions(userId, limit), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
     // Get pending friend requests for a user
     @GetMapping("/users/{userId}/pending")
     public ResponseEntity<List<Friend>> getPendingFriendRequests(@PathVariable Long userId) {
@@ -11,6 +11,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @CrossOrigin(origins = "http://localhost:5173", allowCredentials = "true")
@@ -22,14 +23,19 @@ public class InteractionController {
 
     // Create an interaction (like, favorite, comment)
     @PostMapping("/users/{userId}/recipes/{recipeId}")
-    public ResponseEntity<Interaction> createInteraction(
+    public CompletableFuture<ResponseEntity<Interaction>> createInteraction(
             @PathVariable Long userId,
             @PathVariable Long recipeId,
             @RequestParam InteractionType type,
             @RequestBody(required = false) String content) {
 
+        // With group commit enabled the request is released while the insert waits for its batch
+        if (interactionService.isGroupCommitEnabled()) {
+            return interactionService.createInteractionGrouped(userId, recipeId, type, content)
+                    .thenApply(interaction -> new ResponseEntity<>(interaction, HttpStatus.CREATED));
+        }
         Interaction interaction = interactionService.createInteraction(userId, recipeId, type, content);
-        return new ResponseEntity<>(interaction, HttpStatus.CREATED);
+        return CompletableFuture.completedFuture(new ResponseEntity<>(interaction, HttpStatus.CREATED));
     }
 
     // Get all interactions for a recipe
@@ -0,0 +1,52 @@
+package foodieframe.recipe_sharing_platform.controller;
+
+import foodieframe.recipe_sharing_platform.model.Notification;
+import foodieframe.recipe_sharing_platform.service.NotificationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@CrossOrigin(origins = "http://localhost:5173", allowCredentials = "true")
+@RequestMapping("/api/notifications")
+public class NotificationController {
+
+    @Autowired
+    private NotificationService notificationService;
+
+    // A user's latest notifications, newest first
+    @GetMapping("/users/{userId}")
+    public ResponseEntity<List<Notification>> getNotifications(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "20") int limit) {
+        try {
+            return new ResponseEntity<>(notificationService.getNotifications(userId, limit), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    // Number of unread notifications, for the badge
+    @GetMapping("/users/{userId}/unread-count")
+    public ResponseEntity<Map<String, Long>> getUnreadCount(@PathVariable Long userId) {
+        return new ResponseEntity<>(Map.of("count", notificationService.getUnreadCount(userId)), HttpStatus.OK);
+    }
+
+    // Mark one notification as read
+    @PutMapping("/users/{userId}/{notificationId}/read")
+    public ResponseEntity<Void> markRead(@PathVariable Long userId, @PathVariable Long notificationId) {
+        return notificationService.markRead(userId, notificationId)
+                ? new ResponseEntity<>(HttpStatus.NO_CONTENT)
+                : new ResponseEntity<>(HttpStatus.NOT_FOUND);
+    }
+
+    // Mark all of a user's notifications as read
+    @PutMapping("/users/{userId}/read-all")
+    public ResponseEntity<Map<String, Integer>> markAllRead(@PathVariable Long userId) {
+        return new ResponseEntity<>(Map.of("updated", notificationService.markAllRead(userId)), HttpStatus.OK);
+    }
+}
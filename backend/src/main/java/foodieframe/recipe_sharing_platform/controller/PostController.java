@@ -35,8 +35,8 @@ public class PostController {
     
     // Read all
     @GetMapping
-    public ResponseEntity<List<Post>> getAllPosts() {
-        return new ResponseEntity<List<Post>>(postService.getAllPosts(), HttpStatus.OK);
+    public ResponseEntity<List<Post>> getAllPosts(@RequestParam(required = false) Long viewerId) {
+        return new ResponseEntity<List<Post>>(postService.getAllPosts(viewerId), HttpStatus.OK);
     }
     
     // Read one
@@ -124,8 +124,10 @@ public class PostController {
 
     // Find by user ID
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<Post>> getPostsByUserId(@PathVariable Long userId) {
-        return new ResponseEntity<List<Post>>(postService.getPostsByUserId(userId), HttpStatus.OK);
+    public ResponseEntity<List<Post>> getPostsByUserId(
+            @PathVariable Long userId,
+            @RequestParam(required = false) Long viewerId) {
+        return new ResponseEntity<List<Post>>(postService.getPostsByUserId(userId, viewerId), HttpStatus.OK);
     }
 
     // Upload post with files
@@ -1,16 +1,31 @@
 package foodieframe.recipe_sharing_platform.controller;
 
+import foodieframe.recipe_sharing_platform.model.GroupDirectoryPage;
+import foodieframe.recipe_sharing_platform.model.GroupPost;
+import foodieframe.recipe_sharing_platform.model.GroupPostPage;
+import foodieframe.recipe_sharing_platform.model.GroupSuggestion;
+import foodieframe.recipe_sharing_platform.model.MemberImport;
 import foodieframe.recipe_sharing_platform.model.RecipeGroup;
 import foodieframe.recipe_sharing_platform.model.RecipeGroupMember;
 import foodieframe.recipe_sharing_platform.model.RecipeGroupMember.MemberRole;
 import foodieframe.recipe_sharing_platform.model.RecipeGroupMember.MembershipStatus;
+import foodieframe.recipe_sharing_platform.service.GroupDirectoryService;
+import foodieframe.recipe_sharing_platform.service.GroupPostService;
+import foodieframe.recipe_sharing_platform.service.GroupSuggestionService;
 import foodieframe.recipe_sharing_platform.service.RecipeGroupService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 @RestController
@@ -21,6 +36,15 @@ public class RecipeGroupController {
     @Autowired
     private RecipeGroupService recipeGroupService;
 
+    @Autowired
+    private GroupPostService groupPostService;
+
+    @Autowired
+    private GroupSuggestionService groupSuggestionService;
+
+    @Autowired
+    private GroupDirectoryService groupDirectoryService;
+
     // Create a new recipe group
     @PostMapping
     public ResponseEntity<RecipeGroup> createGroup(@RequestBody RecipeGroup group) {
@@ -70,6 +94,34 @@ public class RecipeGroupController {
                 HttpStatus.OK);
     }
 
+    // Page through public groups, newest, largest, most active this week or by name prefix
+    @GetMapping("/directory")
+    public ResponseEntity<GroupDirectoryPage> getGroupDirectory(
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        try {
+            GroupDirectoryService.Sort order = sort == null ? null
+                    : GroupDirectoryService.Sort.valueOf(sort.toUpperCase(Locale.ROOT));
+            return new ResponseEntity<>(groupDirectoryService.getDirectory(order, q, cursor, limit), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    // Get public groups suggested to a user from friends' memberships and similar groups
+    @GetMapping("/suggested")
+    public ResponseEntity<List<GroupSuggestion>> getSuggestedGroups(
+            @RequestParam Long userId,
+            @RequestParam(defaultValue = "5") int limit) {
+        try {
+            return new ResponseEntity<>(groupSuggestionService.getSuggestions(userId, limit), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
     // Update group information
     @PutMapping("/{groupId}")
     public ResponseEntity<RecipeGroup> updateGroup(
@@ -113,6 +165,77 @@ public class RecipeGroupController {
         }
     }
 
+    /**
+     * Add many users to a group from a JSON list
+     * Each element is a user ID, username or email, or an object with "user" and optional "role".
+     * Returns one result per element; 403 if adminId is not a group admin, 409 if a concurrent
+     * change added one of the users first (nothing is imported; retry)
+     */
+    @PostMapping(value = "/{groupId}/members/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<MemberImport> importMembers(
+            @PathVariable Long groupId,
+            @RequestParam Long adminId,
+            @RequestParam(defaultValue = "MEMBER") MemberRole role,
+            @RequestParam(defaultValue = "ACTIVE") MembershipStatus status,
+            @RequestBody List<Object> users) {
+
+        List<MemberImport.Row> rows = new ArrayList<>(users.size());
+        for (Object user : users) {
+            if (user instanceof Map<?, ?> entry) {
+                rows.add(new MemberImport.Row(rows.size() + 1, stringOrNull(entry.get("user")),
+                        stringOrNull(entry.get("role"))));
+            } else {
+                rows.add(new MemberImport.Row(rows.size() + 1, stringOrNull(user), null));
+            }
+        }
+        return importMembers(groupId, adminId, rows, role, status);
+    }
+
+    /**
+     * Add many users to a group from a CSV body, read as it streams in
+     * Each line is "user[,role]" where user is an ID, username or email; a header on the first non-blank line is skipped.
+     * Results refer to CSV line numbers.
+     */
+    @PostMapping(value = "/{groupId}/members/bulk", consumes = "text/csv")
+    public ResponseEntity<MemberImport> importMembersCsv(
+            @PathVariable Long groupId,
+            @RequestParam Long adminId,
+            @RequestParam(defaultValue = "MEMBER") MemberRole role,
+            @RequestParam(defaultValue = "ACTIVE") MembershipStatus status,
+            HttpServletRequest request) {
+
+        List<MemberImport.Row> rows = new ArrayList<>();
+        try (BufferedReader reader = request.getReader()) {
+            String line;
+            int lineNumber = 0;
+            boolean firstLine = true;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (rows.size() == RecipeGroupService.MAX_IMPORT_ROWS) {
+                    // Stop reading; the service rejects the oversized import
+                    rows.add(new MemberImport.Row(lineNumber, null, null));
+                    break;
+                }
+                String[] columns = line.split(",", -1);
+                String user = unquote(columns[0]);
+                // Only the first non-blank line can be a header
+                boolean header = firstLine
+                        && List.of("user", "userid", "username", "email").contains(user.toLowerCase());
+                firstLine = false;
+                if (header) {
+                    continue;
+                }
+                rows.add(new MemberImport.Row(lineNumber, user, columns.length > 1 ? unquote(columns[1]) : null));
+            }
+        } catch (IOException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        return importMembers(groupId, adminId, rows, role, status);
+    }
+
     // Get group members
     @GetMapping("/{groupId}/members")
     public ResponseEntity<List<RecipeGroupMember>> getGroupMembers(@PathVariable Long groupId) {
@@ -210,10 +333,94 @@ public class RecipeGroupController {
         return new ResponseEntity<>(Map.of("isAdmin", isAdmin), HttpStatus.OK);
     }
 
+    // Share a post into a group; the sharer must be an active member
+    @PostMapping("/{groupId}/posts")
+    public ResponseEntity<GroupPost> sharePost(
+            @PathVariable Long groupId,
+            @RequestBody Map<String, Object> request) {
+
+        try {
+            Long postId = Long.valueOf(request.get("postId").toString());
+            Long userId = Long.valueOf(request.get("userId").toString());
+            GroupPost share = groupPostService.sharePost(groupId, postId, userId);
+            return new ResponseEntity<>(share, HttpStatus.CREATED);
+        } catch (SecurityException e) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } catch (RuntimeException e) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+    }
+
+    // Get a newest-first page of the posts shared into a group (cursor omitted for the first page)
+    @GetMapping("/{groupId}/posts")
+    public ResponseEntity<GroupPostPage> getGroupPosts(
+            @PathVariable Long groupId,
+            @RequestParam(required = false) Long viewerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        try {
+            return new ResponseEntity<>(groupPostService.getFeed(groupId, viewerId, cursor, limit), HttpStatus.OK);
+        } catch (SecurityException e) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } catch (RuntimeException e) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+    }
+
+    // Take a post out of a group; allowed for whoever shared it and group admins or moderators
+    @DeleteMapping("/{groupId}/posts/{postId}")
+    public ResponseEntity<Void> unsharePost(
+            @PathVariable Long groupId,
+            @PathVariable Long postId,
+            @RequestParam Long userId) {
+
+        try {
+            return groupPostService.unsharePost(groupId, postId, userId)
+                    ? new ResponseEntity<>(HttpStatus.NO_CONTENT)
+                    : new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        } catch (SecurityException e) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        }
+    }
+
     // Count members in a group
     @GetMapping("/{groupId}/members/count")
     public ResponseEntity<Map<String, Long>> countGroupMembers(@PathVariable Long groupId) {
         long count = recipeGroupService.countGroupMembers(groupId);
         return new ResponseEntity<>(Map.of("count", count), HttpStatus.OK);
     }
+
+    // Shared by the JSON and CSV imports
+    private ResponseEntity<MemberImport> importMembers(Long groupId, Long adminId, List<MemberImport.Row> rows,
+            MemberRole role, MembershipStatus status) {
+        try {
+            MemberImport result = recipeGroupService.importMembers(groupId, adminId, rows, role, status);
+            return new ResponseEntity<>(result, HttpStatus.OK);
+        } catch (SecurityException e) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } catch (DataIntegrityViolationException e) {
+            return new ResponseEntity<>(HttpStatus.CONFLICT);
+        } catch (RuntimeException e) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+    }
+
+    private static String stringOrNull(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    private static String unquote(String column) {
+        String value = column.trim();
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1).trim();
+        }
+        return value;
+    }
 }
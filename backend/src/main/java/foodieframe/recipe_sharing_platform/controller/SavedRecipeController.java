@@ -90,6 +90,7 @@ public class SavedRecipeController {
             @PathVariable Long recipeId) {
 
         try {
+            // A save that is already gone still counts as removed, so repeating an unsave is harmless
             savedRecipeService.removeSavedRecipe(userId, recipeId);
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
         } catch (Exception e) {
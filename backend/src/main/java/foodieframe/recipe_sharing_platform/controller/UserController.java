@@ -2,6 +2,7 @@ package foodieframe.recipe_sharing_platform.controller;
 
 import foodieframe.recipe_sharing_platform.model.AuthResponse;
 import foodieframe.recipe_sharing_platform.model.User;
+import foodieframe.recipe_sharing_platform.model.UserSummary;
 import foodieframe.recipe_sharing_platform.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -32,6 +33,19 @@ public class UserController {
         return new ResponseEntity<List<User>>(userService.getAllUsers(), HttpStatus.OK);
     }
     
+    // Search users by name or username; viewerId hides users blocked either way
+    @GetMapping("/users/search")
+    public ResponseEntity<List<UserSummary>> searchUsers(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) Long viewerId) {
+        try {
+            return new ResponseEntity<>(userService.searchUsers(name, limit, viewerId), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+    
     // Read one
     @GetMapping("/users/{id}")
     public ResponseEntity<User> getUserById(@PathVariable Long id) {
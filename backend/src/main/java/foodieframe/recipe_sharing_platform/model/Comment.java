@@ -1,12 +1,19 @@
 package foodieframe.recipe_sharing_platform.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import java.time.Instant;
+import java.util.List;
 
 /**
  * Comment entity class representing user comments on posts and recipes
@@ -18,6 +25,12 @@ import jakarta.validation.constraints.Size;
  * - Delete: Remove comments from the system
  */
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_comment_post_created", columnList = "post_id, depth, created_at, id"),
+        @Index(name = "idx_comment_event_created", columnList = "event_id, depth, created_at, id"),
+        @Index(name = "idx_comment_user_created", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_comment_thread_path", columnList = "root_id, path")
+})
 public class Comment {
 
     /**
@@ -33,20 +46,60 @@ public class Comment {
      * @crud.attribute required, references user entity
      */
     @NotNull(message = "User ID is required")
+    @Column(name = "user_id")
     private Long userId;
 
     /**
      * ID of the post this comment belongs to (can be null if comment is on an event)
      * @crud.attribute optional, references post entity
      */
+    @Column(name = "post_id")
     private Long postId;
     
     /**
      * ID of the event this comment belongs to (can be null if comment is on a post)
      * @crud.attribute optional, references event entity
      */
+    @Column(name = "event_id")
     private Long eventId;
     
+    /**
+     * ID of the comment this is a reply to (null for top-level comments)
+     * @crud.attribute optional, references comment entity
+     */
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    /**
+     * ID of the top-level comment of the thread (equals id for top-level comments)
+     * @crud.attribute auto-generated
+     */
+    @Column(name = "root_id")
+    private Long rootId;
+
+    /**
+     * Materialized path of zero-padded ancestor IDs ending with this comment's ID,
+     * e.g. "0000000000000000012/0000000000000000034". Sorting by path yields
+     * depth-first thread order and a prefix match selects a whole subtree.
+     * @crud.attribute auto-generated
+     */
+    @Column(length = 1000)
+    private String path;
+
+    /**
+     * Nesting level (0 for top-level comments)
+     * @crud.attribute auto-generated
+     */
+    @Column(nullable = false)
+    private int depth = 0;
+
+    /**
+     * Replies loaded together with this comment when a thread is requested
+     */
+    @Transient
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<Comment> replies;
+
     /**
      * Content of the comment
      * @crud.attribute required, min length: 1
@@ -57,9 +110,10 @@ public class Comment {
     
     /**
      * Date and time when the comment was created
-     * @crud.attribute auto-generated, sortable
+     * @crud.attribute auto-generated, sortable, indexed with post/event/user
      */
-    private String createdAt;
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
 
     // Getters and Setters
     public Long getId() {
@@ -94,6 +148,46 @@ public class Comment {
         this.eventId = eventId;
     }
 
+    public Long getParentId() {
+        return parentId;
+    }
+
+    public void setParentId(Long parentId) {
+        this.parentId = parentId;
+    }
+
+    public Long getRootId() {
+        return rootId;
+    }
+
+    public void setRootId(Long rootId) {
+        this.rootId = rootId;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public void setDepth(int depth) {
+        this.depth = depth;
+    }
+
+    public List<Comment> getReplies() {
+        return replies;
+    }
+
+    public void setReplies(List<Comment> replies) {
+        this.replies = replies;
+    }
+
     public String getContent() {
         return content;
     }
@@ -102,11 +196,11 @@ public class Comment {
         this.content = content;
     }
     
-    public String getCreatedAt() {
+    public Instant getCreatedAt() {
         return createdAt;
     }
 
-    public void setCreatedAt(String createdAt) {
+    public void setCreatedAt(Instant createdAt) {
         this.createdAt = createdAt;
     }
 }
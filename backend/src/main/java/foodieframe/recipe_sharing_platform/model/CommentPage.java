@@ -0,0 +1,38 @@
+package foodieframe.recipe_sharing_platform.model;
+
+import java.util.List;
+
+/**
+ * One newest-first page of comments returned by keyset pagination
+ *
+ * nextCursor is null when there are no older comments; otherwise it is passed
+ * back as the cursor parameter to fetch the following page.
+ */
+public class CommentPage {
+    private List<Comment> comments;
+    private String nextCursor;
+
+    public CommentPage() {
+    }
+
+    public CommentPage(List<Comment> comments, String nextCursor) {
+        this.comments = comments;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<Comment> getComments() {
+        return comments;
+    }
+
+    public void setComments(List<Comment> comments) {
+        this.comments = comments;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
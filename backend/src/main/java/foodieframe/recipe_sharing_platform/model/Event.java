@@ -1,13 +1,27 @@
 package foodieframe.recipe_sharing_platform.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.hibernate.annotations.ColumnDefault;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
 /**
  * Event entity class representing culinary events in the recipe sharing platform
  * 
@@ -18,8 +32,16 @@ import jakarta.validation.constraints.Size;
  * - Delete: Remove events from the system
  */
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_event_starts_at", columnList = "starts_at, id"),
+        @Index(name = "idx_event_geohash", columnList = "geohash, starts_at"),
+        @Index(name = "idx_event_user_updated", columnList = "user_id, updated_at")
+})
 public class Event {
 
+    // Length assumed for events without a duration
+    public static final int DEFAULT_DURATION_MINUTES = 120;
+
     /**
      * Unique identifier for the event
      * @crud.attribute primary key, auto-generated
@@ -84,6 +106,102 @@ public class Event {
     @NotBlank(message = "Time is required")
     private String time;
 
+    /**
+     * Start of the event, parsed from date and time by EventService
+     * Null only for legacy rows whose date or time could not be parsed
+     * 
+     * @crud.attribute derived, sortable, range-filterable
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "starts_at")
+    private Instant startsAt;
+
+    /**
+     * How long the event runs, in minutes; null means the default of two hours
+     * 
+     * @crud.attribute optional, min: 1
+     */
+    @Min(value = 1, message = "Duration must be at least 1 minute")
+    private Integer durationMinutes;
+
+    /**
+     * Latitude of the event location in degrees
+     * Supplied by the client or resolved from the location text; null if unknown
+     * 
+     * @crud.attribute optional
+     */
+    private Double latitude;
+
+    /**
+     * Longitude of the event location in degrees
+     * 
+     * @crud.attribute optional
+     */
+    private Double longitude;
+
+    /**
+     * Geohash of latitude/longitude used for nearby lookups
+     * 
+     * @crud.attribute derived, internal
+     */
+    @JsonIgnore
+    @Column(length = 12)
+    private String geohash;
+
+    /**
+     * When the event was last created or modified
+     * Drives Last-Modified on the calendar feed
+     * 
+     * @crud.attribute derived
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    /**
+     * Number of comments on this event, maintained by CommentService
+     * Never written by entity saves, so edits cannot overwrite concurrent increments
+     * @crud.attribute read-only, derived
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private long commentCount;
+
+    /**
+     * Maximum number of attendees; null means unlimited
+     * Lowering it never evicts anyone, it only stops new RSVPs from getting a seat
+     * 
+     * @crud.attribute optional, min: 1
+     */
+    @Min(value = 1, message = "Capacity must be at least 1")
+    private Integer capacity;
+
+    /**
+     * Number of seats taken, maintained by EventRsvpService with conditional updates
+     * Never written by entity saves, so edits cannot overwrite concurrent RSVPs
+     * @crud.attribute read-only, derived
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "attendee_count", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private long attendeeCount;
+
+    /**
+     * IDs of the creator's other events that overlap this one
+     * Filled in by create and update responses only
+     * @crud.attribute read-only, derived
+     */
+    @Transient
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private List<Long> conflictingEventIds;
+
+    @PrePersist
+    @PreUpdate
+    protected void onWrite() {
+        updatedAt = Instant.now();
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -148,4 +266,93 @@ public class Event {
     public void setTime(String time) {
         this.time = time;
     }
+
+    public Instant getStartsAt() {
+        return startsAt;
+    }
+
+    public void setStartsAt(Instant startsAt) {
+        this.startsAt = startsAt;
+    }
+
+    public Integer getDurationMinutes() {
+        return durationMinutes;
+    }
+
+    public void setDurationMinutes(Integer durationMinutes) {
+        this.durationMinutes = durationMinutes;
+    }
+
+    // End of the event derived from startsAt and the duration; null without a start time
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    public Instant getEndsAt() {
+        if (startsAt == null) {
+            return null;
+        }
+        return startsAt.plus(durationMinutes != null ? durationMinutes : DEFAULT_DURATION_MINUTES, ChronoUnit.MINUTES);
+    }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
+    public String getGeohash() {
+        return geohash;
+    }
+
+    public void setGeohash(String geohash) {
+        this.geohash = geohash;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public long getCommentCount() {
+        return commentCount;
+    }
+
+    public void setCommentCount(long commentCount) {
+        this.commentCount = commentCount;
+    }
+
+    public Integer getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+
+    public long getAttendeeCount() {
+        return attendeeCount;
+    }
+
+    public void setAttendeeCount(long attendeeCount) {
+        this.attendeeCount = attendeeCount;
+    }
+
+    public List<Long> getConflictingEventIds() {
+        return conflictingEventIds;
+    }
+
+    public void setConflictingEventIds(List<Long> conflictingEventIds) {
+        this.conflictingEventIds = conflictingEventIds;
+    }
 }
@@ -0,0 +1,38 @@
+package foodieframe.recipe_sharing_platform.model;
+
+import java.util.List;
+
+/**
+ * One soonest-first page of events returned by keyset pagination
+ *
+ * nextCursor is null when there are no later events in the requested range;
+ * otherwise it is passed back as the cursor parameter to fetch the following page.
+ */
+public class EventPage {
+    private List<Event> events;
+    private String nextCursor;
+
+    public EventPage() {
+    }
+
+    public EventPage(List<Event> events, String nextCursor) {
+        this.events = events;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<Event> getEvents() {
+        return events;
+    }
+
+    public void setEvents(List<Event> events) {
+        this.events = events;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
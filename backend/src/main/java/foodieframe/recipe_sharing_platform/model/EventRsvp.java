@@ -0,0 +1,109 @@
+package foodieframe.recipe_sharing_platform.model;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+/**
+ * A user's RSVP to an event: either holding one of its seats or waiting in line
+ *
+ * The waitlist is ordered by ID, so the earliest RSVP still waiting is the next
+ * one promoted when a seat frees up.
+ */
+@Entity
+@Table(name = "event_rsvps",
+        uniqueConstraints = @UniqueConstraint(columnNames = { "event_id", "user_id" }),
+        indexes = @Index(name = "idx_event_rsvp_queue", columnList = "event_id, status, id"))
+public class EventRsvp {
+
+    public enum RsvpStatus {
+        GOING, // Holds a seat
+        WAITLISTED // Waiting for a seat to free up
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private RsvpStatus status;
+
+    @Column(name = "created_at")
+    private Instant createdAt;
+
+    /**
+     * 1-based place in the waitlist, filled in by EventRsvpService for waitlisted RSVPs
+     */
+    @Transient
+    private Long waitlistPosition;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = Instant.now();
+    }
+
+    // Constructors
+    public EventRsvp() {
+    }
+
+    public EventRsvp(Long eventId, Long userId, RsvpStatus status) {
+        this.eventId = eventId;
+        this.userId = userId;
+        this.status = status;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public RsvpStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(RsvpStatus status) {
+        this.status = status;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Long getWaitlistPosition() {
+        return waitlistPosition;
+    }
+
+    public void setWaitlistPosition(Long waitlistPosition) {
+        this.waitlistPosition = waitlistPosition;
+    }
+}
@@ -14,7 +14,9 @@ import java.time.LocalDateTime;
  * - Delete: Remove friendship connection
  */
 @Entity
-@Table(name = "friends", uniqueConstraints = @UniqueConstraint(columnNames = { "user_id", "friend_id" }))
+@Table(name = "friends",
+        uniqueConstraints = @UniqueConstraint(columnNames = { "user_id", "friend_id" }),
+        indexes = @Index(name = "idx_friends_friend", columnList = "friend_id, status"))
 public class Friend {
 
     /**
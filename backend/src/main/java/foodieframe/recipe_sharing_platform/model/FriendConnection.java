@@ -0,0 +1,51 @@
+package foodieframe.recipe_sharing_platform.model;
+
+import java.util.List;
+
+/**
+ * How closely two users are connected through friendships
+ *
+ * degree is 1 for friends, 2 for friends of friends and so on, or null if the
+ * users are not connected within the searched depth. path holds one shortest
+ * chain of users from the first to the second, both included. searchLimitReached
+ * means the search stopped early (very well-connected users on the way), so
+ * a missing degree is not conclusive.
+ */
+public class FriendConnection {
+    private Integer degree;
+    private List<UserSummary> path;
+    private boolean searchLimitReached;
+
+    public FriendConnection() {
+    }
+
+    public FriendConnection(Integer degree, List<UserSummary> path, boolean searchLimitReached) {
+        this.degree = degree;
+        this.path = path;
+        this.searchLimitReached = searchLimitReached;
+    }
+
+    public Integer getDegree() {
+        return degree;
+    }
+
+    public void setDegree(Integer degree) {
+        this.degree = degree;
+    }
+
+    public List<UserSummary> getPath() {
+        return path;
+    }
+
+    public void setPath(List<UserSummary> path) {
+        this.path = path;
+    }
+
+    public boolean isSearchLimitReached() {
+        return searchLimitReached;
+    }
+
+    public void setSearchLimitReached(boolean searchLimitReached) {
+        this.searchLimitReached = searchLimitReached;
+    }
+}
@@ -0,0 +1,47 @@
+package foodieframe.recipe_sharing_platform.model;
+
+import java.util.List;
+
+/**
+ * One page of a user's friends or friend requests
+ *
+ * total counts every entry across all pages; hasMore is false on the last page.
+ */
+public class FriendPage {
+    private List<FriendProfile> friends;
+    private long total;
+    private boolean hasMore;
+
+    public FriendPage() {
+    }
+
+    public FriendPage(List<FriendProfile> friends, long total, boolean hasMore) {
+        this.friends = friends;
+        this.total = total;
+        this.hasMore = hasMore;
+    }
+
+    public List<FriendProfile> getFriends() {
+        return friends;
+    }
+
+    public void setFriends(List<FriendProfile> friends) {
+        this.friends = friends;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
@@ -0,0 +1,67 @@
+package foodieframe.recipe_sharing_platform.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * The other user of a friendship or friend request, with their public profile
+ *
+ * id is that user's ID; since is when the friendship or request last changed.
+ */
+public class FriendProfile {
+    private Long id;
+    private String username;
+    private String name;
+    private Long friendshipId;
+    private LocalDateTime since;
+
+    public FriendProfile() {
+    }
+
+    public FriendProfile(Long id, String username, String name, Long friendshipId, LocalDateTime since) {
+        this.id = id;
+        this.username = username;
+        this.name = name;
+        this.friendshipId = friendshipId;
+        this.since = since;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Long getFriendshipId() {
+        return friendshipId;
+    }
+
+    public void setFriendshipId(Long friendshipId) {
+        this.friendshipId = friendshipId;
+    }
+
+    public LocalDateTime getSince() {
+        return since;
+    }
+
+    public void setSince(LocalDateTime since) {
+        this.since = since;
+    }
+}
@@ -0,0 +1,66 @@
+package foodieframe.recipe_sharing_platform.model;
+
+/**
+ * A user suggested as a friend, with what they have in common with the viewer
+ *
+ * mutualFriends may be a lower bound: very well-connected users are only
+ * partly scanned when suggestions are computed.
+ */
+public class FriendSuggestion {
+    private Long userId;
+    private String username;
+    private String name;
+    private int mutualFriends;
+    private long sharedGroups;
+
+    public FriendSuggestion() {
+    }
+
+    public FriendSuggestion(Long userId, String username, String name, int mutualFriends, long sharedGroups) {
+        this.userId = userId;
+        this.username = username;
+        this.name = name;
+        this.mutualFriends = mutualFriends;
+        this.sharedGroups = sharedGroups;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getMutualFriends() {
+        return mutualFriends;
+    }
+
+    public void setMutualFriends(int mutualFriends) {
+        this.mutualFriends = mutualFriends;
+    }
+
+    public long getSharedGroups() {
+        return sharedGroups;
+    }
+
+    public void setSharedGroups(long sharedGroups) {
+        this.sharedGroups = sharedGroups;
+    }
+}
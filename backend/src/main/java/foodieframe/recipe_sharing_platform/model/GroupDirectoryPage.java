@@ -0,0 +1,38 @@
+package foodieframe.recipe_sharing_platform.model;
+
+import java.util.List;
+
+/**
+ * One page of the public group directory returned by keyset pagination
+ *
+ * nextCursor is null when there are no more groups; otherwise it is passed
+ * back as the cursor parameter, with the same sort, to fetch the following page.
+ */
+public class GroupDirectoryPage {
+    private List<RecipeGroup> groups;
+    private String nextCursor;
+
+    public GroupDirectoryPage() {
+    }
+
+    public GroupDirectoryPage(List<RecipeGroup> groups, String nextCursor) {
+        this.groups = groups;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<RecipeGroup> getGroups() {
+        return groups;
+    }
+
+    public void setGroups(List<RecipeGroup> groups) {
+        this.groups = groups;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,136 @@
+package foodieframe.recipe_sharing_platform.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.NotNull;
+import java.time.Instant;
+
+/**
+ * GroupPost entity class representing a recipe post shared into a recipe group
+ *
+ * CRUD Operations:
+ * - Create: A group member shares a post into the group
+ * - Read: Page through a group's feed, newest share first
+ * - Delete: Take a post out of the group
+ */
+@Entity
+@Table(name = "group_posts",
+        uniqueConstraints = @UniqueConstraint(columnNames = { "group_id", "post_id" }),
+        indexes = {
+                @Index(name = "idx_group_posts_feed", columnList = "group_id, shared_at, id"),
+                @Index(name = "idx_group_posts_post", columnList = "post_id"),
+                @Index(name = "idx_group_posts_shared", columnList = "shared_at")
+        })
+public class GroupPost {
+
+    /**
+     * Unique identifier for the share
+     * @crud.attribute primary key, auto-generated
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * ID of the group the post was shared into
+     * @crud.attribute required, references group entity
+     */
+    @NotNull(message = "Group ID is required")
+    @Column(name = "group_id", nullable = false)
+    private Long groupId;
+
+    /**
+     * ID of the shared post
+     * @crud.attribute required, references post entity
+     */
+    @NotNull(message = "Post ID is required")
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    /**
+     * ID of the member who shared the post
+     * @crud.attribute required, references user entity
+     */
+    @NotNull(message = "User ID is required")
+    @Column(name = "shared_by", nullable = false)
+    private Long sharedBy;
+
+    /**
+     * Date and time when the post was shared
+     * @crud.attribute auto-generated, sortable, indexed with group
+     */
+    @Column(name = "shared_at", nullable = false, updatable = false)
+    private Instant sharedAt = Instant.now();
+
+    /**
+     * The shared post, filled in when reading a feed
+     */
+    @Transient
+    private Post post;
+
+    // Constructors
+    public GroupPost() {
+    }
+
+    public GroupPost(Long groupId, Long postId, Long sharedBy) {
+        this.groupId = groupId;
+        this.postId = postId;
+        this.sharedBy = sharedBy;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getGroupId() {
+        return groupId;
+    }
+
+    public void setGroupId(Long groupId) {
+        this.groupId = groupId;
+    }
+
+    public Long getPostId() {
+        return postId;
+    }
+
+    public void setPostId(Long postId) {
+        this.postId = postId;
+    }
+
+    public Long getSharedBy() {
+        return sharedBy;
+    }
+
+    public void setSharedBy(Long sharedBy) {
+        this.sharedBy = sharedBy;
+    }
+
+    public Instant getSharedAt() {
+        return sharedAt;
+    }
+
+    public void setSharedAt(Instant sharedAt) {
+        this.sharedAt = sharedAt;
+    }
+
+    public Post getPost() {
+        return post;
+    }
+
+    public void setPost(Post post) {
+        this.post = post;
+    }
+}
@@ -0,0 +1,38 @@
+package foodieframe.recipe_sharing_platform.model;
+
+import java.util.List;
+
+/**
+ * One newest-first page of a group's shared posts returned by keyset pagination
+ *
+ * nextCursor is null when there are no older shares; otherwise it is passed
+ * back as the cursor parameter to fetch the following page.
+ */
+public class GroupPostPage {
+    private List<GroupPost> posts;
+    private String nextCursor;
+
+    public GroupPostPage() {
+    }
+
+    public GroupPostPage(List<GroupPost> posts, String nextCursor) {
+        this.posts = posts;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<GroupPost> getPosts() {
+        return posts;
+    }
+
+    public void setPosts(List<GroupPost> posts) {
+        this.posts = posts;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,77 @@
+package foodieframe.recipe_sharing_platform.model;
+
+/**
+ * A public recipe group suggested to a user, with why it was suggested
+ *
+ * mutualFriends is the number of the user's friends who are active members and
+ * similarity sums how much the group's members overlap with each of the user's
+ * own groups. Both come from the last periodic refresh and may lag slightly.
+ */
+public class GroupSuggestion {
+    private Long groupId;
+    private String name;
+    private String imageUrl;
+    private long memberCount;
+    private int mutualFriends;
+    private double similarity;
+
+    public GroupSuggestion() {
+    }
+
+    public GroupSuggestion(RecipeGroup group, int mutualFriends, double similarity) {
+        this.groupId = group.getId();
+        this.name = group.getName();
+        this.imageUrl = group.getImageUrl();
+        this.memberCount = group.getMemberCount();
+        this.mutualFriends = mutualFriends;
+        this.similarity = similarity;
+    }
+
+    public Long getGroupId() {
+        return groupId;
+    }
+
+    public void setGroupId(Long groupId) {
+        this.groupId = groupId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getImageUrl() {
+        return imageUrl;
+    }
+
+    public void setImageUrl(String imageUrl) {
+        this.imageUrl = imageUrl;
+    }
+
+    public long getMemberCount() {
+        return memberCount;
+    }
+
+    public void setMemberCount(long memberCount) {
+        this.memberCount = memberCount;
+    }
+
+    public int getMutualFriends() {
+        return mutualFriends;
+    }
+
+    public void setMutualFriends(int mutualFriends) {
+        this.mutualFriends = mutualFriends;
+    }
+
+    public double getSimilarity() {
+        return similarity;
+    }
+
+    public void setSimilarity(double similarity) {
+        this.similarity = similarity;
+    }
+}
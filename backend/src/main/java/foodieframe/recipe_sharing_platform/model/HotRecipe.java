@@ -0,0 +1,46 @@
+package foodieframe.recipe_sharing_platform.model;
+
+/**
+ * A recipe reported by the hot-recipes analytics endpoint
+ *
+ * The count is an estimate from a Count-Min Sketch; with high probability it
+ * overcounts by no more than errorBound events and it never undercounts.
+ */
+public class HotRecipe {
+    private Long recipeId;
+    private long count;
+    private long errorBound;
+
+    public HotRecipe() {
+    }
+
+    public HotRecipe(Long recipeId, long count, long errorBound) {
+        this.recipeId = recipeId;
+        this.count = count;
+        this.errorBound = errorBound;
+    }
+
+    public Long getRecipeId() {
+        return recipeId;
+    }
+
+    public void setRecipeId(Long recipeId) {
+        this.recipeId = recipeId;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public long getErrorBound() {
+        return errorBound;
+    }
+
+    public void setErrorBound(long errorBound) {
+        this.errorBound = errorBound;
+    }
+}
@@ -0,0 +1,77 @@
+package foodieframe.recipe_sharing_platform.model;
+
+import foodieframe.recipe_sharing_platform.model.Interaction.InteractionType;
+
+/**
+ * A single entry of the append-only interaction event log.
+ *
+ * Records are immutable and describe one mutation applied through
+ * InteractionService. A PURGE entry has no user (userId = 0) and means
+ * every interaction of the given type on the recipe was removed.
+ */
+public class InteractionLogRecord {
+
+    /**
+     * Kind of mutation recorded in the log
+     */
+    public enum Operation {
+        CREATE, // A new interaction row was inserted
+        UPDATE, // The content of an interaction was changed
+        DELETE, // A single user's interaction was removed
+        PURGE // All interactions of a type were removed from a recipe
+    }
+
+    private final long offset;
+    private final long userId;
+    private final long recipeId;
+    private final InteractionType interactionType;
+    private final Operation operation;
+    private final long timestamp;
+
+    public InteractionLogRecord(long offset, long userId, long recipeId, InteractionType interactionType,
+            Operation operation, long timestamp) {
+        this.offset = offset;
+        this.userId = userId;
+        this.recipeId = recipeId;
+        this.interactionType = interactionType;
+        this.operation = operation;
+        this.timestamp = timestamp;
+    }
+
+    // Getters
+    public long getOffset() {
+        return offset;
+    }
+
+    public long getUserId() {
+        return userId;
+    }
+
+    public long getRecipeId() {
+        return recipeId;
+    }
+
+    public InteractionType getInteractionType() {
+        return interactionType;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public String toString() {
+        return "InteractionLogRecord{" +
+                "offset=" + offset +
+                ", userId=" + userId +
+                ", recipeId=" + recipeId +
+                ", interactionType=" + interactionType +
+                ", operation=" + operation +
+                ", timestamp=" + timestamp +
+                '}';
+    }
+}
@@ -0,0 +1,57 @@
+package foodieframe.recipe_sharing_platform.model;
+
+/**
+ * A change pushed to live subscribers of a post or event over Server-Sent Events
+ */
+public class LiveEvent {
+
+    /**
+     * Kind of change carried by a live event
+     */
+    public enum LiveEventType {
+        COMMENT_CREATED,
+        COMMENT_UPDATED,
+        COMMENT_DELETED,
+        INTERACTION_CREATED,
+        INTERACTION_UPDATED,
+        INTERACTION_DELETED,
+        INTERACTIONS_PURGED
+    }
+
+    private LiveEventType type;
+    private Object payload;
+    private long timestamp;
+
+    public LiveEvent() {
+    }
+
+    public LiveEvent(LiveEventType type, Object payload) {
+        this.type = type;
+        this.payload = payload;
+        this.timestamp = System.currentTimeMillis();
+    }
+
+    public LiveEventType getType() {
+        return type;
+    }
+
+    public void setType(LiveEventType type) {
+        this.type = type;
+    }
+
+    public Object getPayload() {
+        return payload;
+    }
+
+    public void setPayload(Object payload) {
+        this.payload = payload;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+}
@@ -0,0 +1,110 @@
+package foodieframe.recipe_sharing_platform.model;
+
+import java.util.List;
+
+/**
+ * Outcome of adding many users to a recipe group at once
+ *
+ * Holds one result per input row, in input order, plus totals per outcome.
+ */
+public class MemberImport {
+
+    /**
+     * What happened to one input row
+     */
+    public enum Outcome {
+        ADDED, // Membership created
+        ALREADY_MEMBER, // User already had a membership in the group; left unchanged
+        DUPLICATE, // Same user appeared on an earlier row
+        USER_NOT_FOUND, // No user with this ID, username or email
+        INVALID // Blank user or unknown role
+    }
+
+    private int added;
+    private int skipped;
+    private int failed;
+    private List<Row> rows;
+
+    public MemberImport() {
+    }
+
+    public MemberImport(List<Row> rows) {
+        this.rows = rows;
+        for (Row row : rows) {
+            switch (row.getOutcome()) {
+                case ADDED -> added++;
+                case ALREADY_MEMBER, DUPLICATE -> skipped++;
+                default -> failed++;
+            }
+        }
+    }
+
+    public int getAdded() {
+        return added;
+    }
+
+    public int getSkipped() {
+        return skipped;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public List<Row> getRows() {
+        return rows;
+    }
+
+    /**
+     * One input row: the user as given (ID, username or email), an optional role,
+     * and once processed the resolved user ID and outcome
+     */
+    public static class Row {
+        private int line;
+        private String user;
+        private String role;
+        private Long userId;
+        private Outcome outcome;
+
+        public Row() {
+        }
+
+        public Row(int line, String user, String role) {
+            this.line = line;
+            this.user = user;
+            this.role = role;
+        }
+
+        public int getLine() {
+            return line;
+        }
+
+        public String getUser() {
+            return user;
+        }
+
+        public String getRole() {
+            return role;
+        }
+
+        public void setRole(String role) {
+            this.role = role;
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        public void setUserId(Long userId) {
+            this.userId = userId;
+        }
+
+        public Outcome getOutcome() {
+            return outcome;
+        }
+
+        public void setOutcome(Outcome outcome) {
+            this.outcome = outcome;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package foodieframe.recipe_sharing_platform.model;
+
+import java.util.List;
+
+/**
+ * Friends two users have in common: how many, and the first few of them by ID
+ */
+public class MutualFriends {
+    private int count;
+    private List<UserSummary> friends;
+
+    public MutualFriends() {
+    }
+
+    public MutualFriends(int count, List<UserSummary> friends) {
+        this.count = count;
+        this.friends = friends;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public List<UserSummary> getFriends() {
+        return friends;
+    }
+
+    public void setFriends(List<UserSummary> friends) {
+        this.friends = friends;
+    }
+}
@@ -0,0 +1,34 @@
+package foodieframe.recipe_sharing_platform.model;
+
+/**
+ * An event returned by the nearby-events endpoint with its distance from the
+ * searched point
+ */
+public class NearbyEvent {
+    private Event event;
+    private double distanceKm;
+
+    public NearbyEvent() {
+    }
+
+    public NearbyEvent(Event event, double distanceKm) {
+        this.event = event;
+        this.distanceKm = distanceKm;
+    }
+
+    public Event getEvent() {
+        return event;
+    }
+
+    public void setEvent(Event event) {
+        this.event = event;
+    }
+
+    public double getDistanceKm() {
+        return distanceKm;
+    }
+
+    public void setDistanceKm(double distanceKm) {
+        this.distanceKm = distanceKm;
+    }
+}
@@ -0,0 +1,113 @@
+package foodieframe.recipe_sharing_platform.model;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+/**
+ * A message for one user, such as a reminder that an event is about to start
+ */
+@Entity
+@Table(name = "notifications", indexes = @Index(name = "idx_notification_user", columnList = "user_id, id"))
+public class Notification {
+
+    public enum NotificationType {
+        EVENT_REMINDER
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private NotificationType type;
+
+    // Event the notification is about, if any
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(nullable = false, length = 500)
+    private String message;
+
+    @Column(name = "is_read", nullable = false)
+    private boolean read;
+
+    @Column(name = "created_at")
+    private Instant createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = Instant.now();
+    }
+
+    // Constructors
+    public Notification() {
+    }
+
+    public Notification(Long userId, NotificationType type, Long eventId, String message) {
+        this.userId = userId;
+        this.type = type;
+        this.eventId = eventId;
+        this.message = message;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public NotificationType getType() {
+        return type;
+    }
+
+    public void setType(NotificationType type) {
+        this.type = type;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public boolean isRead() {
+        return read;
+    }
+
+    public void setRead(boolean read) {
+        this.read = read;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -1,9 +1,12 @@
 package foodieframe.recipe_sharing_platform.model;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import org.hibernate.annotations.ColumnDefault;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -81,6 +84,16 @@ public class Post {
      */
     private String tags;
 
+    /**
+     * Number of comments on this post, maintained by CommentService
+     * Never written by entity saves, so edits cannot overwrite concurrent increments
+     * @crud.attribute read-only, derived
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private long commentCount;
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -153,4 +166,12 @@ public class Post {
     public void setTags(String tags) {
         this.tags = tags;
     }
+
+    public long getCommentCount() {
+        return commentCount;
+    }
+
+    public void setCommentCount(long commentCount) {
+        this.commentCount = commentCount;
+    }
 }
\ No newline at end of file
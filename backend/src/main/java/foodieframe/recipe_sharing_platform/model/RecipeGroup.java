@@ -1,10 +1,14 @@
 package foodieframe.recipe_sharing_platform.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import java.time.LocalDateTime;
+import java.util.Locale;
 
 /**
  * RecipeGroup entity class representing groups for recipes
@@ -16,7 +20,12 @@ import java.time.LocalDateTime;
  * - Delete: Remove a recipe group
  */
 @Entity
-@Table(name = "recipe_groups")
+@Table(name = "recipe_groups", indexes = {
+        @Index(name = "idx_groups_newest", columnList = "privacy, created_date DESC, id DESC"),
+        @Index(name = "idx_groups_members", columnList = "privacy, member_count DESC, id DESC"),
+        @Index(name = "idx_groups_active", columnList = "privacy, weekly_activity DESC, id DESC"),
+        @Index(name = "idx_groups_name", columnList = "privacy, name_key, id")
+})
 public class RecipeGroup {
 
     /**
@@ -75,6 +84,36 @@ public class RecipeGroup {
     @Column(name = "updated_date")
     private LocalDateTime updatedDate = LocalDateTime.now();
 
+    /**
+     * Number of ACTIVE members, maintained by RecipeGroupService with relative updates
+     * Never written by entity saves, so edits cannot overwrite concurrent joins
+     * @crud.attribute read-only, derived
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "member_count", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private long memberCount;
+
+    /**
+     * Active members who joined and posts shared in the last seven days
+     * Moved by GroupDirectoryService as members join or leave and posts are shared or removed,
+     * and recounted by it as activity ages out
+     * @crud.attribute read-only, derived
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "weekly_activity", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private long weeklyActivity;
+
+    /**
+     * Lower-cased name, so name prefix searches can use an index
+     * 
+     * @crud.attribute derived, internal
+     */
+    @JsonIgnore
+    @Column(name = "name_key", length = 50)
+    private String nameKey;
+
     /**
      * Enum defining group privacy levels
      */
@@ -83,6 +122,12 @@ public class RecipeGroup {
         PRIVATE // Only visible to members, joining requires approval
     }
 
+    @PrePersist
+    @PreUpdate
+    protected void onWrite() {
+        nameKey = name == null ? null : name.toLowerCase(Locale.ROOT);
+    }
+
     // Constructors
     public RecipeGroup() {
     }
@@ -158,6 +203,26 @@ public class RecipeGroup {
         this.updatedDate = updatedDate;
     }
 
+    public long getMemberCount() {
+        return memberCount;
+    }
+
+    public void setMemberCount(long memberCount) {
+        this.memberCount = memberCount;
+    }
+
+    public long getWeeklyActivity() {
+        return weeklyActivity;
+    }
+
+    public void setWeeklyActivity(long weeklyActivity) {
+        this.weeklyActivity = weeklyActivity;
+    }
+
+    public String getNameKey() {
+        return nameKey;
+    }
+
     @Override
     public String toString() {
         return "RecipeGroup{" +
@@ -169,6 +234,8 @@ public class RecipeGroup {
                 ", privacy=" + privacy +
                 ", createdDate=" + createdDate +
                 ", updatedDate=" + updatedDate +
+                ", memberCount=" + memberCount +
+                ", weeklyActivity=" + weeklyActivity +
                 '}';
     }
 }
@@ -14,7 +14,12 @@ import java.time.LocalDateTime;
  * - Delete: Remove user from a group
  */
 @Entity
-@Table(name = "recipe_group_members", uniqueConstraints = @UniqueConstraint(columnNames = { "group_id", "user_id" }))
+@Table(name = "recipe_group_members",
+        uniqueConstraints = @UniqueConstraint(columnNames = { "group_id", "user_id" }),
+        indexes = {
+                @Index(name = "idx_group_members_user", columnList = "user_id, status"),
+                @Index(name = "idx_group_members_joined", columnList = "joined_date")
+        })
 public class RecipeGroupMember {
 
     /**
@@ -0,0 +1,47 @@
+package foodieframe.recipe_sharing_platform.model;
+
+/**
+ * Public profile fields of a user, for lists of people
+ */
+public class UserSummary {
+    private Long id;
+    private String username;
+    private String name;
+
+    public UserSummary() {
+    }
+
+    public UserSummary(Long id, String username, String name) {
+        this.id = id;
+        this.username = username;
+        this.name = name;
+    }
+
+    public UserSummary(User user) {
+        this(user.getId(), user.getUsername(), user.getName());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
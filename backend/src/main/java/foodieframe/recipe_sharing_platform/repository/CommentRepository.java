@@ -1,9 +1,15 @@
 package foodieframe.recipe_sharing_platform.repository;
 
 import foodieframe.recipe_sharing_platform.model.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -12,7 +18,7 @@ import java.util.List;
  */
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    
+
     /**
      * Find all comments by user ID
      * @param userId the ID of the user
@@ -33,4 +39,114 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      * @return list of comments on the event
      */
     List<Comment> findByEventId(Long eventId);
+    
+    /**
+     * Find the newest top-level comments on a post (first page)
+     * Served by the (post_id, depth, created_at, id) index
+     * @param postId the ID of the post
+     * @param pageable page size holder; only the size is used
+     * @return comments ordered newest first
+     */
+    @Query("SELECT c FROM Comment c WHERE c.postId = :postId AND c.depth = 0 " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findTopLevelByPostId(@Param("postId") Long postId, Pageable pageable);
+    
+    /**
+     * Find top-level comments on a post older than the cursor position
+     * @param postId the ID of the post
+     * @param createdAt creation time of the last comment already returned
+     * @param id ID of the last comment already returned
+     * @param pageable page size holder; only the size is used
+     * @return comments ordered newest first
+     */
+    @Query("SELECT c FROM Comment c WHERE c.postId = :postId AND c.depth = 0 AND c.createdAt <= :createdAt " +
+            "AND (c.createdAt < :createdAt OR c.id < :id) ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findTopLevelByPostIdBefore(@Param("postId") Long postId, @Param("createdAt") Instant createdAt,
+            @Param("id") Long id, Pageable pageable);
+    
+    /**
+     * Find the newest top-level comments on an event (first page)
+     * Served by the (event_id, depth, created_at, id) index
+     * @param eventId the ID of the event
+     * @param pageable page size holder; only the size is used
+     * @return comments ordered newest first
+     */
+    @Query("SELECT c FROM Comment c WHERE c.eventId = :eventId AND c.depth = 0 " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findTopLevelByEventId(@Param("eventId") Long eventId, Pageable pageable);
+    
+    /**
+     * Find top-level comments on an event older than the cursor position
+     * @param eventId the ID of the event
+     * @param createdAt creation time of the last comment already returned
+     * @param id ID of the last comment already returned
+     * @param pageable page size holder; only the size is used
+     * @return comments ordered newest first
+     */
+    @Query("SELECT c FROM Comment c WHERE c.eventId = :eventId AND c.depth = 0 AND c.createdAt <= :createdAt " +
+            "AND (c.createdAt < :createdAt OR c.id < :id) ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findTopLevelByEventIdBefore(@Param("eventId") Long eventId, @Param("createdAt") Instant createdAt,
+            @Param("id") Long id, Pageable pageable);
+    
+    /**
+     * Find the newest comments written by a user (first page)
+     * Served by the (user_id, created_at, id) index
+     * @param userId the ID of the user
+     * @param pageable page size holder; only the size is used
+     * @return comments ordered newest first
+     */
+    List<Comment> findByUserIdOrderByCreatedAtDescIdDesc(Long userId, Pageable pageable);
+    
+    /**
+     * Find comments written by a user older than the cursor position
+     * @param userId the ID of the user
+     * @param createdAt creation time of the last comment already returned
+     * @param id ID of the last comment already returned
+     * @param pageable page size holder; only the size is used
+     * @return comments ordered newest first
+     */
+    @Query("SELECT c FROM Comment c WHERE c.userId = :userId AND c.createdAt <= :createdAt " +
+            "AND (c.createdAt < :createdAt OR c.id < :id) ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findByUserIdBefore(@Param("userId") Long userId, @Param("createdAt") Instant createdAt,
+            @Param("id") Long id, Pageable pageable);
+    
+    /**
+     * Find the first replies of several threads in one query
+     * Each thread contributes at most perThread replies, taken in depth-first
+     * (path) order so every reply's ancestors are included.
+     * Served by the (root_id, path) index
+     * @param rootIds IDs of the top-level comments
+     * @param perThread maximum number of replies per thread
+     * @return replies ordered by thread, then path
+     */
+    @Query(value = "SELECT t.* FROM (" +
+            "SELECT c.*, ROW_NUMBER() OVER (PARTITION BY c.root_id ORDER BY c.path) AS rn " +
+            "FROM comment c WHERE c.root_id IN (:rootIds) AND c.depth > 0) t " +
+            "WHERE t.rn <= :perThread ORDER BY t.root_id, t.path", nativeQuery = true)
+    List<Comment> findFirstRepliesByRootIds(@Param("rootIds") Collection<Long> rootIds,
+            @Param("perThread") int perThread);
+    
+    /**
+     * Find the replies below a comment, depth-first
+     * Served by the (root_id, path) index as a single prefix range scan
+     * @param rootId ID of the thread's top-level comment
+     * @param pathPrefix path of the parent comment followed by "/%"
+     * @param pageable page size holder; only the size is used
+     * @return replies ordered by path
+     */
+    @Query("SELECT c FROM Comment c WHERE c.rootId = :rootId AND c.path LIKE :pathPrefix ORDER BY c.path")
+    List<Comment> findSubtree(@Param("rootId") Long rootId, @Param("pathPrefix") String pathPrefix,
+            Pageable pageable);
+    
+    /**
+     * Delete a comment together with all of its replies in one statement
+     * @param rootId ID of the thread's top-level comment
+     * @param path path of the comment to delete
+     * @param pathPrefix the same path followed by "/%"
+     * @return number of comments deleted
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Comment c WHERE c.rootId = :rootId AND (c.path = :path OR c.path LIKE :pathPrefix)")
+    int deleteSubtree(@Param("rootId") Long rootId, @Param("path") String path,
+            @Param("pathPrefix") String pathPrefix);
 }
@@ -1,12 +1,20 @@
 package foodieframe.recipe_sharing_platform.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import foodieframe.recipe_sharing_platform.model.Event;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long> {
@@ -30,4 +38,68 @@ public interface EventRepository extends JpaRepository<Event, Long> {
            "LOWER(e.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
            "LOWER(e.location) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
     List<Event> searchEvents(@Param("searchTerm") String searchTerm);
+    
+    // Add delta to the stored comment count in place (no read-modify-write)
+    @Modifying
+    @Query("UPDATE Event e SET e.commentCount = e.commentCount + :delta WHERE e.id = :id")
+    int adjustCommentCount(@Param("id") Long id, @Param("delta") long delta);
+    
+    // Stored comment counts for several events as [id, commentCount] rows
+    @Query("SELECT e.id, e.commentCount FROM Event e WHERE e.id IN :ids")
+    List<Object[]> findCommentCounts(@Param("ids") Collection<Long> ids);
+    
+    // Reset every drifted comment count to the actual number of comments
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Event e SET e.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.eventId = e.id) " +
+           "WHERE e.commentCount <> (SELECT COUNT(c) FROM Comment c WHERE c.eventId = e.id)")
+    int reconcileCommentCounts();
+    
+    // First page of events starting in [from, to), soonest first (range scan on the starts_at index)
+    @Query("SELECT e FROM Event e WHERE e.startsAt >= :from AND e.startsAt < :to ORDER BY e.startsAt, e.id")
+    List<Event> findStartingBetween(@Param("from") Instant from, @Param("to") Instant to, Pageable pageable);
+    
+    // Events starting in [from, to) after the cursor position (startsAt, id), soonest first
+    @Query("SELECT e FROM Event e WHERE e.startsAt >= :startsAt AND e.startsAt < :to " +
+           "AND (e.startsAt > :startsAt OR e.id > :id) ORDER BY e.startsAt, e.id")
+    List<Event> findStartingBetweenAfter(@Param("startsAt") Instant startsAt, @Param("id") Long id,
+            @Param("to") Instant to, Pageable pageable);
+    
+    // Next chunk of events whose start time has not been derived yet, by ID
+    List<Event> findTop500ByStartsAtIsNullAndIdGreaterThanOrderByIdAsc(Long id);
+    
+    // Events in one geohash cell starting in [from, to) (prefix range scan on the geohash index)
+    @Query("SELECT e FROM Event e WHERE e.geohash LIKE :cellPrefix AND e.startsAt >= :from AND e.startsAt < :to")
+    List<Event> findInCellStartingBetween(@Param("cellPrefix") String cellPrefix, @Param("from") Instant from,
+            @Param("to") Instant to);
+    
+    // Next chunk of events without a geohash yet, by ID
+    List<Event> findTop500ByGeohashIsNullAndIdGreaterThanOrderByIdAsc(Long id);
+    
+    // All of a user's events, read lazily in fetch-size chunks; must be consumed inside a transaction
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM Event e WHERE e.userId = :userId ORDER BY e.id")
+    Stream<Event> streamByUserId(@Param("userId") Long userId);
+    
+    // Latest modification time among a user's events (served by the (user_id, updated_at) index)
+    @Query("SELECT MAX(e.updatedAt) FROM Event e WHERE e.userId = :userId")
+    Instant findLastUpdatedAtByUserId(@Param("userId") Long userId);
+    
+    // Take one seat if the event has room; 0 when it is full (a row-level conditional update, no read-modify-write)
+    @Modifying
+    @Query("UPDATE Event e SET e.attendeeCount = e.attendeeCount + 1 " +
+           "WHERE e.id = :id AND (e.capacity IS NULL OR e.attendeeCount < e.capacity)")
+    int reserveSeat(@Param("id") Long id);
+    
+    // Give back one seat
+    @Modifying
+    @Query("UPDATE Event e SET e.attendeeCount = e.attendeeCount - 1 WHERE e.id = :id AND e.attendeeCount > 0")
+    int releaseSeat(@Param("id") Long id);
+    
+    // Next chunk of scheduled events as [id, userId, startsAt, durationMinutes] rows, by ID
+    @Query("SELECT e.id, e.userId, e.startsAt, e.durationMinutes FROM Event e " +
+           "WHERE e.startsAt IS NOT NULL AND e.id > :id ORDER BY e.id")
+    List<Object[]> findSchedulesAfter(@Param("id") Long id, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package foodieframe.recipe_sharing_platform.repository;
+
+import foodieframe.recipe_sharing_platform.model.EventRsvp;
+import foodieframe.recipe_sharing_platform.model.EventRsvp.RsvpStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface EventRsvpRepository extends JpaRepository<EventRsvp, Long> {
+    // Find a user's RSVP to an event
+    Optional<EventRsvp> findByEventIdAndUserId(Long eventId, Long userId);
+
+    // RSVPs of an event with the given status in arrival order
+    List<EventRsvp> findByEventIdAndStatusOrderByIdAsc(Long eventId, RsvpStatus status);
+
+    // Status of a user's RSVP, read from the database rather than the persistence context
+    @Query("SELECT r.status FROM EventRsvp r WHERE r.eventId = :eventId AND r.userId = :userId")
+    Optional<RsvpStatus> findStatus(@Param("eventId") Long eventId, @Param("userId") Long userId);
+
+    // ID of the oldest waitlisted RSVP after the given ID (served by the (event_id, status, id) index)
+    @Query("SELECT MIN(r.id) FROM EventRsvp r WHERE r.eventId = :eventId AND r.status = 'WAITLISTED' AND r.id > :after")
+    Optional<Long> findFirstWaitlistedIdAfter(@Param("eventId") Long eventId, @Param("after") Long after);
+
+    // IDs of the users holding a seat at an event
+    @Query("SELECT r.userId FROM EventRsvp r WHERE r.eventId = :eventId AND r.status = 'GOING'")
+    List<Long> findGoingUserIds(@Param("eventId") Long eventId);
+
+    // Next chunk of RSVPs as [id, eventId, userId] rows, by ID
+    @Query("SELECT r.id, r.eventId, r.userId FROM EventRsvp r WHERE r.id > :id ORDER BY r.id")
+    List<Object[]> findAttendanceAfter(@Param("id") Long id, Pageable pageable);
+
+    // Check whether an event has RSVPs with the given status
+    boolean existsByEventIdAndStatus(Long eventId, RsvpStatus status);
+
+    // Number of waitlisted RSVPs ahead of the given one
+    @Query("SELECT COUNT(r) FROM EventRsvp r WHERE r.eventId = :eventId AND r.status = 'WAITLISTED' AND r.id < :id")
+    long countWaitlistedBefore(@Param("eventId") Long eventId, @Param("id") Long id);
+
+    // Move a waitlisted RSVP to GOING; 0 if it was cancelled or promoted concurrently
+    @Modifying
+    @Query("UPDATE EventRsvp r SET r.status = 'GOING' WHERE r.id = :id AND r.status = 'WAITLISTED'")
+    int promote(@Param("id") Long id);
+
+    // Delete a user's RSVP only if it still has the status it was read with
+    @Modifying
+    @Query("DELETE FROM EventRsvp r WHERE r.eventId = :eventId AND r.userId = :userId AND r.status = :status")
+    int deleteByEventIdAndUserIdAndStatus(@Param("eventId") Long eventId, @Param("userId") Long userId,
+            @Param("status") RsvpStatus status);
+
+    // Delete every RSVP of an event with a single statement
+    @Modifying
+    @Query("DELETE FROM EventRsvp r WHERE r.eventId = :eventId")
+    int deleteByEventId(@Param("eventId") Long eventId);
+}
@@ -2,6 +2,9 @@ package foodieframe.recipe_sharing_platform.repository;
 
 import foodieframe.recipe_sharing_platform.model.Friend;
 import foodieframe.recipe_sharing_platform.model.Friend.FriendshipStatus;
+import foodieframe.recipe_sharing_platform.model.FriendProfile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -28,4 +31,42 @@ public interface FriendRepository extends JpaRepository<Friend, Long> { // Find
 
     // Check if a friendship exists between two users
     boolean existsByUserIdAndFriendId(Long userId, Long friendId);
+
+    // Whether two users have a friendship with the given status, in either direction
+    @Query("SELECT COUNT(f) > 0 FROM Friend f WHERE f.status = :status AND " +
+            "((f.userId = :userId1 AND f.friendId = :userId2) OR (f.userId = :userId2 AND f.friendId = :userId1))")
+    boolean existsBetween(@Param("userId1") Long userId1, @Param("userId2") Long userId2,
+            @Param("status") Friend.FriendshipStatus status);
+
+    // The other user of each of a user's friendships with the given status, either direction
+    @Query("SELECT CASE WHEN f.userId = :userId THEN f.friendId ELSE f.userId END FROM Friend f " +
+            "WHERE (f.userId = :userId OR f.friendId = :userId) AND f.status = :status")
+    List<Long> findOtherUserIds(@Param("userId") Long userId, @Param("status") Friend.FriendshipStatus status);
+
+    // A user's friendships with the given status, either direction, joined to the other user's profile
+    @Query(value = "SELECT new foodieframe.recipe_sharing_platform.model.FriendProfile(u.id, u.username, u.name, f.id, f.updatedDate) " +
+            "FROM Friend f JOIN User u ON u.id = CASE WHEN f.userId = :userId THEN f.friendId ELSE f.userId END " +
+            "WHERE (f.userId = :userId OR f.friendId = :userId) AND f.status = :status",
+            countQuery = "SELECT COUNT(f) FROM Friend f WHERE (f.userId = :userId OR f.friendId = :userId) AND f.status = :status")
+    Page<FriendProfile> findProfiles(@Param("userId") Long userId, @Param("status") FriendshipStatus status,
+            Pageable pageable);
+
+    // Friendships with the given status sent to a user, joined to the sender's profile
+    @Query(value = "SELECT new foodieframe.recipe_sharing_platform.model.FriendProfile(u.id, u.username, u.name, f.id, f.updatedDate) " +
+            "FROM Friend f JOIN User u ON u.id = f.userId WHERE f.friendId = :userId AND f.status = :status",
+            countQuery = "SELECT COUNT(f) FROM Friend f WHERE f.friendId = :userId AND f.status = :status")
+    Page<FriendProfile> findReceivedProfiles(@Param("userId") Long userId, @Param("status") FriendshipStatus status,
+            Pageable pageable);
+
+    // Friendships with the given status sent by a user, joined to the recipient's profile
+    @Query(value = "SELECT new foodieframe.recipe_sharing_platform.model.FriendProfile(u.id, u.username, u.name, f.id, f.updatedDate) " +
+            "FROM Friend f JOIN User u ON u.id = f.friendId WHERE f.userId = :userId AND f.status = :status",
+            countQuery = "SELECT COUNT(f) FROM Friend f WHERE f.userId = :userId AND f.status = :status")
+    Page<FriendProfile> findSentProfiles(@Param("userId") Long userId, @Param("status") FriendshipStatus status,
+            Pageable pageable);
+
+    // Next chunk of friendships with the given status as [id, userId, friendId] rows, by ID
+    @Query("SELECT f.id, f.userId, f.friendId FROM Friend f WHERE f.status = :status AND f.id > :id ORDER BY f.id")
+    List<Object[]> findEdgesAfter(@Param("status") Friend.FriendshipStatus status, @Param("id") Long id,
+            Pageable pageable);
 }
@@ -0,0 +1,55 @@
+package foodieframe.recipe_sharing_platform.repository;
+
+import foodieframe.recipe_sharing_platform.model.GroupPost;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface GroupPostRepository extends JpaRepository<GroupPost, Long> {
+    // Check if a post is already shared into a group
+    boolean existsByGroupIdAndPostId(Long groupId, Long postId);
+
+    /**
+     * Newest shares of a group with their posts as [GroupPost, Post] rows (first page)
+     * Served by the (group_id, shared_at, id) index, joining each post by ID
+     */
+    @Query("SELECT gp, p FROM GroupPost gp JOIN Post p ON p.id = gp.postId WHERE gp.groupId = :groupId " +
+            "ORDER BY gp.sharedAt DESC, gp.id DESC")
+    List<Object[]> findFeed(@Param("groupId") Long groupId, Pageable pageable);
+
+    // Shares of a group older than the cursor position, as [GroupPost, Post] rows
+    @Query("SELECT gp, p FROM GroupPost gp JOIN Post p ON p.id = gp.postId WHERE gp.groupId = :groupId " +
+            "AND gp.sharedAt <= :sharedAt AND (gp.sharedAt < :sharedAt OR gp.id < :id) " +
+            "ORDER BY gp.sharedAt DESC, gp.id DESC")
+    List<Object[]> findFeedBefore(@Param("groupId") Long groupId, @Param("sharedAt") Instant sharedAt,
+            @Param("id") Long id, Pageable pageable);
+
+    // Find the share of a post in a group
+    Optional<GroupPost> findByGroupIdAndPostId(Long groupId, Long postId);
+
+    // Every share of a post, across groups
+    List<GroupPost> findByPostId(Long postId);
+
+    // Take a post out of a group with a single statement
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM GroupPost gp WHERE gp.groupId = :groupId AND gp.postId = :postId")
+    int deleteByGroupIdAndPostId(@Param("groupId") Long groupId, @Param("postId") Long postId);
+
+    // Take a deleted post out of every group
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM GroupPost gp WHERE gp.postId = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+
+    // Delete every share of a group
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM GroupPost gp WHERE gp.groupId = :groupId")
+    int deleteByGroupId(@Param("groupId") Long groupId);
+}
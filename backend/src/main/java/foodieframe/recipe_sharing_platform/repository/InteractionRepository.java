@@ -3,6 +3,7 @@ package foodieframe.recipe_sharing_platform.repository;
 import foodieframe.recipe_sharing_platform.model.Interaction;
 import foodieframe.recipe_sharing_platform.model.Interaction.InteractionType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -30,7 +31,15 @@ public interface InteractionRepository extends JpaRepository<Interaction, Long>
 
     boolean existsByUserIdAndRecipeIdAndInteractionType(Long userId, Long recipeId, InteractionType interactionType);
 
-    void deleteByUserIdAndRecipeIdAndInteractionType(Long userId, Long recipeId, InteractionType interactionType);
+    // Set-based deletes: one DELETE statement instead of loading and removing each row
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Interaction i WHERE i.userId = :userId AND i.recipeId = :recipeId " +
+            "AND i.interactionType = :interactionType")
+    int deleteByUserIdAndRecipeIdAndInteractionType(@Param("userId") Long userId,
+            @Param("recipeId") Long recipeId, @Param("interactionType") InteractionType interactionType);
 
-    void deleteByRecipeIdAndInteractionType(Long recipeId, InteractionType interactionType);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Interaction i WHERE i.recipeId = :recipeId AND i.interactionType = :interactionType")
+    int deleteByRecipeIdAndInteractionType(@Param("recipeId") Long recipeId,
+            @Param("interactionType") InteractionType interactionType);
 }
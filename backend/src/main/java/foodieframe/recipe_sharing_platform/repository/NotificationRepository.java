@@ -0,0 +1,30 @@
+package foodieframe.recipe_sharing_platform.repository;
+
+import foodieframe.recipe_sharing_platform.model.Notification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+    // A user's latest notifications, newest first (served by the (user_id, id) index)
+    List<Notification> findByUserIdOrderByIdDesc(Long userId, Pageable pageable);
+
+    // Count a user's unread notifications
+    long countByUserIdAndReadFalse(Long userId);
+
+    // Mark one of a user's notifications as read
+    @Modifying
+    @Query("UPDATE Notification n SET n.read = true WHERE n.id = :id AND n.userId = :userId")
+    int markRead(@Param("id") Long id, @Param("userId") Long userId);
+
+    // Mark all of a user's notifications as read
+    @Modifying
+    @Query("UPDATE Notification n SET n.read = true WHERE n.userId = :userId AND n.read = false")
+    int markAllRead(@Param("userId") Long userId);
+}
@@ -1,8 +1,12 @@
 package foodieframe.recipe_sharing_platform.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import foodieframe.recipe_sharing_platform.model.Post;
@@ -13,4 +17,19 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     // Find posts by user ID
     List<Post> findByUserID(Long userID);
+
+    // Add delta to the stored comment count in place (no read-modify-write)
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + :delta WHERE p.id = :id")
+    int adjustCommentCount(@Param("id") Long id, @Param("delta") long delta);
+
+    // Stored comment counts for several posts as [id, commentCount] rows
+    @Query("SELECT p.id, p.commentCount FROM Post p WHERE p.id IN :ids")
+    List<Object[]> findCommentCounts(@Param("ids") Collection<Long> ids);
+
+    // Reset every drifted comment count to the actual number of comments
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Post p SET p.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.postId = p.id) " +
+           "WHERE p.commentCount <> (SELECT COUNT(c) FROM Comment c WHERE c.postId = p.id)")
+    int reconcileCommentCounts();
 }
\ No newline at end of file
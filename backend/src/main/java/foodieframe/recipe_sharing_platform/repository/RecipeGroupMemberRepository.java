@@ -3,9 +3,15 @@ package foodieframe.recipe_sharing_platform.repository;
 import foodieframe.recipe_sharing_platform.model.RecipeGroupMember;
 import foodieframe.recipe_sharing_platform.model.RecipeGroupMember.MemberRole;
 import foodieframe.recipe_sharing_platform.model.RecipeGroupMember.MembershipStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,9 +35,60 @@ public interface RecipeGroupMemberRepository extends JpaRepository<RecipeGroupMe
     // Check if a user is a member of a group
     boolean existsByGroupIdAndUserId(Long groupId, Long userId);
 
+    // Which of the given users already have a membership in a group, whatever its status
+    @Query("SELECT m.userId FROM RecipeGroupMember m WHERE m.groupId = :groupId AND m.userId IN :userIds")
+    List<Long> findMemberUserIds(@Param("groupId") Long groupId, @Param("userIds") Collection<Long> userIds);
+
     // Count number of members in a group
     long countByGroupIdAndStatus(Long groupId, MembershipStatus status);
 
-    // Delete a membership
-    void deleteByGroupIdAndUserId(Long groupId, Long userId);
+    // Next chunk of memberships as [id, groupId, userId, role, status] rows, by ID
+    @Query("SELECT m.id, m.groupId, m.userId, m.role, m.status FROM RecipeGroupMember m " +
+            "WHERE m.id > :afterId ORDER BY m.id")
+    List<Object[]> findMembershipsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Change a membership's status only if it still has the expected one
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RecipeGroupMember m SET m.status = :newStatus, m.updatedDate = CURRENT_TIMESTAMP " +
+            "WHERE m.groupId = :groupId AND m.userId = :userId AND m.status = :oldStatus")
+    int updateStatus(@Param("groupId") Long groupId, @Param("userId") Long userId,
+            @Param("oldStatus") MembershipStatus oldStatus, @Param("newStatus") MembershipStatus newStatus);
+
+    // Approve a pending membership, counting it as joined now
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RecipeGroupMember m SET m.status = :active, m.joinedDate = :joinedDate, " +
+            "m.updatedDate = CURRENT_TIMESTAMP " +
+            "WHERE m.groupId = :groupId AND m.userId = :userId AND m.status = :pending")
+    int approve(@Param("groupId") Long groupId, @Param("userId") Long userId,
+            @Param("joinedDate") LocalDateTime joinedDate, @Param("pending") MembershipStatus pending,
+            @Param("active") MembershipStatus active);
+
+    // Change a membership's role without touching its status
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RecipeGroupMember m SET m.role = :role, m.updatedDate = CURRENT_TIMESTAMP " +
+            "WHERE m.groupId = :groupId AND m.userId = :userId")
+    int updateRole(@Param("groupId") Long groupId, @Param("userId") Long userId, @Param("role") MemberRole role);
+
+    // For each of the given users, the number of groups they share with a user, as [userId, count] rows
+    @Query("SELECT m.userId, COUNT(m) FROM RecipeGroupMember m WHERE m.status = :status AND m.userId IN :userIds " +
+            "AND m.groupId IN (SELECT o.groupId FROM RecipeGroupMember o WHERE o.userId = :userId AND o.status = :status) " +
+            "GROUP BY m.userId")
+    List<Object[]> countSharedGroups(@Param("userId") Long userId, @Param("userIds") Collection<Long> userIds,
+            @Param("status") MembershipStatus status);
+
+    // Delete a membership with a single statement
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM RecipeGroupMember m WHERE m.groupId = :groupId AND m.userId = :userId")
+    int deleteByGroupIdAndUserId(@Param("groupId") Long groupId, @Param("userId") Long userId);
+
+    // Delete a membership only if it still has the expected status
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM RecipeGroupMember m WHERE m.groupId = :groupId AND m.userId = :userId AND m.status = :status")
+    int deleteByGroupIdAndUserIdAndStatus(@Param("groupId") Long groupId, @Param("userId") Long userId,
+            @Param("status") MembershipStatus status);
+
+    // Delete every membership of a group with a single statement
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM RecipeGroupMember m WHERE m.groupId = :groupId")
+    int deleteByGroupId(@Param("groupId") Long groupId);
 }
@@ -2,10 +2,18 @@ package foodieframe.recipe_sharing_platform.repository;
 
 import foodieframe.recipe_sharing_platform.model.RecipeGroup;
 import foodieframe.recipe_sharing_platform.model.RecipeGroup.GroupPrivacy;
+import foodieframe.recipe_sharing_platform.model.RecipeGroupMember.MembershipStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface RecipeGroupRepository extends JpaRepository<RecipeGroup, Long> {
@@ -18,6 +26,112 @@ public interface RecipeGroupRepository extends JpaRepository<RecipeGroup, Long>
     // Find public groups
     List<RecipeGroup> findByPrivacy(GroupPrivacy privacy);
 
+    // IDs of the groups with a privacy setting
+    @Query("SELECT g.id FROM RecipeGroup g WHERE g.privacy = :privacy")
+    List<Long> findIdsByPrivacy(@Param("privacy") GroupPrivacy privacy);
+
     // Check if a group with this name exists
     boolean existsByNameIgnoreCase(String name);
+
+    // Stored number of active members of a group
+    @Query("SELECT g.memberCount FROM RecipeGroup g WHERE g.id = :groupId")
+    Optional<Long> findMemberCount(@Param("groupId") Long groupId);
+
+    // Move a group's member count by delta
+    @Modifying
+    @Query("UPDATE RecipeGroup g SET g.memberCount = g.memberCount + :delta WHERE g.id = :groupId")
+    int adjustMemberCount(@Param("groupId") Long groupId, @Param("delta") long delta);
+
+    // Recompute every group's member count from its memberships
+    @Modifying
+    @Query("UPDATE RecipeGroup g SET g.memberCount = " +
+            "(SELECT COUNT(m) FROM RecipeGroupMember m WHERE m.groupId = g.id AND m.status = :status)")
+    int recountMembers(@Param("status") MembershipStatus status);
+
+    // Move a group's weekly activity by delta
+    @Modifying
+    @Query("UPDATE RecipeGroup g SET g.weeklyActivity = g.weeklyActivity + :delta WHERE g.id = :groupId")
+    int adjustWeeklyActivity(@Param("groupId") Long groupId, @Param("delta") long delta);
+
+    // Recompute every group's weekly activity from joins and shares since the cutoff
+    @Modifying
+    @Query("UPDATE RecipeGroup g SET g.weeklyActivity = " +
+            "(SELECT COUNT(m) FROM RecipeGroupMember m WHERE m.groupId = g.id " +
+            "AND m.status = :status AND m.joinedDate >= :joinedSince) + " +
+            "(SELECT COUNT(gp) FROM GroupPost gp WHERE gp.groupId = g.id AND gp.sharedAt >= :sharedSince)")
+    int recountWeeklyActivity(@Param("status") MembershipStatus status,
+            @Param("joinedSince") LocalDateTime joinedSince, @Param("sharedSince") Instant sharedSince);
+
+    /**
+     * Recompute weekly activity only for groups with a join or share in [from, to),
+     * the activity that has aged past the cutoff since the last run
+     */
+    @Modifying
+    @Query("UPDATE RecipeGroup g SET g.weeklyActivity = " +
+            "(SELECT COUNT(m) FROM RecipeGroupMember m WHERE m.groupId = g.id " +
+            "AND m.status = :status AND m.joinedDate >= :joinedTo) + " +
+            "(SELECT COUNT(gp) FROM GroupPost gp WHERE gp.groupId = g.id AND gp.sharedAt >= :sharedTo) " +
+            "WHERE g.id IN (SELECT m.groupId FROM RecipeGroupMember m " +
+            "WHERE m.joinedDate >= :joinedFrom AND m.joinedDate < :joinedTo) " +
+            "OR g.id IN (SELECT gp.groupId FROM GroupPost gp WHERE gp.sharedAt >= :sharedFrom AND gp.sharedAt < :sharedTo)")
+    int recountExpiredActivity(@Param("status") MembershipStatus status,
+            @Param("joinedFrom") LocalDateTime joinedFrom, @Param("joinedTo") LocalDateTime joinedTo,
+            @Param("sharedFrom") Instant sharedFrom, @Param("sharedTo") Instant sharedTo);
+
+    // Fill in the search key of groups written before it existed
+    @Modifying
+    @Query("UPDATE RecipeGroup g SET g.nameKey = LOWER(g.name) WHERE g.nameKey IS NULL")
+    int fillMissingNameKeys();
+
+    /*
+     * Directory pages: each sort has a first-page query and one that resumes after the
+     * cursor row, and each is served by its (privacy, key, id) index. Ordering by the
+     * fixed privacy first lets databases that only match an index from its leading
+     * column, such as H2, read rows in index order instead of sorting every group.
+     */
+
+    @Query("SELECT g FROM RecipeGroup g WHERE g.privacy = :privacy ORDER BY g.privacy, g.createdDate DESC, g.id DESC")
+    List<RecipeGroup> findNewest(@Param("privacy") GroupPrivacy privacy, Pageable pageable);
+
+    @Query("SELECT g FROM RecipeGroup g WHERE g.privacy = :privacy " +
+            "AND g.createdDate <= :createdDate AND (g.createdDate < :createdDate OR g.id < :id) " +
+            "ORDER BY g.privacy, g.createdDate DESC, g.id DESC")
+    List<RecipeGroup> findNewestAfter(@Param("privacy") GroupPrivacy privacy,
+            @Param("createdDate") LocalDateTime createdDate, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT g FROM RecipeGroup g WHERE g.privacy = :privacy ORDER BY g.privacy, g.memberCount DESC, g.id DESC")
+    List<RecipeGroup> findLargest(@Param("privacy") GroupPrivacy privacy, Pageable pageable);
+
+    @Query("SELECT g FROM RecipeGroup g WHERE g.privacy = :privacy " +
+            "AND g.memberCount <= :memberCount AND (g.memberCount < :memberCount OR g.id < :id) " +
+            "ORDER BY g.privacy, g.memberCount DESC, g.id DESC")
+    List<RecipeGroup> findLargestAfter(@Param("privacy") GroupPrivacy privacy,
+            @Param("memberCount") long memberCount, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT g FROM RecipeGroup g WHERE g.privacy = :privacy ORDER BY g.privacy, g.weeklyActivity DESC, g.id DESC")
+    List<RecipeGroup> findMostActive(@Param("privacy") GroupPrivacy privacy, Pageable pageable);
+
+    @Query("SELECT g FROM RecipeGroup g WHERE g.privacy = :privacy " +
+            "AND g.weeklyActivity <= :activity AND (g.weeklyActivity < :activity OR g.id < :id) " +
+            "ORDER BY g.privacy, g.weeklyActivity DESC, g.id DESC")
+    List<RecipeGroup> findMostActiveAfter(@Param("privacy") GroupPrivacy privacy,
+            @Param("activity") long activity, @Param("id") Long id, Pageable pageable);
+
+    // pattern is a lower-cased LIKE prefix pattern with backslash escapes
+    @Query("SELECT g FROM RecipeGroup g WHERE g.privacy = :privacy AND g.nameKey LIKE :pattern ESCAPE '\\' " +
+            "ORDER BY g.privacy, g.nameKey ASC, g.id ASC")
+    List<RecipeGroup> findByNamePrefix(@Param("privacy") GroupPrivacy privacy, @Param("pattern") String pattern,
+            Pageable pageable);
+
+    @Query("SELECT g FROM RecipeGroup g WHERE g.privacy = :privacy AND g.nameKey LIKE :pattern ESCAPE '\\' " +
+            "AND g.nameKey >= :nameKey AND (g.nameKey > :nameKey OR g.id > :id) " +
+            "ORDER BY g.privacy, g.nameKey ASC, g.id ASC")
+    List<RecipeGroup> findByNamePrefixAfter(@Param("privacy") GroupPrivacy privacy,
+            @Param("pattern") String pattern, @Param("nameKey") String nameKey, @Param("id") Long id,
+            Pageable pageable);
+
+    // Delete a group without loading it first
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM RecipeGroup g WHERE g.id = :groupId")
+    int deleteGroupById(@Param("groupId") Long groupId);
 }
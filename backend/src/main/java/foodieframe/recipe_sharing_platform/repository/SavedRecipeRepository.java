@@ -2,6 +2,9 @@ package foodieframe.recipe_sharing_platform.repository;
 
 import foodieframe.recipe_sharing_platform.model.SavedRecipe;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -18,8 +21,10 @@ public interface SavedRecipeRepository extends JpaRepository<SavedRecipe, Long>
     // Find a specific saved recipe entry
     Optional<SavedRecipe> findByUserIdAndPostId(Long userId, Long postId);
 
-    // Delete a saved recipe entry
-    void deleteByUserIdAndPostId(Long userId, Long postId);
+    // Delete a saved recipe entry with a single statement
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM SavedRecipe s WHERE s.userId = :userId AND s.postId = :postId")
+    int deleteByUserIdAndPostId(@Param("userId") Long userId, @Param("postId") Long postId);
 
     // Count how many users have saved a recipe
     long countByPostId(Long postId);
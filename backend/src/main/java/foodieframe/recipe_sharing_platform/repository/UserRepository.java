@@ -1,9 +1,11 @@
 package foodieframe.recipe_sharing_platform.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,6 +36,23 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.bio LIKE %:keyword%")
     List<User> findUsersByBioKeyword(@Param("keyword") String keyword);
     
+    // Find users whose name or username contains the text (case-insensitive), by name
+    @Query("SELECT u FROM User u WHERE LOWER(u.name) LIKE LOWER(CONCAT('%', :text, '%')) " +
+           "OR LOWER(u.username) LIKE LOWER(CONCAT('%', :text, '%')) ORDER BY u.name, u.id")
+    List<User> searchByNameOrUsername(@Param("text") String text, Pageable pageable);
+    
+    // Which of the given IDs belong to existing users
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+    
+    // IDs of the users with the given usernames as [id, username] rows
+    @Query("SELECT u.id, u.username FROM User u WHERE u.username IN :usernames")
+    List<Object[]> findIdsByUsernames(@Param("usernames") Collection<String> usernames);
+    
+    // IDs of the users with the given emails as [id, email] rows
+    @Query("SELECT u.id, u.email FROM User u WHERE u.email IN :emails")
+    List<Object[]> findIdsByEmails(@Param("emails") Collection<String> emails);
+    
     // Find users who registered most recently
     List<User> findTop10ByOrderByIdDesc();
 }
\ No newline at end of file
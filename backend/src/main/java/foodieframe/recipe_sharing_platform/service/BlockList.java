@@ -0,0 +1,82 @@
+package foodieframe.recipe_sharing_platform.service;
+
+import foodieframe.recipe_sharing_platform.model.Friend.FriendshipStatus;
+import foodieframe.recipe_sharing_platform.repository.FriendRepository;
+import foodieframe.recipe_sharing_platform.util.ChunkedRows;
+import foodieframe.recipe_sharing_platform.util.UndirectedGraph;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Who is hidden from whom because of blocks, held in memory.
+ *
+ * A block works both ways: neither user sees the other's posts, comments or
+ * profile in listings. Every read path that shows other users' content passes
+ * its results through filter(), which costs one map lookup per request and a
+ * binary search per item, and nothing at all for viewers with no blocks.
+ *
+ * FriendService records each block and unblock here as it happens; the
+ * blocked rows themselves are only read when the application starts.
+ */
+@Component
+public class BlockList {
+
+    private static final Logger log = LoggerFactory.getLogger(BlockList.class);
+
+    private static final int LOAD_CHUNK_SIZE = 5000;
+
+    @Autowired
+    private FriendRepository friendRepository;
+
+    private final UndirectedGraph blocks = new UndirectedGraph();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        UndirectedGraph.Builder builder = new UndirectedGraph.Builder();
+        ChunkedRows.forEach((afterId, chunk) -> friendRepository.findEdgesAfter(FriendshipStatus.BLOCKED, afterId,
+                chunk), LOAD_CHUNK_SIZE, row -> builder.addEdge((Long) row[1], (Long) row[2]));
+        blocks.addAll(builder);
+        log.info("Loaded {} blocks", builder.edgeCount());
+    }
+
+    // Whether a user's content is hidden from a viewer; nothing is hidden from anonymous viewers
+    public boolean isHidden(Long viewerId, Long userId) {
+        return viewerId != null && userId != null && blocks.connected(viewerId, userId);
+    }
+
+    /**
+     * Drops the items written by users hidden from the viewer
+     * @param viewerId user looking at the items, or null for no filtering
+     * @param items items to filter; returned as is when nothing is hidden
+     * @param authorOf user ID of an item's author
+     */
+    public <T> List<T> filter(Long viewerId, List<T> items, Function<T, Long> authorOf) {
+        if (viewerId == null || items.isEmpty() || blocks.neighbours(viewerId).length == 0) {
+            return items;
+        }
+        List<T> visible = new ArrayList<>(items.size());
+        for (T item : items) {
+            if (!isHidden(viewerId, authorOf.apply(item))) {
+                visible.add(item);
+            }
+        }
+        return visible;
+    }
+
+    // Record a block being added or every block between the two users being lifted
+    public void setBlocked(long userId1, long userId2, boolean blocked) {
+        if (blocked) {
+            blocks.link(userId1, userId2);
+        } else {
+            blocks.unlink(userId1, userId2);
+        }
+    }
+}
@@ -1,13 +1,28 @@
 package foodieframe.recipe_sharing_platform.service;
 
 import foodieframe.recipe_sharing_platform.model.Comment;
+import foodieframe.recipe_sharing_platform.model.CommentPage;
+import foodieframe.recipe_sharing_platform.model.LiveEvent;
+import foodieframe.recipe_sharing_platform.model.LiveEvent.LiveEventType;
 import foodieframe.recipe_sharing_platform.repository.CommentRepository;
+import foodieframe.recipe_sharing_platform.repository.EventRepository;
+import foodieframe.recipe_sharing_platform.repository.PostRepository;
+import foodieframe.recipe_sharing_platform.util.KeysetCursor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Service class for Comment-related operations
@@ -16,9 +31,41 @@ import java.util.List;
 @Service
 public class CommentService {
 
+    /**
+     * Largest page size accepted by the paginated read methods
+     */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * Deepest reply nesting accepted (keeps materialized paths within the column)
+     */
+    public static final int MAX_DEPTH = 32;
+
+    /**
+     * Largest number of replies returned per thread with a page of comments
+     */
+    public static final int MAX_REPLIES_PER_THREAD = 50;
+
+    private static final String PATH_SEPARATOR = "/";
+
     @Autowired
     private CommentRepository commentRepository;
 
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private LiveUpdateHub liveUpdateHub;
+
+    @Autowired
+    private GroupCommitWriter groupCommitWriter;
+
+    @Autowired
+    private BlockList blockList;
+
     /**
      * Retrieves all comments
      * @return List of all comments in the system
@@ -37,43 +84,161 @@ public class CommentService {
     }
 
     /**
-     * Retrieves all comments by a specific user
+     * Retrieves a newest-first page of comments by a specific user
      * @param userId The ID of the user whose comments to retrieve
-     * @return List of comments made by the specified user
+     * @param cursor Cursor returned with the previous page, or null for the first page
+     * @param limit Maximum number of comments to return
+     * @param viewerId User reading the comments, or null; comments by users blocked either way are left out
+     * @return The page of comments and the cursor for the next page
      */
-    public List<Comment> getCommentsByUserId(Long userId) {
-        return commentRepository.findByUserId(userId);
+    public CommentPage getCommentsByUserId(Long userId, String cursor, int limit, Long viewerId) {
+        Pageable page = pageOf(limit);
+        if (cursor == null) {
+            return toPage(commentRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, page), limit, viewerId);
+        }
+        Comment last = decodeCursor(cursor);
+        return toPage(commentRepository.findByUserIdBefore(userId, last.getCreatedAt(), last.getId(), page), limit,
+                viewerId);
     }
 
     /**
-     * Retrieves all comments for a specific post
+     * Retrieves a newest-first page of top-level comments for a specific post,
+     * each with the first replies of its thread
      * @param postId The ID of the post to get comments for
-     * @return List of comments on the specified post
+     * @param cursor Cursor returned with the previous page, or null for the first page
+     * @param limit Maximum number of top-level comments to return
+     * @param replies Maximum number of replies to include per thread
+     * @param viewerId User reading the comments, or null; comments by users blocked either way are left out
+     * @return The page of comment threads and the cursor for the next page
      */
-    public List<Comment> getCommentsByPostId(Long postId) {
-        return commentRepository.findByPostId(postId);
+    public CommentPage getCommentsByPostId(Long postId, String cursor, int limit, int replies, Long viewerId) {
+        Pageable page = pageOf(limit);
+        if (cursor == null) {
+            return withReplies(toPage(commentRepository.findTopLevelByPostId(postId, page), limit, viewerId),
+                    replies, viewerId);
+        }
+        Comment last = decodeCursor(cursor);
+        return withReplies(toPage(commentRepository.findTopLevelByPostIdBefore(
+                postId, last.getCreatedAt(), last.getId(), page), limit, viewerId), replies, viewerId);
     }
 
     /**
-     * Retrieves all comments for a specific event
+     * Retrieves a newest-first page of top-level comments for a specific event,
+     * each with the first replies of its thread
      * @param eventId The ID of the event to get comments for
-     * @return List of comments on the specified event
+     * @param cursor Cursor returned with the previous page, or null for the first page
+     * @param limit Maximum number of top-level comments to return
+     * @param replies Maximum number of replies to include per thread
+     * @param viewerId User reading the comments, or null; comments by users blocked either way are left out
+     * @return The page of comment threads and the cursor for the next page
      */
-    public List<Comment> getCommentsByEventId(Long eventId) {
-        return commentRepository.findByEventId(eventId);
+    public CommentPage getCommentsByEventId(Long eventId, String cursor, int limit, int replies, Long viewerId) {
+        Pageable page = pageOf(limit);
+        if (cursor == null) {
+            return withReplies(toPage(commentRepository.findTopLevelByEventId(eventId, page), limit, viewerId),
+                    replies, viewerId);
+        }
+        Comment last = decodeCursor(cursor);
+        return withReplies(toPage(commentRepository.findTopLevelByEventIdBefore(
+                eventId, last.getCreatedAt(), last.getId(), page), limit, viewerId), replies, viewerId);
     }
 
     /**
-     * Creates a new comment
+     * Retrieves the replies below a comment as a nested tree, depth-first
+     * @param id The ID of the comment whose replies to retrieve
+     * @param limit Maximum number of replies to return
+     * @param viewerId User reading the replies, or null; replies by users blocked either way are left out
+     * @return The comment with its replies attached, or null if comment not found or hidden from the viewer
+     */
+    public Comment getCommentWithReplies(Long id, int limit, Long viewerId) {
+        Comment comment = commentRepository.findById(id).orElse(null);
+        if (comment == null || blockList.isHidden(viewerId, comment.getUserId())) {
+            return null;
+        }
+        List<Comment> subtree = commentRepository.findSubtree(
+                comment.getRootId(), comment.getPath() + PATH_SEPARATOR + "%", pageOf(limit));
+        attachReplies(List.of(comment), subtree, viewerId);
+        return comment;
+    }
+
+    /**
+     * Creates a new comment, or a reply when parentId is set
      * @param comment The comment to create
      * @return The created comment with generated ID
+     * @throws IllegalArgumentException if the parent does not exist or the thread is too deep
      */
+    @Transactional
     public Comment createComment(Comment comment) {
-        // Set current timestamp
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-        comment.setCreatedAt(LocalDateTime.now().format(formatter));
-        
-        return commentRepository.save(comment);
+        Comment parent = prepareComment(comment);
+
+        // The path needs the generated ID, so it is filled in right after the insert
+        Comment savedComment = commentRepository.save(comment);
+        if (parent == null) {
+            savedComment.setRootId(savedComment.getId());
+            savedComment.setPath(childPath(null, savedComment.getId()));
+        } else {
+            savedComment.setRootId(parent.getRootId());
+            savedComment.setPath(childPath(parent.getPath(), savedComment.getId()));
+        }
+        adjustCommentCount(savedComment, 1);
+        publish(savedComment, LiveEventType.COMMENT_CREATED);
+        return savedComment;
+    }
+
+    /**
+     * Creates a new comment through the group-commit writer, which batches
+     * concurrent inserts into one transaction
+     * @param comment The comment to create
+     * @return Future completing with the created comment once its group has committed
+     * @throws IllegalArgumentException if the parent does not exist or the thread is too deep
+     */
+    public CompletableFuture<Comment> createCommentGrouped(Comment comment) {
+        Comment parent = prepareComment(comment);
+        // The writer builds the final thread path from the parent's
+        comment.setRootId(parent == null ? null : parent.getRootId());
+        comment.setPath(parent == null ? null : parent.getPath());
+        return groupCommitWriter.submitComment(comment).thenApply(id -> {
+            publish(comment, LiveEventType.COMMENT_CREATED);
+            return comment;
+        });
+    }
+
+    /**
+     * Whether comment inserts should use the group-commit path
+     * @return true if app.group-commit.enabled is set
+     */
+    public boolean isGroupCommitEnabled() {
+        return groupCommitWriter.isEnabled();
+    }
+
+    // Validate a new comment and fill in its timestamp and thread position; returns the parent, if any
+    private Comment prepareComment(Comment comment) {
+        // Set current timestamp (microsecond precision matches the column, keeping cursors exact)
+        comment.setCreatedAt(Instant.now().truncatedTo(ChronoUnit.MICROS));
+
+        Comment parent = null;
+        if (comment.getParentId() != null) {
+            parent = commentRepository.findById(comment.getParentId())
+                    .orElseThrow(() -> new IllegalArgumentException(
+                            "Parent comment not found with id: " + comment.getParentId()));
+            if (parent.getDepth() + 1 > MAX_DEPTH) {
+                throw new IllegalArgumentException("Replies cannot be nested deeper than " + MAX_DEPTH);
+            }
+            // Replies always belong to the parent's post or event
+            comment.setPostId(parent.getPostId());
+            comment.setEventId(parent.getEventId());
+            comment.setDepth(parent.getDepth() + 1);
+        } else {
+            comment.setDepth(0);
+        }
+        comment.setReplies(null);
+        return parent;
+    }
+
+    // Materialized path of a comment: its parent's path plus its own zero-padded ID
+    static String childPath(String parentPath, long id) {
+        String segment = String.format("%019d", id);
+        return parentPath == null ? segment : parentPath + PATH_SEPARATOR + segment;
     }
 
     /**
@@ -88,22 +253,156 @@ public class CommentService {
         if (comment != null) {
             comment.setContent(commentDetails.getContent());
             // Don't update userId, postId, eventId or timestamps on updates
-            return commentRepository.save(comment);
+            Comment updatedComment = commentRepository.save(comment);
+            publish(updatedComment, LiveEventType.COMMENT_UPDATED);
+            return updatedComment;
         }
         
         return null;
     }
 
     /**
-     * Deletes a comment
+     * Deletes a comment together with all of its replies
      * @param id The ID of the comment to delete
      * @return true if deleted successfully, false if comment not found
      */
+    @Transactional
     public boolean deleteComment(Long id) {
-        if (commentRepository.existsById(id)) {
-            commentRepository.deleteById(id);
-            return true;
+        Comment comment = commentRepository.findById(id).orElse(null);
+        if (comment == null) {
+            return false;
         }
-        return false;
+        int deleted = commentRepository.deleteSubtree(comment.getRootId(), comment.getPath(),
+                comment.getPath() + PATH_SEPARATOR + "%");
+        adjustCommentCount(comment, -deleted);
+        publish(comment, LiveEventType.COMMENT_DELETED);
+        return true;
+    }
+
+    /**
+     * Retrieves the stored comment counts of several posts
+     * @param postIds The IDs of the posts
+     * @return Comment count per post ID; unknown posts are omitted
+     */
+    public Map<Long, Long> getPostCommentCounts(Collection<Long> postIds) {
+        return toCountMap(postIds.isEmpty() ? List.of() : postRepository.findCommentCounts(postIds));
+    }
+
+    /**
+     * Retrieves the stored comment counts of several events
+     * @param eventIds The IDs of the events
+     * @return Comment count per event ID; unknown events are omitted
+     */
+    public Map<Long, Long> getEventCommentCounts(Collection<Long> eventIds) {
+        return toCountMap(eventIds.isEmpty() ? List.of() : eventRepository.findCommentCounts(eventIds));
+    }
+
+    /**
+     * Repairs stored comment counts that drifted from the comment table
+     * (e.g. after manual data fixes or comments written outside this service)
+     * @return Number of posts and events whose count was corrected
+     */
+    @Scheduled(fixedDelayString = "${app.comment-count.reconcile-interval-ms:3600000}",
+            initialDelayString = "${app.comment-count.reconcile-interval-ms:3600000}")
+    @Transactional
+    public int reconcileCommentCounts() {
+        return postRepository.reconcileCommentCounts() + eventRepository.reconcileCommentCounts();
+    }
+
+    // Keep the owning post's or event's counter in step within the same transaction
+    private void adjustCommentCount(Comment comment, long delta) {
+        if (comment.getPostId() != null) {
+            postRepository.adjustCommentCount(comment.getPostId(), delta);
+        }
+        if (comment.getEventId() != null) {
+            eventRepository.adjustCommentCount(comment.getEventId(), delta);
+        }
+    }
+
+    private Map<Long, Long> toCountMap(List<Object[]> rows) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put((Long) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    // Push a change to live subscribers of the comment's post or event
+    private void publish(Comment comment, LiveEventType type) {
+        LiveEvent event = new LiveEvent(type, comment);
+        if (comment.getPostId() != null) {
+            liveUpdateHub.publish(LiveUpdateHub.postTopic(comment.getPostId()), event);
+        }
+        if (comment.getEventId() != null) {
+            liveUpdateHub.publish(LiveUpdateHub.eventTopic(comment.getEventId()), event);
+        }
+    }
+
+    // Fetch one extra row so we know whether another page exists
+    private Pageable pageOf(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return PageRequest.of(0, limit + 1);
+    }
+
+    // Load the first replies of every thread on the page with one query and nest them
+    private CommentPage withReplies(CommentPage page, int replies, Long viewerId) {
+        if (replies < 0 || replies > MAX_REPLIES_PER_THREAD) {
+            throw new IllegalArgumentException("Replies per thread must be between 0 and " + MAX_REPLIES_PER_THREAD);
+        }
+        List<Comment> roots = page.getComments();
+        if (roots.isEmpty()) {
+            return page;
+        }
+        List<Long> rootIds = new ArrayList<>(roots.size());
+        for (Comment root : roots) {
+            rootIds.add(root.getId());
+        }
+        List<Comment> rows = replies == 0 ? List.of()
+                : commentRepository.findFirstRepliesByRootIds(rootIds, replies);
+        attachReplies(roots, rows, viewerId);
+        return page;
+    }
+
+    // Rows arrive in path order, so every parent is seen before its replies;
+    // a hidden reply is never registered as a parent, so its whole branch is dropped
+    private void attachReplies(List<Comment> parents, List<Comment> rows, Long viewerId) {
+        Map<Long, Comment> byId = new HashMap<>();
+        for (Comment parent : parents) {
+            parent.setReplies(new ArrayList<>());
+            byId.put(parent.getId(), parent);
+        }
+        for (Comment row : rows) {
+            Comment parent = byId.get(row.getParentId());
+            if (parent != null && !blockList.isHidden(viewerId, row.getUserId())) {
+                row.setReplies(new ArrayList<>());
+                parent.getReplies().add(row);
+                byId.put(row.getId(), row);
+            }
+        }
+    }
+
+    // The cursor comes from the last row read, so a page thinned by blocks still resumes after it
+    private CommentPage toPage(List<Comment> rows, int limit, Long viewerId) {
+        if (rows.size() <= limit) {
+            return new CommentPage(blockList.filter(viewerId, rows, Comment::getUserId), null);
+        }
+        List<Comment> comments = rows.subList(0, limit);
+        return new CommentPage(blockList.filter(viewerId, comments, Comment::getUserId),
+                encodeCursor(comments.get(limit - 1)));
+    }
+
+    // Cursor is the (createdAt, id) of the last comment returned, as opaque URL-safe text
+    private String encodeCursor(Comment comment) {
+        return new KeysetCursor(comment.getCreatedAt(), comment.getId()).encode();
+    }
+
+    private Comment decodeCursor(String cursor) {
+        KeysetCursor decoded = KeysetCursor.decode(cursor);
+        Comment position = new Comment();
+        position.setCreatedAt(decoded.getTimestamp());
+        position.setId(decoded.getId());
+        return position;
     }
 }
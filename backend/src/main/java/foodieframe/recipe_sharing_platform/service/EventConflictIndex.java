@@ -0,0 +1,198 @@
+package foodieframe.recipe_sharing_platform.service;
+
+import foodieframe.recipe_sharing_platform.model.Event;
+import foodieframe.recipe_sharing_platform.repository.EventRepository;
+import foodieframe.recipe_sharing_platform.repository.EventRsvpRepository;
+import foodieframe.recipe_sharing_platform.util.ChunkedRows;
+import foodieframe.recipe_sharing_platform.util.IntervalTree;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory interval index of event times, over all events and per user.
+ *
+ * A user's tree holds the events they created or RSVPed to, so "what overlaps
+ * [from, to)" walks only the tree branches that can hold a match, for one user
+ * or for everyone, instead of comparing every pair of a user's events.
+ * EventService and EventRsvpService apply each save, move, delete and RSVP;
+ * the event and RSVP tables are only scanned when the application starts.
+ */
+@Component
+public class EventConflictIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(EventConflictIndex.class);
+
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventRsvpRepository rsvpRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final IntervalTree allEvents = new IntervalTree();
+    private final Map<Long, IntervalTree> userEvents = new HashMap<>();
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        ChunkedRows.forEach(eventRepository::findSchedulesAfter, LOAD_CHUNK_SIZE, row -> {
+            Instant start = (Instant) row[2];
+            int minutes = row[3] != null ? (Integer) row[3] : Event.DEFAULT_DURATION_MINUTES;
+            put((Long) row[0], (Long) row[1], start, start.plus(minutes, ChronoUnit.MINUTES));
+        });
+        ChunkedRows.forEach(rsvpRepository::findAttendanceAfter, LOAD_CHUNK_SIZE,
+                row -> addAttendee((Long) row[1], (Long) row[2]));
+        log.info("Indexed times of {} events", allEvents.size());
+    }
+
+    // Add or move a saved event; events without a start time are left out
+    public void put(Event event) {
+        if (event.getStartsAt() == null) {
+            lock.writeLock().lock();
+            try {
+                Entry entry = entries.get(event.getId());
+                if (entry != null) {
+                    unindex(event.getId(), entry);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+        put(event.getId(), event.getUserId(), event.getStartsAt(), event.getEndsAt());
+    }
+
+    public void remove(Long eventId) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.remove(eventId);
+            if (entry != null) {
+                unindex(eventId, entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addAttendee(Long eventId, Long userId) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.computeIfAbsent(eventId, id -> new Entry());
+            if (entry.attendees.add(userId) && entry.indexed && !userId.equals(entry.creatorId)) {
+                userTree(userId).add(eventId, entry.start, entry.end);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeAttendee(Long eventId, Long userId) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.get(eventId);
+            if (entry != null && entry.attendees.remove(userId) && entry.indexed
+                    && !userId.equals(entry.creatorId)) {
+                removeFromUser(userId, eventId, entry.start);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // IDs of all events overlapping [from, to), by start time
+    public List<Long> overlapping(Instant from, Instant to) {
+        lock.readLock().lock();
+        try {
+            return allEvents.overlapping(from.toEpochMilli(), to.toEpochMilli());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // IDs of the events a user created or RSVPed to that overlap [from, to), by start time
+    public List<Long> overlapping(Long userId, Instant from, Instant to) {
+        lock.readLock().lock();
+        try {
+            IntervalTree tree = userEvents.get(userId);
+            return tree == null ? List.of() : tree.overlapping(from.toEpochMilli(), to.toEpochMilli());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(Long eventId, Long creatorId, Instant start, Instant end) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.computeIfAbsent(eventId, id -> new Entry());
+            unindex(eventId, entry);
+            entry.creatorId = creatorId;
+            entry.start = start.toEpochMilli();
+            entry.end = end.toEpochMilli();
+            entry.indexed = true;
+            allEvents.add(eventId, entry.start, entry.end);
+            for (Long userId : entry.users()) {
+                userTree(userId).add(eventId, entry.start, entry.end);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Take an event out of every tree (caller holds the write lock)
+    private void unindex(Long eventId, Entry entry) {
+        if (!entry.indexed) {
+            return;
+        }
+        allEvents.remove(eventId, entry.start);
+        for (Long userId : entry.users()) {
+            removeFromUser(userId, eventId, entry.start);
+        }
+        entry.indexed = false;
+    }
+
+    private void removeFromUser(Long userId, Long eventId, long start) {
+        IntervalTree tree = userEvents.get(userId);
+        if (tree != null && tree.remove(eventId, start) && tree.size() == 0) {
+            userEvents.remove(userId);
+        }
+    }
+
+    private IntervalTree userTree(Long userId) {
+        return userEvents.computeIfAbsent(userId, id -> new IntervalTree());
+    }
+
+    /**
+     * Indexed interval and people of one event; attendees may be known before the event is indexed
+     */
+    private static final class Entry {
+        private boolean indexed;
+        private Long creatorId;
+        private long start;
+        private long end;
+        private final Set<Long> attendees = new HashSet<>();
+
+        Set<Long> users() {
+            Set<Long> users = new HashSet<>(attendees);
+            if (creatorId != null) {
+                users.add(creatorId);
+            }
+            return users;
+        }
+    }
+}
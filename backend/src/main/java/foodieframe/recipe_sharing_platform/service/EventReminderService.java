@@ -0,0 +1,242 @@
+package foodieframe.recipe_sharing_platform.service;
+
+import foodieframe.recipe_sharing_platform.model.Event;
+import foodieframe.recipe_sharing_platform.model.Notification.NotificationType;
+import foodieframe.recipe_sharing_platform.repository.EventRepository;
+import foodieframe.recipe_sharing_platform.repository.EventRsvpRepository;
+import foodieframe.recipe_sharing_platform.util.TimingWheel;
+import foodieframe.recipe_sharing_platform.util.TimingWheel.Timeout;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends "starting soon" notifications to an event's creator and attendees
+ * a fixed lead time before it starts (24h and 1h by default).
+ *
+ * Every upcoming reminder lives in an in-memory TimingWheel, loaded from the
+ * database at startup and kept current by EventService as events are created,
+ * moved or deleted. Each tick only touches reminders that are due, so there is
+ * no periodic scan of the events table. Reminders whose time passed while the
+ * application was down are not sent late. A reminder that fails to send is put
+ * back on the wheel once, a minute later; if that fails too it is logged and
+ * dropped.
+ */
+@Service
+public class EventReminderService {
+
+    private static final Logger log = LoggerFactory.getLogger(EventReminderService.class);
+
+    // Upcoming events are read at startup in chunks of this size
+    private static final int LOAD_CHUNK_SIZE = 500;
+
+    // Upper bound for the startup query; later events are too far out to matter
+    private static final Instant FAR_FUTURE = Instant.parse("9999-01-01T00:00:00Z");
+
+    // Wait before the one retry of a reminder that failed to send
+    private static final Duration RETRY_DELAY = Duration.ofMinutes(1);
+
+    @Value("${app.reminders.lead-times:24h,1h}")
+    private List<Duration> leadTimes;
+
+    @Value("${app.reminders.tick-ms:1000}")
+    private long tickMs;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventRsvpRepository rsvpRepository;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    private TimingWheel<Reminder> wheel;
+
+    // Pending reminders per event, so a move or delete can cancel them in O(1)
+    private final Map<Long, List<Timeout<Reminder>>> scheduled = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService ticker;
+    private ExecutorService sender;
+
+    @PostConstruct
+    public void start() {
+        wheel = new TimingWheel<>(tickMs, System.currentTimeMillis());
+        ticker = Executors.newSingleThreadScheduledExecutor(r -> daemon(r, "reminder-ticker"));
+        // Sending touches the database; keep it off the ticker so ticks stay on time
+        sender = Executors.newSingleThreadExecutor(r -> daemon(r, "reminder-sender"));
+        ticker.scheduleAtFixedRate(this::tick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        ticker.shutdownNow();
+        sender.shutdownNow();
+    }
+
+    // Put every event that has not started yet on the wheel
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadUpcoming() {
+        PageRequest chunk = PageRequest.of(0, LOAD_CHUNK_SIZE);
+        List<Event> events = eventRepository.findStartingBetween(Instant.now(), FAR_FUTURE, chunk);
+        int loaded = 0;
+        while (!events.isEmpty()) {
+            for (Event event : events) {
+                schedule(event);
+            }
+            loaded += events.size();
+            Event last = events.get(events.size() - 1);
+            events = eventRepository.findStartingBetweenAfter(last.getStartsAt(), last.getId(), FAR_FUTURE, chunk);
+        }
+        log.info("Scheduled reminders for {} upcoming events", loaded);
+    }
+
+    /**
+     * (Re)schedules an event's reminders from its current start time
+     * Reminders whose time has already passed are skipped.
+     * @param event saved event
+     */
+    public void schedule(Event event) {
+        Long eventId = event.getId();
+        Instant startsAt = event.getStartsAt();
+        long now = System.currentTimeMillis();
+        scheduled.compute(eventId, (id, previous) -> {
+            cancelAll(previous);
+            if (startsAt == null) {
+                return null;
+            }
+            List<Timeout<Reminder>> timeouts = new ArrayList<>(leadTimes.size());
+            for (Duration lead : leadTimes) {
+                long fireAt = startsAt.minus(lead).toEpochMilli();
+                if (fireAt > now) {
+                    timeouts.add(wheel.schedule(fireAt, new Reminder(id, startsAt, lead, false)));
+                }
+            }
+            return timeouts.isEmpty() ? null : timeouts;
+        });
+    }
+
+    // Drop all pending reminders of an event
+    public void cancel(Long eventId) {
+        scheduled.computeIfPresent(eventId, (id, timeouts) -> {
+            cancelAll(timeouts);
+            return null;
+        });
+    }
+
+    // Number of reminders waiting to be sent
+    public int getPendingCount() {
+        return wheel.size();
+    }
+
+    private void tick() {
+        try {
+            for (Reminder reminder : wheel.advance(System.currentTimeMillis())) {
+                scheduled.computeIfPresent(reminder.eventId, (id, timeouts) -> {
+                    timeouts.removeIf(timeout -> timeout.getPayload() == reminder);
+                    return timeouts.isEmpty() ? null : timeouts;
+                });
+                sender.execute(() -> send(reminder));
+            }
+        } catch (RuntimeException e) {
+            // An exception would cancel the fixed-rate task and stop all reminders
+            log.error("Reminder tick failed", e);
+        }
+    }
+
+    private void send(Reminder reminder) {
+        try {
+            Event event = eventRepository.findById(reminder.eventId).orElse(null);
+            // Deleted or moved since the reminder fired; a moved event has its own reminders
+            if (event == null || !reminder.startsAt.equals(event.getStartsAt())) {
+                return;
+            }
+            Set<Long> recipients = new LinkedHashSet<>();
+            recipients.add(event.getUserId());
+            recipients.addAll(rsvpRepository.findGoingUserIds(event.getId()));
+            notificationService.notifyUsers(recipients, NotificationType.EVENT_REMINDER, event.getId(),
+                    "\"" + event.getTitle() + "\" starts in " + describe(reminder.lead));
+        } catch (RuntimeException e) {
+            retry(reminder, e);
+        }
+    }
+
+    // Put a reminder that failed to send back on the wheel, unless it already had its retry
+    private void retry(Reminder reminder, RuntimeException failure) {
+        long retryAt = System.currentTimeMillis() + RETRY_DELAY.toMillis();
+        if (reminder.retry || retryAt >= reminder.startsAt.toEpochMilli()) {
+            log.error("Dropped reminder for event {} after it failed to send", reminder.eventId, failure);
+            return;
+        }
+        log.warn("Failed to send reminder for event {}; retrying in {}", reminder.eventId, RETRY_DELAY, failure);
+        Reminder again = new Reminder(reminder.eventId, reminder.startsAt, reminder.lead, true);
+        // Kept with the event's other reminders so a move or delete cancels it too
+        scheduled.compute(reminder.eventId, (id, timeouts) -> {
+            List<Timeout<Reminder>> pending = timeouts != null ? timeouts : new ArrayList<>(1);
+            pending.add(wheel.schedule(retryAt, again));
+            return pending;
+        });
+    }
+
+    private void cancelAll(List<Timeout<Reminder>> timeouts) {
+        if (timeouts != null) {
+            timeouts.forEach(wheel::cancel);
+        }
+    }
+
+    private static String describe(Duration lead) {
+        long hours = lead.toHours();
+        if (hours > 0 && lead.equals(Duration.ofHours(hours))) {
+            return hours == 1 ? "1 hour" : hours + " hours";
+        }
+        long minutes = lead.toMinutes();
+        if (minutes > 0 && lead.equals(Duration.ofMinutes(minutes))) {
+            return minutes == 1 ? "1 minute" : minutes + " minutes";
+        }
+        return lead.toSeconds() + " seconds";
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * One reminder for one event, tied to the start time it was scheduled for
+     */
+    private static final class Reminder {
+        private final Long eventId;
+        private final Instant startsAt;
+        private final Duration lead;
+        // Whether this is the one retry of a reminder that failed to send
+        private final boolean retry;
+
+        Reminder(Long eventId, Instant startsAt, Duration lead, boolean retry) {
+            this.eventId = eventId;
+            this.startsAt = startsAt;
+            this.lead = lead;
+            this.retry = retry;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package foodieframe.recipe_sharing_platform.service;
+
+import foodieframe.recipe_sharing_platform.model.EventRsvp;
+import foodieframe.recipe_sharing_platform.model.EventRsvp.RsvpStatus;
+import foodieframe.recipe_sharing_platform.repository.EventRepository;
+import foodieframe.recipe_sharing_platform.repository.EventRsvpRepository;
+import foodieframe.recipe_sharing_platform.util.AfterCommit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * RSVPs with an optional seat limit and a first-come waitlist.
+ *
+ * Seats are counted on the event row and only ever taken with a conditional
+ * UPDATE (attendeeCount < capacity), so the database decides who gets the last
+ * seat and an event can never be oversold. Each RSVP locks just its own event
+ * row, and only from the seat update to commit; RSVPs to different events never
+ * wait on each other.
+ *
+ * A seat given up by a cancellation passes straight to the head of the
+ * waitlist in the same transaction. A cancellation cannot see a waitlisted RSVP
+ * that is still uncommitted, so both a new waitlisted RSVP and a cancellation
+ * that found nobody waiting check again for free seats once they commit; the
+ * second of the two to commit always sees the other, so a seat is never left
+ * free while someone waits.
+ */
+@Service
+public class EventRsvpService {
+
+    private static final Logger log = LoggerFactory.getLogger(EventRsvpService.class);
+
+    @Autowired
+    private EventRsvpRepository rsvpRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventConflictIndex eventConflictIndex;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * RSVPs a user to an event; repeating it returns the existing RSVP
+     * @param eventId event to attend
+     * @param userId attending user
+     * @return the RSVP, GOING if a seat was free, otherwise WAITLISTED with its position;
+     *         a waitlisted RSVP may be promoted as soon as it commits if a seat was freed meanwhile
+     */
+    @Transactional
+    public EventRsvp rsvp(Long eventId, Long userId) {
+        Optional<EventRsvp> existing = rsvpRepository.findByEventIdAndUserId(eventId, userId);
+        if (existing.isPresent()) {
+            return withPosition(existing.get());
+        }
+        if (!eventRepository.existsById(eventId)) {
+            throw new RuntimeException("Event not found with id: " + eventId);
+        }
+        // Join the queue first so the ID fixes arrival order, then try for a seat last
+        // to keep the event row locked for as short as possible
+        EventRsvp rsvp = rsvpRepository.saveAndFlush(new EventRsvp(eventId, userId, RsvpStatus.WAITLISTED));
+        AfterCommit.run(() -> eventConflictIndex.addAttendee(eventId, userId));
+        if (eventRepository.reserveSeat(eventId) == 1) {
+            rsvp.setStatus(RsvpStatus.GOING);
+            return rsvp;
+        }
+        fillAfterCommit(eventId);
+        return withPosition(rsvp);
+    }
+
+    /**
+     * Cancels a user's RSVP, handing a freed seat to the first waitlisted user
+     * @param eventId event
+     * @param userId user cancelling
+     * @return false if the user had no RSVP
+     */
+    @Transactional
+    public boolean cancel(Long eventId, Long userId) {
+        RsvpStatus status;
+        // Retried at most once: the status can only change from WAITLISTED to GOING
+        do {
+            status = rsvpRepository.findStatus(eventId, userId).orElse(null);
+            if (status == null) {
+                return false;
+            }
+        } while (rsvpRepository.deleteByEventIdAndUserIdAndStatus(eventId, userId, status) == 0);
+
+        if (status == RsvpStatus.GOING && !promoteNext(eventId)) {
+            eventRepository.releaseSeat(eventId);
+            fillAfterCommit(eventId);
+        }
+        AfterCommit.run(() -> eventConflictIndex.removeAttendee(eventId, userId));
+        return true;
+    }
+
+    // Promote waitlisted users into seats freed by a raised or removed capacity
+    @Transactional
+    public int fillFromWaitlist(Long eventId) {
+        int promoted = 0;
+        while (rsvpRepository.existsByEventIdAndStatus(eventId, RsvpStatus.WAITLISTED)
+                && eventRepository.reserveSeat(eventId) == 1) {
+            if (!promoteNext(eventId)) {
+                eventRepository.releaseSeat(eventId);
+                break;
+            }
+            promoted++;
+        }
+        return promoted;
+    }
+
+    // A user's RSVP to an event, with its waitlist position if waiting
+    public Optional<EventRsvp> getRsvp(Long eventId, Long userId) {
+        return rsvpRepository.findByEventIdAndUserId(eventId, userId).map(this::withPosition);
+    }
+
+    // RSVPs of an event with the given status in arrival order
+    public List<EventRsvp> getRsvps(Long eventId, RsvpStatus status) {
+        return rsvpRepository.findByEventIdAndStatusOrderByIdAsc(eventId, status);
+    }
+
+    // Remove every RSVP of an event that is being deleted
+    @Transactional
+    public int deleteEventRsvps(Long eventId) {
+        return rsvpRepository.deleteByEventId(eventId);
+    }
+
+    // Give a seat already counted as taken to the head of the waitlist; false if nobody is waiting
+    private boolean promoteNext(Long eventId) {
+        long after = 0L;
+        while (true) {
+            Long next = rsvpRepository.findFirstWaitlistedIdAfter(eventId, after).orElse(null);
+            if (next == null) {
+                return false;
+            }
+            // Loses only if that user cancelled or was promoted by a concurrent cancellation;
+            // then move on down the line rather than racing for the same head again
+            if (rsvpRepository.promote(next) == 1) {
+                return true;
+            }
+            after = next;
+        }
+    }
+
+    // Fill free seats in a new transaction after commit, when this one's writes are visible to others.
+    // If that fails (logged), nobody waiting gets the seat until the next waitlisted RSVP, cancellation
+    // or capacity change on the event runs the fill again; a new RSVP may take the seat before that.
+    private void fillAfterCommit(Long eventId) {
+        AfterCommit.run(() -> {
+            TransactionTemplate requiresNew = new TransactionTemplate(transactionTemplate.getTransactionManager());
+            requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            try {
+                requiresNew.executeWithoutResult(status -> fillFromWaitlist(eventId));
+            } catch (RuntimeException e) {
+                log.error("Failed to fill waitlist of event {}", eventId, e);
+            }
+        });
+    }
+
+    private EventRsvp withPosition(EventRsvp rsvp) {
+        if (rsvp.getStatus() == RsvpStatus.WAITLISTED) {
+            rsvp.setWaitlistPosition(rsvpRepository.countWaitlistedBefore(rsvp.getEventId(), rsvp.getId()) + 1);
+        }
+        return rsvp;
+    }
+}
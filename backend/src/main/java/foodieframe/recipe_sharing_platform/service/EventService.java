@@ -1,20 +1,104 @@
 package foodieframe.recipe_sharing_platform.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import foodieframe.recipe_sharing_platform.model.Event;
+import foodieframe.recipe_sharing_platform.model.EventPage;
+import foodieframe.recipe_sharing_platform.model.NearbyEvent;
 import foodieframe.recipe_sharing_platform.repository.EventRepository;
+import foodieframe.recipe_sharing_platform.util.AfterCommit;
+import foodieframe.recipe_sharing_platform.util.GeoHash;
+import foodieframe.recipe_sharing_platform.util.ICalendarWriter;
+import foodieframe.recipe_sharing_platform.util.KeysetCursor;
 
 @Service
 public class EventService {
 
+    private static final Logger log = LoggerFactory.getLogger(EventService.class);
+
+    // Largest page size accepted by getUpcomingEvents
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // Date formats accepted from clients; the first is the stored form
+    private static final List<DateTimeFormatter> DATE_FORMATS = List.of(
+            DateTimeFormatter.ISO_LOCAL_DATE,
+            DateTimeFormatter.ofPattern("EEE MMM dd yyyy", Locale.ENGLISH),
+            DateTimeFormatter.ofPattern("M/d/yyyy", Locale.ENGLISH));
+
+    // Time formats accepted from clients; the first is the stored form
+    private static final List<DateTimeFormatter> TIME_FORMATS = List.of(
+            DateTimeFormatter.ofPattern("HH:mm", Locale.ENGLISH),
+            DateTimeFormatter.ISO_LOCAL_TIME,
+            DateTimeFormatter.ofPattern("h:mm a", Locale.ENGLISH),
+            DateTimeFormatter.ofPattern("h:mma", Locale.ENGLISH));
+
+    // Largest radius accepted by getNearbyEvents
+    public static final double MAX_RADIUS_KM = 500;
+
+    // Most geohash cells scanned per nearby query
+    private static final int MAX_NEARBY_CELLS = 12;
+
     @Autowired
     private EventRepository eventRepository;
 
+    @Autowired
+    private Gazetteer gazetteer;
+
+    @Autowired
+    private EventRsvpService eventRsvpService;
+
+    @Autowired
+    private EventReminderService eventReminderService;
+
+    @Autowired
+    private EventConflictIndex eventConflictIndex;
+
+    @Autowired
+    private BlockList blockList;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final Instant startedAt = Instant.now();
+
+    // Time of the latest event deletion per owner since startup
+    private final Map<Long, Instant> calendarDeletions = new ConcurrentHashMap<>();
+
+    // Zone event dates and times are entered in
+    @Value("${app.events.time-zone:UTC}")
+    private ZoneId zone;
+
     // Create
     // Enhanced save event method with more robust error handling
     public Event saveEvent(Event event) {
@@ -26,19 +110,19 @@ public class EventService {
                 event.setImage("https://example.com/default-image.jpg");
             }
 
-            // Convert time to have minimum length if necessary
-            if (event.getTime() != null && event.getTime().length() < 6) {
-                event.setTime(event.getTime() + " (24-hour format)");
-            }
-
-            // Convert date to have minimum length if necessary
-            if (event.getDate() != null && event.getDate().length() < 6) {
-                event.setDate(event.getDate() + " (YYYY-MM-DD)");
-            }
+            applyStartsAt(event, event.getDate(), event.getTime());
+            applyCoordinates(event, event.getLatitude(), event.getLongitude());
+            validateCapacity(event.getCapacity());
+            validateDuration(event.getDurationMinutes());
 
             Event savedEvent = eventRepository.save(event);
+            eventReminderService.schedule(savedEvent);
+            eventConflictIndex.put(savedEvent);
+            savedEvent.setConflictingEventIds(findConflicts(savedEvent));
             System.out.println("[DEBUG] Event saved successfully: " + savedEvent);
             return savedEvent;
+        } catch (IllegalArgumentException e) {
+            throw e;
         } catch (Exception e) {
             System.err.println("[ERROR] Failed to save event: " + e.getMessage());
             e.printStackTrace();
@@ -63,6 +147,11 @@ public class EventService {
         }
         return eventRepository.searchEvents(searchTerm);
     }
+
+    // Search events for a viewer, leaving out events by users blocked either way
+    public List<Event> searchEvents(String searchTerm, Long viewerId) {
+        return blockList.filter(viewerId, searchEvents(searchTerm), Event::getUserId);
+    }
     
     // Get events by user ID
     public List<Event> getEventsByUserId(Long userId) {
@@ -76,18 +165,344 @@ public class EventService {
         event.setTitle(eventDetails.getTitle());
         event.setDescription(eventDetails.getDescription());
         event.setImage(eventDetails.getImage());
-        event.setDate(eventDetails.getDate());
-        event.setLocation(eventDetails.getLocation());
-        event.setTime(eventDetails.getTime());
+        validateDuration(eventDetails.getDurationMinutes());
+        event.setDurationMinutes(eventDetails.getDurationMinutes());
+        applyStartsAt(event, eventDetails.getDate(), eventDetails.getTime());
+        validateCapacity(eventDetails.getCapacity());
+        boolean moreSeats = event.getCapacity() != null && (eventDetails.getCapacity() == null
+                || eventDetails.getCapacity() > event.getCapacity());
+        event.setCapacity(eventDetails.getCapacity());
+        boolean relocated = !Objects.equals(event.getLocation(), eventDetails.getLocation());
+        boolean newCoordinates = !Objects.equals(event.getLatitude(), eventDetails.getLatitude())
+                || !Objects.equals(event.getLongitude(), eventDetails.getLongitude());
         event.setLocation(eventDetails.getLocation());
         event.setDescription(eventDetails.getDescription());
-        return eventRepository.save(event);
+        // Explicit coordinates win; a new location without them is looked up again
+        if (newCoordinates) {
+            applyCoordinates(event, eventDetails.getLatitude(), eventDetails.getLongitude());
+        } else if (relocated) {
+            applyCoordinates(event, null, null);
+        }
+        Event savedEvent = eventRepository.save(event);
+        eventReminderService.schedule(savedEvent);
+        eventConflictIndex.put(savedEvent);
+        savedEvent.setConflictingEventIds(findConflicts(savedEvent));
+        // Seats added by a larger (or removed) capacity go to the waitlist first
+        if (moreSeats) {
+            eventRsvpService.fillFromWaitlist(id);
+        }
+        return savedEvent;
     }
 
     // Delete
+    @Transactional
     public void deleteEvent(Long id) {
         Event event = eventRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Event not found with id: " + id));
+        eventRsvpService.deleteEventRsvps(id);
         eventRepository.delete(event);
+        // Deleted rows leave no updatedAt behind, so remember when the owner's calendar shrank
+        AfterCommit.run(() -> {
+            calendarDeletions.put(event.getUserId(), Instant.now());
+            eventReminderService.cancel(id);
+            eventConflictIndex.remove(id);
+        });
+    }
+
+    // When a user's calendar feed last changed; never earlier than this process's start,
+    // since deletions before a restart are not remembered
+    public Instant getCalendarLastModified(Long userId) {
+        Instant lastModified = startedAt;
+        Instant updated = eventRepository.findLastUpdatedAtByUserId(userId);
+        if (updated != null && updated.isAfter(lastModified)) {
+            lastModified = updated;
+        }
+        Instant deleted = calendarDeletions.get(userId);
+        if (deleted != null && deleted.isAfter(lastModified)) {
+            lastModified = deleted;
+        }
+        return lastModified;
+    }
+
+    // Stream a user's events as an iCalendar document without loading them all at once
+    @Transactional(readOnly = true)
+    public void writeCalendar(Long userId, OutputStream output) throws IOException {
+        try (Stream<Event> events = eventRepository.streamByUserId(userId);
+                ICalendarWriter calendar = new ICalendarWriter(output)) {
+            calendar.begin("VCALENDAR")
+                    .raw("VERSION", "2.0")
+                    .raw("PRODID", "-//FoodieFrame//Recipe Sharing Platform//EN")
+                    .raw("CALSCALE", "GREGORIAN")
+                    .text("X-WR-CALNAME", "FoodieFrame events");
+            Iterator<Event> iterator = events.iterator();
+            while (iterator.hasNext()) {
+                Event event = iterator.next();
+                // Events without a parseable start cannot be placed on a calendar
+                if (event.getStartsAt() != null) {
+                    calendar.begin("VEVENT")
+                            .raw("UID", "event-" + event.getId() + "@foodieframe")
+                            .dateTime("DTSTAMP", event.getUpdatedAt() != null ? event.getUpdatedAt() : startedAt)
+                            .dateTime("DTSTART", event.getStartsAt())
+                            .dateTime("DTEND", event.getEndsAt())
+                            .text("SUMMARY", event.getTitle())
+                            .text("DESCRIPTION", event.getDescription())
+                            .text("LOCATION", event.getLocation());
+                    if (event.getLatitude() != null) {
+                        calendar.raw("GEO", event.getLatitude() + ";" + event.getLongitude());
+                    }
+                    calendar.dateTime("LAST-MODIFIED", event.getUpdatedAt())
+                            .end("VEVENT");
+                }
+                // Keep the persistence context from growing with the calendar
+                entityManager.detach(event);
+            }
+            calendar.end("VCALENDAR");
+        }
+    }
+
+    // Soonest-first page of events starting in [from, to), continuing after the cursor if given
+    public EventPage getUpcomingEvents(Instant from, Instant to, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+        // Fetch one extra row so we know whether another page exists
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<Event> rows;
+        if (cursor == null) {
+            rows = eventRepository.findStartingBetween(from, to, page);
+        } else {
+            KeysetCursor last = KeysetCursor.decode(cursor);
+            rows = eventRepository.findStartingBetweenAfter(last.getTimestamp(), last.getId(), to, page);
+        }
+        if (rows.size() <= limit) {
+            return new EventPage(rows, null);
+        }
+        List<Event> events = rows.subList(0, limit);
+        Event last = events.get(limit - 1);
+        return new EventPage(events, new KeysetCursor(last.getStartsAt(), last.getId()).encode());
+    }
+
+    // Events within radiusKm of a point starting in [from, to), nearest first
+    public List<NearbyEvent> getNearbyEvents(double latitude, double longitude, double radiusKm, Instant from,
+            Instant to, int limit) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("Coordinates out of range");
+        }
+        if (!(radiusKm > 0) || radiusKm > MAX_RADIUS_KM) {
+            throw new IllegalArgumentException("Radius must be between 0 and " + MAX_RADIUS_KM + " km");
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+
+        // Bounding box of the circle; longitude degrees shrink towards the poles
+        double latDelta = radiusKm / GeoHash.kmPerDegree();
+        double cosLat = Math.cos(Math.toRadians(latitude));
+        double lonDelta = cosLat < 1e-6 ? 180 : Math.min(180, latDelta / cosLat);
+
+        List<NearbyEvent> nearby = new ArrayList<>();
+        for (String cell : GeoHash.cover(latitude - latDelta, latitude + latDelta,
+                longitude - lonDelta, longitude + lonDelta, MAX_NEARBY_CELLS)) {
+            for (Event event : eventRepository.findInCellStartingBetween(cell + "%", from, to)) {
+                // Cheap box check first; cells overhang the box
+                if (Math.abs(event.getLatitude() - latitude) > latDelta) {
+                    continue;
+                }
+                double distance = GeoHash.distanceKm(latitude, longitude, event.getLatitude(), event.getLongitude());
+                if (distance <= radiusKm) {
+                    nearby.add(new NearbyEvent(event, distance));
+                }
+            }
+        }
+        nearby.sort(Comparator.comparingDouble(NearbyEvent::getDistanceKm)
+                .thenComparing(n -> n.getEvent().getStartsAt()));
+        return nearby.size() > limit ? new ArrayList<>(nearby.subList(0, limit)) : nearby;
+    }
+
+    // Events overlapping [from, to), soonest first; only those a user created or RSVPed to if userId is given
+    public List<Event> getOverlappingEvents(Long userId, Instant from, Instant to, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+        List<Long> ids = userId == null
+                ? eventConflictIndex.overlapping(from, to)
+                : eventConflictIndex.overlapping(userId, from, to);
+        return loadInOrder(ids.size() > limit ? ids.subList(0, limit) : ids);
+    }
+
+    // Other events of a user that overlap the given event, soonest first
+    public List<Event> getConflictsWith(Long eventId, Long userId) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new RuntimeException("Event not found with id: " + eventId));
+        if (event.getStartsAt() == null) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>(eventConflictIndex.overlapping(userId != null ? userId : event.getUserId(),
+                event.getStartsAt(), event.getEndsAt()));
+        ids.remove(eventId);
+        return loadInOrder(ids);
+    }
+
+    // Parse a range bound given as an ISO instant (2025-05-01T10:00:00Z) or a date (2025-05-01, start of day)
+    public Instant parseInstant(String value) {
+        try {
+            return Instant.parse(value);
+        } catch (DateTimeParseException e) {
+            return parseDate(value).atStartOfDay(zone).toInstant();
+        }
+    }
+
+    // Whether date and time can be parsed into a start time
+    public boolean isValidDateTime(String date, String time) {
+        try {
+            parseDate(date);
+            parseTime(time);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    // Derive startsAt from ISO or legacy date/time text for events saved before the column existed
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillStartsAt() {
+        long lastId = 0L;
+        int updated = 0;
+        List<Event> chunk;
+        while (!(chunk = eventRepository.findTop500ByStartsAtIsNullAndIdGreaterThanOrderByIdAsc(lastId)).isEmpty()) {
+            for (Event event : chunk) {
+                try {
+                    applyStartsAt(event, event.getDate(), event.getTime());
+                    updated++;
+                } catch (IllegalArgumentException e) {
+                    log.warn("Event {} keeps no start time: {}", event.getId(), e.getMessage());
+                }
+            }
+            eventRepository.saveAll(chunk);
+            chunk.forEach(eventReminderService::schedule);
+            chunk.forEach(eventConflictIndex::put);
+            lastId = chunk.get(chunk.size() - 1).getId();
+        }
+        if (updated > 0) {
+            log.info("Backfilled start time of {} events", updated);
+        }
+    }
+
+    // Give events saved before coordinates existed a position from their location text
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillCoordinates() {
+        long lastId = 0L;
+        int updated = 0;
+        List<Event> chunk;
+        while (!(chunk = eventRepository.findTop500ByGeohashIsNullAndIdGreaterThanOrderByIdAsc(lastId)).isEmpty()) {
+            for (Event event : chunk) {
+                applyCoordinates(event, event.getLatitude(), event.getLongitude());
+                if (event.getGeohash() != null) {
+                    updated++;
+                }
+            }
+            eventRepository.saveAll(chunk);
+            lastId = chunk.get(chunk.size() - 1).getId();
+        }
+        if (updated > 0) {
+            log.info("Backfilled coordinates of {} events", updated);
+        }
+    }
+
+    // IDs of the creator's other events overlapping a saved event
+    private List<Long> findConflicts(Event event) {
+        if (event.getStartsAt() == null) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>(
+                eventConflictIndex.overlapping(event.getUserId(), event.getStartsAt(), event.getEndsAt()));
+        ids.remove(event.getId());
+        return ids;
+    }
+
+    // Fetch events by ID in one query, keeping the order of the IDs
+    private List<Event> loadInOrder(List<Long> ids) {
+        Map<Long, Event> byId = new HashMap<>();
+        eventRepository.findAllById(ids).forEach(event -> byId.put(event.getId(), event));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    private static void validateDuration(Integer durationMinutes) {
+        if (durationMinutes != null && durationMinutes < 1) {
+            throw new IllegalArgumentException("Duration must be at least 1 minute");
+        }
+    }
+
+    private static void validateCapacity(Integer capacity) {
+        if (capacity != null && capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1");
+        }
+    }
+
+    // Use the given coordinates if complete, otherwise look the location up in the gazetteer
+    private void applyCoordinates(Event event, Double latitude, Double longitude) {
+        if (latitude != null && longitude != null) {
+            if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+                throw new IllegalArgumentException("Coordinates out of range");
+            }
+        } else {
+            double[] place = gazetteer.resolve(event.getLocation()).orElse(null);
+            latitude = place == null ? null : place[0];
+            longitude = place == null ? null : place[1];
+        }
+        event.setLatitude(latitude);
+        event.setLongitude(longitude);
+        event.setGeohash(latitude == null ? null : GeoHash.encode(latitude, longitude, GeoHash.MAX_PRECISION));
+    }
+
+    // Validate date and time, store them in canonical form and derive startsAt
+    private void applyStartsAt(Event event, String date, String time) {
+        LocalDate localDate = parseDate(date);
+        LocalTime localTime = parseTime(time);
+        event.setDate(localDate.format(DATE_FORMATS.get(0)));
+        event.setTime(localTime.format(TIME_FORMATS.get(0)));
+        event.setStartsAt(localDate.atTime(localTime).atZone(zone).toInstant().truncatedTo(ChronoUnit.MICROS));
+    }
+
+    private LocalDate parseDate(String value) {
+        String text = stripHint(value);
+        for (DateTimeFormatter format : DATE_FORMATS) {
+            try {
+                return LocalDate.parse(text, format);
+            } catch (DateTimeParseException e) {
+                // try the next format
+            }
+        }
+        throw new IllegalArgumentException("Date must look like YYYY-MM-DD, got: " + value);
+    }
+
+    private LocalTime parseTime(String value) {
+        String text = stripHint(value).toUpperCase(Locale.ENGLISH);
+        for (DateTimeFormatter format : TIME_FORMATS) {
+            try {
+                return LocalTime.parse(text, format);
+            } catch (DateTimeParseException e) {
+                // try the next format
+            }
+        }
+        throw new IllegalArgumentException("Time must look like HH:mm, got: " + value);
+    }
+
+    // Older clients padded values with a format hint such as " (24-hour format)"
+    private static String stripHint(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Date and time are required");
+        }
+        int hint = value.indexOf(" (");
+        return (hint < 0 ? value : value.substring(0, hint)).trim();
     }
 }
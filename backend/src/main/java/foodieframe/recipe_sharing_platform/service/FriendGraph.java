@@ -0,0 +1,78 @@
+package foodieframe.recipe_sharing_platform.service;
+
+import foodieframe.recipe_sharing_platform.model.Friend.FriendshipStatus;
+import foodieframe.recipe_sharing_platform.repository.FriendRepository;
+import foodieframe.recipe_sharing_platform.util.ChunkedRows;
+import foodieframe.recipe_sharing_platform.util.UndirectedGraph;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory graph of accepted friendships.
+ *
+ * Each user's friends are kept as a sorted long[] swapped in copy-on-write, so
+ * membership tests are a lock-free binary search and intersections and
+ * traversals are linear merges.
+ *
+ * Built from the accepted friendship rows once the application is ready;
+ * FriendService applies every change after that.
+ */
+@Component
+public class FriendGraph {
+
+    private static final Logger log = LoggerFactory.getLogger(FriendGraph.class);
+
+    private static final int LOAD_CHUNK_SIZE = 5000;
+
+    @Autowired
+    private FriendRepository friendRepository;
+
+    private final UndirectedGraph graph = new UndirectedGraph();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        UndirectedGraph.Builder builder = new UndirectedGraph.Builder();
+        ChunkedRows.forEach((afterId, chunk) -> friendRepository.findEdgesAfter(FriendshipStatus.ACCEPTED, afterId,
+                chunk), LOAD_CHUNK_SIZE, row -> builder.addEdge((Long) row[1], (Long) row[2]));
+        graph.addAll(builder);
+        log.info("Loaded friend graph with {} users and {} friendships", graph.nodeCount(), builder.edgeCount());
+    }
+
+    public boolean areFriends(long userId1, long userId2) {
+        return graph.connected(userId1, userId2);
+    }
+
+    /**
+     * Friend IDs of a user in ascending order
+     * The array is shared and must not be modified.
+     */
+    public long[] friendsOf(long userId) {
+        return graph.neighbours(userId);
+    }
+
+    public int degree(long userId) {
+        return friendsOf(userId).length;
+    }
+
+    /**
+     * One shortest chain of friendships between two users, searched from both ends
+     * @param maxDegree longest chain worth finding, in friendships
+     * @param maxScanned most friend list entries to look at before giving up
+     */
+    public UndirectedGraph.PathResult shortestPath(long userId1, long userId2, int maxDegree, int maxScanned) {
+        return graph.shortestPath(userId1, userId2, maxDegree, maxScanned);
+    }
+
+    // Record that two users became friends or stopped being friends
+    public void setFriends(long userId1, long userId2, boolean friends) {
+        if (friends) {
+            graph.link(userId1, userId2);
+        } else {
+            graph.unlink(userId1, userId2);
+        }
+    }
+}
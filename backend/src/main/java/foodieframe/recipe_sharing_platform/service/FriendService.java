@@ -2,21 +2,64 @@ package foodieframe.recipe_sharing_platform.service;
 
 import foodieframe.recipe_sharing_platform.model.Friend;
 import foodieframe.recipe_sharing_platform.model.Friend.FriendshipStatus;
+import foodieframe.recipe_sharing_platform.model.FriendConnection;
+import foodieframe.recipe_sharing_platform.model.FriendPage;
+import foodieframe.recipe_sharing_platform.model.FriendProfile;
+import foodieframe.recipe_sharing_platform.model.MutualFriends;
+import foodieframe.recipe_sharing_platform.model.UserSummary;
 import foodieframe.recipe_sharing_platform.repository.FriendRepository;
+import foodieframe.recipe_sharing_platform.repository.UserRepository;
+import foodieframe.recipe_sharing_platform.util.SortedLongs;
+import foodieframe.recipe_sharing_platform.util.UndirectedGraph;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 public class FriendService {
 
+    public static final int MAX_MUTUAL_FRIENDS_LISTED = 100;
+
+    // Furthest connection reported by getConnection: friends of friends of friends
+    public static final int MAX_CONNECTION_DEGREE = 3;
+
+    // Friend list entries getConnection may look at; bounds the cost around very popular users
+    private static final int CONNECTION_SEARCH_BUDGET = 200_000;
+
+    // Largest page size accepted by the friend list pages
+    public static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * Orders of the friend list pages
+     */
+    public enum FriendOrder {
+        NAME, // By the other user's name
+        RECENT // Newest friendship or request first
+    }
+
     @Autowired
     private FriendRepository friendRepository;
 
+    @Autowired
+    private FriendGraph friendGraph;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BlockList blockList;
+
     // Send a friend request
     public Friend sendFriendRequest(Long userId, Long friendId) {
         if (userId.equals(friendId)) {
@@ -33,9 +76,12 @@ public class FriendService {
         Optional<Friend> reverseRequest = friendRepository.findByUserIdAndFriendId(friendId, userId);
         if (reverseRequest.isPresent()) {
             Friend friendship = reverseRequest.get();
+            if (friendship.getStatus() == FriendshipStatus.BLOCKED) {
+                throw new IllegalArgumentException("Cannot send a friend request to this user");
+            }
             friendship.setStatus(FriendshipStatus.ACCEPTED);
             friendship.setUpdatedDate(LocalDateTime.now());
-            return friendRepository.save(friendship);
+            return accepted(friendRepository.save(friendship));
         }
 
         // Create a new friend request
@@ -46,39 +92,51 @@ public class FriendService {
     // Accept a friend request
     public Friend acceptFriendRequest(Long friendshipId) {
         Friend friendship = friendRepository.findById(friendshipId)
+                .filter(f -> f.getStatus() != FriendshipStatus.BLOCKED)
                 .orElseThrow(() -> new RuntimeException("Friendship not found with id: " + friendshipId));
         friendship.setStatus(FriendshipStatus.ACCEPTED);
         friendship.setUpdatedDate(LocalDateTime.now());
-        return friendRepository.save(friendship);
+        return accepted(friendRepository.save(friendship));
     }
 
     // Accept a friend request by user IDs
     public Friend acceptFriendRequest(Long userId, Long friendId) {
         Friend friendship = friendRepository.findByUserIdAndFriendId(friendId, userId)
+                .filter(f -> f.getStatus() != FriendshipStatus.BLOCKED)
                 .orElseThrow(() -> new RuntimeException("Friendship not found between users"));
         friendship.setStatus(FriendshipStatus.ACCEPTED);
         friendship.setUpdatedDate(LocalDateTime.now());
-        return friendRepository.save(friendship);
+        return accepted(friendRepository.save(friendship));
     }
 
-    // Reject or cancel a friend request
+    // Reject or cancel a friend request; blocks are only lifted through unblockUser
     public void rejectFriendRequest(Long friendshipId) {
-        friendRepository.deleteById(friendshipId);
+        friendRepository.findById(friendshipId)
+                .filter(f -> f.getStatus() != FriendshipStatus.BLOCKED)
+                .ifPresent(f -> {
+                    friendRepository.delete(f);
+                    syncPair(f.getUserId(), f.getFriendId());
+                });
     }
 
     // Reject or cancel a friend request by user IDs
     public void rejectFriendRequest(Long userId, Long friendId) {
-        Optional<Friend> friendship = friendRepository.findByUserIdAndFriendId(friendId, userId);
-        friendship.ifPresent(f -> friendRepository.delete(f));
+        friendRepository.findByUserIdAndFriendId(friendId, userId)
+                .filter(f -> f.getStatus() != FriendshipStatus.BLOCKED)
+                .ifPresent(f -> {
+                    friendRepository.delete(f);
+                    syncPair(userId, friendId);
+                });
     }
 
-    // Remove a friend
+    // Remove a friend; the caller's own row goes whatever its status, but a block by the other user stays
     public void removeFriend(Long userId, Long friendId) {
-        Optional<Friend> friendship1 = friendRepository.findByUserIdAndFriendId(userId, friendId);
-        Optional<Friend> friendship2 = friendRepository.findByUserIdAndFriendId(friendId, userId);
-
-        friendship1.ifPresent(f -> friendRepository.delete(f));
-        friendship2.ifPresent(f -> friendRepository.delete(f));
+        friendRepository.findByUserIdAndFriendId(userId, friendId)
+                .ifPresent(f -> friendRepository.delete(f));
+        friendRepository.findByUserIdAndFriendId(friendId, userId)
+                .filter(f -> f.getStatus() != FriendshipStatus.BLOCKED)
+                .ifPresent(f -> friendRepository.delete(f));
+        syncPair(userId, friendId);
     }
 
     // Block a user
@@ -87,8 +145,9 @@ public class FriendService {
         removeFriend(userId, blockedUserId);
 
         // Create a blocked relationship
-        Friend friendship = new Friend(userId, blockedUserId, FriendshipStatus.BLOCKED);
-        return friendRepository.save(friendship);
+        Friend friendship = friendRepository.save(new Friend(userId, blockedUserId, FriendshipStatus.BLOCKED));
+        blockList.setBlocked(userId, blockedUserId, true);
+        return friendship;
     }
 
     // Unblock a user
@@ -97,18 +156,75 @@ public class FriendService {
         friendship.ifPresent(f -> {
             if (f.getStatus() == FriendshipStatus.BLOCKED) {
                 friendRepository.delete(f);
+                syncPair(userId, blockedUserId);
             }
         });
     }
 
-    // Get all friends of a user
+    // Get all friends of a user (both directions in one query)
     public List<Friend> getUserFriends(Long userId) {
-        List<Friend> sentFriendships = friendRepository.findByUserIdAndStatus(userId, FriendshipStatus.ACCEPTED);
-        List<Friend> receivedFriendships = friendRepository.findByFriendIdAndStatus(userId, FriendshipStatus.ACCEPTED);
+        return friendRepository.findAllFriendshipsByUserId(userId, FriendshipStatus.ACCEPTED);
+    }
+
+    // IDs of a user's friends in ascending order, straight from the in-memory graph
+    public long[] getFriendIds(Long userId) {
+        return friendGraph.friendsOf(userId).clone();
+    }
 
-        // Combine both lists
-        sentFriendships.addAll(receivedFriendships);
-        return sentFriendships;
+    /**
+     * Friends two users have in common, from an intersection of their friend lists in memory
+     * @param limit how many of them to return with profiles, 0 to MAX_MUTUAL_FRIENDS_LISTED
+     * @return the total count and the first limit mutual friends by ID
+     */
+    public MutualFriends getMutualFriends(Long userId1, Long userId2, int limit) {
+        if (limit < 0 || limit > MAX_MUTUAL_FRIENDS_LISTED) {
+            throw new IllegalArgumentException("Limit must be between 0 and " + MAX_MUTUAL_FRIENDS_LISTED);
+        }
+        long[] mutual = SortedLongs.intersect(friendGraph.friendsOf(userId1), friendGraph.friendsOf(userId2));
+        List<Long> listed = new ArrayList<>(Math.min(limit, mutual.length));
+        for (int i = 0; i < mutual.length && i < limit; i++) {
+            listed.add(mutual[i]);
+        }
+        return new MutualFriends(mutual.length, getUserSummaries(listed));
+    }
+
+    /**
+     * Degree of separation between two users up to MAX_CONNECTION_DEGREE, with one shortest path
+     * Users blocked either way are reported as not connected.
+     */
+    public FriendConnection getConnection(Long userId1, Long userId2) {
+        if (userId1.equals(userId2)) {
+            throw new IllegalArgumentException("A user has no connection to themselves");
+        }
+        if (blockList.isHidden(userId1, userId2)) {
+            return new FriendConnection(null, List.of(), false);
+        }
+        UndirectedGraph.PathResult result = friendGraph.shortestPath(userId1, userId2, MAX_CONNECTION_DEGREE,
+                CONNECTION_SEARCH_BUDGET);
+        long[] path = result.getPath();
+        if (path == null) {
+            return new FriendConnection(null, List.of(), result.isExhausted());
+        }
+        List<Long> ids = new ArrayList<>(path.length);
+        for (long id : path) {
+            ids.add(id);
+        }
+        return new FriendConnection(path.length - 1, getUserSummaries(ids), false);
+    }
+
+    // One page of a user's friends with their profiles
+    public FriendPage getFriendPage(Long userId, String order, int page, int size) {
+        return toPage(friendRepository::findProfiles, FriendshipStatus.ACCEPTED, userId, order, page, size);
+    }
+
+    // One page of pending requests sent to a user, with the senders' profiles
+    public FriendPage getPendingRequestPage(Long userId, String order, int page, int size) {
+        return toPage(friendRepository::findReceivedProfiles, FriendshipStatus.PENDING, userId, order, page, size);
+    }
+
+    // One page of pending requests sent by a user, with the recipients' profiles
+    public FriendPage getSentRequestPage(Long userId, String order, int page, int size) {
+        return toPage(friendRepository::findSentProfiles, FriendshipStatus.PENDING, userId, order, page, size);
     }
 
     // Get all pending friend requests sent to a user
@@ -128,10 +244,63 @@ public class FriendService {
 
     // Check if users are friends
     public boolean areFriends(Long userId1, Long userId2) {
-        List<Friend> allFriendships = friendRepository.findAllFriendshipsByUserId(userId1, FriendshipStatus.ACCEPTED);
+        return friendGraph.areFriends(userId1, userId2);
+    }
+
+    // Run one of the joined profile queries as the requested page
+    private FriendPage toPage(ProfileQuery query, FriendshipStatus status, Long userId, String order, int page,
+            int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("Page must not be negative");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        FriendOrder friendOrder;
+        try {
+            friendOrder = FriendOrder.valueOf(order.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Order must be 'name' or 'recent'");
+        }
+        // ID breaks ties so that pages never overlap or skip rows
+        Sort sort = friendOrder == FriendOrder.NAME
+                ? Sort.by(Sort.Order.asc("u.name"), Sort.Order.asc("u.id"))
+                : Sort.by(Sort.Order.desc("f.updatedDate"), Sort.Order.desc("f.id"));
+        Page<FriendProfile> result = query.find(userId, status, PageRequest.of(page, size, sort));
+        return new FriendPage(result.getContent(), result.getTotalElements(), result.hasNext());
+    }
+
+    // Profiles of the given users in the same order, with one query; unknown IDs are skipped
+    private List<UserSummary> getUserSummaries(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, UserSummary> byId = new HashMap<>();
+        userRepository.findAllById(userIds).forEach(user -> byId.put(user.getId(), new UserSummary(user)));
+        List<UserSummary> summaries = new ArrayList<>(userIds.size());
+        for (Long id : userIds) {
+            UserSummary summary = byId.get(id);
+            if (summary != null) {
+                summaries.add(summary);
+            }
+        }
+        return summaries;
+    }
+
+    private Friend accepted(Friend friendship) {
+        friendGraph.setFriends(friendship.getUserId(), friendship.getFriendId(), true);
+        return friendship;
+    }
+
+    private interface ProfileQuery {
+        Page<FriendProfile> find(Long userId, FriendshipStatus status, Pageable pageable);
+    }
 
-        return allFriendships.stream().anyMatch(
-                friendship -> (friendship.getUserId().equals(userId1) && friendship.getFriendId().equals(userId2)) ||
-                        (friendship.getUserId().equals(userId2) && friendship.getFriendId().equals(userId1)));
+    // After deleting one row of a pair, a row the other way may still remain
+    private void syncPair(Long userId1, Long userId2) {
+        friendGraph.setFriends(userId1, userId2,
+                friendRepository.existsBetween(userId1, userId2, FriendshipStatus.ACCEPTED));
+        blockList.setBlocked(userId1, userId2,
+                friendRepository.existsBetween(userId1, userId2, FriendshipStatus.BLOCKED));
     }
 }
@@ -0,0 +1,162 @@
+package foodieframe.recipe_sharing_platform.service;
+
+import foodieframe.recipe_sharing_platform.model.Friend.FriendshipStatus;
+import foodieframe.recipe_sharing_platform.model.FriendSuggestion;
+import foodieframe.recipe_sharing_platform.model.RecipeGroupMember.MembershipStatus;
+import foodieframe.recipe_sharing_platform.model.User;
+import foodieframe.recipe_sharing_platform.repository.FriendRepository;
+import foodieframe.recipe_sharing_platform.repository.RecipeGroupMemberRepository;
+import foodieframe.recipe_sharing_platform.repository.UserRepository;
+import foodieframe.recipe_sharing_platform.util.SortedLongs;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * "People you may know": friends of friends, ranked by mutual friends and shared groups.
+ *
+ * Candidates come from a two-hop walk of the in-memory FriendGraph with a fixed
+ * budget of edges, split evenly across the user's friends, so one popular
+ * friend cannot make the walk expensive. Only the best candidates from the walk
+ * get their mutual friends counted exactly, by intersecting friend lists, and
+ * are scored against group memberships and looked up, in one query each.
+ */
+@Service
+public class FriendSuggestionService {
+
+    public static final int MAX_SUGGESTIONS = 50;
+
+    // Edges looked at in the second hop, across all of a user's friends
+    private static final int SCAN_BUDGET = 50_000;
+
+    // Friends expanded at most; beyond that an even sample of them is used
+    private static final int MAX_FRIENDS_EXPANDED = 1000;
+
+    // Candidates, per suggestion asked for, kept for group scoring
+    private static final int CANDIDATES_PER_SUGGESTION = 5;
+
+    private static final int MUTUAL_FRIEND_WEIGHT = 2;
+    private static final int SHARED_GROUP_WEIGHT = 1;
+
+    @Autowired
+    private FriendGraph friendGraph;
+
+    @Autowired
+    private FriendRepository friendRepository;
+
+    @Autowired
+    private BlockList blockList;
+
+    @Autowired
+    private RecipeGroupMemberRepository memberRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    /**
+     * Friend suggestions for a user, best first
+     * @param userId user to suggest friends to
+     * @param limit maximum number of suggestions, 1 to MAX_SUGGESTIONS
+     * @return suggestions; users with a pending request or a block either way are never included
+     */
+    public List<FriendSuggestion> getSuggestions(Long userId, int limit) {
+        if (limit < 1 || limit > MAX_SUGGESTIONS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_SUGGESTIONS);
+        }
+        long[] friends = friendGraph.friendsOf(userId);
+        if (friends.length == 0) {
+            return List.of();
+        }
+        Set<Long> excluded = new HashSet<>(friendRepository.findOtherUserIds(userId, FriendshipStatus.PENDING));
+        excluded.add(userId);
+
+        Map<Long, Integer> sampledCounts = countFriendsOfFriends(userId, friends, excluded);
+        if (sampledCounts.isEmpty()) {
+            return List.of();
+        }
+        List<Long> candidates = topByCount(sampledCounts, limit * CANDIDATES_PER_SUGGESTION);
+
+        // The walk only samples edges, so count the shortlist's mutual friends exactly
+        Map<Long, Integer> mutualCounts = new HashMap<>();
+        for (Long id : candidates) {
+            mutualCounts.put(id, SortedLongs.intersect(friends, friendGraph.friendsOf(id)).length);
+        }
+
+        Map<Long, Long> sharedGroups = new HashMap<>();
+        for (Object[] row : memberRepository.countSharedGroups(userId, candidates, MembershipStatus.ACTIVE)) {
+            sharedGroups.put((Long) row[0], (Long) row[1]);
+        }
+        candidates.sort(Comparator
+                .comparingLong((Long id) -> score(mutualCounts.get(id), sharedGroups.getOrDefault(id, 0L)))
+                .reversed()
+                .thenComparing(mutualCounts::get, Comparator.reverseOrder())
+                .thenComparing(Comparator.naturalOrder()));
+        List<Long> chosen = candidates.subList(0, Math.min(limit, candidates.size()));
+
+        Map<Long, User> users = new HashMap<>();
+        userRepository.findAllById(chosen).forEach(user -> users.put(user.getId(), user));
+        List<FriendSuggestion> suggestions = new ArrayList<>(chosen.size());
+        for (Long id : chosen) {
+            User user = users.get(id);
+            // Skip users deleted since their friendships were indexed
+            if (user != null) {
+                suggestions.add(new FriendSuggestion(id, user.getUsername(), user.getName(),
+                        mutualCounts.get(id), sharedGroups.getOrDefault(id, 0L)));
+            }
+        }
+        return suggestions;
+    }
+
+    // Mutual friend counts of everyone two hops away, within the scan budget
+    private Map<Long, Integer> countFriendsOfFriends(Long userId, long[] friends, Set<Long> excluded) {
+        int expanded = Math.min(friends.length, MAX_FRIENDS_EXPANDED);
+        int perFriend = Math.max(1, SCAN_BUDGET / expanded);
+        // Rotate where each list is read from so that capped lists do not always favour low IDs
+        int rotation = Long.hashCode(userId) & Integer.MAX_VALUE;
+
+        Map<Long, Integer> counts = new HashMap<>();
+        for (int i = 0; i < expanded; i++) {
+            long friendId = friends[(int) ((long) i * friends.length / expanded)];
+            long[] friendsOfFriend = friendGraph.friendsOf(friendId);
+            int scanned = Math.min(friendsOfFriend.length, perFriend);
+            int start = friendsOfFriend.length == 0 ? 0 : rotation % friendsOfFriend.length;
+            for (int j = 0; j < scanned; j++) {
+                long candidate = friendsOfFriend[(start + j) % friendsOfFriend.length];
+                if (Arrays.binarySearch(friends, candidate) < 0 && !excluded.contains(candidate)
+                        && !blockList.isHidden(userId, candidate)) {
+                    counts.merge(candidate, 1, Integer::sum);
+                }
+            }
+        }
+        return counts;
+    }
+
+    // IDs with the highest counts (ties to the lower ID), without sorting them all
+    private static List<Long> topByCount(Map<Long, Integer> counts, int size) {
+        Comparator<Map.Entry<Long, Integer>> worstFirst = Map.Entry.<Long, Integer>comparingByValue()
+                .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder()));
+        PriorityQueue<Map.Entry<Long, Integer>> top = new PriorityQueue<>(worstFirst);
+        for (Map.Entry<Long, Integer> entry : counts.entrySet()) {
+            top.offer(entry);
+            if (top.size() > size) {
+                top.poll();
+            }
+        }
+        List<Long> ids = new ArrayList<>(top.size());
+        top.forEach(entry -> ids.add(entry.getKey()));
+        return ids;
+    }
+
+    private static long score(int mutualFriends, long sharedGroups) {
+        return (long) mutualFriends * MUTUAL_FRIEND_WEIGHT + sharedGroups * SHARED_GROUP_WEIGHT;
+    }
+}
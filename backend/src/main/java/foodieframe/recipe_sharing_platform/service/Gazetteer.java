@@ -0,0 +1,88 @@
+package foodieframe.recipe_sharing_platform.service;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Offline place-name lookup used to give events coordinates from their
+ * free-text location, loaded from a bundled CSV (name,latitude,longitude).
+ *
+ * Each comma-separated part of a location is first tried as an exact name;
+ * otherwise the longest known name appearing as whole words wins, so
+ * "Hilton, 2 Sir Chittampalam Gardiner Mawatha, Colombo 2" resolves to Colombo.
+ */
+@Component
+public class Gazetteer {
+
+    @Value("${app.gazetteer.resource:classpath:gazetteer/places.csv}")
+    private Resource resource;
+
+    private final Map<String, double[]> places = new HashMap<>();
+
+    // Normalized names, longest first, for the whole-word fallback
+    private final List<String> namesByLength = new ArrayList<>();
+
+    @PostConstruct
+    public void load() throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split(",");
+                if (fields.length != 3) {
+                    throw new IllegalStateException("Malformed gazetteer line: " + line);
+                }
+                places.put(normalize(fields[0]),
+                        new double[] { Double.parseDouble(fields[1].trim()), Double.parseDouble(fields[2].trim()) });
+            }
+        }
+        namesByLength.addAll(places.keySet());
+        namesByLength.sort(Comparator.comparingInt(String::length).reversed());
+    }
+
+    /**
+     * Resolves a free-text location to coordinates
+     * @param location location as entered by the user
+     * @return [latitude, longitude], or empty if no known place is mentioned
+     */
+    public Optional<double[]> resolve(String location) {
+        if (location == null || location.isBlank()) {
+            return Optional.empty();
+        }
+        for (String part : location.split(",")) {
+            double[] exact = places.get(normalize(part));
+            if (exact != null) {
+                return Optional.of(exact.clone());
+            }
+        }
+        String text = " " + normalize(location) + " ";
+        for (String name : namesByLength) {
+            if (text.contains(" " + name + " ")) {
+                return Optional.of(places.get(name).clone());
+            }
+        }
+        return Optional.empty();
+    }
+
+    // Lower-case letters and digits separated by single spaces
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+    }
+}
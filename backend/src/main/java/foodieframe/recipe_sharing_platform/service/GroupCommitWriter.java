@@ -0,0 +1,334 @@
+package foodieframe.recipe_sharing_platform.service;
+
+import foodieframe.recipe_sharing_platform.model.Comment;
+import foodieframe.recipe_sharing_platform.model.Interaction;
+import foodieframe.recipe_sharing_platform.repository.EventRepository;
+import foodieframe.recipe_sharing_platform.repository.PostRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opt-in group-commit path for bursty comment and interaction inserts.
+ *
+ * Writes are queued and a single flusher thread collects them for up to
+ * app.group-commit.max-delay-ms (or until max-batch-size is reached), then
+ * inserts the whole group with one JDBC batch per table inside one
+ * transaction. Each caller's future completes with its generated ID once the
+ * transaction has committed. If a group fails, every write in it is retried in
+ * its own transaction so one bad row only fails its own caller.
+ *
+ * Only the raw insert (plus a comment's thread path and the comment counters)
+ * happens here; validation runs before submit and side effects such as live
+ * pushes run in the services once the future completes.
+ */
+@Component
+public class GroupCommitWriter {
+
+    private static final String INSERT_COMMENT = "INSERT INTO comment "
+            + "(user_id, post_id, event_id, parent_id, depth, content, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_COMMENT_PATH = "UPDATE comment SET root_id = ?, path = ? WHERE id = ?";
+
+    private static final String INSERT_INTERACTION = "INSERT INTO interactions "
+            + "(user_id, recipe_id, interaction_type, content, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    @Value("${app.group-commit.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.group-commit.max-delay-ms:5}")
+    private long maxDelayMs;
+
+    @Value("${app.group-commit.max-batch-size:256}")
+    private int maxBatchSize;
+
+    @Value("${app.group-commit.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    private BlockingQueue<PendingWrite> queue;
+    private Thread flusher;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        queue = new LinkedBlockingQueue<>(queueCapacity);
+        running = true;
+        flusher = new Thread(this::run, "group-commit-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (flusher != null) {
+            running = false;
+            flusher.interrupt();
+            flusher.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    // Whether writes should go through the group-commit path
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues a prepared comment for insertion
+     * For replies, rootId and path must hold the parent's values; they are
+     * replaced with the comment's own once the insert commits.
+     * @param comment comment with timestamp and depth already set
+     * @return future completing with the generated ID after commit
+     */
+    public CompletableFuture<Long> submitComment(Comment comment) {
+        return submit(new PendingWrite(comment));
+    }
+
+    /**
+     * Queues a prepared interaction for insertion
+     * @param interaction interaction with timestamps already set
+     * @return future completing with the generated ID after commit
+     */
+    public CompletableFuture<Long> submitInteraction(Interaction interaction) {
+        return submit(new PendingWrite(interaction));
+    }
+
+    private CompletableFuture<Long> submit(PendingWrite write) {
+        if (!running) {
+            throw new IllegalStateException("Group commit is not enabled");
+        }
+        try {
+            // Blocks when the queue is full, pushing back on callers instead of growing without bound
+            queue.put(write);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            write.future.completeExceptionally(e);
+        }
+        // Stopped between the check and the put: the flusher may have drained for the last time
+        if (!running && queue.remove(write)) {
+            write.future.completeExceptionally(stopped());
+        }
+        return write.future;
+    }
+
+    private void run() {
+        List<PendingWrite> batch = new ArrayList<>(maxBatchSize);
+        long maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMs);
+        while (running) {
+            try {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingWrite next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    queue.drainTo(batch, maxBatchSize - batch.size());
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                // Stopped while gathering a group; it is failed below with whatever is still queued
+                break;
+            }
+            batch.clear();
+        }
+        // Drain what is left so no caller waits forever
+        queue.drainTo(batch);
+        for (PendingWrite write : batch) {
+            write.future.completeExceptionally(stopped());
+        }
+    }
+
+    private static IllegalStateException stopped() {
+        return new IllegalStateException("Group commit writer stopped");
+    }
+
+    private void flush(List<PendingWrite> batch) {
+        long[] ids;
+        try {
+            ids = transactionTemplate.execute(status -> insert(batch));
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).future.completeExceptionally(e);
+                return;
+            }
+            for (PendingWrite write : batch) {
+                flush(List.of(write));
+            }
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).complete(ids[i]);
+        }
+    }
+
+    // Runs inside the group's transaction; returns the generated IDs in batch order
+    private long[] insert(List<PendingWrite> batch) {
+        List<Integer> commentSlots = new ArrayList<>();
+        List<Integer> interactionSlots = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            (batch.get(i).comment != null ? commentSlots : interactionSlots).add(i);
+        }
+
+        long[] ids = new long[batch.size()];
+        if (!commentSlots.isEmpty()) {
+            insertComments(batch, commentSlots, ids);
+        }
+        if (!interactionSlots.isEmpty()) {
+            insertInteractions(batch, interactionSlots, ids);
+        }
+        return ids;
+    }
+
+    private void insertComments(List<PendingWrite> batch, List<Integer> slots, long[] ids) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_COMMENT, new String[] { "id" })) {
+                for (int slot : slots) {
+                    Comment comment = batch.get(slot).comment;
+                    setLong(insert, 1, comment.getUserId());
+                    setLong(insert, 2, comment.getPostId());
+                    setLong(insert, 3, comment.getEventId());
+                    setLong(insert, 4, comment.getParentId());
+                    insert.setInt(5, comment.getDepth());
+                    insert.setString(6, comment.getContent());
+                    insert.setObject(7, comment.getCreatedAt());
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+                readKeys(insert, slots, ids);
+            }
+
+            // The thread path embeds the generated ID, so it is written with a second batch
+            try (PreparedStatement update = connection.prepareStatement(UPDATE_COMMENT_PATH)) {
+                for (int slot : slots) {
+                    Comment comment = batch.get(slot).comment;
+                    update.setLong(1, comment.getParentId() == null ? ids[slot] : comment.getRootId());
+                    update.setString(2, CommentService.childPath(comment.getPath(), ids[slot]));
+                    update.setLong(3, ids[slot]);
+                    update.addBatch();
+                }
+                update.executeBatch();
+            }
+            return null;
+        });
+
+        // One counter update per post or event instead of one per comment
+        Map<Long, Long> postDeltas = new HashMap<>();
+        Map<Long, Long> eventDeltas = new HashMap<>();
+        for (int slot : slots) {
+            Comment comment = batch.get(slot).comment;
+            if (comment.getPostId() != null) {
+                postDeltas.merge(comment.getPostId(), 1L, Long::sum);
+            }
+            if (comment.getEventId() != null) {
+                eventDeltas.merge(comment.getEventId(), 1L, Long::sum);
+            }
+        }
+        postDeltas.forEach(postRepository::adjustCommentCount);
+        eventDeltas.forEach(eventRepository::adjustCommentCount);
+    }
+
+    private void insertInteractions(List<PendingWrite> batch, List<Integer> slots, long[] ids) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_INTERACTION, new String[] { "id" })) {
+                for (int slot : slots) {
+                    Interaction interaction = batch.get(slot).interaction;
+                    insert.setLong(1, interaction.getUserId());
+                    insert.setLong(2, interaction.getRecipeId());
+                    insert.setString(3, interaction.getInteractionType().name());
+                    insert.setString(4, interaction.getContent());
+                    insert.setObject(5, interaction.getCreatedAt());
+                    insert.setObject(6, interaction.getUpdatedAt());
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+                readKeys(insert, slots, ids);
+            }
+            return null;
+        });
+    }
+
+    private static void readKeys(PreparedStatement statement, List<Integer> slots, long[] ids) throws SQLException {
+        try (ResultSet keys = statement.getGeneratedKeys()) {
+            for (int slot : slots) {
+                if (!keys.next()) {
+                    throw new SQLException("Driver returned fewer generated keys than rows inserted");
+                }
+                ids[slot] = keys.getLong(1);
+            }
+        }
+    }
+
+    private static void setLong(PreparedStatement statement, int index, Long value) throws SQLException {
+        if (value == null) {
+            statement.setNull(index, Types.BIGINT);
+        } else {
+            statement.setLong(index, value);
+        }
+    }
+
+    /**
+     * A queued insert and the future of the caller waiting for it
+     */
+    private static class PendingWrite {
+        private final Comment comment;
+        private final Interaction interaction;
+        private final CompletableFuture<Long> future = new CompletableFuture<>();
+
+        PendingWrite(Comment comment) {
+            this.comment = comment;
+            this.interaction = null;
+        }
+
+        PendingWrite(Interaction interaction) {
+            this.comment = null;
+            this.interaction = interaction;
+        }
+
+        // Entities are only touched after commit, so a failed group can be retried as-is
+        void complete(long id) {
+            if (comment != null) {
+                comment.setRootId(comment.getParentId() == null ? id : comment.getRootId());
+                comment.setPath(CommentService.childPath(comment.getPath(), id));
+                comment.setId(id);
+            } else {
+                interaction.setId(id);
+            }
+            future.complete(id);
+        }
+    }
+}
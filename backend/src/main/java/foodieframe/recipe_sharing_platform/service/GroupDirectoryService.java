@@ -0,0 +1,197 @@
+package foodieframe.recipe_sharing_platform.service;
+
+import foodieframe.recipe_sharing_platform.model.GroupDirectoryPage;
+import foodieframe.recipe_sharing_platform.model.RecipeGroup;
+import foodieframe.recipe_sharing_platform.model.RecipeGroup.GroupPrivacy;
+import foodieframe.recipe_sharing_platform.model.RecipeGroupMember.MembershipStatus;
+import foodieframe.recipe_sharing_platform.repository.RecipeGroupRepository;
+import foodieframe.recipe_sharing_platform.util.SortKeyCursor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Browsable directory of public recipe groups.
+ *
+ * Every sort order walks a (privacy, key, id) index from the cursor, so a page
+ * costs the same however many groups exist. Member counts are kept by
+ * RecipeGroupService. Weekly activity is moved through recordActivity as
+ * members join or leave and posts are shared or removed, and an hourly job
+ * recounts just the groups whose joins or shares have aged past a week since
+ * its last run.
+ * Keys can change between pages, so a group whose count moves past the cursor
+ * may be skipped or shown twice while paging.
+ */
+@Service
+public class GroupDirectoryService {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupDirectoryService.class);
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // How far back joins and shares count towards weekly activity
+    private static final Duration ACTIVITY_WINDOW = Duration.ofDays(7);
+
+    /**
+     * Directory sort orders
+     */
+    public enum Sort {
+        NEWEST, // Most recently created first
+        MEMBERS, // Most active members first
+        ACTIVE, // Most joins and shares in the last week first
+        NAME // Alphabetical; the only order that takes a name prefix
+    }
+
+    @Autowired
+    private RecipeGroupRepository recipeGroupRepository;
+
+    // Joins and shares before this have already been taken out of weekly activity
+    private volatile Instant expiredUntil;
+
+    // Recount every group at startup, repairing activity missed while the app was down
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void reconcile() {
+        Instant cutoff = Instant.now().minus(ACTIVITY_WINDOW);
+        int named = recipeGroupRepository.fillMissingNameKeys();
+        int groups = recipeGroupRepository.recountWeeklyActivity(MembershipStatus.ACTIVE, toLocal(cutoff), cutoff);
+        expiredUntil = cutoff;
+        log.info("Filled {} group name keys and recounted activity of {} groups", named, groups);
+    }
+
+    // Recount only the groups with joins or shares that crossed the cutoff since the last run
+    @Scheduled(fixedDelayString = "${app.group-directory.activity-expiry-interval-ms:3600000}",
+            initialDelayString = "${app.group-directory.activity-expiry-interval-ms:3600000}")
+    @Transactional
+    public void expireActivity() {
+        if (expiredUntil == null) {
+            return;
+        }
+        Instant cutoff = Instant.now().minus(ACTIVITY_WINDOW);
+        int groups = recipeGroupRepository.recountExpiredActivity(MembershipStatus.ACTIVE,
+                toLocal(expiredUntil), toLocal(cutoff), expiredUntil, cutoff);
+        expiredUntil = cutoff;
+        log.info("Expired weekly activity of {} groups", groups);
+    }
+
+    /**
+     * Moves a group's weekly activity for joins or shares made at the given time
+     * Ignored once that time has aged out, as the expiry job has already taken it out.
+     * @param delta positive for activity added, negative for activity undone
+     */
+    @Transactional
+    public void recordActivity(Long groupId, Instant at, long delta) {
+        Instant counted = expiredUntil != null ? expiredUntil : Instant.now().minus(ACTIVITY_WINDOW);
+        if (at != null && !at.isBefore(counted)) {
+            recipeGroupRepository.adjustWeeklyActivity(groupId, delta);
+        }
+    }
+
+    // Join dates are stored as local time
+    @Transactional
+    public void recordActivity(Long groupId, LocalDateTime at, long delta) {
+        recordActivity(groupId, at == null ? null : at.atZone(ZoneId.systemDefault()).toInstant(), delta);
+    }
+
+    /**
+     * Retrieves a page of public groups
+     * @param sort Order to list in; defaults to NAME when a prefix is given and NEWEST otherwise
+     * @param prefix Name prefix to search for, or null for all groups
+     * @param cursor Cursor returned with the previous page, or null for the first page
+     * @param limit Maximum number of groups to return
+     * @return The page of groups and the cursor for the next page
+     * @throws IllegalArgumentException on a bad page size, a prefix with an order other
+     *         than NAME, or a cursor issued for a different order
+     */
+    public GroupDirectoryPage getDirectory(Sort sort, String prefix, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (prefix != null && prefix.isBlank()) {
+            prefix = null;
+        }
+        if (sort == null) {
+            sort = prefix != null ? Sort.NAME : Sort.NEWEST;
+        } else if (prefix != null && sort != Sort.NAME) {
+            throw new IllegalArgumentException("Name searches are always sorted by name");
+        }
+        SortKeyCursor last = cursor == null ? null : SortKeyCursor.decode(cursor);
+        if (last != null && !last.getSort().equals(sort.name())) {
+            throw new IllegalArgumentException("Cursor was issued for sort " + last.getSort());
+        }
+
+        // Fetch one extra row so we know whether another page exists
+        List<RecipeGroup> groups = find(sort, prefix, last, PageRequest.of(0, limit + 1));
+        if (groups.size() <= limit) {
+            return new GroupDirectoryPage(groups, null);
+        }
+        groups = groups.subList(0, limit);
+        RecipeGroup tail = groups.get(limit - 1);
+        return new GroupDirectoryPage(groups,
+                new SortKeyCursor(sort.name(), keyOf(sort, tail), tail.getId()).encode());
+    }
+
+    private List<RecipeGroup> find(Sort sort, String prefix, SortKeyCursor last, PageRequest page) {
+        GroupPrivacy privacy = GroupPrivacy.PUBLIC;
+        try {
+            switch (sort) {
+                case NEWEST:
+                    return last == null ? recipeGroupRepository.findNewest(privacy, page)
+                            : recipeGroupRepository.findNewestAfter(privacy, LocalDateTime.parse(last.getKey()),
+                                    last.getId(), page);
+                case MEMBERS:
+                    return last == null ? recipeGroupRepository.findLargest(privacy, page)
+                            : recipeGroupRepository.findLargestAfter(privacy, Long.parseLong(last.getKey()),
+                                    last.getId(), page);
+                case ACTIVE:
+                    return last == null ? recipeGroupRepository.findMostActive(privacy, page)
+                            : recipeGroupRepository.findMostActiveAfter(privacy, Long.parseLong(last.getKey()),
+                                    last.getId(), page);
+                default:
+                    String pattern = prefix == null ? "%" : likePrefix(prefix.toLowerCase(Locale.ROOT));
+                    return last == null ? recipeGroupRepository.findByNamePrefix(privacy, pattern, page)
+                            : recipeGroupRepository.findByNamePrefixAfter(privacy, pattern, last.getKey(),
+                                    last.getId(), page);
+            }
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor for sort " + sort, e);
+        }
+    }
+
+    private static String keyOf(Sort sort, RecipeGroup group) {
+        switch (sort) {
+            case NEWEST:
+                return group.getCreatedDate().toString();
+            case MEMBERS:
+                return Long.toString(group.getMemberCount());
+            case ACTIVE:
+                return Long.toString(group.getWeeklyActivity());
+            default:
+                return group.getNameKey();
+        }
+    }
+
+    // Escape LIKE wildcards so the prefix matches literally
+    private static String likePrefix(String prefix) {
+        return prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+
+    // Join dates are stored as local time
+    private static LocalDateTime toLocal(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,137 @@
+package foodieframe.recipe_sharing_platform.service;
+
+import foodieframe.recipe_sharing_platform.model.RecipeGroupMember.MemberRole;
+import foodieframe.recipe_sharing_platform.model.RecipeGroupMember.MembershipStatus;
+import foodieframe.recipe_sharing_platform.repository.RecipeGroupMemberRepository;
+import foodieframe.recipe_sharing_platform.util.ChunkedRows;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory (group, user) → role and status index of group memberships.
+ *
+ * Permission checks are a hash lookup instead of a query. Each (role, status)
+ * pair is one shared immutable value, so a membership costs a map entry and
+ * nothing more. RecipeGroupService updates it once each membership write has
+ * committed; the membership table is read only at startup.
+ */
+@Component
+public class GroupMembershipIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupMembershipIndex.class);
+
+    private static final int LOAD_CHUNK_SIZE = 5000;
+
+    private static final Membership[][] MEMBERSHIPS = new Membership[MemberRole.values().length][];
+
+    static {
+        for (MemberRole role : MemberRole.values()) {
+            MEMBERSHIPS[role.ordinal()] = new Membership[MembershipStatus.values().length];
+            for (MembershipStatus status : MembershipStatus.values()) {
+                MEMBERSHIPS[role.ordinal()][status.ordinal()] = new Membership(role, status);
+            }
+        }
+    }
+
+    @Autowired
+    private RecipeGroupMemberRepository memberRepository;
+
+    private final Map<Long, Map<Long, Membership>> groups = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long count = ChunkedRows.forEach(memberRepository::findMembershipsAfter, LOAD_CHUNK_SIZE,
+                row -> put((Long) row[1], (Long) row[2], (MemberRole) row[3], (MembershipStatus) row[4]));
+        log.info("Indexed {} memberships of {} groups", count, groups.size());
+    }
+
+    // Role and status of a user in a group, or null if they have no membership
+    public Membership get(Long groupId, Long userId) {
+        Map<Long, Membership> members = groups.get(groupId);
+        return members == null ? null : members.get(userId);
+    }
+
+    // Whether the user has a membership in the group, whatever its status
+    public boolean isMember(Long groupId, Long userId) {
+        return get(groupId, userId) != null;
+    }
+
+    public boolean hasRole(Long groupId, Long userId, MemberRole role) {
+        Membership membership = get(groupId, userId);
+        return membership != null && membership.getRole() == role;
+    }
+
+    public boolean hasStatus(Long groupId, Long userId, MembershipStatus status) {
+        Membership membership = get(groupId, userId);
+        return membership != null && membership.getStatus() == status;
+    }
+
+    // Record a new or changed membership
+    public void put(Long groupId, Long userId, MemberRole role, MembershipStatus status) {
+        // Inside compute so a concurrent remove cannot drop the map this goes into
+        groups.compute(groupId, (id, members) -> {
+            if (members == null) {
+                members = new ConcurrentHashMap<>();
+            }
+            members.put(userId, MEMBERSHIPS[role.ordinal()][status.ordinal()]);
+            return members;
+        });
+    }
+
+    // Change only the role of a known membership, keeping its status
+    public void setRole(Long groupId, Long userId, MemberRole role) {
+        Map<Long, Membership> members = groups.get(groupId);
+        if (members != null) {
+            members.computeIfPresent(userId, (id, membership) ->
+                    MEMBERSHIPS[role.ordinal()][membership.getStatus().ordinal()]);
+        }
+    }
+
+    // Change only the status of a known membership, keeping its role
+    public void setStatus(Long groupId, Long userId, MembershipStatus status) {
+        Map<Long, Membership> members = groups.get(groupId);
+        if (members != null) {
+            members.computeIfPresent(userId, (id, membership) ->
+                    MEMBERSHIPS[membership.getRole().ordinal()][status.ordinal()]);
+        }
+    }
+
+    public void remove(Long groupId, Long userId) {
+        groups.computeIfPresent(groupId, (id, members) -> {
+            members.remove(userId);
+            return members.isEmpty() ? null : members;
+        });
+    }
+
+    public void removeGroup(Long groupId) {
+        groups.remove(groupId);
+    }
+
+    /**
+     * Role and status of one membership
+     */
+    public static final class Membership {
+        private final MemberRole role;
+        private final MembershipStatus status;
+
+        private Membership(MemberRole role, MembershipStatus status) {
+            this.role = role;
+            this.status = status;
+        }
+
+        public MemberRole getRole() {
+            return role;
+        }
+
+        public MembershipStatus getStatus() {
+            return status;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package foodieframe.recipe_sharing_platform.service;
+
+import foodieframe.recipe_sharing_platform.model.GroupPost;
+import foodieframe.recipe_sharing_platform.model.GroupPostPage;
+import foodieframe.recipe_sharing_platform.model.Post;
+import foodieframe.recipe_sharing_platform.model.RecipeGroup;
+import foodieframe.recipe_sharing_platform.model.RecipeGroup.GroupPrivacy;
+import foodieframe.recipe_sharing_platform.model.RecipeGroupMember.MemberRole;
+import foodieframe.recipe_sharing_platform.model.RecipeGroupMember.MembershipStatus;
+import foodieframe.recipe_sharing_platform.repository.GroupPostRepository;
+import foodieframe.recipe_sharing_platform.repository.PostRepository;
+import foodieframe.recipe_sharing_platform.repository.RecipeGroupRepository;
+import foodieframe.recipe_sharing_platform.util.KeysetCursor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Recipe posts shared into groups, read as a newest-first feed.
+ *
+ * A feed page walks the (group_id, shared_at, id) index from the cursor and
+ * joins each share to its post by ID, so its cost depends on the page size,
+ * not on how many posts or shares exist. Who may read is decided from the
+ * group's privacy and GroupMembershipIndex, without touching the members table.
+ */
+@Service
+public class GroupPostService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    @Autowired
+    private GroupPostRepository groupPostRepository;
+
+    @Autowired
+    private RecipeGroupRepository recipeGroupRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private GroupMembershipIndex membershipIndex;
+
+    @Autowired
+    private BlockList blockList;
+
+    @Autowired
+    private GroupDirectoryService groupDirectoryService;
+
+    /**
+     * Shares a post into a group
+     * @param groupId group to share into
+     * @param postId post to share
+     * @param userId sharing user, who must be an active member
+     * @return the share
+     * @throws SecurityException if the user is not an active member
+     * @throws IllegalArgumentException if the post is already in the group
+     */
+    @Transactional
+    public GroupPost sharePost(Long groupId, Long postId, Long userId) {
+        findGroup(groupId);
+        if (!membershipIndex.hasStatus(groupId, userId, MembershipStatus.ACTIVE)) {
+            throw new SecurityException("Only active members can share posts into this group");
+        }
+        if (!postRepository.existsById(postId)) {
+            throw new RuntimeException("Post not found with id: " + postId);
+        }
+        // A concurrent share of the same post still fails on the unique key
+        if (groupPostRepository.existsByGroupIdAndPostId(groupId, postId)) {
+            throw new IllegalArgumentException("Post is already shared into this group");
+        }
+        GroupPost share = groupPostRepository.save(new GroupPost(groupId, postId, userId));
+        groupDirectoryService.recordActivity(groupId, share.getSharedAt(), 1);
+        return share;
+    }
+
+    /**
+     * Takes a post out of a group
+     * @param userId user removing it: whoever shared it, or a group admin or moderator
+     * @return false if the post was not in the group
+     * @throws SecurityException if the user may not remove it
+     */
+    @Transactional
+    public boolean unsharePost(Long groupId, Long postId, Long userId) {
+        GroupPost share = groupPostRepository.findByGroupIdAndPostId(groupId, postId).orElse(null);
+        if (share == null) {
+            return false;
+        }
+        if (!share.getSharedBy().equals(userId) && !membershipIndex.hasRole(groupId, userId, MemberRole.ADMIN)
+                && !membershipIndex.hasRole(groupId, userId, MemberRole.MODERATOR)) {
+            throw new SecurityException("Only the sharer or a group moderator can remove this post");
+        }
+        if (groupPostRepository.deleteByGroupIdAndPostId(groupId, postId) == 0) {
+            return false;
+        }
+        groupDirectoryService.recordActivity(groupId, share.getSharedAt(), -1);
+        return true;
+    }
+
+    /**
+     * Retrieves a newest-first page of the posts shared into a group
+     * @param groupId The ID of the group
+     * @param viewerId User reading the feed, or null for an anonymous reader
+     * @param cursor Cursor returned with the previous page, or null for the first page
+     * @param limit Maximum number of posts to return
+     * @return The page of shares with their posts and the cursor for the next page
+     * @throws SecurityException if the viewer may not read this group
+     */
+    public GroupPostPage getFeed(Long groupId, Long viewerId, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        checkCanRead(findGroup(groupId), viewerId);
+
+        // Fetch one extra row so we know whether another page exists
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<Object[]> rows;
+        if (cursor == null) {
+            rows = groupPostRepository.findFeed(groupId, page);
+        } else {
+            KeysetCursor last = KeysetCursor.decode(cursor);
+            rows = groupPostRepository.findFeedBefore(groupId, last.getTimestamp(), last.getId(), page);
+        }
+        List<GroupPost> shares = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            GroupPost share = (GroupPost) row[0];
+            share.setPost((Post) row[1]);
+            shares.add(share);
+        }
+        if (shares.size() <= limit) {
+            return new GroupPostPage(visibleTo(viewerId, shares), null);
+        }
+        // The cursor comes from the last row read, so a page thinned by blocks still resumes after it
+        shares = shares.subList(0, limit);
+        GroupPost last = shares.get(limit - 1);
+        return new GroupPostPage(visibleTo(viewerId, shares),
+                new KeysetCursor(last.getSharedAt(), last.getId()).encode());
+    }
+
+    // Public groups are open to everyone but banned members; private ones only to active members
+    private void checkCanRead(RecipeGroup group, Long viewerId) {
+        if (viewerId != null && membershipIndex.hasStatus(group.getId(), viewerId, MembershipStatus.BANNED)) {
+            throw new SecurityException("You are banned from this group");
+        }
+        if (group.getPrivacy() == GroupPrivacy.PRIVATE && (viewerId == null
+                || !membershipIndex.hasStatus(group.getId(), viewerId, MembershipStatus.ACTIVE))) {
+            throw new SecurityException("Only members can read this group");
+        }
+    }
+
+    // Leave out posts whose author and the viewer are blocked either way
+    private List<GroupPost> visibleTo(Long viewerId, List<GroupPost> shares) {
+        return blockList.filter(viewerId, shares, share -> share.getPost().getUserID());
+    }
+
+    private RecipeGroup findGroup(Long groupId) {
+        return recipeGroupRepository.findById(groupId)
+                .orElseThrow(() -> new RuntimeException("Group not found with id: " + groupId));
+    }
+}
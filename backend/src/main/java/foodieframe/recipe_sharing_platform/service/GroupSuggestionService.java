@@ -0,0 +1,369 @@
+package foodieframe.recipe_sharing_platform.service;
+
+import foodieframe.recipe_sharing_platform.model.GroupSuggestion;
+import foodieframe.recipe_sharing_platform.model.RecipeGroup;
+import foodieframe.recipe_sharing_platform.model.RecipeGroup.GroupPrivacy;
+import foodieframe.recipe_sharing_platform.model.RecipeGroupMember.MembershipStatus;
+import foodieframe.recipe_sharing_platform.repository.RecipeGroupMemberRepository;
+import foodieframe.recipe_sharing_platform.repository.RecipeGroupRepository;
+import foodieframe.recipe_sharing_platform.util.ChunkedRows;
+import foodieframe.recipe_sharing_platform.util.SortedLongs;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongConsumer;
+
+/**
+ * "Groups you may like": public groups ranked by friends who are members and by
+ * how much their members overlap with the user's own groups.
+ *
+ * Scores are precomputed by a periodic refresh and served from memory. The
+ * refresh runs on its own fork/join pool rather than the shared scheduler
+ * thread. It reads all memberships in chunks, then first finds
+ * each group's most similar groups (cosine similarity of member sets) and then
+ * each user's best groups, both split across users or groups so the work runs
+ * on every core. Members scanned per group and friends scanned per user are
+ * capped, so one huge group or very popular user cannot stall a refresh.
+ *
+ * Only users with a membership are scored by the refresh; everyone else (such
+ * as friends of members who have no group yet) is scored on request from the
+ * same snapshot. Groups joined or made private since are dropped when served.
+ */
+@Service
+public class GroupSuggestionService {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupSuggestionService.class);
+
+    public static final int MAX_SUGGESTIONS = 20;
+
+    private static final int LOAD_CHUNK_SIZE = 5000;
+
+    private static final long[] EMPTY = new long[0];
+
+    // Similar groups kept per group
+    private static final int SIMILAR_PER_GROUP = 20;
+
+    // Members sampled per group when finding similar groups
+    private static final int MAX_MEMBERS_SCANNED = 2000;
+
+    // Friends sampled per user when counting friends in groups
+    private static final int MAX_FRIENDS_SCANNED = 1000;
+
+    // IDs per fork/join leaf task
+    private static final int TASK_SIZE = 256;
+
+    private static final double MUTUAL_FRIEND_WEIGHT = 1.0;
+    private static final double SIMILARITY_WEIGHT = 5.0;
+
+    @Value("${app.group-suggestions.parallelism:0}")
+    private int parallelism;
+
+    @Autowired
+    private RecipeGroupMemberRepository memberRepository;
+
+    @Autowired
+    private RecipeGroupRepository recipeGroupRepository;
+
+    @Autowired
+    private GroupMembershipIndex membershipIndex;
+
+    @Autowired
+    private FriendGraph friendGraph;
+
+    private ForkJoinPool pool;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    // Replaced whole by each refresh; null until the first one finishes
+    private volatile Snapshot snapshot;
+
+    @PostConstruct
+    public void start() {
+        pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void stop() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Suggested groups for a user, best first
+     * @param userId user to suggest groups to
+     * @param limit maximum number of suggestions, 1 to MAX_SUGGESTIONS
+     * @return suggestions; empty until the first refresh has finished
+     */
+    public List<GroupSuggestion> getSuggestions(Long userId, int limit) {
+        if (limit < 1 || limit > MAX_SUGGESTIONS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_SUGGESTIONS);
+        }
+        Snapshot current = snapshot;
+        if (current == null) {
+            return List.of();
+        }
+        Scored[] scored = current.suggestions.get(userId);
+        if (scored == null) {
+            scored = score(current, userId);
+        }
+
+        // Over-fetch a little to make up for groups joined or hidden since the refresh
+        List<Long> ids = new ArrayList<>();
+        for (Scored candidate : scored) {
+            if (ids.size() == limit * 2) {
+                break;
+            }
+            if (!membershipIndex.isMember(candidate.groupId, userId)) {
+                ids.add(candidate.groupId);
+            }
+        }
+        Map<Long, RecipeGroup> groups = new HashMap<>();
+        recipeGroupRepository.findAllById(ids).forEach(group -> groups.put(group.getId(), group));
+        List<GroupSuggestion> suggestions = new ArrayList<>(limit);
+        for (Scored candidate : scored) {
+            RecipeGroup group = groups.get(candidate.groupId);
+            if (group != null && group.getPrivacy() == GroupPrivacy.PUBLIC) {
+                suggestions.add(new GroupSuggestion(group, candidate.mutualFriends, candidate.similarity));
+                if (suggestions.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return suggestions;
+    }
+
+    // Hand the refresh to the pool so the shared scheduler thread is free for other jobs
+    @Scheduled(fixedDelayString = "${app.group-suggestions.refresh-interval-ms:600000}",
+            initialDelayString = "${app.group-suggestions.initial-delay-ms:10000}")
+    public void scheduleRefresh() {
+        // Skipped while the previous refresh is still running
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        pool.execute(() -> {
+            try {
+                refresh();
+            } catch (RuntimeException e) {
+                log.error("Group suggestion refresh failed", e);
+            } finally {
+                refreshing.set(false);
+            }
+        });
+    }
+
+    // Rebuild every score from the membership table
+    public void refresh() {
+        long started = System.nanoTime();
+        Snapshot next = load();
+
+        long[] groupIds = next.members.keySet().stream().mapToLong(Long::longValue).toArray();
+        pool.invoke(new ForEach(groupIds, 0, groupIds.length,
+                groupId -> next.similar.put(groupId, findSimilar(next, groupId))));
+
+        // Only users in a group are scored ahead; friends of members without a group of their
+        // own are scored when they ask, so the refresh does not grow with the friend graph
+        long[] userIds = next.joined.keySet().stream().mapToLong(Long::longValue).toArray();
+        pool.invoke(new ForEach(userIds, 0, userIds.length, userId -> {
+            Scored[] scored = score(next, userId);
+            if (scored.length > 0) {
+                next.suggestions.put(userId, scored);
+            }
+        }));
+
+        snapshot = next;
+        log.info("Scored group suggestions for {} users over {} groups in {} ms", next.suggestions.size(),
+                groupIds.length, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    // Read public groups and every membership in chunks
+    private Snapshot load() {
+        Map<Long, List<Long>> activeByUser = new HashMap<>();
+        Map<Long, List<Long>> allByUser = new HashMap<>();
+        Map<Long, List<Long>> activeByGroup = new HashMap<>();
+        ChunkedRows.forEach(memberRepository::findMembershipsAfter, LOAD_CHUNK_SIZE, row -> {
+            Long groupId = (Long) row[1];
+            Long userId = (Long) row[2];
+            allByUser.computeIfAbsent(userId, id -> new ArrayList<>()).add(groupId);
+            if (row[4] == MembershipStatus.ACTIVE) {
+                activeByUser.computeIfAbsent(userId, id -> new ArrayList<>()).add(groupId);
+                activeByGroup.computeIfAbsent(groupId, id -> new ArrayList<>()).add(userId);
+            }
+        });
+        long[] publicGroups = SortedLongs.sortDistinct(recipeGroupRepository.findIdsByPrivacy(GroupPrivacy.PUBLIC)
+                .stream().mapToLong(Long::longValue).toArray());
+        return new Snapshot(publicGroups, toSorted(activeByUser), toSorted(allByUser), toSorted(activeByGroup));
+    }
+
+    // The public groups whose members overlap most with this group's, by cosine similarity
+    private Scored[] findSimilar(Snapshot snapshot, long groupId) {
+        long[] members = snapshot.members.get(groupId);
+        int sampled = Math.min(members.length, MAX_MEMBERS_SCANNED);
+        Map<Long, Integer> shared = new HashMap<>();
+        for (int i = 0; i < sampled; i++) {
+            long member = members[(int) ((long) i * members.length / sampled)];
+            for (long other : snapshot.active.getOrDefault(member, EMPTY)) {
+                if (other != groupId && SortedLongs.contains(snapshot.publicGroups, other)) {
+                    shared.merge(other, 1, Integer::sum);
+                }
+            }
+        }
+        // Scale sampled overlaps back up to the whole group
+        double scale = (double) members.length / sampled;
+        List<Scored> similar = new ArrayList<>(shared.size());
+        for (Map.Entry<Long, Integer> entry : shared.entrySet()) {
+            long otherSize = snapshot.members.get(entry.getKey()).length;
+            double cosine = Math.min(1.0, entry.getValue() * scale / Math.sqrt((double) members.length * otherSize));
+            similar.add(new Scored(entry.getKey(), 0, cosine, cosine));
+        }
+        return best(similar, SIMILAR_PER_GROUP);
+    }
+
+    // A user's best public groups from friends' memberships and the groups similar to their own
+    private Scored[] score(Snapshot snapshot, long userId) {
+        long[] joined = snapshot.joined.getOrDefault(userId, EMPTY);
+        Map<Long, Integer> friendCounts = new HashMap<>();
+        long[] friends = friendGraph.friendsOf(userId);
+        int sampled = Math.min(friends.length, MAX_FRIENDS_SCANNED);
+        for (int i = 0; i < sampled; i++) {
+            long friend = friends[(int) ((long) i * friends.length / sampled)];
+            for (long groupId : snapshot.active.getOrDefault(friend, EMPTY)) {
+                if (SortedLongs.contains(snapshot.publicGroups, groupId) && !SortedLongs.contains(joined, groupId)) {
+                    friendCounts.merge(groupId, 1, Integer::sum);
+                }
+            }
+        }
+        Map<Long, Double> similarity = new HashMap<>();
+        for (long own : snapshot.active.getOrDefault(userId, EMPTY)) {
+            Scored[] similar = snapshot.similar.get(own);
+            if (similar == null) {
+                continue;
+            }
+            for (Scored other : similar) {
+                if (!SortedLongs.contains(joined, other.groupId)) {
+                    similarity.merge(other.groupId, other.similarity, Double::sum);
+                }
+            }
+        }
+
+        Set<Long> candidates = new HashSet<>(friendCounts.keySet());
+        candidates.addAll(similarity.keySet());
+        List<Scored> scored = new ArrayList<>(candidates.size());
+        for (Long groupId : candidates) {
+            int mutualFriends = friendCounts.getOrDefault(groupId, 0);
+            double similar = similarity.getOrDefault(groupId, 0.0);
+            scored.add(new Scored(groupId, mutualFriends, similar,
+                    MUTUAL_FRIEND_WEIGHT * mutualFriends + SIMILARITY_WEIGHT * similar));
+        }
+        return best(scored, MAX_SUGGESTIONS);
+    }
+
+    // Highest scores first (ties to the lower group ID), without sorting them all
+    private static Scored[] best(List<Scored> scored, int size) {
+        Comparator<Scored> bestFirst = Comparator.comparingDouble((Scored s) -> s.score).reversed()
+                .thenComparingLong(s -> s.groupId);
+        PriorityQueue<Scored> top = new PriorityQueue<>(bestFirst.reversed());
+        for (Scored candidate : scored) {
+            top.add(candidate);
+            if (top.size() > size) {
+                top.poll();
+            }
+        }
+        Scored[] result = top.toArray(new Scored[0]);
+        Arrays.sort(result, bestFirst);
+        return result;
+    }
+
+    private static Map<Long, long[]> toSorted(Map<Long, List<Long>> lists) {
+        Map<Long, long[]> sorted = new HashMap<>(lists.size() * 2);
+        for (Map.Entry<Long, List<Long>> entry : lists.entrySet()) {
+            sorted.put(entry.getKey(),
+                    SortedLongs.sortDistinct(entry.getValue().stream().mapToLong(Long::longValue).toArray()));
+        }
+        return sorted;
+    }
+
+    /**
+     * Memberships as of one refresh, and the scores computed from them
+     * The maps are read-only once loaded; similar and suggestions are filled in by the refresh.
+     */
+    private static final class Snapshot {
+        private final long[] publicGroups;
+        // Active groups of each user
+        private final Map<Long, long[]> active;
+        // Groups each user has any membership in, so they are never suggested
+        private final Map<Long, long[]> joined;
+        // Active members of each group
+        private final Map<Long, long[]> members;
+        private final Map<Long, Scored[]> similar = new ConcurrentHashMap<>();
+        private final Map<Long, Scored[]> suggestions = new ConcurrentHashMap<>();
+
+        Snapshot(long[] publicGroups, Map<Long, long[]> active, Map<Long, long[]> joined,
+                Map<Long, long[]> members) {
+            this.publicGroups = publicGroups;
+            this.active = active;
+            this.joined = joined;
+            this.members = members;
+        }
+    }
+
+    private static final class Scored {
+        private final long groupId;
+        private final int mutualFriends;
+        private final double similarity;
+        private final double score;
+
+        Scored(long groupId, int mutualFriends, double similarity, double score) {
+            this.groupId = groupId;
+            this.mutualFriends = mutualFriends;
+            this.similarity = similarity;
+            this.score = score;
+        }
+    }
+
+    /**
+     * Runs an action for every ID in a range, splitting the range in halves across the pool
+     */
+    private static final class ForEach extends RecursiveAction {
+        private final long[] ids;
+        private final int from;
+        private final int to;
+        private final LongConsumer action;
+
+        ForEach(long[] ids, int from, int to, LongConsumer action) {
+            this.ids = ids;
+            this.from = from;
+            this.to = to;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= TASK_SIZE) {
+                for (int i = from; i < to; i++) {
+                    action.accept(ids[i]);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ForEach(ids, from, middle, action), new ForEach(ids, middle, to, action));
+        }
+    }
+}
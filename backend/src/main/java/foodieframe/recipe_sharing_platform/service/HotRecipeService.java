@@ -0,0 +1,156 @@
+package foodieframe.recipe_sharing_platform.service;
+
+import foodieframe.recipe_sharing_platform.model.HotRecipe;
+import foodieframe.recipe_sharing_platform.model.Interaction.InteractionType;
+import foodieframe.recipe_sharing_platform.util.CountMinSketch;
+import foodieframe.recipe_sharing_platform.util.SpaceSavingTopK;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Streaming detection of the most-engaged recipes over the last hour and day.
+ *
+ * Each engagement type keeps a ring of time buckets per window. A bucket holds
+ * a Count-Min Sketch for frequency estimates and a Space-Saving summary for
+ * candidate keys, so memory is fixed no matter how many recipes exist.
+ * Buckets are recycled lazily when the clock moves past them.
+ */
+@Service
+public class HotRecipeService {
+
+    /**
+     * Engagement signals that feed the tracker
+     */
+    public enum EngagementType {
+        LIKE, FAVORITE, COMMENT, SAVE, ALL
+    }
+
+    /**
+     * Sliding windows that can be queried
+     */
+    public enum Window {
+        HOUR(6, 10 * 60 * 1000L), // 6 buckets of 10 minutes
+        DAY(24, 60 * 60 * 1000L); // 24 buckets of 1 hour
+
+        private final int buckets;
+        private final long bucketMillis;
+
+        Window(int buckets, long bucketMillis) {
+            this.buckets = buckets;
+            this.bucketMillis = bucketMillis;
+        }
+    }
+
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH = 1024;
+    private static final int TOP_K_CAPACITY = 64;
+
+    private final Map<EngagementType, Map<Window, WindowRing>> rings = new EnumMap<>(EngagementType.class);
+
+    public HotRecipeService() {
+        for (EngagementType type : EngagementType.values()) {
+            Map<Window, WindowRing> byWindow = new EnumMap<>(Window.class);
+            for (Window window : Window.values()) {
+                byWindow.put(window, new WindowRing(window));
+            }
+            rings.put(type, byWindow);
+        }
+    }
+
+    // Record an interaction on a recipe
+    public void recordInteraction(Long recipeId, InteractionType type) {
+        record(recipeId, EngagementType.valueOf(type.name()));
+    }
+
+    // Record a recipe being saved
+    public void recordSave(Long recipeId) {
+        record(recipeId, EngagementType.SAVE);
+    }
+
+    private void record(Long recipeId, EngagementType type) {
+        long now = System.currentTimeMillis();
+        for (WindowRing ring : rings.get(type).values()) {
+            ring.add(recipeId, now);
+        }
+        for (WindowRing ring : rings.get(EngagementType.ALL).values()) {
+            ring.add(recipeId, now);
+        }
+    }
+
+    // Get the top recipes for an engagement type within a window
+    public List<HotRecipe> getHotRecipes(EngagementType type, Window window, int limit) {
+        return rings.get(type).get(window).top(Math.min(limit, TOP_K_CAPACITY), System.currentTimeMillis());
+    }
+
+    /**
+     * Ring of time buckets covering one sliding window; takes the time as an
+     * argument, so tests can drive it directly
+     */
+    static class WindowRing {
+        private final Window window;
+        private final CountMinSketch[] sketches;
+        private final SpaceSavingTopK[] summaries;
+        private final long[] epochs;
+        private final long[] totals;
+
+        WindowRing(Window window) {
+            this.window = window;
+            this.sketches = new CountMinSketch[window.buckets];
+            this.summaries = new SpaceSavingTopK[window.buckets];
+            this.epochs = new long[window.buckets];
+            this.totals = new long[window.buckets];
+            for (int i = 0; i < window.buckets; i++) {
+                sketches[i] = new CountMinSketch(SKETCH_DEPTH, SKETCH_WIDTH);
+                summaries[i] = new SpaceSavingTopK(TOP_K_CAPACITY);
+                epochs[i] = -1;
+            }
+        }
+
+        synchronized void add(long recipeId, long now) {
+            long epoch = now / window.bucketMillis;
+            int slot = (int) (epoch % window.buckets);
+            if (epochs[slot] != epoch) {
+                // Bucket belongs to an expired period; recycle it
+                sketches[slot].clear();
+                summaries[slot].clear();
+                totals[slot] = 0;
+                epochs[slot] = epoch;
+            }
+            sketches[slot].add(recipeId, 1);
+            summaries[slot].offer(recipeId, 1);
+            totals[slot]++;
+        }
+
+        synchronized List<HotRecipe> top(int limit, long now) {
+            long currentEpoch = now / window.bucketMillis;
+            CountMinSketch merged = new CountMinSketch(SKETCH_DEPTH, SKETCH_WIDTH);
+            Set<Long> candidates = new HashSet<>();
+            long total = 0;
+
+            for (int i = 0; i < window.buckets; i++) {
+                if (epochs[i] < 0 || currentEpoch - epochs[i] >= window.buckets) {
+                    continue;
+                }
+                merged.merge(sketches[i]);
+                total += totals[i];
+                for (int j = 0; j < summaries[i].size(); j++) {
+                    candidates.add(summaries[i].keyAt(j));
+                }
+            }
+
+            long errorBound = (long) Math.ceil(Math.E * total / merged.width());
+            List<HotRecipe> result = new ArrayList<>(candidates.size());
+            for (Long recipeId : candidates) {
+                result.add(new HotRecipe(recipeId, merged.estimate(recipeId), errorBound));
+            }
+            result.sort((a, b) -> Long.compare(b.getCount(), a.getCount()));
+            return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+        }
+    }
+}
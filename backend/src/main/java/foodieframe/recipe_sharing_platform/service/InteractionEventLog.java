@@ -0,0 +1,205 @@
+package foodieframe.recipe_sharing_platform.service;
+
+import foodieframe.recipe_sharing_platform.model.Interaction.InteractionType;
+import foodieframe.recipe_sharing_platform.model.InteractionLogRecord;
+import foodieframe.recipe_sharing_platform.model.InteractionLogRecord.Operation;
+import foodieframe.recipe_sharing_platform.util.AfterCommit;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Append-only log of every interaction mutation, stored as fixed-width binary
+ * records in segmented memory-mapped files.
+ *
+ * Record layout (32 bytes, big-endian):
+ * - 0: userId (long)
+ * - 8: recipeId (long)
+ * - 16: timestamp in epoch millis (long)
+ * - 24: interaction type (byte, ordinal + 1)
+ * - 25: operation (byte, ordinal + 1, written last so a zero marks free space)
+ * - 26: reserved
+ *
+ * Offsets are global record numbers; segment files are named after the offset
+ * of their first record. Dirty pages are forced to disk on a fixed interval
+ * and whenever a segment is rolled.
+ */
+@Component
+public class InteractionEventLog {
+
+    static final int RECORD_SIZE = 32;
+
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    @Value("${app.interaction-log.dir:data/interaction-log}")
+    private String directory;
+
+    @Value("${app.interaction-log.segment-records:131072}")
+    private int segmentRecords;
+
+    private Path logDir;
+
+    // Base offsets of all segments, ascending
+    private final List<Long> segmentBases = new CopyOnWriteArrayList<>();
+
+    private MappedByteBuffer activeBuffer;
+    private long activeBase;
+    private int activeCapacity;
+    private boolean dirty;
+
+    // Offset the next record will be written at; readers never go past it
+    private volatile long nextOffset;
+
+    @PostConstruct
+    public synchronized void open() throws IOException {
+        logDir = Paths.get(directory).toAbsolutePath();
+        Files.createDirectories(logDir);
+
+        try (Stream<Path> files = Files.list(logDir)) {
+            files.map(p -> p.getFileName().toString())
+                    .filter(name -> name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .forEach(segmentBases::add);
+        }
+
+        if (segmentBases.isEmpty()) {
+            mapSegment(0L);
+            nextOffset = 0L;
+            return;
+        }
+
+        // Recover the write position of the last segment by scanning for the first free slot
+        long lastBase = segmentBases.get(segmentBases.size() - 1);
+        mapSegment(lastBase);
+        int position = 0;
+        while (position < activeCapacity && activeBuffer.get(position * RECORD_SIZE + 25) != 0) {
+            position++;
+        }
+        nextOffset = lastBase + position;
+    }
+
+    // Append a record once the surrounding transaction (if any) has committed
+    public void append(long userId, long recipeId, InteractionType type, Operation operation) {
+        long timestamp = System.currentTimeMillis();
+        AfterCommit.run(() -> write(userId, recipeId, type, operation, timestamp));
+    }
+
+    private synchronized void write(long userId, long recipeId, InteractionType type, Operation operation,
+            long timestamp) {
+        try {
+            if (nextOffset - activeBase >= activeCapacity) {
+                activeBuffer.force();
+                mapSegment(nextOffset);
+            }
+            int position = (int) (nextOffset - activeBase) * RECORD_SIZE;
+            activeBuffer.putLong(position, userId);
+            activeBuffer.putLong(position + 8, recipeId);
+            activeBuffer.putLong(position + 16, timestamp);
+            activeBuffer.put(position + 24, (byte) (type.ordinal() + 1));
+            activeBuffer.put(position + 25, (byte) (operation.ordinal() + 1));
+            dirty = true;
+            nextOffset++;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append to interaction log", e);
+        }
+    }
+
+    // Periodically flush dirty pages of the active segment
+    @Scheduled(fixedDelayString = "${app.interaction-log.fsync-interval-ms:1000}")
+    public synchronized void flush() {
+        if (dirty && activeBuffer != null) {
+            activeBuffer.force();
+            dirty = false;
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    // Offset the next appended record will receive
+    public long getEndOffset() {
+        return nextOffset;
+    }
+
+    /**
+     * Replays every committed record starting at the given offset
+     * @param fromOffset first offset to deliver (0 replays the whole log)
+     * @param consumer callback invoked for each record in offset order
+     * @return the offset to resume from on the next call
+     */
+    public long replay(long fromOffset, Consumer<InteractionLogRecord> consumer) {
+        long end = nextOffset;
+        List<Long> bases = List.copyOf(segmentBases);
+        long offset = Math.max(fromOffset, bases.isEmpty() ? 0L : bases.get(0));
+
+        for (int i = 0; i < bases.size() && offset < end; i++) {
+            long base = bases.get(i);
+            long segmentEnd = i + 1 < bases.size() ? bases.get(i + 1) : end;
+            if (offset >= segmentEnd) {
+                continue;
+            }
+
+            try (FileChannel channel = FileChannel.open(segmentPath(base), StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                long limit = Math.min(segmentEnd, base + channel.size() / RECORD_SIZE);
+                for (; offset < limit; offset++) {
+                    int position = (int) (offset - base) * RECORD_SIZE;
+                    byte op = buffer.get(position + 25);
+                    if (op == 0) {
+                        break;
+                    }
+                    consumer.accept(new InteractionLogRecord(
+                            offset,
+                            buffer.getLong(position),
+                            buffer.getLong(position + 8),
+                            InteractionType.values()[buffer.get(position + 24) - 1],
+                            Operation.values()[op - 1],
+                            buffer.getLong(position + 16)));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read interaction log segment " + base, e);
+            }
+            offset = Math.max(offset, segmentEnd);
+        }
+        return offset;
+    }
+
+    private void mapSegment(long base) throws IOException {
+        Path path = segmentPath(base);
+        boolean exists = Files.exists(path);
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            if (!exists) {
+                file.setLength((long) segmentRecords * RECORD_SIZE);
+            }
+            activeCapacity = (int) (file.length() / RECORD_SIZE);
+            activeBuffer = file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, file.length());
+        }
+        activeBase = base;
+        if (!exists) {
+            segmentBases.add(base);
+        }
+    }
+
+    private Path segmentPath(long base) {
+        return logDir.resolve(String.format("%020d%s", base, SEGMENT_SUFFIX));
+    }
+}
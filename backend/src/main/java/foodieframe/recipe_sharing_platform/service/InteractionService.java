@@ -2,13 +2,19 @@ package foodieframe.recipe_sharing_platform.service;
 
 import foodieframe.recipe_sharing_platform.model.Interaction;
 import foodieframe.recipe_sharing_platform.model.Interaction.InteractionType;
+import foodieframe.recipe_sharing_platform.model.InteractionLogRecord.Operation;
+import foodieframe.recipe_sharing_platform.model.LiveEvent;
+import foodieframe.recipe_sharing_platform.model.LiveEvent.LiveEventType;
 import foodieframe.recipe_sharing_platform.repository.InteractionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class InteractionService {
@@ -16,6 +22,18 @@ public class InteractionService {
     @Autowired
     private InteractionRepository interactionRepository;
 
+    @Autowired
+    private InteractionEventLog interactionEventLog;
+
+    @Autowired
+    private HotRecipeService hotRecipeService;
+
+    @Autowired
+    private LiveUpdateHub liveUpdateHub;
+
+    @Autowired
+    private GroupCommitWriter groupCommitWriter;
+
     public Interaction createInteraction(Long userId, Long recipeId, InteractionType type, String content) {
         // Check if interaction already exists (for likes and favorites)
         if (type != InteractionType.COMMENT) {
@@ -27,13 +45,36 @@ public class InteractionService {
             }
         }
 
-        Interaction interaction = new Interaction();
-        interaction.setUserId(userId);
-        interaction.setRecipeId(recipeId);
-        interaction.setInteractionType(type);
-        interaction.setContent(content);
+        Interaction savedInteraction = interactionRepository.save(newInteraction(userId, recipeId, type, content));
+        onCreated(savedInteraction);
+        return savedInteraction;
+    }
 
-        return interactionRepository.save(interaction);
+    // Same as createInteraction, but the insert is batched with concurrent ones by the group-commit writer
+    public CompletableFuture<Interaction> createInteractionGrouped(Long userId, Long recipeId, InteractionType type,
+            String content) {
+        if (type != InteractionType.COMMENT) {
+            Optional<Interaction> existingInteraction = interactionRepository
+                    .findByUserIdAndRecipeIdAndInteractionType(userId, recipeId, type);
+
+            if (existingInteraction.isPresent()) {
+                return CompletableFuture.completedFuture(existingInteraction.get());
+            }
+        }
+
+        // Timestamps are set here because @PrePersist does not run for the batched JDBC insert
+        Interaction interaction = newInteraction(userId, recipeId, type, content);
+        LocalDateTime now = LocalDateTime.now();
+        interaction.setCreatedAt(now);
+        interaction.setUpdatedAt(now);
+        return groupCommitWriter.submitInteraction(interaction).thenApply(id -> {
+            onCreated(interaction);
+            return interaction;
+        });
+    }
+
+    public boolean isGroupCommitEnabled() {
+        return groupCommitWriter.isEnabled();
     }
 
     public List<Interaction> getRecipeInteractions(Long recipeId) {
@@ -61,21 +102,60 @@ public class InteractionService {
                 .orElseThrow(() -> new RuntimeException("Interaction not found"));
 
         interaction.setContent(newContent);
-        return interactionRepository.save(interaction);
+        Interaction savedInteraction = interactionRepository.save(interaction);
+        interactionEventLog.append(interaction.getUserId(), interaction.getRecipeId(),
+                interaction.getInteractionType(), Operation.UPDATE);
+        publish(interaction.getRecipeId(), LiveEventType.INTERACTION_UPDATED, savedInteraction);
+        return savedInteraction;
     }
 
     @Transactional
     public void deleteInteraction(Long interactionId) {
-        interactionRepository.deleteById(interactionId);
+        interactionRepository.findById(interactionId).ifPresent(interaction -> {
+            interactionRepository.delete(interaction);
+            interactionEventLog.append(interaction.getUserId(), interaction.getRecipeId(),
+                    interaction.getInteractionType(), Operation.DELETE);
+            publish(interaction.getRecipeId(), LiveEventType.INTERACTION_DELETED, interaction);
+        });
     }
 
     @Transactional
     public void deleteUserInteraction(Long userId, Long recipeId, InteractionType type) {
-        interactionRepository.deleteByUserIdAndRecipeIdAndInteractionType(userId, recipeId, type);
+        if (interactionRepository.deleteByUserIdAndRecipeIdAndInteractionType(userId, recipeId, type) > 0) {
+            interactionEventLog.append(userId, recipeId, type, Operation.DELETE);
+            publish(recipeId, LiveEventType.INTERACTION_DELETED,
+                    Map.of("userId", userId, "recipeId", recipeId, "interactionType", type));
+        }
     }
 
     @Transactional
     public void deleteRecipeInteractionsByType(Long recipeId, InteractionType type) {
-        interactionRepository.deleteByRecipeIdAndInteractionType(recipeId, type);
+        if (interactionRepository.deleteByRecipeIdAndInteractionType(recipeId, type) > 0) {
+            interactionEventLog.append(0L, recipeId, type, Operation.PURGE);
+            publish(recipeId, LiveEventType.INTERACTIONS_PURGED,
+                    Map.of("recipeId", recipeId, "interactionType", type));
+        }
+    }
+
+    private Interaction newInteraction(Long userId, Long recipeId, InteractionType type, String content) {
+        Interaction interaction = new Interaction();
+        interaction.setUserId(userId);
+        interaction.setRecipeId(recipeId);
+        interaction.setInteractionType(type);
+        interaction.setContent(content);
+        return interaction;
+    }
+
+    // Log, count and push a newly stored interaction
+    private void onCreated(Interaction interaction) {
+        interactionEventLog.append(interaction.getUserId(), interaction.getRecipeId(),
+                interaction.getInteractionType(), Operation.CREATE);
+        hotRecipeService.recordInteraction(interaction.getRecipeId(), interaction.getInteractionType());
+        publish(interaction.getRecipeId(), LiveEventType.INTERACTION_CREATED, interaction);
+    }
+
+    // Push a change to live subscribers of the recipe post
+    private void publish(Long recipeId, LiveEventType type, Object payload) {
+        liveUpdateHub.publish(LiveUpdateHub.postTopic(recipeId), new LiveEvent(type, payload));
     }
 }
@@ -0,0 +1,316 @@
+package foodieframe.recipe_sharing_platform.service;
+
+import foodieframe.recipe_sharing_platform.model.LiveEvent;
+import foodieframe.recipe_sharing_platform.util.AfterCommit;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fan-out hub pushing comment and interaction changes to Server-Sent Event
+ * subscribers, one topic per post or event.
+ *
+ * Published events are buffered per topic and flushed by a single dispatcher
+ * every batch window, so a burst becomes a few small batches. The dispatcher
+ * only ever offers batches to bounded per-subscriber queues; sending happens
+ * on a separate pool. A subscriber whose queue is full is dropped, so one
+ * stalled client cannot back up the broadcaster or other subscribers. A write
+ * still blocked after the write timeout drops its subscriber and hands its
+ * thread's place in the pool to a new thread until the container gives up on
+ * the write, so stalled clients never hold up delivery to the others.
+ */
+@Component
+public class LiveUpdateHub {
+
+    private static final List<LiveEvent> HEARTBEAT = List.of();
+
+    @Value("${app.live.batch-window-ms:100}")
+    private long batchWindowMs;
+
+    @Value("${app.live.max-batch-size:50}")
+    private int maxBatchSize;
+
+    @Value("${app.live.subscriber-buffer:32}")
+    private int subscriberBuffer;
+
+    @Value("${app.live.heartbeat-interval-ms:20000}")
+    private long heartbeatIntervalMs;
+
+    @Value("${app.live.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    @Value("${app.live.sender-threads:8}")
+    private int senderThreads;
+
+    @Value("${app.live.write-timeout-ms:2000}")
+    private long writeTimeoutMs;
+
+    private final Map<String, Topic> topics = new ConcurrentHashMap<>();
+    private final Set<Topic> dirtyTopics = ConcurrentHashMap.newKeySet();
+
+    private ScheduledExecutorService dispatcher;
+    private ThreadPoolExecutor senders;
+
+    @PostConstruct
+    public void start() {
+        dispatcher = Executors.newSingleThreadScheduledExecutor(r -> daemon(r, "live-dispatcher"));
+        senders = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), r -> daemon(r, "live-sender"));
+        dispatcher.scheduleWithFixedDelay(this::dispatch, batchWindowMs, batchWindowMs, TimeUnit.MILLISECONDS);
+        dispatcher.scheduleWithFixedDelay(this::heartbeat, heartbeatIntervalMs, heartbeatIntervalMs,
+                TimeUnit.MILLISECONDS);
+        long checkMs = Math.max(1, writeTimeoutMs / 4);
+        dispatcher.scheduleWithFixedDelay(this::enforceWriteTimeout, checkMs, checkMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        dispatcher.shutdownNow();
+        for (Topic topic : topics.values()) {
+            for (Subscriber subscriber : topic.subscribers) {
+                subscriber.drop();
+            }
+        }
+        senders.shutdown();
+    }
+
+    public static String postTopic(Long postId) {
+        return "post:" + postId;
+    }
+
+    public static String eventTopic(Long eventId) {
+        return "event:" + eventId;
+    }
+
+    // Open a new SSE stream for a topic
+    public SseEmitter subscribe(String topicKey) {
+        return subscribe(topicKey, new SseEmitter(emitterTimeoutMs));
+    }
+
+    // Open a stream on the given emitter; tests pass their own
+    SseEmitter subscribe(String topicKey, SseEmitter emitter) {
+        // Joined inside compute so the heartbeat cannot unmap the topic in between
+        Subscriber[] joined = new Subscriber[1];
+        topics.compute(topicKey, (key, topic) -> {
+            Topic current = topic != null ? topic : new Topic(key);
+            joined[0] = new Subscriber(current, emitter);
+            current.subscribers.add(joined[0]);
+            return current;
+        });
+        Subscriber subscriber = joined[0];
+
+        emitter.onCompletion(subscriber::detach);
+        emitter.onTimeout(subscriber::detach);
+        emitter.onError(e -> subscriber.detach());
+        // Commits the response headers right away so clients see the stream open
+        subscriber.offer(HEARTBEAT);
+        return emitter;
+    }
+
+    // Queue an event for a topic; delivered after the surrounding transaction commits
+    public void publish(String topicKey, LiveEvent event) {
+        AfterCommit.run(() -> {
+            Topic topic = topics.get(topicKey);
+            if (topic == null || topic.subscribers.isEmpty()) {
+                return;
+            }
+            topic.pending.add(event);
+            dirtyTopics.add(topic);
+        });
+    }
+
+    // Number of open streams for a topic
+    public int subscriberCount(String topicKey) {
+        Topic topic = topics.get(topicKey);
+        return topic == null ? 0 : topic.subscribers.size();
+    }
+
+    private void dispatch() {
+        for (Topic topic : dirtyTopics) {
+            dirtyTopics.remove(topic);
+            List<LiveEvent> batch = new ArrayList<>(maxBatchSize);
+            LiveEvent event;
+            while ((event = topic.pending.poll()) != null) {
+                batch.add(event);
+                if (batch.size() == maxBatchSize) {
+                    topic.broadcast(batch);
+                    batch = new ArrayList<>(maxBatchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                topic.broadcast(batch);
+            }
+        }
+    }
+
+    private void heartbeat() {
+        for (Topic topic : topics.values()) {
+            if (topic.subscribers.isEmpty()) {
+                // Checked again inside compute, where subscribe cannot join meanwhile
+                topics.computeIfPresent(topic.key,
+                        (key, current) -> current.subscribers.isEmpty() ? null : current);
+            } else {
+                topic.broadcast(HEARTBEAT);
+            }
+        }
+    }
+
+    private void enforceWriteTimeout() {
+        long deadline = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(writeTimeoutMs);
+        for (Topic topic : topics.values()) {
+            for (Subscriber subscriber : topic.subscribers) {
+                subscriber.abortWriteStartedBefore(deadline);
+            }
+        }
+    }
+
+    // Grow or shrink the sender pool by one around a write that has been given up on
+    private synchronized void resizeSenders(int delta) {
+        if (delta > 0) {
+            senders.setMaximumPoolSize(senders.getMaximumPoolSize() + delta);
+            senders.setCorePoolSize(senders.getCorePoolSize() + delta);
+        } else {
+            senders.setCorePoolSize(senders.getCorePoolSize() + delta);
+            senders.setMaximumPoolSize(senders.getMaximumPoolSize() + delta);
+        }
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Subscribers and not-yet-dispatched events of one post or event
+     */
+    private class Topic {
+        private final String key;
+        private final Set<Subscriber> subscribers = new CopyOnWriteArraySet<>();
+        private final Queue<LiveEvent> pending = new ConcurrentLinkedQueue<>();
+
+        Topic(String key) {
+            this.key = key;
+        }
+
+        void broadcast(List<LiveEvent> batch) {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(batch);
+            }
+        }
+    }
+
+    /**
+     * One SSE stream with its own bounded queue of batches
+     */
+    private class Subscriber {
+        private final Topic topic;
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<List<LiveEvent>> queue = new ArrayBlockingQueue<>(subscriberBuffer);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+        // Whether a write is in progress, when it began and whether it was given up on; guarded by this
+        private boolean writing;
+        private long writeStartedAt;
+        private boolean abandoned;
+
+        Subscriber(Topic topic, SseEmitter emitter) {
+            this.topic = topic;
+            this.emitter = emitter;
+        }
+
+        // Never blocks: a full queue means the client is too slow and gets dropped
+        void offer(List<LiveEvent> batch) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(batch)) {
+                drop();
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                List<LiveEvent> batch;
+                while (!closed && (batch = queue.poll()) != null) {
+                    synchronized (this) {
+                        writing = true;
+                        writeStartedAt = System.nanoTime();
+                    }
+                    try {
+                        if (batch.isEmpty()) {
+                            emitter.send(SseEmitter.event().comment("heartbeat"));
+                        } else {
+                            emitter.send(SseEmitter.event().name("batch").data(batch, MediaType.APPLICATION_JSON));
+                        }
+                    } catch (IOException | IllegalStateException e) {
+                        detach();
+                    } finally {
+                        synchronized (this) {
+                            writing = false;
+                            if (abandoned) {
+                                // This thread leaves the pool again in place of its replacement
+                                abandoned = false;
+                                resizeSenders(-1);
+                            }
+                        }
+                    }
+                }
+                if (closed) {
+                    emitter.complete();
+                    queue.clear();
+                    return;
+                }
+                draining.set(false);
+            } while (!queue.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        // Stop delivering and close the stream without blocking the caller
+        void drop() {
+            detach();
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        // Drop a stream whose current write has been blocked since before the deadline
+        // The container only gives up on the write at its own socket timeout, so meanwhile
+        // another thread takes this one's place
+        synchronized void abortWriteStartedBefore(long deadline) {
+            if (writing && !abandoned && writeStartedAt - deadline < 0) {
+                abandoned = true;
+                detach();
+                resizeSenders(1);
+            }
+        }
+
+        void detach() {
+            closed = true;
+            topic.subscribers.remove(this);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package foodieframe.recipe_sharing_platform.service;
+
+import foodieframe.recipe_sharing_platform.model.Notification;
+import foodieframe.recipe_sharing_platform.model.Notification.NotificationType;
+import foodieframe.recipe_sharing_platform.repository.NotificationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Service
+public class NotificationService {
+
+    // Largest page size accepted by getNotifications
+    public static final int MAX_PAGE_SIZE = 100;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    // Send the same message to several users in one transaction
+    @Transactional
+    public List<Notification> notifyUsers(Collection<Long> userIds, NotificationType type, Long eventId,
+            String message) {
+        return notificationRepository.saveAll(userIds.stream()
+                .map(userId -> new Notification(userId, type, eventId, message))
+                .toList());
+    }
+
+    // A user's latest notifications, newest first
+    public List<Notification> getNotifications(Long userId, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return notificationRepository.findByUserIdOrderByIdDesc(userId, PageRequest.of(0, limit));
+    }
+
+    public long getUnreadCount(Long userId) {
+        return notificationRepository.countByUserIdAndReadFalse(userId);
+    }
+
+    // Returns false if the user has no such notification
+    @Transactional
+    public boolean markRead(Long userId, Long notificationId) {
+        return notificationRepository.markRead(notificationId, userId) == 1;
+    }
+
+    @Transactional
+    public int markAllRead(Long userId) {
+        return notificationRepository.markAllRead(userId);
+    }
+}
@@ -5,8 +5,11 @@ import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import foodieframe.recipe_sharing_platform.model.GroupPost;
 import foodieframe.recipe_sharing_platform.model.Post;
+import foodieframe.recipe_sharing_platform.repository.GroupPostRepository;
 import foodieframe.recipe_sharing_platform.repository.PostRepository;
 
 @Service
@@ -14,6 +17,15 @@ public class PostService {
 
     @Autowired
     private PostRepository postRepository;
+
+    @Autowired
+    private GroupPostRepository groupPostRepository;
+
+    @Autowired
+    private BlockList blockList;
+
+    @Autowired
+    private GroupDirectoryService groupDirectoryService;
     
     // Create
     public Post savePost(Post post) {
@@ -25,6 +37,11 @@ public class PostService {
         return postRepository.findAll();
     }
     
+    // Read all for a viewer, leaving out posts by users blocked either way
+    public List<Post> getAllPosts(Long viewerId) {
+        return blockList.filter(viewerId, getAllPosts(), Post::getUserID);
+    }
+    
     // Read one
     public Optional<Post> getPostById(Long id) {
         return postRepository.findById(id);
@@ -43,10 +60,16 @@ public class PostService {
         return postRepository.save(post);
     }
 
-    // Delete
+    // Delete, taking the post out of every group it was shared into
+    @Transactional
     public void deletePost(Long id) {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Post not found with id: " + id));
+        List<GroupPost> shares = groupPostRepository.findByPostId(id);
+        groupPostRepository.deleteByPostId(id);
+        for (GroupPost share : shares) {
+            groupDirectoryService.recordActivity(share.getGroupId(), share.getSharedAt(), -1);
+        }
         postRepository.delete(post);
     }
 
@@ -54,4 +77,9 @@ public class PostService {
     public List<Post> getPostsByUserId(Long userId) {
         return postRepository.findByUserID(userId);
     }
+
+    // Find by user id for a viewer; empty if the author and viewer are blocked either way
+    public List<Post> getPostsByUserId(Long userId, Long viewerId) {
+        return blockList.isHidden(viewerId, userId) ? List.of() : getPostsByUserId(userId);
+    }
 }
@@ -1,35 +1,105 @@
 package foodieframe.recipe_sharing_platform.service;
 
+import foodieframe.recipe_sharing_platform.model.MemberImport;
+import foodieframe.recipe_sharing_platform.model.MemberImport.Outcome;
 import foodieframe.recipe_sharing_platform.model.RecipeGroup;
 import foodieframe.recipe_sharing_platform.model.RecipeGroup.GroupPrivacy;
 import foodieframe.recipe_sharing_platform.model.RecipeGroupMember;
 import foodieframe.recipe_sharing_platform.model.RecipeGroupMember.MemberRole;
 import foodieframe.recipe_sharing_platform.model.RecipeGroupMember.MembershipStatus;
+import foodieframe.recipe_sharing_platform.repository.GroupPostRepository;
 import foodieframe.recipe_sharing_platform.repository.RecipeGroupMemberRepository;
 import foodieframe.recipe_sharing_platform.repository.RecipeGroupRepository;
+import foodieframe.recipe_sharing_platform.repository.UserRepository;
+import foodieframe.recipe_sharing_platform.util.AfterCommit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
-
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Recipe groups and their memberships.
+ *
+ * Each group stores its number of ACTIVE members, moved with relative UPDATEs
+ * in the same transaction as the membership change; status changes and
+ * removals are conditional on the status they were decided from, so concurrent
+ * changes to one membership cannot count it twice. Membership checks are
+ * answered from GroupMembershipIndex.
+ */
 @Service
 public class RecipeGroupService {
 
+    private static final Logger log = LoggerFactory.getLogger(RecipeGroupService.class);
+
+    // Most rows accepted by one bulk import
+    public static final int MAX_IMPORT_ROWS = 10_000;
+
+    // Values per IN list when resolving users and existing members
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+
+    // Rows per JDBC batch when inserting imported members
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    private static final String INSERT_MEMBER = "INSERT INTO recipe_group_members "
+            + "(group_id, user_id, role, status, joined_date, updated_date) VALUES (?, ?, ?, ?, ?, ?)";
+
     @Autowired
     private RecipeGroupRepository recipeGroupRepository;
 
     @Autowired
     private RecipeGroupMemberRepository memberRepository;
 
+    @Autowired
+    private GroupPostRepository groupPostRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private GroupMembershipIndex membershipIndex;
+
+    @Autowired
+    private GroupDirectoryService groupDirectoryService;
+
+    // Repair counts that drifted through writes made outside this service
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void recountMembers() {
+        int groups = recipeGroupRepository.recountMembers(MembershipStatus.ACTIVE);
+        log.info("Recounted members of {} groups", groups);
+    }
+
     // Create a new recipe group
+    @Transactional
     public RecipeGroup createGroup(RecipeGroup group) {
         // Check if a group with this name already exists
         if (recipeGroupRepository.existsByNameIgnoreCase(group.getName())) {
             throw new RuntimeException("A group with this name already exists");
         }
 
-        // Save the group
+        // Save the group, counting the creator who joins below
+        group.setMemberCount(1);
+        group.setWeeklyActivity(1);
         RecipeGroup savedGroup = recipeGroupRepository.save(group);
 
         // Add the creator as an admin member
@@ -38,6 +108,8 @@ public class RecipeGroupService {
                 savedGroup.getCreatorId(),
                 MemberRole.ADMIN);
         memberRepository.save(member);
+        AfterCommit.run(() -> membershipIndex.put(member.getGroupId(), member.getUserId(),
+                member.getRole(), member.getStatus()));
 
         return savedGroup;
     }
@@ -87,24 +159,137 @@ public class RecipeGroupService {
     }
 
     // Delete a group
+    @Transactional
     public void deleteGroup(Long groupId) {
-        // First delete all memberships
-        List<RecipeGroupMember> members = memberRepository.findByGroupId(groupId);
-        memberRepository.deleteAll(members);
+        // First delete all memberships and shared posts in one statement each
+        memberRepository.deleteByGroupId(groupId);
+        groupPostRepository.deleteByGroupId(groupId);
 
         // Then delete the group
-        recipeGroupRepository.deleteById(groupId);
+        recipeGroupRepository.deleteGroupById(groupId);
+        AfterCommit.run(() -> membershipIndex.removeGroup(groupId));
     }
 
     // Add a user to a group
+    @Transactional
     public RecipeGroupMember addMember(Long groupId, Long userId, MemberRole role) {
-        // Check if the user is already a member
-        if (memberRepository.existsByGroupIdAndUserId(groupId, userId)) {
+        // Check if the user is already a member; a concurrent add still fails on the unique key
+        if (membershipIndex.isMember(groupId, userId)) {
             throw new RuntimeException("User is already a member of this group");
         }
 
-        RecipeGroupMember member = new RecipeGroupMember(groupId, userId, role);
-        return memberRepository.save(member);
+        RecipeGroupMember member = memberRepository.save(new RecipeGroupMember(groupId, userId, role));
+        if (member.getStatus() == MembershipStatus.ACTIVE) {
+            recipeGroupRepository.adjustMemberCount(groupId, 1);
+            groupDirectoryService.recordActivity(groupId, member.getJoinedDate(), 1);
+        }
+        AfterCommit.run(() -> membershipIndex.put(groupId, userId, member.getRole(), member.getStatus()));
+        return member;
+    }
+
+    /**
+     * Adds many users to a group at once, such as a class roster
+     * Users are resolved and checked against existing members one query per chunk of
+     * rows, and the new memberships are written with JDBC batch inserts in one transaction.
+     * @param groupId group to add to
+     * @param adminId user running the import, who must be an admin of the group
+     * @param rows users as IDs, usernames or emails, each with an optional role
+     * @param defaultRole role for rows that name none
+     * @param status status of the new memberships: ACTIVE to add them, PENDING to invite them
+     * @return one result per row, in input order
+     * @throws SecurityException if adminId is not an admin of the group
+     */
+    @Transactional
+    public MemberImport importMembers(Long groupId, Long adminId, List<MemberImport.Row> rows,
+            MemberRole defaultRole, MembershipStatus status) {
+        if (rows.size() > MAX_IMPORT_ROWS) {
+            throw new IllegalArgumentException("At most " + MAX_IMPORT_ROWS + " rows can be imported at once");
+        }
+        if (status == MembershipStatus.BANNED) {
+            throw new IllegalArgumentException("Imported members must be ACTIVE or PENDING");
+        }
+        if (!recipeGroupRepository.existsById(groupId)) {
+            throw new RuntimeException("Group not found with id: " + groupId);
+        }
+        if (!membershipIndex.hasRole(groupId, adminId, MemberRole.ADMIN)) {
+            throw new SecurityException("Only group admins can import members");
+        }
+
+        // Validate every row and collect the distinct IDs, usernames and emails to look up
+        Set<Long> ids = new HashSet<>();
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (MemberImport.Row row : rows) {
+            String user = row.getUser() == null ? "" : row.getUser().trim();
+            MemberRole role = parseRole(row.getRole(), defaultRole);
+            if (user.isEmpty() || role == null) {
+                row.setOutcome(Outcome.INVALID);
+                continue;
+            }
+            row.setRole(role.name());
+            Long id = parseId(user);
+            if (id != null) {
+                ids.add(id);
+            } else if (user.contains("@")) {
+                emails.add(user);
+            } else {
+                usernames.add(user);
+            }
+        }
+        Set<Long> knownIds = new HashSet<>(inChunks(ids, userRepository::findExistingIds));
+        Map<String, Long> idsByName = new HashMap<>();
+        for (Object[] found : inChunks(usernames, userRepository::findIdsByUsernames)) {
+            idsByName.put((String) found[1], (Long) found[0]);
+        }
+        for (Object[] found : inChunks(emails, userRepository::findIdsByEmails)) {
+            idsByName.put((String) found[1], (Long) found[0]);
+        }
+
+        // First row naming a user wins; later ones are duplicates. Kept in roster order for the insert
+        Map<Long, MemberImport.Row> candidates = new LinkedHashMap<>();
+        for (MemberImport.Row row : rows) {
+            if (row.getOutcome() != null) {
+                continue;
+            }
+            String user = row.getUser().trim();
+            Long id = parseId(user);
+            Long userId = id != null ? (knownIds.contains(id) ? id : null) : idsByName.get(user);
+            row.setUserId(userId);
+            if (userId == null) {
+                row.setOutcome(Outcome.USER_NOT_FOUND);
+            } else if (candidates.putIfAbsent(userId, row) != null) {
+                row.setOutcome(Outcome.DUPLICATE);
+            }
+        }
+        for (Long userId : inChunks(candidates.keySet(),
+                chunk -> memberRepository.findMemberUserIds(groupId, chunk))) {
+            candidates.remove(userId).setOutcome(Outcome.ALREADY_MEMBER);
+        }
+
+        // A concurrent add of one of these users fails the whole import on the unique key
+        List<MemberImport.Row> added = new ArrayList<>(candidates.values());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_MEMBER, added, INSERT_BATCH_SIZE, (statement, row) -> {
+            statement.setLong(1, groupId);
+            statement.setLong(2, row.getUserId());
+            statement.setString(3, row.getRole());
+            statement.setString(4, status.name());
+            statement.setTimestamp(5, now);
+            statement.setTimestamp(6, now);
+        });
+        for (MemberImport.Row row : added) {
+            row.setOutcome(Outcome.ADDED);
+        }
+        if (!added.isEmpty() && status == MembershipStatus.ACTIVE) {
+            recipeGroupRepository.adjustMemberCount(groupId, added.size());
+            groupDirectoryService.recordActivity(groupId, now.toLocalDateTime(), added.size());
+        }
+        AfterCommit.run(() -> {
+            for (MemberImport.Row row : added) {
+                membershipIndex.put(groupId, row.getUserId(), MemberRole.valueOf(row.getRole()), status);
+            }
+        });
+        return new MemberImport(rows);
     }
 
     // Get group members
@@ -123,24 +308,68 @@ public class RecipeGroupService {
     }
 
     // Update member role
+    @Transactional
     public RecipeGroupMember updateMemberRole(Long groupId, Long userId, MemberRole newRole) {
         RecipeGroupMember member = memberRepository.findByGroupIdAndUserId(groupId, userId)
                 .orElseThrow(() -> new RuntimeException("Member not found"));
+        // Write the role alone so a concurrent status change is not overwritten
+        memberRepository.updateRole(groupId, userId, newRole);
         member.setRole(newRole);
-        return memberRepository.save(member);
+        AfterCommit.run(() -> membershipIndex.setRole(groupId, userId, newRole));
+        return member;
     }
 
     // Update member status
+    @Transactional
     public RecipeGroupMember updateMemberStatus(Long groupId, Long userId, MembershipStatus newStatus) {
-        RecipeGroupMember member = memberRepository.findByGroupIdAndUserId(groupId, userId)
+        RecipeGroupMember current;
+        LocalDateTime joinedDate;
+        // Retried only while another change to this membership slips in between
+        while (true) {
+            current = memberRepository.findByGroupIdAndUserId(groupId, userId)
+                    .orElseThrow(() -> new RuntimeException("Member not found"));
+            if (current.getStatus() == newStatus) {
+                return current;
+            }
+            // An approved request counts as joining now
+            if (current.getStatus() == MembershipStatus.PENDING && newStatus == MembershipStatus.ACTIVE) {
+                joinedDate = LocalDateTime.now();
+                if (memberRepository.approve(groupId, userId, joinedDate, MembershipStatus.PENDING,
+                        MembershipStatus.ACTIVE) == 1) {
+                    break;
+                }
+            } else {
+                joinedDate = current.getJoinedDate();
+                if (memberRepository.updateStatus(groupId, userId, current.getStatus(), newStatus) == 1) {
+                    break;
+                }
+            }
+        }
+
+        MembershipStatus oldStatus = current.getStatus();
+        adjustMemberCount(groupId, oldStatus, -1);
+        adjustMemberCount(groupId, newStatus, 1);
+        adjustActivity(groupId, oldStatus, joinedDate, -1);
+        adjustActivity(groupId, newStatus, joinedDate, 1);
+        AfterCommit.run(() -> membershipIndex.setStatus(groupId, userId, newStatus));
+        return memberRepository.findByGroupIdAndUserId(groupId, userId)
                 .orElseThrow(() -> new RuntimeException("Member not found"));
-        member.setStatus(newStatus);
-        return memberRepository.save(member);
     }
 
     // Remove a member from a group
+    @Transactional
     public void removeMember(Long groupId, Long userId) {
-        memberRepository.deleteByGroupIdAndUserId(groupId, userId);
+        RecipeGroupMember member;
+        do {
+            member = memberRepository.findByGroupIdAndUserId(groupId, userId).orElse(null);
+            if (member == null) {
+                return;
+            }
+        } while (memberRepository.deleteByGroupIdAndUserIdAndStatus(groupId, userId, member.getStatus()) == 0);
+
+        adjustMemberCount(groupId, member.getStatus(), -1);
+        adjustActivity(groupId, member.getStatus(), member.getJoinedDate(), -1);
+        AfterCommit.run(() -> membershipIndex.remove(groupId, userId));
     }
 
     // Get groups a user is a member of
@@ -150,17 +379,64 @@ public class RecipeGroupService {
 
     // Check if a user is a member of a group
     public boolean isUserMember(Long groupId, Long userId) {
-        return memberRepository.existsByGroupIdAndUserId(groupId, userId);
+        return membershipIndex.isMember(groupId, userId);
     }
 
     // Check if a user is an admin of a group
     public boolean isUserAdmin(Long groupId, Long userId) {
-        Optional<RecipeGroupMember> member = memberRepository.findByGroupIdAndUserId(groupId, userId);
-        return member.isPresent() && member.get().getRole() == MemberRole.ADMIN;
+        return membershipIndex.hasRole(groupId, userId, MemberRole.ADMIN);
     }
 
-    // Count members in a group
+    // Count active members in a group
     public long countGroupMembers(Long groupId) {
-        return memberRepository.countByGroupIdAndStatus(groupId, MembershipStatus.ACTIVE);
+        return recipeGroupRepository.findMemberCount(groupId).orElse(0L);
+    }
+
+    // Role named on an import row, the default if none, or null if it is not a role
+    private static MemberRole parseRole(String role, MemberRole defaultRole) {
+        if (role == null || role.isBlank()) {
+            return defaultRole;
+        }
+        try {
+            return MemberRole.valueOf(role.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // The user ID an import row names, or null if it names a username or email
+    private static Long parseId(String user) {
+        if (!user.chars().allMatch(Character::isDigit)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(user);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // Run an IN-list query over a large set of values, a chunk at a time
+    private static <T, R> List<R> inChunks(Collection<T> values, Function<List<T>, List<R>> query) {
+        List<T> all = new ArrayList<>(values);
+        List<R> results = new ArrayList<>();
+        for (int from = 0; from < all.size(); from += LOOKUP_CHUNK_SIZE) {
+            results.addAll(query.apply(all.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, all.size()))));
+        }
+        return results;
+    }
+
+    // Only ACTIVE memberships are counted
+    private void adjustMemberCount(Long groupId, MembershipStatus status, long delta) {
+        if (status == MembershipStatus.ACTIVE) {
+            recipeGroupRepository.adjustMemberCount(groupId, delta);
+        }
+    }
+
+    // Only ACTIVE memberships count as joins, and only while their join is under a week old
+    private void adjustActivity(Long groupId, MembershipStatus status, LocalDateTime joinedDate, long delta) {
+        if (status == MembershipStatus.ACTIVE) {
+            groupDirectoryService.recordActivity(groupId, joinedDate, delta);
+        }
     }
 }
@@ -15,21 +15,24 @@ public class SavedRecipeService {
     @Autowired
     private SavedRecipeRepository savedRecipeRepository;
 
+    @Autowired
+    private HotRecipeService hotRecipeService;
+
     // Save a recipe to a user's saved collection
     public SavedRecipe saveRecipe(SavedRecipe savedRecipe) {
-        return savedRecipeRepository.save(savedRecipe);
+        SavedRecipe saved = savedRecipeRepository.save(savedRecipe);
+        hotRecipeService.recordSave(saved.getPostId());
+        return saved;
     }
 
     // Save a recipe with just the user and post IDs
     public SavedRecipe saveRecipe(Long userId, Long postId) {
-        SavedRecipe savedRecipe = new SavedRecipe(userId, postId);
-        return savedRecipeRepository.save(savedRecipe);
+        return saveRecipe(new SavedRecipe(userId, postId));
     }
 
     // Save a recipe with a note
     public SavedRecipe saveRecipe(Long userId, Long postId, String note) {
-        SavedRecipe savedRecipe = new SavedRecipe(userId, postId, note);
-        return savedRecipeRepository.save(savedRecipe);
+        return saveRecipe(new SavedRecipe(userId, postId, note));
     }
 
     // Get all saved recipes for a user
@@ -59,9 +62,11 @@ public class SavedRecipeService {
         }
     } // Remove a recipe from a user's saved collection
 
+    // Returns whether there was a save to remove. Hot-recipe tracking counts save
+    // events within a window rather than current saves, so nothing is retracted there
     @Transactional
-    public void removeSavedRecipe(Long userId, Long postId) {
-        savedRecipeRepository.deleteByUserIdAndPostId(userId, postId);
+    public boolean removeSavedRecipe(Long userId, Long postId) {
+        return savedRecipeRepository.deleteByUserIdAndPostId(userId, postId) > 0;
     }
 
     // Count how many users have saved a recipe
@@ -6,20 +6,28 @@ import java.util.Optional;
 import foodieframe.recipe_sharing_platform.model.AuthResponse;
 import foodieframe.recipe_sharing_platform.security.JwtUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import foodieframe.recipe_sharing_platform.model.User;
+import foodieframe.recipe_sharing_platform.model.UserSummary;
 import foodieframe.recipe_sharing_platform.repository.UserRepository;
 
 @Service
 public class UserService {
 
+    // Largest number of results accepted by searchUsers
+    public static final int MAX_SEARCH_RESULTS = 50;
+
     @Autowired
     private UserRepository userRepository;
     
     @Autowired
     private JwtUtil jwtUtil;
     
+    @Autowired
+    private BlockList blockList;
+    
     // Create
     public User saveUser(User user) {
         return userRepository.save(user);
@@ -107,6 +115,18 @@ public class UserService {
         return userRepository.findByNameContainingIgnoreCase(name);
     }
     
+    // Search users by name or username for a viewer, leaving out users blocked either way
+    public List<UserSummary> searchUsers(String text, int limit, Long viewerId) {
+        if (limit < 1 || limit > MAX_SEARCH_RESULTS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_SEARCH_RESULTS);
+        }
+        List<User> users = userRepository.searchByNameOrUsername(text.trim(), PageRequest.of(0, limit));
+        return blockList.filter(viewerId, users, User::getId).stream()
+                .filter(user -> !user.getId().equals(viewerId))
+                .map(UserSummary::new)
+                .toList();
+    }
+    
     // Search users by username
     public List<User> searchUsersByUsername(String username) {
         return userRepository.findByUsernameContainingIgnoreCase(username);
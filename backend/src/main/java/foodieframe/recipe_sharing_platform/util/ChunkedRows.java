@@ -0,0 +1,49 @@
+package foodieframe.recipe_sharing_platform.util;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Reads a whole table in ID order, one chunk of rows at a time.
+ *
+ * Each chunk starts strictly after the last ID of the one before, so every
+ * query is a single index range scan however deep into the table it reads,
+ * and only one chunk is held in memory at once. Used to warm the in-memory
+ * indexes at startup.
+ */
+public final class ChunkedRows {
+
+    /**
+     * Query for the next chunk: rows with an ID greater than afterId, in ID
+     * order, with the ID as the first column
+     */
+    @FunctionalInterface
+    public interface ChunkQuery {
+        List<Object[]> after(long afterId, Pageable chunk);
+    }
+
+    private ChunkedRows() {
+    }
+
+    /**
+     * Passes every row to the action, chunk by chunk
+     * @return the number of rows read
+     */
+    public static long forEach(ChunkQuery query, int chunkSize, Consumer<Object[]> action) {
+        Pageable chunk = PageRequest.of(0, chunkSize);
+        long lastId = 0L;
+        long count = 0L;
+        List<Object[]> rows;
+        while (!(rows = query.after(lastId, chunk)).isEmpty()) {
+            for (Object[] row : rows) {
+                action.accept(row);
+            }
+            count += rows.size();
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+        }
+        return count;
+    }
+}
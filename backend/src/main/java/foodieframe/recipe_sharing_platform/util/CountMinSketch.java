@@ -0,0 +1,82 @@
+package foodieframe.recipe_sharing_platform.util;
+
+import java.util.Arrays;
+
+/**
+ * Count-Min Sketch over long keys.
+ *
+ * Uses a fixed depth x width table of counters, so memory does not grow with
+ * the number of distinct keys. Estimates never undercount; the overcount is
+ * bounded by e * total / width with probability 1 - e^-depth.
+ * Not thread-safe; callers synchronize.
+ */
+public class CountMinSketch {
+
+    private final int depth;
+    private final int mask;
+    private final long[] table;
+    private final long[] seeds;
+
+    /**
+     * @param depth number of hash rows
+     * @param width counters per row, rounded up to a power of two
+     */
+    public CountMinSketch(int depth, int width) {
+        this.depth = depth;
+        int size = Integer.highestOneBit(Math.max(width - 1, 1)) << 1;
+        this.mask = size - 1;
+        this.table = new long[depth * size];
+        this.seeds = new long[depth];
+        for (int i = 0; i < depth; i++) {
+            seeds[i] = mix(0x9E3779B97F4A7C15L * (i + 1));
+        }
+    }
+
+    // Increase the count of a key
+    public void add(long key, long count) {
+        int width = mask + 1;
+        for (int i = 0; i < depth; i++) {
+            table[i * width + index(key, i)] += count;
+        }
+    }
+
+    // Estimated count of a key (upper bound of the true count)
+    public long estimate(long key) {
+        int width = mask + 1;
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < depth; i++) {
+            min = Math.min(min, table[i * width + index(key, i)]);
+        }
+        return min;
+    }
+
+    // Add all counters of a sketch with the same dimensions into this one
+    public void merge(CountMinSketch other) {
+        if (other.depth != depth || other.mask != mask) {
+            throw new IllegalArgumentException("Cannot merge sketches of different dimensions");
+        }
+        for (int i = 0; i < table.length; i++) {
+            table[i] += other.table[i];
+        }
+    }
+
+    // Width of each row after rounding
+    public int width() {
+        return mask + 1;
+    }
+
+    public void clear() {
+        Arrays.fill(table, 0L);
+    }
+
+    private int index(long key, int row) {
+        return (int) (mix(key ^ seeds[row]) & mask);
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
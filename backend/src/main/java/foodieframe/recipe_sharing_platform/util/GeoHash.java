@@ -0,0 +1,105 @@
+package foodieframe.recipe_sharing_platform.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Geohash encoding and bounding-box cover.
+ *
+ * A geohash of precision p splits the world into a grid of 5p interleaved
+ * bits (longitude first), so every cell's hash is a prefix of the hashes of
+ * all points inside it. A prefix match on an indexed geohash column is
+ * therefore a single index range scan per cell.
+ */
+public final class GeoHash {
+
+    public static final int MAX_PRECISION = 12;
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private GeoHash() {
+    }
+
+    // Geohash of a point at the given precision (1..12 characters)
+    public static String encode(double latitude, double longitude, int precision) {
+        int latBits = latBits(precision);
+        int lonBits = 5 * precision - latBits;
+        return fromIndices(cellIndex(latitude + 90, 180, latBits), cellIndex(longitude + 180, 360, lonBits),
+                precision);
+    }
+
+    /**
+     * Cells covering a latitude/longitude box, at the finest precision that
+     * needs no more than maxCells of them
+     * Longitudes may run past +-180; the box then wraps around the anti-meridian.
+     */
+    public static List<String> cover(double minLat, double maxLat, double minLon, double maxLon, int maxCells) {
+        minLat = Math.max(minLat, -90);
+        maxLat = Math.min(maxLat, 90);
+        for (int precision = MAX_PRECISION; precision > 0; precision--) {
+            int latBits = latBits(precision);
+            int lonBits = 5 * precision - latBits;
+            long lonCells = 1L << lonBits;
+            long latFrom = cellIndex(minLat + 90, 180, latBits);
+            long latTo = cellIndex(maxLat + 90, 180, latBits);
+            long lonFrom = (long) Math.floor((minLon + 180) / 360 * lonCells);
+            long lonTo = (long) Math.floor((maxLon + 180) / 360 * lonCells);
+            long lonCount = Math.min(lonTo - lonFrom + 1, lonCells);
+            if ((latTo - latFrom + 1) * lonCount > maxCells && precision > 1) {
+                continue;
+            }
+
+            List<String> cells = new ArrayList<>();
+            for (long lat = latFrom; lat <= latTo; lat++) {
+                for (long i = 0; i < lonCount; i++) {
+                    cells.add(fromIndices(lat, Math.floorMod(lonFrom + i, lonCells), precision));
+                }
+            }
+            return cells;
+        }
+        throw new IllegalStateException("unreachable");
+    }
+
+    // Great-circle distance between two points (haversine)
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    // Kilometres per degree of latitude, for bounding-box sizing
+    public static double kmPerDegree() {
+        return Math.toRadians(EARTH_RADIUS_KM);
+    }
+
+    private static int latBits(int precision) {
+        return 5 * precision / 2;
+    }
+
+    private static long cellIndex(double offset, double span, int bits) {
+        long cells = 1L << bits;
+        long index = (long) Math.floor(offset / span * cells);
+        return Math.min(Math.max(index, 0), cells - 1);
+    }
+
+    // Interleave the bits of both cell indexes (longitude first) into base32 characters
+    private static String fromIndices(long latIndex, long lonIndex, int precision) {
+        int latBit = latBits(precision) - 1;
+        int lonBit = 5 * precision - latBits(precision) - 1;
+        char[] hash = new char[precision];
+        for (int c = 0; c < precision; c++) {
+            int value = 0;
+            for (int b = 0; b < 5; b++) {
+                long bit = (c * 5 + b) % 2 == 0 ? (lonIndex >> lonBit--) & 1 : (latIndex >> latBit--) & 1;
+                value = (value << 1) | (int) bit;
+            }
+            hash[c] = BASE32[value];
+        }
+        return new String(hash);
+    }
+}
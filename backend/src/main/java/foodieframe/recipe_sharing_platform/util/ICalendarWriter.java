@@ -0,0 +1,112 @@
+package foodieframe.recipe_sharing_platform.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Minimal streaming writer for RFC 5545 iCalendar documents.
+ *
+ * Lines end in CRLF, text values are escaped, and lines longer than 75 octets
+ * are folded. Nothing is buffered beyond the underlying BufferedWriter, so a
+ * calendar of any size is written in constant memory.
+ */
+public class ICalendarWriter implements AutoCloseable {
+
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private static final DateTimeFormatter UTC_DATE_TIME =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+    private final Writer out;
+
+    public ICalendarWriter(OutputStream stream) {
+        this.out = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8));
+    }
+
+    public ICalendarWriter begin(String component) throws IOException {
+        return line("BEGIN:" + component);
+    }
+
+    public ICalendarWriter end(String component) throws IOException {
+        return line("END:" + component);
+    }
+
+    // Property whose value is written verbatim (already in iCalendar syntax)
+    public ICalendarWriter raw(String name, String value) throws IOException {
+        return line(name + ":" + value);
+    }
+
+    // TEXT property; skipped when the value is null
+    public ICalendarWriter text(String name, String value) throws IOException {
+        if (value == null) {
+            return this;
+        }
+        return line(name + ":" + escape(value));
+    }
+
+    // DATE-TIME property in UTC; skipped when the value is null
+    public ICalendarWriter dateTime(String name, Instant value) throws IOException {
+        if (value == null) {
+            return this;
+        }
+        return line(name + ":" + UTC_DATE_TIME.format(value));
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.flush();
+    }
+
+    // Write one content line, folding it with CRLF + space every 75 octets
+    private ICalendarWriter line(String content) throws IOException {
+        int octets = 0;
+        for (int i = 0; i < content.length(); ) {
+            int codePoint = content.codePointAt(i);
+            int size = utf8Length(codePoint);
+            if (octets + size > MAX_LINE_OCTETS) {
+                out.write("\r\n ");
+                octets = 1;
+            }
+            out.write(content, i, Character.charCount(codePoint));
+            octets += size;
+            i += Character.charCount(codePoint);
+        }
+        out.write("\r\n");
+        return this;
+    }
+
+    private static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\', ';', ',' -> escaped.append('\\').append(c);
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> { }
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static int utf8Length(int codePoint) {
+        if (codePoint < 0x80) {
+            return 1;
+        }
+        if (codePoint < 0x800) {
+            return 2;
+        }
+        return codePoint < 0x10000 ? 3 : 4;
+    }
+}
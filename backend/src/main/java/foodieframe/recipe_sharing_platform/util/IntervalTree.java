@@ -0,0 +1,189 @@
+package foodieframe.recipe_sharing_platform.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Interval tree over half-open [start, end) ranges, each identified by a long ID.
+ *
+ * An AVL tree ordered by (start, id) in which every node also keeps the largest
+ * end in its subtree. Subtrees that end before a query begins, or start after
+ * it ends, are skipped. A subtree can still be entered for the sake of one long
+ * interval deep inside it, so finding the k intervals that overlap a range costs
+ * O(min(n, k log n)) rather than O(log n + k). Inserts and removals are O(log n).
+ *
+ * Not thread-safe; callers guard it.
+ */
+public class IntervalTree {
+
+    private Node root;
+    private int size;
+
+    /**
+     * Adds an interval
+     * @param id identifier, unique together with start
+     * @param start inclusive start
+     * @param end exclusive end, greater than start
+     */
+    public void add(long id, long start, long end) {
+        if (end <= start) {
+            throw new IllegalArgumentException("Interval must end after it starts");
+        }
+        root = insert(root, new Node(id, start, end));
+        size++;
+    }
+
+    // Removes the interval added with this ID and start; false if there is none
+    public boolean remove(long id, long start) {
+        int before = size;
+        root = delete(root, id, start);
+        return size < before;
+    }
+
+    // IDs of the intervals overlapping [from, to), by start then ID
+    public List<Long> overlapping(long from, long to) {
+        List<Long> ids = new ArrayList<>();
+        collect(root, from, to, ids);
+        return ids;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static void collect(Node node, long from, long to, List<Long> ids) {
+        // Nothing in this subtree ends after the range starts
+        if (node == null || node.maxEnd <= from) {
+            return;
+        }
+        collect(node.left, from, to, ids);
+        // This node and everything to its right start at or after the range ends
+        if (node.start >= to) {
+            return;
+        }
+        if (node.end > from) {
+            ids.add(node.id);
+        }
+        collect(node.right, from, to, ids);
+    }
+
+    private Node insert(Node node, Node added) {
+        if (node == null) {
+            return added;
+        }
+        if (compare(added.start, added.id, node) < 0) {
+            node.left = insert(node.left, added);
+        } else {
+            node.right = insert(node.right, added);
+        }
+        return rebalance(node);
+    }
+
+    private Node delete(Node node, long id, long start) {
+        if (node == null) {
+            return null;
+        }
+        int order = compare(start, id, node);
+        if (order < 0) {
+            node.left = delete(node.left, id, start);
+        } else if (order > 0) {
+            node.right = delete(node.right, id, start);
+        } else {
+            size--;
+            if (node.left == null || node.right == null) {
+                return node.left != null ? node.left : node.right;
+            }
+            // Replace with the in-order successor
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = deleteMin(node.right);
+            successor.left = node.left;
+            node = successor;
+        }
+        return rebalance(node);
+    }
+
+    private Node deleteMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteMin(node.left);
+        return rebalance(node);
+    }
+
+    private static int compare(long start, long id, Node node) {
+        int order = Long.compare(start, node.start);
+        return order != 0 ? order : Long.compare(id, node.id);
+    }
+
+    private static Node rebalance(Node node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        long maxEnd = node.end;
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static final class Node {
+        private final long id;
+        private final long start;
+        private final long end;
+        private long maxEnd;
+        private int height = 1;
+        private Node left;
+        private Node right;
+
+        Node(long id, long start, long end) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.maxEnd = end;
+        }
+    }
+}
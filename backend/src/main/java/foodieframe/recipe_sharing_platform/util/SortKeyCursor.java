@@ -0,0 +1,61 @@
+package foodieframe.recipe_sharing_platform.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque cursor for keyset pagination over rows ordered by (key, id) for one of
+ * several sort orders.
+ *
+ * Records the sort order it was issued for and the key and ID of the last row
+ * already returned, as URL-safe text; the next page starts strictly after that
+ * position and only in the same order.
+ */
+public final class SortKeyCursor {
+
+    private final String sort;
+    private final String key;
+    private final long id;
+
+    public SortKeyCursor(String sort, String key, long id) {
+        this.sort = sort;
+        this.key = key;
+        this.id = id;
+    }
+
+    public String getSort() {
+        return sort;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String encode() {
+        String raw = sort + "|" + key + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the text is not a cursor produced by encode()
+     */
+    public static SortKeyCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            // The key may itself contain the separator, so split on the first and last one
+            int first = raw.indexOf('|');
+            int last = raw.lastIndexOf('|');
+            if (first < 0 || first == last) {
+                throw new IllegalArgumentException("Missing separator");
+            }
+            return new SortKeyCursor(raw.substring(0, first), raw.substring(first + 1, last),
+                    Long.parseLong(raw.substring(last + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
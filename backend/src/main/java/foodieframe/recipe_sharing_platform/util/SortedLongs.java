@@ -0,0 +1,121 @@
+package foodieframe.recipe_sharing_platform.util;
+
+import java.util.Arrays;
+
+/**
+ * Set operations on ascending, duplicate-free long arrays.
+ *
+ * Updates return a new array and never modify their argument, so arrays can be
+ * shared with readers and swapped in copy-on-write.
+ *
+ * Two lists of similar length are intersected with a linear merge. When one is
+ * much shorter, each of its values is found in the longer one by galloping:
+ * doubling steps from the last match, then a binary search within the last
+ * step. That costs O(m log(n/m)) rather than O(m + n), so a user with a few
+ * friends is compared with one who has thousands in a few dozen steps.
+ */
+public final class SortedLongs {
+
+    // Gallop once the longer array is this many times the length of the shorter
+    private static final int GALLOP_RATIO = 32;
+
+    private SortedLongs() {
+    }
+
+    public static boolean contains(long[] sorted, long value) {
+        return Arrays.binarySearch(sorted, value) >= 0;
+    }
+
+    // Copy with value added, or the same array if already present
+    public static long[] insert(long[] sorted, long value) {
+        int position = Arrays.binarySearch(sorted, value);
+        if (position >= 0) {
+            return sorted;
+        }
+        int insertAt = -position - 1;
+        long[] updated = new long[sorted.length + 1];
+        System.arraycopy(sorted, 0, updated, 0, insertAt);
+        updated[insertAt] = value;
+        System.arraycopy(sorted, insertAt, updated, insertAt + 1, sorted.length - insertAt);
+        return updated;
+    }
+
+    // Copy with value removed, or the same array if absent
+    public static long[] remove(long[] sorted, long value) {
+        int position = Arrays.binarySearch(sorted, value);
+        if (position < 0) {
+            return sorted;
+        }
+        long[] updated = new long[sorted.length - 1];
+        System.arraycopy(sorted, 0, updated, 0, position);
+        System.arraycopy(sorted, position + 1, updated, position, sorted.length - position - 1);
+        return updated;
+    }
+
+    // Sorts values in place and returns them without repeats (a prefix copy if any were dropped)
+    public static long[] sortDistinct(long[] values) {
+        Arrays.sort(values);
+        int unique = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (i == 0 || values[i] != values[i - 1]) {
+                values[unique++] = values[i];
+            }
+        }
+        return unique == values.length ? values : Arrays.copyOf(values, unique);
+    }
+
+    // Values present in both arrays, ascending
+    public static long[] intersect(long[] a, long[] b) {
+        long[] small = a.length <= b.length ? a : b;
+        long[] large = small == a ? b : a;
+        if (small.length == 0) {
+            return small;
+        }
+        long[] out = new long[small.length];
+        int size = (long) small.length * GALLOP_RATIO < large.length
+                ? gallop(small, large, out)
+                : merge(small, large, out);
+        return size == out.length ? out : Arrays.copyOf(out, size);
+    }
+
+    private static int merge(long[] a, long[] b, long[] out) {
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[size++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return size;
+    }
+
+    private static int gallop(long[] small, long[] large, long[] out) {
+        int low = 0;
+        int size = 0;
+        for (long value : small) {
+            // Double the step until it passes value, then search inside the last step
+            int step = 1;
+            while (low + step < large.length && large[low + step] < value) {
+                step <<= 1;
+            }
+            int found = Arrays.binarySearch(large, low + (step >> 1), Math.min(low + step + 1, large.length), value);
+            if (found >= 0) {
+                out[size++] = value;
+                low = found + 1;
+            } else {
+                low = -found - 1;
+            }
+            if (low >= large.length) {
+                break;
+            }
+        }
+        return size;
+    }
+}
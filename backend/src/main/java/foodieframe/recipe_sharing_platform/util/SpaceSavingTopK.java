@@ -0,0 +1,119 @@
+package foodieframe.recipe_sharing_platform.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Space-Saving heavy-hitter summary holding at most {@code capacity} keys.
+ *
+ * Monitored keys live in an indexed min-heap ordered by count. When a new key
+ * arrives and the summary is full, it replaces the current minimum and
+ * inherits its count as the error bound. Every key whose true frequency
+ * exceeds total / capacity is guaranteed to be monitored.
+ * Not thread-safe; callers synchronize.
+ */
+public class SpaceSavingTopK {
+
+    private final int capacity;
+    private final long[] keys;
+    private final long[] counts;
+    private final long[] errors;
+    private final Map<Long, Integer> positions;
+    private int size;
+
+    public SpaceSavingTopK(int capacity) {
+        this.capacity = capacity;
+        this.keys = new long[capacity];
+        this.counts = new long[capacity];
+        this.errors = new long[capacity];
+        this.positions = new HashMap<>(capacity * 2);
+    }
+
+    // Record occurrences of a key
+    public void offer(long key, long count) {
+        Integer position = positions.get(key);
+        if (position != null) {
+            counts[position] += count;
+            siftDown(position);
+            return;
+        }
+
+        if (size < capacity) {
+            keys[size] = key;
+            counts[size] = count;
+            errors[size] = 0;
+            positions.put(key, size);
+            siftUp(size++);
+            return;
+        }
+
+        // Evict the minimum and let the new key inherit its count
+        positions.remove(keys[0]);
+        errors[0] = counts[0];
+        counts[0] += count;
+        keys[0] = key;
+        positions.put(key, 0);
+        siftDown(0);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long keyAt(int i) {
+        return keys[i];
+    }
+
+    public long countAt(int i) {
+        return counts[i];
+    }
+
+    public long errorAt(int i) {
+        return errors[i];
+    }
+
+    public void clear() {
+        positions.clear();
+        size = 0;
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (counts[parent] <= counts[i]) {
+                break;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) {
+                break;
+            }
+            int smallest = left + 1 < size && counts[left + 1] < counts[left] ? left + 1 : left;
+            if (counts[i] <= counts[smallest]) {
+                break;
+            }
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        long key = keys[a];
+        long count = counts[a];
+        long error = errors[a];
+        keys[a] = keys[b];
+        counts[a] = counts[b];
+        errors[a] = errors[b];
+        keys[b] = key;
+        counts[b] = count;
+        errors[b] = error;
+        positions.put(keys[a], a);
+        positions.put(keys[b], b);
+    }
+}
@@ -0,0 +1,190 @@
+package foodieframe.recipe_sharing_platform.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel for large numbers of far-apart timeouts.
+ *
+ * Time is cut into ticks. Level 0 has one slot per tick for the next 64 ticks,
+ * level 1 one slot per 64 ticks for the next 64^2, and so on for six levels.
+ * A timeout sits in a doubly linked slot list, so scheduling and cancelling
+ * are O(1). Each tick fires one level-0 slot; whenever a coarser slot's span
+ * begins, its timeouts cascade one level down. Work per tick is therefore
+ * proportional to the timeouts due (plus amortized cascading), not to the
+ * number scheduled. Timeouts beyond the last level's horizon are parked in it
+ * and re-placed each time their slot comes round.
+ *
+ * Not driven by its own thread: the owner calls advance() with the current time
+ * and acts on what comes back. All methods are synchronized.
+ */
+public class TimingWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 6;
+
+    private final long tickMillis;
+    private final long originMillis;
+    private final int levels;
+    // Ticks covered by all levels together
+    private final long horizon;
+    private final Timeout<T>[][] slots;
+
+    private long currentTick;
+    private int size;
+
+    public TimingWheel(long tickMillis, long originMillis) {
+        this(tickMillis, originMillis, LEVELS);
+    }
+
+    // Fewer levels bring the horizon within reach of tests
+    @SuppressWarnings("unchecked")
+    TimingWheel(long tickMillis, long originMillis, int levels) {
+        if (tickMillis < 1) {
+            throw new IllegalArgumentException("Tick must be at least 1 ms");
+        }
+        if (levels < 1 || levels > LEVELS) {
+            throw new IllegalArgumentException("Levels must be between 1 and " + LEVELS);
+        }
+        this.tickMillis = tickMillis;
+        this.originMillis = originMillis;
+        this.levels = levels;
+        this.horizon = 1L << (SLOT_BITS * levels);
+        this.slots = (Timeout<T>[][]) new Timeout<?>[levels][SLOTS];
+    }
+
+    /**
+     * Schedules a payload; it is returned by the first advance() at or after dueMillis
+     * (never earlier, at most one tick later). Due times already past fire on the next tick.
+     */
+    public synchronized Timeout<T> schedule(long dueMillis, T payload) {
+        Timeout<T> timeout = new Timeout<>(Math.max(toTickCeil(dueMillis), currentTick + 1), payload);
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    // Removes a pending timeout; false if it already fired or was cancelled
+    public synchronized boolean cancel(Timeout<T> timeout) {
+        if (timeout.level < 0) {
+            return false;
+        }
+        unlink(timeout);
+        size--;
+        return true;
+    }
+
+    // Moves time forward to nowMillis and returns the payloads that became due, tick by tick
+    public synchronized List<T> advance(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis - originMillis, tickMillis);
+        List<T> due = new ArrayList<>();
+        while (currentTick < targetTick) {
+            if (size == 0) {
+                // Nothing to cascade or fire; jump straight there
+                currentTick = targetTick;
+                break;
+            }
+            currentTick++;
+            // Cascade every level whose slot span starts at this tick, coarsest first
+            int top = 0;
+            while (top < levels - 1 && (currentTick & ((1L << (SLOT_BITS * (top + 1))) - 1)) == 0) {
+                top++;
+            }
+            for (int level = top; level > 0; level--) {
+                for (Timeout<T> timeout : drain(level, slotIndex(currentTick, level))) {
+                    place(timeout);
+                }
+            }
+            for (Timeout<T> timeout : drain(0, slotIndex(currentTick, 0))) {
+                due.add(timeout.payload);
+                size--;
+            }
+        }
+        return due;
+    }
+
+    // Number of pending timeouts
+    public synchronized int size() {
+        return size;
+    }
+
+    // Put a timeout in the slot of the coarsest level it needs (must not already be linked)
+    private void place(Timeout<T> timeout) {
+        long delta = Math.min(timeout.deadline - currentTick, horizon - 1);
+        int level = 0;
+        while (level < levels - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        int index = slotIndex(currentTick + delta, level);
+        Timeout<T> head = slots[level][index];
+        timeout.level = level;
+        timeout.index = index;
+        timeout.prev = null;
+        timeout.next = head;
+        if (head != null) {
+            head.prev = timeout;
+        }
+        slots[level][index] = timeout;
+    }
+
+    private void unlink(Timeout<T> timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            slots[timeout.level][timeout.index] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.level = -1;
+    }
+
+    // Empty one slot, returning its timeouts unlinked
+    private List<Timeout<T>> drain(int level, int index) {
+        List<Timeout<T>> drained = new ArrayList<>();
+        for (Timeout<T> timeout = slots[level][index]; timeout != null; ) {
+            Timeout<T> next = timeout.next;
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.level = -1;
+            drained.add(timeout);
+            timeout = next;
+        }
+        slots[level][index] = null;
+        return drained;
+    }
+
+    private static int slotIndex(long tick, int level) {
+        return (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+    }
+
+    private long toTickCeil(long millis) {
+        return -Math.floorDiv(originMillis - millis, tickMillis);
+    }
+
+    /**
+     * Handle of a scheduled payload, used to cancel it
+     */
+    public static final class Timeout<T> {
+        private final long deadline;
+        private final T payload;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+        // Level of the slot holding this timeout; -1 once fired or cancelled
+        private int level = -1;
+        private int index;
+
+        private Timeout(long deadline, T payload) {
+            this.deadline = deadline;
+            this.payload = payload;
+        }
+
+        public T getPayload() {
+            return payload;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package foodieframe.recipe_sharing_platform.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Undirected graph over long IDs with each node's neighbours in a sorted long[].
+ *
+ * A neighbour array is replaced, never modified, when an edge changes, so
+ * readers need no locks and never see a half-applied update. Edges change far
+ * less often than they are read, which makes the copying cheap. Nodes without
+ * edges take no space.
+ *
+ * shortestPath() is a bidirectional breadth-first search: it grows whichever
+ * side is cheaper to expand next, so two searches of radius d/2 replace one of
+ * radius d, and it gives up after a fixed number of neighbours looked at.
+ */
+public class UndirectedGraph {
+
+    private static final long[] NONE = new long[0];
+
+    private final Map<Long, long[]> adjacency = new ConcurrentHashMap<>();
+
+    /**
+     * Neighbours of a node in ascending order
+     * The array is shared and must not be modified.
+     */
+    public long[] neighbours(long node) {
+        return adjacency.getOrDefault(node, NONE);
+    }
+
+    // Whether two nodes share an edge; binary search in the smaller neighbour list
+    public boolean connected(long node1, long node2) {
+        long[] neighbours1 = neighbours(node1);
+        long[] neighbours2 = neighbours(node2);
+        return neighbours1.length <= neighbours2.length
+                ? SortedLongs.contains(neighbours1, node2)
+                : SortedLongs.contains(neighbours2, node1);
+    }
+
+    public void link(long node1, long node2) {
+        adjacency.compute(node1, (id, current) -> SortedLongs.insert(current == null ? NONE : current, node2));
+        adjacency.compute(node2, (id, current) -> SortedLongs.insert(current == null ? NONE : current, node1));
+    }
+
+    public void unlink(long node1, long node2) {
+        adjacency.computeIfPresent(node1, (id, current) -> emptyToNull(SortedLongs.remove(current, node2)));
+        adjacency.computeIfPresent(node2, (id, current) -> emptyToNull(SortedLongs.remove(current, node1)));
+    }
+
+    // Number of nodes with at least one edge
+    public int nodeCount() {
+        return adjacency.size();
+    }
+
+    /**
+     * Shortest path between two nodes, searching from both ends
+     * @param maxLength longest path (in edges) worth finding
+     * @param maxScanned most neighbour entries to look at before giving up
+     * @return the path, or no path with exhausted set if the budget ran out first
+     */
+    public PathResult shortestPath(long from, long to, int maxLength, int maxScanned) {
+        if (from == to) {
+            return new PathResult(new long[] { from }, false);
+        }
+        // Parent of every node reached from each end (null for the end itself) and its depth
+        Map<Long, Long> parentsFrom = new HashMap<>();
+        Map<Long, Long> parentsTo = new HashMap<>();
+        Map<Long, Integer> depthsFrom = new HashMap<>();
+        Map<Long, Integer> depthsTo = new HashMap<>();
+        parentsFrom.put(from, null);
+        parentsTo.put(to, null);
+        depthsFrom.put(from, 0);
+        depthsTo.put(to, 0);
+        List<Long> frontierFrom = List.of(from);
+        List<Long> frontierTo = List.of(to);
+        int depthFrom = 0;
+        int depthTo = 0;
+        int scanned = 0;
+
+        while (depthFrom + depthTo < maxLength && !frontierFrom.isEmpty() && !frontierTo.isEmpty()) {
+            // Expand the side whose next level has fewer neighbours to look at
+            boolean forward = cost(frontierFrom) <= cost(frontierTo);
+            List<Long> frontier = forward ? frontierFrom : frontierTo;
+            Map<Long, Long> parents = forward ? parentsFrom : parentsTo;
+            Map<Long, Integer> depths = forward ? depthsFrom : depthsTo;
+            Map<Long, Integer> otherDepths = forward ? depthsTo : depthsFrom;
+            int depth = (forward ? depthFrom : depthTo) + 1;
+
+            // Finish the whole level and keep the best meeting, so the path is a shortest one
+            List<Long> next = new ArrayList<>();
+            Long meeting = null;
+            int best = Integer.MAX_VALUE;
+            for (long node : frontier) {
+                for (long neighbour : neighbours(node)) {
+                    if (++scanned > maxScanned) {
+                        return new PathResult(null, true);
+                    }
+                    if (parents.containsKey(neighbour)) {
+                        continue;
+                    }
+                    parents.put(neighbour, node);
+                    depths.put(neighbour, depth);
+                    next.add(neighbour);
+                    Integer otherDepth = otherDepths.get(neighbour);
+                    if (otherDepth != null && depth + otherDepth < best) {
+                        best = depth + otherDepth;
+                        meeting = neighbour;
+                    }
+                }
+            }
+            // Both sides stopped short of each other before, so this is within maxLength
+            if (meeting != null) {
+                return new PathResult(join(meeting, parentsFrom, parentsTo), false);
+            }
+            if (forward) {
+                frontierFrom = next;
+                depthFrom = depth;
+            } else {
+                frontierTo = next;
+                depthTo = depth;
+            }
+        }
+        return new PathResult(null, false);
+    }
+
+    private long cost(List<Long> frontier) {
+        long cost = 0;
+        for (long node : frontier) {
+            cost += neighbours(node).length;
+        }
+        return cost;
+    }
+
+    // Walk back from the meeting node to each end
+    private static long[] join(Long meeting, Map<Long, Long> parentsFrom, Map<Long, Long> parentsTo) {
+        List<Long> path = new ArrayList<>();
+        for (Long node = meeting; node != null; node = parentsFrom.get(node)) {
+            path.add(node);
+        }
+        Collections.reverse(path);
+        for (Long node = parentsTo.get(meeting); node != null; node = parentsTo.get(node)) {
+            path.add(node);
+        }
+        return path.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    // Adds every edge collected by a builder in one pass, without copying per edge
+    public void addAll(Builder builder) {
+        builder.neighbours.forEach((node, collected) -> {
+            long[] added = Arrays.copyOf(collected, builder.sizes.get(node));
+            adjacency.merge(node, SortedLongs.sortDistinct(added), UndirectedGraph::union);
+        });
+    }
+
+    private static long[] union(long[] a, long[] b) {
+        long[] both = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, both, a.length, b.length);
+        return SortedLongs.sortDistinct(both);
+    }
+
+    private static long[] emptyToNull(long[] neighbours) {
+        return neighbours.length == 0 ? null : neighbours;
+    }
+
+    /**
+     * Outcome of shortestPath(): the nodes from start to end, or null if none was found
+     */
+    public static final class PathResult {
+        private final long[] path;
+        private final boolean exhausted;
+
+        PathResult(long[] path, boolean exhausted) {
+            this.path = path;
+            this.exhausted = exhausted;
+        }
+
+        public long[] getPath() {
+            return path;
+        }
+
+        // True if the search stopped at its budget, so a longer-range path may still exist
+        public boolean isExhausted() {
+            return exhausted;
+        }
+    }
+
+    /**
+     * Collects edges unsorted so that bulk loading is not quadratic in degree
+     */
+    public static final class Builder {
+        private final Map<Long, long[]> neighbours = new HashMap<>();
+        private final Map<Long, Integer> sizes = new HashMap<>();
+        private int edges;
+
+        public void addEdge(long node1, long node2) {
+            append(node1, node2);
+            append(node2, node1);
+            edges++;
+        }
+
+        public int edgeCount() {
+            return edges;
+        }
+
+        private void append(long node, long neighbour) {
+            int size = sizes.getOrDefault(node, 0);
+            long[] collected = neighbours.get(node);
+            if (collected == null) {
+                collected = new long[4];
+            } else if (size == collected.length) {
+                collected = Arrays.copyOf(collected, size * 2);
+            }
+            collected[size] = neighbour;
+            neighbours.put(node, collected);
+            sizes.put(node, size + 1);
+        }
+    }
+}
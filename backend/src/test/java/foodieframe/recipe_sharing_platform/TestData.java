@@ -0,0 +1,70 @@
+package foodieframe.recipe_sharing_platform;
+
+import foodieframe.recipe_sharing_platform.model.Post;
+import foodieframe.recipe_sharing_platform.model.RecipeGroup;
+import foodieframe.recipe_sharing_platform.model.RecipeGroup.GroupPrivacy;
+import foodieframe.recipe_sharing_platform.model.User;
+import foodieframe.recipe_sharing_platform.repository.PostRepository;
+import foodieframe.recipe_sharing_platform.repository.UserRepository;
+import foodieframe.recipe_sharing_platform.service.RecipeGroupService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Saves users, groups and posts for integration tests.
+ *
+ * Names are random, so tests sharing the application context and its database
+ * never collide.
+ */
+@Component
+public class TestData {
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private PostRepository postRepository;
+
+	@Autowired
+	private RecipeGroupService groupService;
+
+	public User saveUser() {
+		return saveUser("Test User");
+	}
+
+	public User saveUser(String name) {
+		String username = "user-" + UUID.randomUUID();
+		return userRepository.save(new User(username, username + "@example.com", "secret1", name, ""));
+	}
+
+	public Long newUser() {
+		return saveUser().getId();
+	}
+
+	public Long newUser(String name) {
+		return saveUser(name).getId();
+	}
+
+	public Long newGroup(Long creatorId) {
+		return newGroup(creatorId, GroupPrivacy.PUBLIC);
+	}
+
+	public Long newGroup(Long creatorId, GroupPrivacy privacy) {
+		RecipeGroup group = new RecipeGroup("g-" + UUID.randomUUID().toString().substring(0, 8), "Test group",
+				creatorId);
+		group.setPrivacy(privacy);
+		return groupService.createGroup(group).getId();
+	}
+
+	public Long newPost(Long userId) {
+		Post post = new Post();
+		post.setUserID(userId);
+		post.setTitle("Weeknight curry");
+		post.setDescription("A quick curry for busy evenings");
+		post.setCategory("Dinner");
+		post.setSteps("Fry the onions, add the spices, simmer");
+		return postRepository.save(post).getId();
+	}
+}
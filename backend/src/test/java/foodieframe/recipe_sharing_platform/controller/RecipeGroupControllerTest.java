@@ -0,0 +1,65 @@
+package foodieframe.recipe_sharing_platform.controller;
+
+import foodieframe.recipe_sharing_platform.TestData;
+import foodieframe.recipe_sharing_platform.model.MemberImport;
+import foodieframe.recipe_sharing_platform.model.MemberImport.Outcome;
+import foodieframe.recipe_sharing_platform.model.RecipeGroupMember.MemberRole;
+import foodieframe.recipe_sharing_platform.model.RecipeGroupMember.MembershipStatus;
+import foodieframe.recipe_sharing_platform.model.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class RecipeGroupControllerTest {
+
+	@Autowired
+	private TestData data;
+
+	@Autowired
+	private RecipeGroupController controller;
+
+	private ResponseEntity<MemberImport> importCsv(Long groupId, Long adminId, String body) {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setContentType("text/csv");
+		request.setContent(body.getBytes(StandardCharsets.UTF_8));
+		return controller.importMembersCsv(groupId, adminId, MemberRole.MEMBER, MembershipStatus.ACTIVE, request);
+	}
+
+	@Test
+	void csvHeaderAfterBlankLinesIsSkipped() {
+		User admin = data.saveUser();
+		Long groupId = data.newGroup(admin.getId());
+		User member = data.saveUser();
+
+		ResponseEntity<MemberImport> response = importCsv(groupId, admin.getId(),
+				"\n  \nusername,role\n" + member.getUsername() + ",moderator\n");
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody().getRows()).hasSize(1);
+		MemberImport.Row row = response.getBody().getRows().get(0);
+		assertThat(row.getLine()).isEqualTo(4);
+		assertThat(row.getOutcome()).isEqualTo(Outcome.ADDED);
+		assertThat(response.getBody().getFailed()).isZero();
+	}
+
+	@Test
+	void onlyFirstLineCanBeHeader() {
+		User admin = data.saveUser();
+		Long groupId = data.newGroup(admin.getId());
+		User member = data.saveUser();
+
+		ResponseEntity<MemberImport> response = importCsv(groupId, admin.getId(),
+				member.getUsername() + "\nemail\n");
+
+		assertThat(response.getBody().getRows()).extracting(MemberImport.Row::getOutcome)
+				.containsExactly(Outcome.ADDED, Outcome.USER_NOT_FOUND);
+	}
+}
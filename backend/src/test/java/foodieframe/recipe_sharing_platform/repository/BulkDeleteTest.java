@@ -0,0 +1,128 @@
+package foodieframe.recipe_sharing_platform.repository;
+
+import foodieframe.recipe_sharing_platform.TestData;
+import foodieframe.recipe_sharing_platform.model.Interaction;
+import foodieframe.recipe_sharing_platform.model.Interaction.InteractionType;
+import foodieframe.recipe_sharing_platform.model.RecipeGroup;
+import foodieframe.recipe_sharing_platform.model.RecipeGroupMember;
+import foodieframe.recipe_sharing_platform.model.RecipeGroupMember.MemberRole;
+import foodieframe.recipe_sharing_platform.model.SavedRecipe;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Each delete must report the rows it removed and leave no stale entity in the session
+@SpringBootTest
+@Transactional
+class BulkDeleteTest {
+
+	@Autowired
+	private TestData data;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private InteractionRepository interactionRepository;
+
+	@Autowired
+	private SavedRecipeRepository savedRecipeRepository;
+
+	@Autowired
+	private RecipeGroupMemberRepository memberRepository;
+
+	@Autowired
+	private RecipeGroupRepository groupRepository;
+
+	private Interaction interaction(Long userId, Long recipeId, InteractionType type) {
+		Interaction interaction = new Interaction();
+		interaction.setUserId(userId);
+		interaction.setRecipeId(recipeId);
+		interaction.setInteractionType(type);
+		interaction.setCreatedAt(LocalDateTime.now());
+		interaction.setUpdatedAt(LocalDateTime.now());
+		return interactionRepository.save(interaction);
+	}
+
+	@Test
+	void deleteUserInteraction() {
+		Long user = data.newUser();
+		Long post = data.newPost(user);
+		Interaction like = interaction(user, post, InteractionType.LIKE);
+		Interaction favorite = interaction(user, post, InteractionType.FAVORITE);
+
+		assertThat(interactionRepository.deleteByUserIdAndRecipeIdAndInteractionType(user, post,
+				InteractionType.LIKE)).isEqualTo(1);
+		assertThat(entityManager.contains(favorite)).isFalse();
+		assertThat(interactionRepository.findById(like.getId())).isEmpty();
+		assertThat(interactionRepository.findById(favorite.getId())).isPresent();
+		assertThat(interactionRepository.deleteByUserIdAndRecipeIdAndInteractionType(user, post,
+				InteractionType.LIKE)).isZero();
+	}
+
+	@Test
+	void deleteRecipeInteractionsByType() {
+		Long author = data.newUser();
+		Long post = data.newPost(author);
+		Long other = data.newUser();
+		Interaction first = interaction(author, post, InteractionType.LIKE);
+		interaction(other, post, InteractionType.LIKE);
+		Interaction favorite = interaction(other, post, InteractionType.FAVORITE);
+
+		assertThat(interactionRepository.deleteByRecipeIdAndInteractionType(post, InteractionType.LIKE))
+				.isEqualTo(2);
+		assertThat(entityManager.contains(first)).isFalse();
+		assertThat(interactionRepository.findById(favorite.getId())).isPresent();
+		assertThat(interactionRepository.deleteByRecipeIdAndInteractionType(post, InteractionType.LIKE)).isZero();
+	}
+
+	@Test
+	void deleteSavedRecipe() {
+		Long user = data.newUser();
+		Long post = data.newPost(user);
+		SavedRecipe saved = savedRecipeRepository.save(new SavedRecipe(user, post));
+
+		assertThat(savedRecipeRepository.deleteByUserIdAndPostId(user, post)).isEqualTo(1);
+		assertThat(entityManager.contains(saved)).isFalse();
+		assertThat(savedRecipeRepository.existsByUserIdAndPostId(user, post)).isFalse();
+		assertThat(savedRecipeRepository.deleteByUserIdAndPostId(user, post)).isZero();
+	}
+
+	@Test
+	void deleteMembership() {
+		Long admin = data.newUser();
+		Long member = data.newUser();
+		Long group = data.newGroup(admin);
+		RecipeGroupMember membership = memberRepository.save(new RecipeGroupMember(group, member, MemberRole.MEMBER));
+
+		assertThat(memberRepository.deleteByGroupIdAndUserId(group, member)).isEqualTo(1);
+		assertThat(entityManager.contains(membership)).isFalse();
+		assertThat(memberRepository.findByGroupIdAndUserId(group, member)).isEmpty();
+		assertThat(memberRepository.findByGroupIdAndUserId(group, admin)).isPresent();
+		assertThat(memberRepository.deleteByGroupIdAndUserId(group, member)).isZero();
+	}
+
+	@Test
+	void deleteGroupWithMemberships() {
+		Long admin = data.newUser();
+		Long group = data.newGroup(admin);
+		RecipeGroupMember membership = memberRepository.save(
+				new RecipeGroupMember(group, data.newUser(), MemberRole.MEMBER));
+
+		assertThat(memberRepository.deleteByGroupId(group)).isEqualTo(2);
+		assertThat(entityManager.contains(membership)).isFalse();
+		assertThat(memberRepository.findByGroupId(group)).isEmpty();
+
+		RecipeGroup loaded = groupRepository.findById(group).orElseThrow();
+		assertThat(groupRepository.deleteGroupById(group)).isEqualTo(1);
+		assertThat(entityManager.contains(loaded)).isFalse();
+		assertThat(groupRepository.findById(group)).isEmpty();
+		assertThat(groupRepository.deleteGroupById(group)).isZero();
+	}
+}
@@ -0,0 +1,143 @@
+package foodieframe.recipe_sharing_platform.service;
+
+import foodieframe.recipe_sharing_platform.TestData;
+import foodieframe.recipe_sharing_platform.model.Comment;
+import foodieframe.recipe_sharing_platform.model.CommentPage;
+import foodieframe.recipe_sharing_platform.repository.PostRepository;
+import foodieframe.recipe_sharing_platform.util.SortKeyCursor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class CommentServiceTest {
+
+	@Autowired
+	private TestData data;
+
+	@Autowired
+	private CommentService commentService;
+
+	@Autowired
+	private PostRepository postRepository;
+
+	private long commentCountOf(Long postId) {
+		return postRepository.findById(postId).orElseThrow().getCommentCount();
+	}
+
+	private Comment comment(Long userId, Long postId, Long parentId) {
+		Comment comment = new Comment();
+		comment.setUserId(userId);
+		comment.setPostId(postId);
+		comment.setParentId(parentId);
+		comment.setContent("Looks great");
+		return commentService.createComment(comment);
+	}
+
+	@Test
+	void pagesThroughUserCommentsNewestFirstWithoutGapsOrRepeats() {
+		Long user = data.newUser();
+		Long post = data.newPost(user);
+		// Newest first, as the pages should return them
+		List<Long> created = new ArrayList<>();
+		for (int i = 0; i < 7; i++) {
+			created.add(0, comment(user, post, null).getId());
+		}
+
+		List<Comment> seen = new ArrayList<>();
+		String cursor = null;
+		int pages = 0;
+		do {
+			CommentPage page = commentService.getCommentsByUserId(user, cursor, 3, null);
+			seen.addAll(page.getComments());
+			cursor = page.getNextCursor();
+			pages++;
+		} while (cursor != null);
+
+		assertThat(pages).isEqualTo(3);
+		assertThat(seen).extracting(Comment::getId).containsExactlyElementsOf(created);
+		assertThat(seen).isSortedAccordingTo(Comparator.comparing(Comment::getCreatedAt).reversed());
+	}
+
+	@Test
+	void topLevelPagesCarryTheirReplies() {
+		Long user = data.newUser();
+		Long post = data.newPost(user);
+		Long older = comment(user, post, null).getId();
+		Long newer = comment(user, post, null).getId();
+		Long reply = comment(user, post, older).getId();
+
+		CommentPage first = commentService.getCommentsByPostId(post, null, 1, 5, null);
+		assertThat(first.getComments()).extracting(Comment::getId).containsExactly(newer);
+		CommentPage second = commentService.getCommentsByPostId(post, first.getNextCursor(), 1, 5, null);
+		assertThat(second.getComments()).extracting(Comment::getId).containsExactly(older);
+		assertThat(second.getComments().get(0).getReplies()).extracting(Comment::getId).containsExactly(reply);
+		assertThat(second.getNextCursor()).isNull();
+	}
+
+	@Test
+	void rejectsMalformedAndForeignCursors() {
+		Long user = data.newUser();
+		assertThatThrownBy(() -> commentService.getCommentsByUserId(user, "not-a-cursor", 3, null))
+				.isInstanceOf(IllegalArgumentException.class);
+		// A directory cursor carries a sort order and a numeric key, not a timestamp
+		String directoryCursor = new SortKeyCursor("MEMBERS", "12", 5).encode();
+		assertThatThrownBy(() -> commentService.getCommentsByUserId(user, directoryCursor, 3, null))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void deletingCommentRemovesExactlyItsSubtree() {
+		Long user = data.newUser();
+		Long post = data.newPost(user);
+		Long root = comment(user, post, null).getId();
+		Long branch = comment(user, post, root).getId();
+		Long leaf = comment(user, post, branch).getId();
+		Long sibling = comment(user, post, branch).getId();
+		Long uncle = comment(user, post, root).getId();
+		Long otherThread = comment(user, post, null).getId();
+		assertThat(commentCountOf(post)).isEqualTo(6);
+
+		assertThat(commentService.deleteComment(branch)).isTrue();
+		for (Long id : List.of(branch, leaf, sibling)) {
+			assertThat(commentService.getCommentById(id)).isNull();
+		}
+		Comment thread = commentService.getCommentWithReplies(root, 10, null);
+		assertThat(thread.getReplies()).extracting(Comment::getId).containsExactly(uncle);
+		assertThat(commentService.getCommentById(otherThread)).isNotNull();
+		assertThat(commentCountOf(post)).isEqualTo(3);
+
+		assertThat(commentService.deleteComment(root)).isTrue();
+		assertThat(commentService.getCommentById(uncle)).isNull();
+		assertThat(commentCountOf(post)).isEqualTo(1);
+		assertThat(commentService.deleteComment(root)).isFalse();
+	}
+
+	@Test
+	void repliesNestDepthFirstUpToMaxDepth() {
+		Long user = data.newUser();
+		Long post = data.newPost(user);
+		Long root = comment(user, post, null).getId();
+		Long first = comment(user, post, root).getId();
+		Long second = comment(user, post, root).getId();
+		Long nested = comment(user, post, first).getId();
+
+		Comment thread = commentService.getCommentWithReplies(root, 10, null);
+		assertThat(thread.getReplies()).extracting(Comment::getId).containsExactly(first, second);
+		assertThat(thread.getReplies().get(0).getReplies()).extracting(Comment::getId).containsExactly(nested);
+
+		Long parent = nested;
+		for (int depth = 3; depth <= CommentService.MAX_DEPTH; depth++) {
+			parent = comment(user, post, parent).getId();
+		}
+		Long deepest = parent;
+		assertThatThrownBy(() -> comment(user, post, deepest)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
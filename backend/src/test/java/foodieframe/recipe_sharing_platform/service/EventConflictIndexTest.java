@@ -0,0 +1,123 @@
+package foodieframe.recipe_sharing_platform.service;
+
+import foodieframe.recipe_sharing_platform.model.Event;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventConflictIndexTest {
+
+	private static final Instant BASE = Instant.parse("2026-01-01T00:00:00Z");
+
+	private static Event event(long id, long creatorId, Instant startsAt, Integer minutes) {
+		Event event = new Event();
+		event.setId(id);
+		event.setUserId(creatorId);
+		event.setStartsAt(startsAt);
+		event.setDurationMinutes(minutes);
+		return event;
+	}
+
+	// Events overlapping [from, to) among those accepted, ordered as the index orders them
+	private static List<Long> bruteForce(Map<Long, Event> events, Set<Long> accepted, Instant from, Instant to) {
+		return events.values().stream()
+				.filter(e -> e.getStartsAt() != null && accepted.contains(e.getId()))
+				.filter(e -> e.getStartsAt().isBefore(to) && e.getEndsAt().isAfter(from))
+				.sorted(Comparator.comparing(Event::getStartsAt).thenComparing(Event::getId))
+				.map(Event::getId)
+				.toList();
+	}
+
+	@Test
+	void userSeesEventsTheyCreatedOrAttend() {
+		EventConflictIndex index = new EventConflictIndex();
+		index.put(event(1, 10, BASE, 60));
+		index.put(event(2, 20, BASE.plusSeconds(1800), 60));
+		index.addAttendee(2L, 10L);
+		Instant from = BASE.plusSeconds(1000);
+		Instant to = BASE.plusSeconds(2000);
+
+		assertThat(index.overlapping(10L, from, to)).containsExactly(1L, 2L);
+		assertThat(index.overlapping(20L, from, to)).containsExactly(2L);
+
+		index.removeAttendee(2L, 10L);
+		assertThat(index.overlapping(10L, from, to)).containsExactly(1L);
+	}
+
+	@Test
+	void attendeesKnownBeforeEventIsScheduledAreIndexedWithIt() {
+		EventConflictIndex index = new EventConflictIndex();
+		index.addAttendee(1L, 30L);
+		assertThat(index.overlapping(30L, BASE, BASE.plusSeconds(60))).isEmpty();
+
+		index.put(event(1, 10, BASE, null));
+		assertThat(index.overlapping(30L, BASE, BASE.plusSeconds(60))).containsExactly(1L);
+
+		// Unscheduling takes it out of every tree but keeps the attendee for later
+		index.put(event(1, 10, null, null));
+		assertThat(index.overlapping(BASE, BASE.plusSeconds(60))).isEmpty();
+		assertThat(index.overlapping(30L, BASE, BASE.plusSeconds(60))).isEmpty();
+		index.put(event(1, 10, BASE.plusSeconds(3600), null));
+		assertThat(index.overlapping(30L, BASE.plusSeconds(3600), BASE.plusSeconds(3660))).containsExactly(1L);
+	}
+
+	@Test
+	void matchesBruteForceUnderRandomOperations() {
+		Random random = new Random(11);
+		EventConflictIndex index = new EventConflictIndex();
+		Map<Long, Event> events = new HashMap<>();
+		Map<Long, Set<Long>> attendees = new HashMap<>();
+		List<Long> users = List.of(1L, 2L, 3L, 4L, 5L);
+
+		for (int step = 0; step < 3000; step++) {
+			int op = random.nextInt(10);
+			long eventId = 1 + random.nextInt(200);
+			Long userId = users.get(random.nextInt(users.size()));
+			if (op < 3) {
+				// Create, move or unschedule
+				Instant startsAt = random.nextInt(10) == 0 ? null
+						: BASE.plusSeconds(60L * random.nextInt(10_000));
+				Integer minutes = random.nextBoolean() ? null : 15 + random.nextInt(600);
+				Long creatorId = events.containsKey(eventId) ? events.get(eventId).getUserId() : userId;
+				Event event = event(eventId, creatorId, startsAt, minutes);
+				events.put(eventId, event);
+				index.put(event);
+			} else if (op < 5) {
+				attendees.computeIfAbsent(eventId, id -> new HashSet<>()).add(userId);
+				index.addAttendee(eventId, userId);
+			} else if (op < 6) {
+				Set<Long> going = attendees.get(eventId);
+				if (going != null) {
+					going.remove(userId);
+				}
+				index.removeAttendee(eventId, userId);
+			} else if (op < 7) {
+				events.remove(eventId);
+				attendees.remove(eventId);
+				index.remove(eventId);
+			} else {
+				Instant from = BASE.plusSeconds(60L * (random.nextInt(10_400) - 200));
+				Instant to = from.plusSeconds(60L * (1 + random.nextInt(240)));
+				assertThat(index.overlapping(from, to)).isEqualTo(bruteForce(events, events.keySet(), from, to));
+				Set<Long> mine = new HashSet<>();
+				for (Event event : events.values()) {
+					if (userId.equals(event.getUserId())
+							|| attendees.getOrDefault(event.getId(), Set.of()).contains(userId)) {
+						mine.add(event.getId());
+					}
+				}
+				assertThat(index.overlapping(userId, from, to)).isEqualTo(bruteForce(events, mine, from, to));
+			}
+		}
+		assertThat(events).isNotEmpty();
+	}
+}
@@ -0,0 +1,79 @@
+package foodieframe.recipe_sharing_platform.service;
+
+import foodieframe.recipe_sharing_platform.model.Event;
+import foodieframe.recipe_sharing_platform.model.EventRsvp.RsvpStatus;
+import foodieframe.recipe_sharing_platform.repository.EventRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class EventRsvpServiceTest {
+
+	private static final AtomicLong USER_IDS = new AtomicLong(1_000_000);
+
+	@Autowired
+	private EventRsvpService rsvpService;
+
+	@Autowired
+	private EventRepository eventRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	private Long newEvent(int capacity) {
+		Event event = new Event();
+		event.setUserId(USER_IDS.incrementAndGet());
+		event.setTitle("Tasting night");
+		event.setDescription("Bring a dish to share");
+		event.setDate("2030-01-01");
+		event.setTime("18:00");
+		event.setLocation("Kitchen");
+		event.setCapacity(capacity);
+		return eventRepository.save(event).getId();
+	}
+
+	private RsvpStatus statusOf(Long eventId, long userId) {
+		return rsvpService.getRsvp(eventId, userId).orElseThrow().getStatus();
+	}
+
+	@Test
+	void cancellationPromotesHeadOfWaitlist() {
+		Long eventId = newEvent(1);
+		long first = USER_IDS.incrementAndGet();
+		long second = USER_IDS.incrementAndGet();
+		long third = USER_IDS.incrementAndGet();
+
+		assertThat(rsvpService.rsvp(eventId, first).getStatus()).isEqualTo(RsvpStatus.GOING);
+		assertThat(rsvpService.rsvp(eventId, second).getWaitlistPosition()).isEqualTo(1);
+		assertThat(rsvpService.rsvp(eventId, third).getWaitlistPosition()).isEqualTo(2);
+
+		rsvpService.cancel(eventId, first);
+		assertThat(statusOf(eventId, second)).isEqualTo(RsvpStatus.GOING);
+		assertThat(statusOf(eventId, third)).isEqualTo(RsvpStatus.WAITLISTED);
+		assertThat(eventRepository.findById(eventId).orElseThrow().getAttendeeCount()).isEqualTo(1);
+	}
+
+	@Test
+	void seatFreedBeforeWaitlistedRsvpCommitsIsNotLeftEmpty() {
+		Long eventId = newEvent(1);
+		long holder = USER_IDS.incrementAndGet();
+		long newcomer = USER_IDS.incrementAndGet();
+		rsvpService.rsvp(eventId, holder);
+
+		transactionTemplate.executeWithoutResult(status -> {
+			assertThat(rsvpService.rsvp(eventId, newcomer).getStatus()).isEqualTo(RsvpStatus.WAITLISTED);
+			// The cancellation commits first and cannot see the uncommitted waitlisted RSVP
+			CompletableFuture.runAsync(() -> rsvpService.cancel(eventId, holder)).join();
+		});
+
+		assertThat(statusOf(eventId, newcomer)).isEqualTo(RsvpStatus.GOING);
+		assertThat(eventRepository.findById(eventId).orElseThrow().getAttendeeCount()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,69 @@
+package foodieframe.recipe_sharing_platform.service;
+
+import foodieframe.recipe_sharing_platform.model.Event;
+import foodieframe.recipe_sharing_platform.model.EventPage;
+import foodieframe.recipe_sharing_platform.util.SortKeyCursor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class EventServiceTest {
+
+	@Autowired
+	private EventService eventService;
+
+	private Event newEvent(String date, String time) {
+		Event event = new Event();
+		event.setUserId(1L);
+		event.setTitle("Dumpling workshop");
+		event.setDescription("Fold and steam dumplings together");
+		event.setDate(date);
+		event.setTime(time);
+		event.setLocation("Community kitchen");
+		return eventService.saveEvent(event);
+	}
+
+	@Test
+	void upcomingEventsPageInStartOrderAcrossTies() {
+		// A month no other test uses; several events share a start time
+		List<Event> created = new ArrayList<>();
+		for (String time : new String[] { "19:00", "09:00", "12:00", "09:00", "12:00", "09:00", "20:00" }) {
+			created.add(newEvent("2041-03-14", time));
+		}
+		created.sort(Comparator.comparing(Event::getStartsAt).thenComparing(Event::getId));
+		Instant from = created.get(0).getStartsAt();
+		Instant to = created.get(created.size() - 1).getStartsAt().plusSeconds(1);
+
+		List<Long> seen = new ArrayList<>();
+		String cursor = null;
+		do {
+			EventPage page = eventService.getUpcomingEvents(from, to, cursor, 2);
+			page.getEvents().forEach(event -> seen.add(event.getId()));
+			cursor = page.getNextCursor();
+		} while (cursor != null);
+
+		assertThat(seen).containsExactlyElementsOf(created.stream().map(Event::getId).toList());
+	}
+
+	@Test
+	void rejectsBadPagesAndForeignCursors() {
+		Instant from = Instant.parse("2041-03-01T00:00:00Z");
+		Instant to = Instant.parse("2041-04-01T00:00:00Z");
+		assertThatThrownBy(() -> eventService.getUpcomingEvents(from, to, null, 0))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> eventService.getUpcomingEvents(to, from, null, 10))
+				.isInstanceOf(IllegalArgumentException.class);
+		String directoryCursor = new SortKeyCursor("ACTIVE", "3", 7).encode();
+		assertThatThrownBy(() -> eventService.getUpcomingEvents(from, to, directoryCursor, 10))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,124 @@
+package foodieframe.recipe_sharing_platform.service;
+
+import foodieframe.recipe_sharing_platform.TestData;
+import foodieframe.recipe_sharing_platform.model.FriendPage;
+import foodieframe.recipe_sharing_platform.model.FriendProfile;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class FriendServiceTest {
+
+	@Autowired
+	private TestData data;
+
+	@Autowired
+	private FriendService friendService;
+
+	@Autowired
+	private BlockList blockList;
+
+	@Test
+	void blockedUserCannotLiftBlock() {
+		Long a = data.newUser();
+		Long b = data.newUser();
+		friendService.blockUser(a, b);
+
+		friendService.removeFriend(b, a);
+		friendService.rejectFriendRequest(b, a);
+		assertThat(blockList.isHidden(a, b)).isTrue();
+		assertThat(friendService.getBlockedUsers(a)).hasSize(1);
+	}
+
+	@Test
+	void blockingBackKeepsTheOtherBlock() {
+		Long a = data.newUser();
+		Long b = data.newUser();
+		friendService.blockUser(a, b);
+		friendService.blockUser(b, a);
+
+		friendService.unblockUser(b, a);
+		assertThat(blockList.isHidden(a, b)).isTrue();
+		assertThat(friendService.getBlockedUsers(a)).hasSize(1);
+
+		friendService.unblockUser(a, b);
+		assertThat(blockList.isHidden(a, b)).isFalse();
+	}
+
+	@Test
+	void removeFriendEndsFriendshipFromEitherSide() {
+		Long a = data.newUser();
+		Long b = data.newUser();
+		friendService.sendFriendRequest(a, b);
+		friendService.acceptFriendRequest(b, a);
+		assertThat(friendService.areFriends(a, b)).isTrue();
+
+		friendService.removeFriend(b, a);
+		assertThat(friendService.areFriends(a, b)).isFalse();
+		assertThat(friendService.getUserFriends(a)).isEmpty();
+	}
+
+	@Test
+	void friendPageSortsByNameOrRecencyAcrossPages() {
+		Long user = data.newUser("Owner");
+		Long carrot = data.newUser("Carrot");
+		Long apple = data.newUser("Apple");
+		Long banana = data.newUser("Banana");
+		// Requests both ways, since either side of a friendship lists the other
+		friendService.sendFriendRequest(user, carrot);
+		friendService.acceptFriendRequest(carrot, user);
+		friendService.sendFriendRequest(apple, user);
+		friendService.acceptFriendRequest(user, apple);
+		friendService.sendFriendRequest(user, banana);
+		friendService.acceptFriendRequest(banana, user);
+
+		FriendPage first = friendService.getFriendPage(user, "name", 0, 2);
+		assertThat(first.getFriends()).extracting(FriendProfile::getId).containsExactly(apple, banana);
+		assertThat(first.getTotal()).isEqualTo(3);
+		assertThat(first.isHasMore()).isTrue();
+		FriendPage second = friendService.getFriendPage(user, "name", 1, 2);
+		assertThat(second.getFriends()).extracting(FriendProfile::getId).containsExactly(carrot);
+		assertThat(second.getTotal()).isEqualTo(3);
+		assertThat(second.isHasMore()).isFalse();
+
+		FriendPage recent = friendService.getFriendPage(user, "RECENT", 0, 3);
+		assertThat(recent.getFriends()).extracting(FriendProfile::getId).containsExactly(banana, apple, carrot);
+		assertThat(recent.isHasMore()).isFalse();
+
+		assertThatThrownBy(() -> friendService.getFriendPage(user, "oldest", 0, 2))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void requestPagesListOnlyTheirSideOfPendingRequests() {
+		Long user = data.newUser("Owner");
+		Long zoe = data.newUser("Zoe");
+		Long adam = data.newUser("Adam");
+		Long sentTo = data.newUser("Mia");
+		Long friend = data.newUser("Ben");
+		friendService.sendFriendRequest(zoe, user);
+		friendService.sendFriendRequest(adam, user);
+		friendService.sendFriendRequest(user, sentTo);
+		friendService.sendFriendRequest(user, friend);
+		friendService.acceptFriendRequest(friend, user);
+
+		FriendPage pending = friendService.getPendingRequestPage(user, "name", 0, 10);
+		assertThat(pending.getFriends()).extracting(FriendProfile::getId).containsExactly(adam, zoe);
+		assertThat(pending.getTotal()).isEqualTo(2);
+		assertThat(pending.isHasMore()).isFalse();
+		FriendPage newest = friendService.getPendingRequestPage(user, "recent", 0, 1);
+		assertThat(newest.getFriends()).extracting(FriendProfile::getId).containsExactly(adam);
+		assertThat(newest.getTotal()).isEqualTo(2);
+		assertThat(newest.isHasMore()).isTrue();
+
+		FriendPage sent = friendService.getSentRequestPage(user, "recent", 0, 10);
+		assertThat(sent.getFriends()).extracting(FriendProfile::getId).containsExactly(sentTo);
+		assertThat(sent.getTotal()).isEqualTo(1);
+		assertThat(friendService.getSentRequestPage(zoe, "name", 0, 10).getFriends())
+				.extracting(FriendProfile::getId).containsExactly(user);
+	}
+}
@@ -0,0 +1,96 @@
+package foodieframe.recipe_sharing_platform.service;
+
+import foodieframe.recipe_sharing_platform.TestData;
+import foodieframe.recipe_sharing_platform.model.FriendSuggestion;
+import foodieframe.recipe_sharing_platform.model.RecipeGroupMember.MemberRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class FriendSuggestionServiceTest {
+
+	@Autowired
+	private TestData data;
+
+	@Autowired
+	private FriendSuggestionService suggestionService;
+
+	@Autowired
+	private FriendService friendService;
+
+	@Autowired
+	private RecipeGroupService groupService;
+
+	private void befriend(Long a, Long b) {
+		friendService.sendFriendRequest(a, b);
+		friendService.acceptFriendRequest(b, a);
+	}
+
+	@Test
+	void ranksByMutualFriends() {
+		Long user = data.newUser();
+		Long f1 = data.newUser();
+		Long f2 = data.newUser();
+		Long f3 = data.newUser();
+		befriend(user, f1);
+		befriend(user, f2);
+		befriend(user, f3);
+		Long one = data.newUser();
+		Long three = data.newUser();
+		Long two = data.newUser();
+		befriend(one, f2);
+		befriend(three, f1);
+		befriend(three, f2);
+		befriend(three, f3);
+		befriend(two, f1);
+		befriend(two, f3);
+
+		List<FriendSuggestion> suggestions = suggestionService.getSuggestions(user, 10);
+		assertThat(suggestions).extracting(FriendSuggestion::getUserId).containsExactly(three, two, one);
+		assertThat(suggestions).extracting(FriendSuggestion::getMutualFriends).containsExactly(3, 2, 1);
+	}
+
+	@Test
+	void skipsPendingRequestsAndBlocksEitherWay() {
+		Long user = data.newUser();
+		Long friend = data.newUser();
+		befriend(user, friend);
+		Long sent = data.newUser();
+		Long received = data.newUser();
+		Long blocked = data.newUser();
+		Long blocker = data.newUser();
+		Long suggested = data.newUser();
+		for (Long other : List.of(sent, received, blocked, blocker, suggested)) {
+			befriend(friend, other);
+		}
+		friendService.sendFriendRequest(user, sent);
+		friendService.sendFriendRequest(received, user);
+		friendService.blockUser(user, blocked);
+		friendService.blockUser(blocker, user);
+
+		assertThat(suggestionService.getSuggestions(user, 10)).extracting(FriendSuggestion::getUserId)
+				.containsExactly(suggested);
+	}
+
+	@Test
+	void sharedGroupBreaksTieOnMutualFriends() {
+		Long user = data.newUser();
+		Long friend = data.newUser();
+		befriend(user, friend);
+		Long stranger = data.newUser();
+		Long groupmate = data.newUser();
+		befriend(friend, stranger);
+		befriend(friend, groupmate);
+		Long group = data.newGroup(user);
+		groupService.addMember(group, groupmate, MemberRole.MEMBER);
+
+		List<FriendSuggestion> suggestions = suggestionService.getSuggestions(user, 10);
+		assertThat(suggestions).extracting(FriendSuggestion::getUserId).containsExactly(groupmate, stranger);
+		assertThat(suggestions).extracting(FriendSuggestion::getSharedGroups).containsExactly(1L, 0L);
+	}
+}
@@ -0,0 +1,160 @@
+package foodieframe.recipe_sharing_platform.service;
+
+import foodieframe.recipe_sharing_platform.TestData;
+import foodieframe.recipe_sharing_platform.model.Comment;
+import foodieframe.recipe_sharing_platform.model.Interaction;
+import foodieframe.recipe_sharing_platform.model.Interaction.InteractionType;
+import foodieframe.recipe_sharing_platform.repository.CommentRepository;
+import foodieframe.recipe_sharing_platform.repository.InteractionRepository;
+import foodieframe.recipe_sharing_platform.repository.PostRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// A long delay gathers each test's writes into one group
+@SpringBootTest(properties = { "app.group-commit.enabled=true", "app.group-commit.max-delay-ms=200" })
+class GroupCommitWriterTest {
+
+	@Autowired
+	private TestData data;
+
+	@Autowired
+	private GroupCommitWriter writer;
+
+	@Autowired
+	private CommentService commentService;
+
+	@Autowired
+	private CommentRepository commentRepository;
+
+	@Autowired
+	private InteractionRepository interactionRepository;
+
+	@Autowired
+	private PostRepository postRepository;
+
+	private Comment comment(Long userId, Long postId, Long parentId, String content) {
+		Comment comment = new Comment();
+		comment.setUserId(userId);
+		comment.setPostId(postId);
+		comment.setParentId(parentId);
+		comment.setContent(content);
+		return comment;
+	}
+
+	private Interaction interaction(Long userId, Long recipeId, String content) {
+		Interaction interaction = new Interaction();
+		interaction.setUserId(userId);
+		interaction.setRecipeId(recipeId);
+		interaction.setInteractionType(InteractionType.LIKE);
+		interaction.setContent(content);
+		interaction.setCreatedAt(LocalDateTime.now());
+		interaction.setUpdatedAt(LocalDateTime.now());
+		return interaction;
+	}
+
+	@Test
+	void eachCallerGetsTheIdOfItsOwnRow() {
+		Long user = data.newUser();
+		Long post = data.newPost(user);
+		Long parent = commentService.createComment(comment(user, post, null, "parent")).getId();
+
+		// Comments, replies and interactions interleaved in one group
+		List<Long> interactionUsers = new ArrayList<>();
+		for (int i = 0; i < 30; i++) {
+			interactionUsers.add(data.newUser());
+		}
+		List<CompletableFuture<Comment>> comments = new ArrayList<>();
+		List<CompletableFuture<Long>> interactions = new ArrayList<>();
+		for (int i = 0; i < 30; i++) {
+			Long parentId = i % 3 == 0 ? parent : null;
+			comments.add(commentService.createCommentGrouped(comment(user, post, parentId, "comment " + i)));
+			interactions.add(writer.submitInteraction(interaction(interactionUsers.get(i), post, "like " + i)));
+		}
+
+		for (int i = 0; i < comments.size(); i++) {
+			Comment submitted = comments.get(i).join();
+			Comment stored = commentRepository.findById(submitted.getId()).orElseThrow();
+			assertThat(stored.getContent()).isEqualTo("comment " + i);
+			assertThat(stored.getRootId()).isEqualTo(i % 3 == 0 ? parent : submitted.getId());
+			assertThat(stored.getPath()).endsWith(String.format("%019d", submitted.getId()));
+			assertThat(stored.getPath()).isEqualTo(submitted.getPath());
+		}
+		for (int i = 0; i < interactions.size(); i++) {
+			Interaction stored = interactionRepository.findById(interactions.get(i).join()).orElseThrow();
+			assertThat(stored.getUserId()).isEqualTo(interactionUsers.get(i));
+			assertThat(stored.getContent()).isEqualTo("like " + i);
+		}
+		assertThat(postRepository.findById(post).orElseThrow().getCommentCount()).isEqualTo(31);
+	}
+
+	@Test
+	void failedRowOnlyFailsItsOwnCaller() {
+		Long user = data.newUser();
+		Long post = data.newPost(user);
+		Long other = data.newUser();
+
+		CompletableFuture<Long> first = writer.submitInteraction(interaction(user, post, "first"));
+		CompletableFuture<Long> before = writer.submitComment(prepared(user, post, "before"));
+		// Breaks the unique (user, recipe, type) constraint, failing the whole group
+		CompletableFuture<Long> duplicate = writer.submitInteraction(interaction(user, post, "duplicate"));
+		CompletableFuture<Long> after = writer.submitInteraction(interaction(other, post, "after"));
+
+		assertThat(interactionRepository.findById(first.join()).orElseThrow().getContent()).isEqualTo("first");
+		assertThat(commentRepository.findById(before.join()).orElseThrow().getContent()).isEqualTo("before");
+		assertThat(interactionRepository.findById(after.join()).orElseThrow().getContent()).isEqualTo("after");
+		assertThatThrownBy(duplicate::join).isInstanceOf(CompletionException.class);
+		assertThat(postRepository.findById(post).orElseThrow().getCommentCount()).isEqualTo(1);
+	}
+
+	@Test
+	void stopFailsEveryWriteItDidNotCommit() throws InterruptedException {
+		// A writer of its own that gathers one group until stopped, so nothing is flushed
+		GroupCommitWriter stopping = new GroupCommitWriter();
+		ReflectionTestUtils.setField(stopping, "enabled", true);
+		ReflectionTestUtils.setField(stopping, "maxDelayMs", TimeUnit.HOURS.toMillis(1));
+		ReflectionTestUtils.setField(stopping, "maxBatchSize", 1_000_000);
+		ReflectionTestUtils.setField(stopping, "queueCapacity", Integer.MAX_VALUE);
+		stopping.start();
+
+		// Keeps submitting across the stop, racing the flusher's last drain
+		List<CompletableFuture<Long>> futures = Collections.synchronizedList(new ArrayList<>());
+		Thread submitter = new Thread(() -> {
+			try {
+				while (true) {
+					futures.add(stopping.submitInteraction(interaction(1L, 1L, "late")));
+				}
+			} catch (IllegalStateException e) {
+				// Refused once stopped
+			}
+		});
+		submitter.start();
+		Thread.sleep(50);
+		stopping.stop();
+		submitter.join(TimeUnit.SECONDS.toMillis(5));
+
+		assertThat(submitter.isAlive()).isFalse();
+		assertThat(futures).isNotEmpty().allSatisfy(future -> assertThat(future).isCompletedExceptionally());
+	}
+
+	// A top-level comment as CommentService would hand it to the writer
+	private Comment prepared(Long userId, Long postId, String content) {
+		Comment comment = comment(userId, postId, null, content);
+		comment.setCreatedAt(Instant.now());
+		comment.setDepth(0);
+		return comment;
+	}
+}
@@ -0,0 +1,128 @@
+package foodieframe.recipe_sharing_platform.service;
+
+import foodieframe.recipe_sharing_platform.TestData;
+import foodieframe.recipe_sharing_platform.model.GroupDirectoryPage;
+import foodieframe.recipe_sharing_platform.model.RecipeGroup;
+import foodieframe.recipe_sharing_platform.model.RecipeGroupMember.MemberRole;
+import foodieframe.recipe_sharing_platform.model.RecipeGroupMember.MembershipStatus;
+import foodieframe.recipe_sharing_platform.repository.RecipeGroupRepository;
+import foodieframe.recipe_sharing_platform.service.GroupDirectoryService.Sort;
+import foodieframe.recipe_sharing_platform.util.KeysetCursor;
+import foodieframe.recipe_sharing_platform.util.SortKeyCursor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class GroupDirectoryServiceTest {
+
+	@Autowired
+	private TestData data;
+
+	@Autowired
+	private GroupDirectoryService directoryService;
+
+	@Autowired
+	private RecipeGroupService groupService;
+
+	@Autowired
+	private GroupPostService groupPostService;
+
+	@Autowired
+	private PostService postService;
+
+	@Autowired
+	private RecipeGroupRepository groupRepository;
+
+	private long activityOf(Long groupId) {
+		return groupRepository.findById(groupId).orElseThrow().getWeeklyActivity();
+	}
+
+	@Test
+	void unsharingAndDeletingPostsUndoTheirActivity() {
+		Long owner = data.newUser();
+		Long groupId = data.newGroup(owner);
+		Long postId = data.newPost(owner);
+		Long otherPostId = data.newPost(owner);
+		assertThat(activityOf(groupId)).isEqualTo(1);
+
+		groupPostService.sharePost(groupId, postId, owner);
+		groupPostService.sharePost(groupId, otherPostId, owner);
+		assertThat(activityOf(groupId)).isEqualTo(3);
+
+		groupPostService.unsharePost(groupId, postId, owner);
+		assertThat(activityOf(groupId)).isEqualTo(2);
+
+		postService.deletePost(otherPostId);
+		assertThat(activityOf(groupId)).isEqualTo(1);
+	}
+
+	@Test
+	void membershipChangesMoveActivity() {
+		Long owner = data.newUser();
+		Long member = data.newUser();
+		Long groupId = data.newGroup(owner);
+
+		groupService.addMember(groupId, member, MemberRole.MEMBER);
+		assertThat(activityOf(groupId)).isEqualTo(2);
+
+		groupService.updateMemberStatus(groupId, member, MembershipStatus.BANNED);
+		assertThat(activityOf(groupId)).isEqualTo(1);
+
+		groupService.updateMemberStatus(groupId, member, MembershipStatus.PENDING);
+		groupService.updateMemberStatus(groupId, member, MembershipStatus.ACTIVE);
+		assertThat(activityOf(groupId)).isEqualTo(2);
+
+		groupService.removeMember(groupId, member);
+		assertThat(activityOf(groupId)).isEqualTo(1);
+	}
+
+	@Test
+	void namePagesFollowCursorInOrder() {
+		Long owner = data.newUser();
+		String prefix = "dir" + UUID.randomUUID().toString().substring(0, 8);
+		for (String suffix : new String[] { "c", "a", "e", "b", "d" }) {
+			groupService.createGroup(new RecipeGroup(prefix + "-" + suffix, "Test group", owner));
+		}
+
+		List<String> names = new ArrayList<>();
+		String cursor = null;
+		do {
+			GroupDirectoryPage page = directoryService.getDirectory(null, prefix, cursor, 2);
+			page.getGroups().forEach(group -> names.add(group.getName()));
+			cursor = page.getNextCursor();
+		} while (cursor != null);
+
+		assertThat(names).containsExactly(prefix + "-a", prefix + "-b", prefix + "-c", prefix + "-d", prefix + "-e");
+	}
+
+	@Test
+	void rejectsCursorFromAnotherSortOrder() {
+		Long owner = data.newUser();
+		String prefix = "dir" + UUID.randomUUID().toString().substring(0, 8);
+		groupService.createGroup(new RecipeGroup(prefix + "-a", "Test group", owner));
+		groupService.createGroup(new RecipeGroup(prefix + "-b", "Test group", owner));
+		String nameCursor = directoryService.getDirectory(Sort.NAME, prefix, null, 1).getNextCursor();
+		assertThat(nameCursor).isNotNull();
+
+		assertThatThrownBy(() -> directoryService.getDirectory(Sort.MEMBERS, null, nameCursor, 1))
+				.isInstanceOf(IllegalArgumentException.class);
+		// Right sort name but a key of the wrong type
+		String badKey = new SortKeyCursor(Sort.ACTIVE.name(), "yesterday", 1).encode();
+		assertThatThrownBy(() -> directoryService.getDirectory(Sort.ACTIVE, null, badKey, 1))
+				.isInstanceOf(IllegalArgumentException.class);
+		String feedCursor = new KeysetCursor(Instant.now(), 1).encode();
+		assertThatThrownBy(() -> directoryService.getDirectory(Sort.NEWEST, null, feedCursor, 1))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> directoryService.getDirectory(Sort.MEMBERS, prefix, null, 1))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
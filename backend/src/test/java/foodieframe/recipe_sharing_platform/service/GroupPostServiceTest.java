@@ -0,0 +1,97 @@
+package foodieframe.recipe_sharing_platform.service;
+
+import foodieframe.recipe_sharing_platform.TestData;
+import foodieframe.recipe_sharing_platform.model.GroupPost;
+import foodieframe.recipe_sharing_platform.model.GroupPostPage;
+import foodieframe.recipe_sharing_platform.model.RecipeGroup.GroupPrivacy;
+import foodieframe.recipe_sharing_platform.model.RecipeGroupMember.MemberRole;
+import foodieframe.recipe_sharing_platform.model.RecipeGroupMember.MembershipStatus;
+import foodieframe.recipe_sharing_platform.util.SortKeyCursor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class GroupPostServiceTest {
+
+	@Autowired
+	private TestData data;
+
+	@Autowired
+	private GroupPostService groupPostService;
+
+	@Autowired
+	private RecipeGroupService groupService;
+
+	private List<Long> readFeed(Long groupId, Long viewerId, int limit) {
+		List<Long> postIds = new ArrayList<>();
+		String cursor = null;
+		do {
+			GroupPostPage page = groupPostService.getFeed(groupId, viewerId, cursor, limit);
+			page.getPosts().forEach(share -> postIds.add(share.getPostId()));
+			cursor = page.getNextCursor();
+		} while (cursor != null);
+		return postIds;
+	}
+
+	@Test
+	void feedPagesNewestFirstWithoutGapsOrRepeats() {
+		Long owner = data.newUser();
+		Long groupId = data.newGroup(owner, GroupPrivacy.PUBLIC);
+		List<Long> shared = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			Long postId = data.newPost(owner);
+			GroupPost share = groupPostService.sharePost(groupId, postId, owner);
+			assertThat(share.getSharedBy()).isEqualTo(owner);
+			shared.add(0, postId);
+		}
+
+		assertThat(readFeed(groupId, null, 2)).containsExactlyElementsOf(shared);
+
+		assertThat(groupPostService.unsharePost(groupId, shared.get(2), owner)).isTrue();
+		assertThat(groupPostService.unsharePost(groupId, shared.get(2), owner)).isFalse();
+		shared.remove(2);
+		assertThat(readFeed(groupId, owner, 3)).containsExactlyElementsOf(shared);
+	}
+
+	@Test
+	void rejectsBadPagesAndForeignCursors() {
+		Long owner = data.newUser();
+		Long groupId = data.newGroup(owner, GroupPrivacy.PUBLIC);
+		assertThatThrownBy(() -> groupPostService.getFeed(groupId, owner, null, 0))
+				.isInstanceOf(IllegalArgumentException.class);
+		String directoryCursor = new SortKeyCursor("NAME", "soup", 3).encode();
+		assertThatThrownBy(() -> groupPostService.getFeed(groupId, owner, directoryCursor, 10))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void onlyActiveMembersShareAndReadPrivateGroups() {
+		Long owner = data.newUser();
+		Long groupId = data.newGroup(owner, GroupPrivacy.PRIVATE);
+		Long pending = data.newUser();
+		Long outsider = data.newUser();
+		groupService.addMember(groupId, pending, MemberRole.MEMBER);
+		groupService.updateMemberStatus(groupId, pending, MembershipStatus.PENDING);
+		Long postId = data.newPost(owner);
+		groupPostService.sharePost(groupId, postId, owner);
+
+		assertThatThrownBy(() -> groupPostService.sharePost(groupId, postId, owner))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> groupPostService.sharePost(groupId, data.newPost(pending), pending))
+				.isInstanceOf(SecurityException.class);
+		assertThatThrownBy(() -> groupPostService.getFeed(groupId, outsider, null, 10))
+				.isInstanceOf(SecurityException.class);
+		assertThatThrownBy(() -> groupPostService.getFeed(groupId, null, null, 10))
+				.isInstanceOf(SecurityException.class);
+		assertThatThrownBy(() -> groupPostService.unsharePost(groupId, postId, outsider))
+				.isInstanceOf(SecurityException.class);
+		assertThat(readFeed(groupId, owner, 10)).containsExactly(postId);
+	}
+}
@@ -0,0 +1,93 @@
+package foodieframe.recipe_sharing_platform.service;
+
+import foodieframe.recipe_sharing_platform.TestData;
+import foodieframe.recipe_sharing_platform.model.GroupSuggestion;
+import foodieframe.recipe_sharing_platform.model.RecipeGroup.GroupPrivacy;
+import foodieframe.recipe_sharing_platform.model.RecipeGroupMember.MemberRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class GroupSuggestionServiceTest {
+
+	@Autowired
+	private TestData data;
+
+	@Autowired
+	private GroupSuggestionService suggestionService;
+
+	@Autowired
+	private RecipeGroupService groupService;
+
+	@Autowired
+	private FriendService friendService;
+
+	private void befriend(Long a, Long b) {
+		friendService.sendFriendRequest(a, b);
+		friendService.acceptFriendRequest(b, a);
+	}
+
+	@Test
+	void ranksFriendsGroupsAndSkipsJoinedAndPrivateOnes() {
+		Long user = data.newUser();
+		Long stranger = data.newUser();
+		Long f1 = data.newUser();
+		Long f2 = data.newUser();
+		befriend(user, f1);
+		befriend(user, f2);
+		Long joined = data.newGroup(stranger);
+		groupService.addMember(joined, user, MemberRole.MEMBER);
+		Long both = data.newGroup(f1);
+		groupService.addMember(both, f2, MemberRole.MEMBER);
+		Long one = data.newGroup(f2);
+		Long hidden = data.newGroup(f1, GroupPrivacy.PRIVATE);
+		groupService.addMember(hidden, f2, MemberRole.MEMBER);
+		groupService.addMember(joined, f1, MemberRole.MEMBER);
+
+		suggestionService.refresh();
+
+		List<GroupSuggestion> suggestions = suggestionService.getSuggestions(user, 5);
+		assertThat(suggestions).extracting(GroupSuggestion::getGroupId).containsExactly(both, one);
+		assertThat(suggestions).extracting(GroupSuggestion::getMutualFriends).containsExactly(2, 1);
+	}
+
+	@Test
+	void scoresUserWithoutGroupsOnRequestAndDropsGroupsJoinedSince() {
+		Long user = data.newUser();
+		Long friend = data.newUser();
+		befriend(user, friend);
+		Long group = data.newGroup(friend);
+
+		suggestionService.refresh();
+
+		assertThat(suggestionService.getSuggestions(user, 5)).extracting(GroupSuggestion::getGroupId)
+				.containsExactly(group);
+
+		groupService.addMember(group, user, MemberRole.MEMBER);
+		assertThat(suggestionService.getSuggestions(user, 5)).isEmpty();
+	}
+
+	@Test
+	void suggestsGroupsSimilarToOwnWithoutFriends() {
+		Long user = data.newUser();
+		Long a = data.newUser();
+		Long b = data.newUser();
+		Long own = data.newGroup(a);
+		groupService.addMember(own, b, MemberRole.MEMBER);
+		groupService.addMember(own, user, MemberRole.MEMBER);
+		Long similar = data.newGroup(a);
+		groupService.addMember(similar, b, MemberRole.MEMBER);
+
+		suggestionService.refresh();
+
+		List<GroupSuggestion> suggestions = suggestionService.getSuggestions(user, 5);
+		assertThat(suggestions).extracting(GroupSuggestion::getGroupId).containsExactly(similar);
+		assertThat(suggestions.get(0).getMutualFriends()).isZero();
+		assertThat(suggestions.get(0).getSimilarity()).isGreaterThan(0.0);
+	}
+}
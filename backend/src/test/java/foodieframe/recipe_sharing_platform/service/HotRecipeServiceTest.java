@@ -0,0 +1,82 @@
+package foodieframe.recipe_sharing_platform.service;
+
+import foodieframe.recipe_sharing_platform.model.HotRecipe;
+import foodieframe.recipe_sharing_platform.service.HotRecipeService.Window;
+import foodieframe.recipe_sharing_platform.service.HotRecipeService.WindowRing;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotRecipeServiceTest {
+
+	private static final long BUCKET = 10 * 60 * 1000L;
+	// Start of a bucket period of the hour window
+	private static final long T0 = 1000 * BUCKET;
+
+	private static List<Long> ids(List<HotRecipe> hot) {
+		return hot.stream().map(HotRecipe::getRecipeId).toList();
+	}
+
+	@Test
+	void ranksByCountAndAppliesLimit() {
+		WindowRing ring = new WindowRing(Window.HOUR);
+		for (int i = 0; i < 3; i++) {
+			ring.add(1, T0);
+		}
+		ring.add(2, T0);
+		for (int i = 0; i < 2; i++) {
+			ring.add(3, T0 + BUCKET);
+		}
+
+		List<HotRecipe> hot = ring.top(10, T0 + BUCKET);
+		assertThat(ids(hot)).containsExactly(1L, 3L, 2L);
+		assertThat(hot.get(0).getCount()).isEqualTo(3);
+		assertThat(hot.get(0).getErrorBound()).isEqualTo((long) Math.ceil(Math.E * 6 / 1024));
+		assertThat(ids(ring.top(2, T0 + BUCKET))).containsExactly(1L, 3L);
+	}
+
+	@Test
+	void bucketsLeaveWindowAfterFullRotation() {
+		WindowRing ring = new WindowRing(Window.HOUR);
+		ring.add(1, T0);
+		ring.add(2, T0 + 3 * BUCKET);
+
+		// Last instant the first bucket is still one of the six
+		assertThat(ids(ring.top(10, T0 + 6 * BUCKET - 1))).containsExactlyInAnyOrder(1L, 2L);
+		// Dropped at query time even though nothing has reused its slot
+		assertThat(ids(ring.top(10, T0 + 6 * BUCKET))).containsExactly(2L);
+		assertThat(ids(ring.top(10, T0 + 9 * BUCKET))).isEmpty();
+	}
+
+	@Test
+	void reusedSlotStartsFromZero() {
+		WindowRing ring = new WindowRing(Window.HOUR);
+		for (int i = 0; i < 5; i++) {
+			ring.add(1, T0);
+		}
+		// Same slot, one rotation later
+		ring.add(2, T0 + 6 * BUCKET);
+
+		List<HotRecipe> hot = ring.top(10, T0 + 6 * BUCKET);
+		assertThat(ids(hot)).containsExactly(2L);
+		assertThat(hot.get(0).getCount()).isEqualTo(1);
+	}
+
+	@Test
+	void windowsCountSeparately() {
+		HotRecipeService service = new HotRecipeService();
+		service.recordSave(7L);
+		service.recordSave(7L);
+
+		for (Window window : Window.values()) {
+			List<HotRecipe> hot = service.getHotRecipes(HotRecipeService.EngagementType.SAVE, window, 5);
+			assertThat(ids(hot)).containsExactly(7L);
+			assertThat(hot.get(0).getCount()).isEqualTo(2);
+			assertThat(ids(service.getHotRecipes(HotRecipeService.EngagementType.ALL, window, 5)))
+					.containsExactly(7L);
+		}
+		assertThat(service.getHotRecipes(HotRecipeService.EngagementType.LIKE, Window.DAY, 5)).isEmpty();
+	}
+}
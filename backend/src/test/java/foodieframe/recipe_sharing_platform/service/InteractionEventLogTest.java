@@ -0,0 +1,94 @@
+package foodieframe.recipe_sharing_platform.service;
+
+import foodieframe.recipe_sharing_platform.model.Interaction.InteractionType;
+import foodieframe.recipe_sharing_platform.model.InteractionLogRecord;
+import foodieframe.recipe_sharing_platform.model.InteractionLogRecord.Operation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InteractionEventLogTest {
+
+	@TempDir
+	Path directory;
+
+	// Tiny segments so a handful of records rolls several of them
+	private InteractionEventLog open() throws IOException {
+		InteractionEventLog log = new InteractionEventLog();
+		ReflectionTestUtils.setField(log, "directory", directory.toString());
+		ReflectionTestUtils.setField(log, "segmentRecords", 4);
+		log.open();
+		return log;
+	}
+
+	private static List<InteractionLogRecord> replay(InteractionEventLog log, long from) {
+		List<InteractionLogRecord> records = new ArrayList<>();
+		log.replay(from, records::add);
+		return records;
+	}
+
+	@Test
+	void replaysRecordsInOrderAcrossSegments() throws IOException {
+		InteractionEventLog log = open();
+		for (long i = 0; i < 10; i++) {
+			log.append(i, 100 + i, InteractionType.values()[(int) (i % 3)], Operation.values()[(int) (i % 4)]);
+		}
+
+		assertThat(log.getEndOffset()).isEqualTo(10);
+		try (Stream<Path> files = Files.list(directory)) {
+			assertThat(files.count()).isEqualTo(3);
+		}
+		List<InteractionLogRecord> records = replay(log, 0);
+		assertThat(records).hasSize(10);
+		for (int i = 0; i < 10; i++) {
+			InteractionLogRecord record = records.get(i);
+			assertThat(record.getOffset()).isEqualTo(i);
+			assertThat(record.getUserId()).isEqualTo(i);
+			assertThat(record.getRecipeId()).isEqualTo(100 + i);
+			assertThat(record.getInteractionType()).isEqualTo(InteractionType.values()[i % 3]);
+			assertThat(record.getOperation()).isEqualTo(Operation.values()[i % 4]);
+			assertThat(record.getTimestamp()).isPositive();
+		}
+	}
+
+	@Test
+	void replayResumesFromReturnedOffset() throws IOException {
+		InteractionEventLog log = open();
+		for (long i = 0; i < 6; i++) {
+			log.append(i, 1, InteractionType.LIKE, Operation.CREATE);
+		}
+		List<InteractionLogRecord> first = new ArrayList<>();
+		long resume = log.replay(0, first::add);
+		assertThat(resume).isEqualTo(6);
+
+		log.append(6, 1, InteractionType.LIKE, Operation.DELETE);
+		List<InteractionLogRecord> rest = replay(log, resume);
+		assertThat(rest).extracting(InteractionLogRecord::getUserId).containsExactly(6L);
+		// Starting mid-segment skips earlier records of that segment
+		assertThat(replay(log, 5)).extracting(InteractionLogRecord::getOffset).containsExactly(5L, 6L);
+	}
+
+	@Test
+	void reopeningRecoversWritePosition() throws IOException {
+		InteractionEventLog log = open();
+		for (long i = 0; i < 6; i++) {
+			log.append(i, 1, InteractionType.COMMENT, Operation.UPDATE);
+		}
+		log.close();
+
+		InteractionEventLog reopened = open();
+		assertThat(reopened.getEndOffset()).isEqualTo(6);
+		reopened.append(6, 1, InteractionType.COMMENT, Operation.PURGE);
+		assertThat(replay(reopened, 0)).extracting(InteractionLogRecord::getUserId)
+				.containsExactly(0L, 1L, 2L, 3L, 4L, 5L, 6L);
+	}
+}
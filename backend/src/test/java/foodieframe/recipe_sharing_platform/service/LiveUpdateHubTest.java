@@ -0,0 +1,196 @@
+package foodieframe.recipe_sharing_platform.service;
+
+import foodieframe.recipe_sharing_platform.model.LiveEvent;
+import foodieframe.recipe_sharing_platform.model.LiveEvent.LiveEventType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class LiveUpdateHubTest {
+
+	private static final String TOPIC = LiveUpdateHub.postTopic(1L);
+
+	// Long enough that the scheduled dispatch and heartbeat never run; the tests call them
+	private static final long NEVER_MS = TimeUnit.HOURS.toMillis(1);
+
+	private LiveUpdateHub hub;
+
+	private void startHub(int subscriberBuffer, int senderThreads, long writeTimeoutMs) {
+		hub = new LiveUpdateHub();
+		ReflectionTestUtils.setField(hub, "batchWindowMs", NEVER_MS);
+		ReflectionTestUtils.setField(hub, "maxBatchSize", 50);
+		ReflectionTestUtils.setField(hub, "subscriberBuffer", subscriberBuffer);
+		ReflectionTestUtils.setField(hub, "heartbeatIntervalMs", NEVER_MS);
+		ReflectionTestUtils.setField(hub, "emitterTimeoutMs", NEVER_MS);
+		ReflectionTestUtils.setField(hub, "senderThreads", senderThreads);
+		ReflectionTestUtils.setField(hub, "writeTimeoutMs", writeTimeoutMs);
+		hub.start();
+	}
+
+	@AfterEach
+	void stopHub() {
+		hub.stop();
+	}
+
+	private void publishAndDispatch() {
+		hub.publish(TOPIC, new LiveEvent(LiveEventType.COMMENT_CREATED, "Looks delicious"));
+		ReflectionTestUtils.invokeMethod(hub, "dispatch");
+	}
+
+	private static void waitUntil(Callable<Boolean> condition) {
+		await().atMost(Duration.ofSeconds(5)).pollInterval(Duration.ofMillis(1)).until(condition);
+	}
+
+	private ThreadPoolExecutor senders() {
+		return (ThreadPoolExecutor) ReflectionTestUtils.getField(hub, "senders");
+	}
+
+	@Test
+	void dropsSubscriberWhoseQueueIsFull() throws InterruptedException {
+		startHub(2, 2, NEVER_MS);
+		StubEmitter slow = StubEmitter.blocking();
+		StubEmitter fast = new StubEmitter();
+		hub.subscribe(TOPIC, slow);
+		assertThat(slow.writing.await(5, TimeUnit.SECONDS)).isTrue();
+		hub.subscribe(TOPIC, fast);
+		assertThat(fast.writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+		// Two batches fill the stalled subscriber's queue and the third drops it
+		for (int i = 1; i <= 3; i++) {
+			publishAndDispatch();
+			int sent = i;
+			waitUntil(() -> fast.batches.get() == sent);
+		}
+		assertThat(hub.subscriberCount(TOPIC)).isEqualTo(1);
+
+		slow.release.countDown();
+		waitUntil(() -> slow.completed);
+		assertThat(slow.batches.get()).isZero();
+	}
+
+	@Test
+	void abandonsBlockedWriteAndLendsItsThreadToOthers() throws InterruptedException {
+		startHub(4, 1, 50);
+		StubEmitter stalled = StubEmitter.blocking();
+		hub.subscribe(TOPIC, stalled);
+		assertThat(stalled.writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+		waitUntil(() -> senders().getMaximumPoolSize() == 2);
+		assertThat(hub.subscriberCount(TOPIC)).isZero();
+
+		// The only original sender thread is still stuck, yet a new subscriber is served
+		StubEmitter fresh = new StubEmitter();
+		hub.subscribe(TOPIC, fresh);
+		publishAndDispatch();
+		waitUntil(() -> fresh.batches.get() == 1);
+
+		stalled.release.countDown();
+		waitUntil(() -> stalled.completed);
+		waitUntil(() -> senders().getMaximumPoolSize() == 1);
+		assertThat(senders().getCorePoolSize()).isEqualTo(1);
+	}
+
+	@Test
+	void detachesSubscriberWhoseWriteFails() {
+		startHub(4, 2, NEVER_MS);
+		StubEmitter broken = new StubEmitter();
+		broken.fail = true;
+		StubEmitter healthy = new StubEmitter();
+		hub.subscribe(TOPIC, broken);
+		hub.subscribe(TOPIC, healthy);
+
+		waitUntil(() -> hub.subscriberCount(TOPIC) == 1);
+		publishAndDispatch();
+		waitUntil(() -> healthy.batches.get() == 1);
+	}
+
+	@Test
+	void subscriberJoiningWhileHeartbeatUnmapsTopicStaysSubscribed() throws InterruptedException {
+		startHub(64, 2, NEVER_MS);
+		AtomicBoolean stopped = new AtomicBoolean();
+		Thread heartbeats = new Thread(() -> {
+			while (!stopped.get()) {
+				ReflectionTestUtils.invokeMethod(hub, "heartbeat");
+				LockSupport.parkNanos(10_000);
+			}
+		});
+		heartbeats.start();
+		try {
+			for (int i = 0; i < 200; i++) {
+				StubEmitter emitter = new StubEmitter();
+				hub.subscribe(TOPIC, emitter);
+				// Joined to the topic still mapped, not one the heartbeat just removed
+				assertThat(hub.subscriberCount(TOPIC)).isEqualTo(1);
+
+				// Leave again so the heartbeat unmaps the empty topic before the next join
+				emitter.fail = true;
+				publishAndDispatch();
+				waitUntil(() -> hub.subscriberCount(TOPIC) == 0);
+			}
+		} finally {
+			stopped.set(true);
+			heartbeats.join();
+		}
+	}
+
+	/**
+	 * Emitter standing in for a client: records batches, or blocks or fails on send
+	 */
+	private static class StubEmitter extends SseEmitter {
+		private final CountDownLatch writing = new CountDownLatch(1);
+		private final CountDownLatch release;
+		private final AtomicInteger batches = new AtomicInteger();
+		private volatile boolean fail;
+		private volatile boolean completed;
+
+		StubEmitter() {
+			this(null);
+		}
+
+		private StubEmitter(CountDownLatch release) {
+			this.release = release;
+		}
+
+		// Blocks every send until released, like a client that stopped reading
+		static StubEmitter blocking() {
+			return new StubEmitter(new CountDownLatch(1));
+		}
+
+		@Override
+		public void send(SseEventBuilder builder) throws IOException {
+			writing.countDown();
+			if (release != null) {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			if (fail) {
+				throw new IOException("Client went away");
+			}
+			if (builder.build().stream().anyMatch(part -> part.getData().toString().contains("event:batch"))) {
+				batches.incrementAndGet();
+			}
+		}
+
+		@Override
+		public synchronized void complete() {
+			completed = true;
+		}
+	}
+}
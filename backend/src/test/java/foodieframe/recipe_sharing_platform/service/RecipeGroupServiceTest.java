@@ -0,0 +1,187 @@
+package foodieframe.recipe_sharing_platform.service;
+
+import foodieframe.recipe_sharing_platform.TestData;
+import foodieframe.recipe_sharing_platform.model.MemberImport;
+import foodieframe.recipe_sharing_platform.model.MemberImport.Outcome;
+import foodieframe.recipe_sharing_platform.model.RecipeGroupMember;
+import foodieframe.recipe_sharing_platform.model.RecipeGroupMember.MemberRole;
+import foodieframe.recipe_sharing_platform.model.RecipeGroupMember.MembershipStatus;
+import foodieframe.recipe_sharing_platform.model.User;
+import foodieframe.recipe_sharing_platform.repository.RecipeGroupMemberRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class RecipeGroupServiceTest {
+
+	@Autowired
+	private TestData data;
+
+	@Autowired
+	private RecipeGroupService groupService;
+
+	@Autowired
+	private GroupMembershipIndex membershipIndex;
+
+	@Autowired
+	private RecipeGroupMemberRepository memberRepository;
+
+	// Stored count matches the ACTIVE rows, and the index matches every row
+	private void assertConsistent(Long groupId, List<Long> users) {
+		List<RecipeGroupMember> rows = memberRepository.findByGroupId(groupId);
+		long active = rows.stream().filter(row -> row.getStatus() == MembershipStatus.ACTIVE).count();
+		assertThat(groupService.countGroupMembers(groupId)).isEqualTo(active);
+		for (Long userId : users) {
+			RecipeGroupMember row = rows.stream().filter(r -> r.getUserId().equals(userId)).findFirst().orElse(null);
+			GroupMembershipIndex.Membership indexed = membershipIndex.get(groupId, userId);
+			if (row == null) {
+				assertThat(indexed).isNull();
+			} else {
+				assertThat(indexed).isNotNull();
+				assertThat(indexed.getRole()).isEqualTo(row.getRole());
+				assertThat(indexed.getStatus()).isEqualTo(row.getStatus());
+			}
+		}
+	}
+
+	@Test
+	void countAndIndexFollowEveryMembershipChange() {
+		Long admin = data.newUser();
+		Long groupId = data.newGroup(admin);
+		Long joiner = data.newUser();
+		Long invitee = data.newUser();
+		Long other = data.newUser();
+		List<Long> users = List.of(admin, joiner, invitee, other);
+		assertConsistent(groupId, users);
+		assertThat(groupService.countGroupMembers(groupId)).isEqualTo(1);
+
+		groupService.addMember(groupId, joiner, MemberRole.MEMBER);
+		groupService.importMembers(groupId, admin, List.of(new MemberImport.Row(1, invitee.toString(), null),
+				new MemberImport.Row(2, other.toString(), null)), MemberRole.MEMBER, MembershipStatus.PENDING);
+		assertConsistent(groupId, users);
+		assertThat(groupService.countGroupMembers(groupId)).isEqualTo(2);
+
+		groupService.updateMemberStatus(groupId, invitee, MembershipStatus.ACTIVE);
+		assertConsistent(groupId, users);
+		groupService.updateMemberStatus(groupId, joiner, MembershipStatus.BANNED);
+		assertConsistent(groupId, users);
+		assertThat(groupService.countGroupMembers(groupId)).isEqualTo(2);
+
+		// Repeating a status is a no-op
+		groupService.updateMemberStatus(groupId, joiner, MembershipStatus.BANNED);
+		groupService.updateMemberRole(groupId, invitee, MemberRole.MODERATOR);
+		assertConsistent(groupId, users);
+
+		groupService.removeMember(groupId, joiner);
+		groupService.removeMember(groupId, other);
+		groupService.removeMember(groupId, other);
+		assertConsistent(groupId, users);
+		assertThat(groupService.countGroupMembers(groupId)).isEqualTo(2);
+
+		groupService.removeMember(groupId, invitee);
+		assertConsistent(groupId, users);
+		assertThat(groupService.countGroupMembers(groupId)).isEqualTo(1);
+	}
+
+	@Test
+	void addingExistingMemberFailsWithoutChangingCount() {
+		Long admin = data.newUser();
+		Long groupId = data.newGroup(admin);
+		Long user = data.newUser();
+		groupService.addMember(groupId, user, MemberRole.MEMBER);
+
+		assertThatThrownBy(() -> groupService.addMember(groupId, user, MemberRole.ADMIN))
+				.isInstanceOf(RuntimeException.class);
+		assertConsistent(groupId, List.of(admin, user));
+		assertThat(groupService.countGroupMembers(groupId)).isEqualTo(2);
+	}
+
+	@Test
+	void recountAgreesWithMaintainedCounts() {
+		Long admin = data.newUser();
+		Long groupId = data.newGroup(admin);
+		groupService.addMember(groupId, data.newUser(), MemberRole.MEMBER);
+		Long leaver = data.newUser();
+		groupService.addMember(groupId, leaver, MemberRole.MEMBER);
+		groupService.removeMember(groupId, leaver);
+		long maintained = groupService.countGroupMembers(groupId);
+
+		groupService.recountMembers();
+		assertThat(groupService.countGroupMembers(groupId)).isEqualTo(maintained).isEqualTo(2);
+	}
+
+	@Test
+	void deletingGroupClearsIndex() {
+		Long admin = data.newUser();
+		Long groupId = data.newGroup(admin);
+		Long user = data.newUser();
+		groupService.addMember(groupId, user, MemberRole.MEMBER);
+
+		groupService.deleteGroup(groupId);
+		assertThat(membershipIndex.get(groupId, admin)).isNull();
+		assertThat(membershipIndex.get(groupId, user)).isNull();
+	}
+
+	@Test
+	void importReportsOutcomeOfEachRow() {
+		Long admin = data.newUser();
+		Long groupId = data.newGroup(admin);
+		User byName = data.saveUser();
+		User byEmail = data.saveUser();
+		Long byId = data.newUser();
+		Long existing = data.newUser();
+		groupService.addMember(groupId, existing, MemberRole.MEMBER);
+
+		MemberImport result = groupService.importMembers(groupId, admin, List.of(
+				new MemberImport.Row(1, byName.getUsername(), "moderator"),
+				new MemberImport.Row(2, byEmail.getEmail(), null),
+				new MemberImport.Row(3, byId.toString(), null),
+				new MemberImport.Row(4, byName.getId().toString(), null),
+				new MemberImport.Row(5, existing.toString(), null),
+				new MemberImport.Row(6, "nobody-" + UUID.randomUUID(), null),
+				new MemberImport.Row(7, " ", null),
+				new MemberImport.Row(8, byId.toString(), "chef")), MemberRole.MEMBER, MembershipStatus.ACTIVE);
+
+		assertThat(result.getRows()).extracting(MemberImport.Row::getOutcome).containsExactly(
+				Outcome.ADDED, Outcome.ADDED, Outcome.ADDED, Outcome.DUPLICATE,
+				Outcome.ALREADY_MEMBER, Outcome.USER_NOT_FOUND, Outcome.INVALID, Outcome.INVALID);
+		assertThat(result.getAdded()).isEqualTo(3);
+		assertThat(result.getSkipped()).isEqualTo(2);
+		assertThat(result.getFailed()).isEqualTo(3);
+		assertThat(memberRepository.findByGroupIdAndUserId(groupId, byName.getId()).orElseThrow().getRole())
+				.isEqualTo(MemberRole.MODERATOR);
+		assertConsistent(groupId, List.of(admin, byName.getId(), byEmail.getId(), byId, existing));
+		assertThat(groupService.countGroupMembers(groupId)).isEqualTo(5);
+	}
+
+	@Test
+	void importInsertsInRosterOrder() {
+		Long admin = data.newUser();
+		Long groupId = data.newGroup(admin);
+		List<Long> users = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			users.add(0, data.newUser());
+		}
+		List<MemberImport.Row> rows = new ArrayList<>();
+		for (Long userId : users) {
+			rows.add(new MemberImport.Row(rows.size() + 1, userId.toString(), null));
+		}
+
+		groupService.importMembers(groupId, admin, rows, MemberRole.MEMBER, MembershipStatus.ACTIVE);
+
+		assertThat(memberRepository.findByGroupId(groupId).stream()
+				.filter(member -> !member.getUserId().equals(admin))
+				.sorted(Comparator.comparing(RecipeGroupMember::getId))
+				.map(RecipeGroupMember::getUserId))
+				.containsExactlyElementsOf(users);
+	}
+}
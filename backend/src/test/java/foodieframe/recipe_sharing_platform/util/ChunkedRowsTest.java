@@ -0,0 +1,50 @@
+package foodieframe.recipe_sharing_platform.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChunkedRowsTest {
+
+	private static final List<Object[]> TABLE = List.of(
+			new Object[] { 2L, "a" }, new Object[] { 5L, "b" }, new Object[] { 6L, "c" },
+			new Object[] { 9L, "d" }, new Object[] { 11L, "e" }, new Object[] { 12L, "f" },
+			new Object[] { 20L, "g" });
+
+	// Serves rows after the given ID, recording where each chunk started
+	private static List<Object[]> query(List<Long> starts, long afterId, int size) {
+		starts.add(afterId);
+		return TABLE.stream().filter(row -> (Long) row[0] > afterId).limit(size).toList();
+	}
+
+	@Test
+	void visitsEveryRowInOrder() {
+		List<Long> starts = new ArrayList<>();
+		List<Object> seen = new ArrayList<>();
+
+		long count = ChunkedRows.forEach((afterId, chunk) -> query(starts, afterId, chunk.getPageSize()), 3,
+				row -> seen.add(row[1]));
+
+		assertThat(count).isEqualTo(7);
+		assertThat(seen).containsExactly("a", "b", "c", "d", "e", "f", "g");
+		assertThat(starts).containsExactly(0L, 6L, 12L, 20L);
+	}
+
+	@Test
+	void emptyTableReadsOnce() {
+		List<Long> starts = new ArrayList<>();
+
+		long count = ChunkedRows.forEach((afterId, chunk) -> {
+			starts.add(afterId);
+			return List.of();
+		}, 3, row -> {
+			throw new AssertionError("No rows expected");
+		});
+
+		assertThat(count).isZero();
+		assertThat(starts).containsExactly(0L);
+	}
+}
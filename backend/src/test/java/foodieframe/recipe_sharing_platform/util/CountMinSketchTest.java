@@ -0,0 +1,99 @@
+package foodieframe.recipe_sharing_platform.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CountMinSketchTest {
+
+	// Skewed stream: a few hot keys and a long tail
+	private static Map<Long, Long> fill(CountMinSketch sketch, long events, long seed) {
+		Random random = new Random(seed);
+		Map<Long, Long> counts = new HashMap<>();
+		for (long i = 0; i < events; i++) {
+			long key = random.nextInt(4) == 0 ? random.nextInt(10) : random.nextInt(20_000);
+			sketch.add(key, 1);
+			counts.merge(key, 1L, Long::sum);
+		}
+		return counts;
+	}
+
+	@Test
+	void widthRoundsUpToPowerOfTwo() {
+		assertThat(new CountMinSketch(4, 1000).width()).isEqualTo(1024);
+		assertThat(new CountMinSketch(4, 1024).width()).isEqualTo(1024);
+		assertThat(new CountMinSketch(4, 1025).width()).isEqualTo(2048);
+	}
+
+	@Test
+	void overcountStaysWithinErrorBound() {
+		int depth = 4;
+		CountMinSketch sketch = new CountMinSketch(depth, 1024);
+		long total = 100_000;
+		Map<Long, Long> counts = fill(sketch, total, 1);
+
+		double bound = Math.E * total / sketch.width();
+		long beyond = 0;
+		for (Map.Entry<Long, Long> entry : counts.entrySet()) {
+			long estimate = sketch.estimate(entry.getKey());
+			assertThat(estimate).isGreaterThanOrEqualTo(entry.getValue());
+			if (estimate - entry.getValue() > bound) {
+				beyond++;
+			}
+		}
+		// Each key may exceed the bound with probability at most e^-depth
+		assertThat((double) beyond / counts.size()).isLessThanOrEqualTo(Math.exp(-depth));
+	}
+
+	@Test
+	void unseenKeysEstimateWithinBound() {
+		CountMinSketch sketch = new CountMinSketch(4, 1024);
+		fill(sketch, 10_000, 2);
+		double bound = Math.E * 10_000 / sketch.width();
+		long beyond = 0;
+		for (long key = 1_000_000; key < 1_010_000; key++) {
+			if (sketch.estimate(key) > bound) {
+				beyond++;
+			}
+		}
+		assertThat(beyond / 10_000.0).isLessThanOrEqualTo(Math.exp(-4));
+	}
+
+	@Test
+	void mergeMatchesAddingToOneSketch() {
+		CountMinSketch first = new CountMinSketch(4, 256);
+		CountMinSketch second = new CountMinSketch(4, 256);
+		CountMinSketch both = new CountMinSketch(4, 256);
+		fill(first, 5000, 3);
+		fill(both, 5000, 3);
+		fill(second, 5000, 4);
+		fill(both, 5000, 4);
+
+		first.merge(second);
+		for (long key = 0; key < 20_000; key += 7) {
+			assertThat(first.estimate(key)).isEqualTo(both.estimate(key));
+		}
+	}
+
+	@Test
+	void mergeRejectsOtherDimensions() {
+		CountMinSketch sketch = new CountMinSketch(4, 256);
+		assertThatThrownBy(() -> sketch.merge(new CountMinSketch(4, 512)))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> sketch.merge(new CountMinSketch(3, 256)))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void clearResetsCounts() {
+		CountMinSketch sketch = new CountMinSketch(4, 256);
+		sketch.add(42, 10);
+		sketch.clear();
+		assertThat(sketch.estimate(42)).isZero();
+	}
+}
@@ -0,0 +1,83 @@
+package foodieframe.recipe_sharing_platform.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class GeoHashTest {
+
+	@Test
+	void encodesKnownPoints() {
+		assertThat(GeoHash.encode(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+		assertThat(GeoHash.encode(42.6, -5.6, 5)).isEqualTo("ezs42");
+		assertThat(GeoHash.encode(-90, -180, 1)).isEqualTo("0");
+		// The top and right edges clamp into the last cell
+		assertThat(GeoHash.encode(90, 180, 12)).isEqualTo("zzzzzzzzzzzz");
+	}
+
+	@Test
+	void coarserHashIsPrefixOfFiner() {
+		Random random = new Random(21);
+		for (int i = 0; i < 1000; i++) {
+			double lat = random.nextDouble() * 180 - 90;
+			double lon = random.nextDouble() * 360 - 180;
+			String full = GeoHash.encode(lat, lon, GeoHash.MAX_PRECISION);
+			for (int precision = 1; precision < GeoHash.MAX_PRECISION; precision++) {
+				assertThat(full).startsWith(GeoHash.encode(lat, lon, precision));
+			}
+		}
+	}
+
+	@Test
+	void boxAcrossCellCornerCoversAllFourNeighbours() {
+		assertThat(GeoHash.cover(-1, 1, -1, 1, 4)).containsExactlyInAnyOrder("7zz", "kpb", "ebp", "s00");
+	}
+
+	@Test
+	void coverWrapsAroundAntiMeridian() {
+		List<String> cells = GeoHash.cover(-1, 1, 179, 181, 16);
+		for (double lon : new double[] {179.5, -179.5}) {
+			String hash = GeoHash.encode(0.5, lon, GeoHash.MAX_PRECISION);
+			assertThat(cells).anyMatch(hash::startsWith);
+		}
+	}
+
+	@Test
+	void coverContainsEveryPointOfBox() {
+		Random random = new Random(23);
+		for (int trial = 0; trial < 200; trial++) {
+			double minLat = random.nextDouble() * 160 - 80;
+			double minLon = random.nextDouble() * 340 - 170;
+			double size = Math.pow(10, -3 + random.nextDouble() * 4);
+			double maxLat = minLat + size;
+			double maxLon = minLon + size;
+			int maxCells = 4 + random.nextInt(30);
+
+			List<String> cells = GeoHash.cover(minLat, maxLat, minLon, maxLon, maxCells);
+			assertThat(cells).hasSizeLessThanOrEqualTo(maxCells).doesNotHaveDuplicates();
+			int precision = cells.get(0).length();
+			assertThat(cells).allMatch(cell -> cell.length() == precision);
+			// One level finer needs at most 32 times the cells, so this budget must buy it
+			if (precision < GeoHash.MAX_PRECISION) {
+				assertThat(GeoHash.cover(minLat, maxLat, minLon, maxLon, maxCells * 64).get(0))
+						.hasSizeGreaterThan(precision);
+			}
+			for (int point = 0; point < 50; point++) {
+				double lat = minLat + random.nextDouble() * size;
+				double lon = minLon + random.nextDouble() * size;
+				assertThat(cells).contains(GeoHash.encode(lat, lon, precision));
+			}
+		}
+	}
+
+	@Test
+	void distanceMatchesKnownCities() {
+		// Paris to London
+		assertThat(GeoHash.distanceKm(48.8566, 2.3522, 51.5074, -0.1278)).isCloseTo(343.5, within(1.0));
+		assertThat(GeoHash.distanceKm(10, 20, 10, 20)).isZero();
+	}
+}
@@ -0,0 +1,103 @@
+package foodieframe.recipe_sharing_platform.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ICalendarWriterTest {
+
+	private interface Body {
+		void write(ICalendarWriter writer) throws IOException;
+	}
+
+	private static byte[] write(Body body) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ICalendarWriter writer = new ICalendarWriter(bytes)) {
+			body.write(writer);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static String text(byte[] bytes) {
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	// Every physical line must fit in 75 octets, counted before decoding
+	private static void assertFolded(byte[] bytes) {
+		int start = 0;
+		for (int i = 0; i < bytes.length; i++) {
+			if (bytes[i] == '\r') {
+				assertThat(bytes[i + 1]).isEqualTo((byte) '\n');
+				assertThat(i - start).isLessThanOrEqualTo(75);
+				start = i + 2;
+			}
+		}
+		assertThat(start).isEqualTo(bytes.length);
+	}
+
+	private static String unfold(String folded) {
+		return folded.replace("\r\n ", "");
+	}
+
+	@Test
+	void writesComponentsWithCrlf() throws IOException {
+		String written = text(write(writer -> writer.begin("VCALENDAR").raw("VERSION", "2.0")
+				.dateTime("DTSTART", Instant.parse("2026-03-04T05:06:07Z")).end("VCALENDAR")));
+		assertThat(written).isEqualTo("BEGIN:VCALENDAR\r\nVERSION:2.0\r\nDTSTART:20260304T050607Z\r\nEND:VCALENDAR\r\n");
+	}
+
+	@Test
+	void nullValuesAreSkipped() throws IOException {
+		assertThat(write(writer -> writer.text("LOCATION", null).dateTime("DTEND", null))).isEmpty();
+	}
+
+	@Test
+	void escapesTextValues() throws IOException {
+		String written = text(write(writer -> writer.text("SUMMARY", "Pasta, sauce; more\\less\r\nnext")));
+		assertThat(written).isEqualTo("SUMMARY:Pasta\\, sauce\\; more\\\\less\\nnext\r\n");
+	}
+
+	@Test
+	void rawValuesAreNotEscaped() throws IOException {
+		assertThat(text(write(writer -> writer.raw("RRULE", "FREQ=WEEKLY;BYDAY=MO,WE"))))
+				.isEqualTo("RRULE:FREQ=WEEKLY;BYDAY=MO,WE\r\n");
+	}
+
+	@Test
+	void lineOfExactly75OctetsIsNotFolded() throws IOException {
+		String value = "x".repeat(75 - "SUMMARY:".length());
+		assertThat(text(write(writer -> writer.text("SUMMARY", value)))).isEqualTo("SUMMARY:" + value + "\r\n");
+	}
+
+	@Test
+	void longLinesFoldWithLeadingSpace() throws IOException {
+		String value = "abcdefghij".repeat(30);
+		byte[] bytes = write(writer -> writer.text("DESCRIPTION", value));
+		String written = text(bytes);
+
+		assertFolded(bytes);
+		assertThat(written.split("\r\n")).hasSize(5);
+		assertThat(written.substring(written.indexOf("\r\n") + 2)).startsWith(" ");
+		assertThat(unfold(written)).isEqualTo("DESCRIPTION:" + value + "\r\n");
+	}
+
+	@Test
+	void foldingNeverSplitsMultiByteCharacters() throws IOException {
+		// Two, three and four octet characters, offset so folds land inside them
+		String value = "é€🍝".repeat(40);
+		for (int offset = 0; offset < 4; offset++) {
+			String name = "DESCRIPTION" + "X".repeat(offset);
+			byte[] bytes = write(writer -> writer.text(name, value));
+
+			assertFolded(bytes);
+			String written = text(bytes);
+			assertThat(written).doesNotContain("�");
+			assertThat(unfold(written)).isEqualTo(name + ":" + value + "\r\n");
+		}
+	}
+}
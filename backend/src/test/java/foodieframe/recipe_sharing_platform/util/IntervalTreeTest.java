@@ -0,0 +1,104 @@
+package foodieframe.recipe_sharing_platform.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IntervalTreeTest {
+
+	private record Interval(long id, long start, long end) {
+	}
+
+	// Every interval overlapping [from, to), in the tree's (start, id) order
+	private static List<Long> bruteForce(List<Interval> intervals, long from, long to) {
+		return intervals.stream()
+				.filter(i -> i.start() < to && i.end() > from)
+				.sorted(Comparator.comparingLong(Interval::start).thenComparingLong(Interval::id))
+				.map(Interval::id)
+				.toList();
+	}
+
+	@Test
+	void rangesAreHalfOpen() {
+		IntervalTree tree = new IntervalTree();
+		tree.add(1, 10, 20);
+
+		assertThat(tree.overlapping(0, 10)).isEmpty();
+		assertThat(tree.overlapping(20, 30)).isEmpty();
+		assertThat(tree.overlapping(19, 20)).containsExactly(1L);
+		assertThat(tree.overlapping(0, 11)).containsExactly(1L);
+		assertThat(tree.overlapping(12, 13)).containsExactly(1L);
+	}
+
+	@Test
+	void rejectsEmptyIntervals() {
+		IntervalTree tree = new IntervalTree();
+		assertThatThrownBy(() -> tree.add(1, 5, 5)).isInstanceOf(IllegalArgumentException.class);
+		assertThat(tree.size()).isZero();
+	}
+
+	@Test
+	void removeNeedsMatchingIdAndStart() {
+		IntervalTree tree = new IntervalTree();
+		tree.add(1, 10, 20);
+		tree.add(2, 10, 30);
+
+		assertThat(tree.remove(1, 11)).isFalse();
+		assertThat(tree.remove(3, 10)).isFalse();
+		assertThat(tree.remove(1, 10)).isTrue();
+		assertThat(tree.remove(1, 10)).isFalse();
+		assertThat(tree.overlapping(0, 100)).containsExactly(2L);
+		assertThat(tree.size()).isEqualTo(1);
+	}
+
+	@Test
+	void longIntervalDeepInTreeIsFound() {
+		IntervalTree tree = new IntervalTree();
+		for (long id = 0; id < 1000; id++) {
+			tree.add(id, id * 10, id * 10 + 5);
+		}
+		tree.add(5000, 3, 100_000);
+
+		assertThat(tree.overlapping(50_000, 50_001)).containsExactly(5000L);
+	}
+
+	@Test
+	void matchesBruteForceUnderRandomOperations() {
+		Random random = new Random(7);
+		IntervalTree tree = new IntervalTree();
+		List<Interval> intervals = new ArrayList<>();
+		long nextId = 0;
+
+		for (int step = 0; step < 5000; step++) {
+			int op = random.nextInt(10);
+			if (op < 5 || intervals.isEmpty()) {
+				long start = random.nextInt(10_000);
+				// Mostly short, sometimes spanning much of the range
+				long length = 1 + (random.nextInt(20) == 0 ? random.nextInt(5000) : random.nextInt(100));
+				// Reuse starts so (start, id) ordering breaks ties
+				if (!intervals.isEmpty() && random.nextInt(5) == 0) {
+					start = intervals.get(random.nextInt(intervals.size())).start();
+				}
+				Interval interval = new Interval(nextId++, start, start + length);
+				tree.add(interval.id(), interval.start(), interval.end());
+				intervals.add(interval);
+			} else if (op < 8) {
+				Interval interval = intervals.remove(random.nextInt(intervals.size()));
+				assertThat(tree.remove(interval.id(), interval.start())).isTrue();
+			} else {
+				long from = random.nextInt(11_000) - 500;
+				long to = from + 1 + random.nextInt(300);
+				assertThat(tree.overlapping(from, to)).isEqualTo(bruteForce(intervals, from, to));
+			}
+			assertThat(tree.size()).isEqualTo(intervals.size());
+		}
+		assertThat(tree.overlapping(Long.MIN_VALUE, Long.MAX_VALUE))
+				.isEqualTo(bruteForce(intervals, Long.MIN_VALUE, Long.MAX_VALUE));
+	}
+}
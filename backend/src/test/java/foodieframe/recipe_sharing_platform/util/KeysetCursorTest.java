@@ -0,0 +1,42 @@
+package foodieframe.recipe_sharing_platform.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+	@Test
+	void roundTripsTimestampAndId() {
+		for (Instant timestamp : new Instant[] {
+				Instant.parse("2026-05-01T12:34:56.123456Z"),
+				Instant.parse("1969-12-31T23:59:59.999999999Z"),
+				Instant.EPOCH }) {
+			KeysetCursor decoded = KeysetCursor.decode(new KeysetCursor(timestamp, 987_654_321L).encode());
+			assertThat(decoded.getTimestamp()).isEqualTo(timestamp);
+			assertThat(decoded.getId()).isEqualTo(987_654_321L);
+		}
+	}
+
+	@Test
+	void encodingIsUrlSafe() {
+		String cursor = new KeysetCursor(Instant.parse("2026-05-01T12:34:56Z"), Long.MAX_VALUE).encode();
+		assertThat(cursor).matches("[A-Za-z0-9_-]+");
+	}
+
+	@Test
+	void rejectsMalformedCursors() {
+		for (String cursor : new String[] { "", "%%%", "bm90LWEtY3Vyc29y", "MjAyNi0wNS0wMVQxMjozNDo1Nlp8eA" }) {
+			assertThatThrownBy(() -> KeysetCursor.decode(cursor)).isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
+	@Test
+	void rejectsCursorIssuedForAnotherSortOrder() {
+		String directoryCursor = new SortKeyCursor("NEWEST", "2026-05-01T12:34:56", 5).encode();
+		assertThatThrownBy(() -> KeysetCursor.decode(directoryCursor)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,39 @@
+package foodieframe.recipe_sharing_platform.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SortKeyCursorTest {
+
+	@Test
+	void roundTripsSortKeyAndId() {
+		for (String key : new String[] { "2026-05-01T12:34:56.123", "42", "", "pasta|pesto", "crème brûlée" }) {
+			SortKeyCursor decoded = SortKeyCursor.decode(new SortKeyCursor("NAME", key, 31L).encode());
+			assertThat(decoded.getSort()).isEqualTo("NAME");
+			assertThat(decoded.getKey()).isEqualTo(key);
+			assertThat(decoded.getId()).isEqualTo(31L);
+		}
+	}
+
+	@Test
+	void encodingIsUrlSafe() {
+		assertThat(new SortKeyCursor("MEMBERS", "1000000", Long.MAX_VALUE).encode()).matches("[A-Za-z0-9_-]+");
+	}
+
+	@Test
+	void rejectsMalformedCursors() {
+		for (String cursor : new String[] { "", "%%%", "bm90LWEtY3Vyc29y", "TkFNRXxhYmN8eA" }) {
+			assertThatThrownBy(() -> SortKeyCursor.decode(cursor)).isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
+	@Test
+	void rejectsTimestampCursorWithoutSortOrder() {
+		String feedCursor = new KeysetCursor(Instant.parse("2026-05-01T12:34:56Z"), 5).encode();
+		assertThatThrownBy(() -> SortKeyCursor.decode(feedCursor)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,86 @@
+package foodieframe.recipe_sharing_platform.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SortedLongsTest {
+
+	private static long[] randomSorted(Random random, int size, int range) {
+		return SortedLongs.sortDistinct(random.longs(size, 0, range).toArray());
+	}
+
+	private static long[] bruteForce(long[] a, long[] b) {
+		return Arrays.stream(a).filter(value -> SortedLongs.contains(b, value)).toArray();
+	}
+
+	@Test
+	void intersectWithEmptyArrayIsEmpty() {
+		long[] values = {1, 2, 3};
+		assertThat(SortedLongs.intersect(new long[0], values)).isEmpty();
+		assertThat(SortedLongs.intersect(values, new long[0])).isEmpty();
+		assertThat(SortedLongs.intersect(new long[0], new long[0])).isEmpty();
+	}
+
+	@Test
+	void disjointArraysHaveNoIntersection() {
+		long[] evens = LongStream.range(0, 1000).map(i -> i * 2).toArray();
+		long[] odds = LongStream.range(0, 1000).map(i -> i * 2 + 1).toArray();
+		assertThat(SortedLongs.intersect(evens, odds)).isEmpty();
+		// Small side entirely below, above or between the large one, taking the galloping path
+		assertThat(SortedLongs.intersect(new long[] {-5, -1}, evens)).isEmpty();
+		assertThat(SortedLongs.intersect(new long[] {5000, 6000}, evens)).isEmpty();
+		assertThat(SortedLongs.intersect(new long[] {3, 501, 1999}, evens)).isEmpty();
+	}
+
+	@Test
+	void intersectFindsValuesAtBothEnds() {
+		long[] large = LongStream.range(0, 10_000).toArray();
+		assertThat(SortedLongs.intersect(new long[] {0, 9999}, large)).containsExactly(0, 9999);
+		assertThat(SortedLongs.intersect(large, new long[] {0, 9999})).containsExactly(0, 9999);
+		assertThat(SortedLongs.intersect(new long[] {9999, 10_000}, large)).containsExactly(9999);
+	}
+
+	@Test
+	void mergeAndGallopAgreeAroundRatio() {
+		Random random = new Random(3);
+		// Large side just under, at and just over 32 times the small one
+		for (int small = 1; small <= 8; small++) {
+			for (int large = small * 32 - 2; large <= small * 32 + 2; large++) {
+				for (int trial = 0; trial < 20; trial++) {
+					long[] a = randomSorted(random, small, 200);
+					long[] b = randomSorted(random, large, 400);
+					long[] expected = bruteForce(a, b);
+					assertThat(SortedLongs.intersect(a, b)).containsExactly(expected);
+					assertThat(SortedLongs.intersect(b, a)).containsExactly(expected);
+				}
+			}
+		}
+	}
+
+	@Test
+	void intersectMatchesBruteForce() {
+		Random random = new Random(9);
+		for (int trial = 0; trial < 500; trial++) {
+			long[] a = randomSorted(random, random.nextInt(50), 5000);
+			long[] b = randomSorted(random, random.nextInt(5000), 5000);
+			assertThat(SortedLongs.intersect(a, b)).containsExactly(bruteForce(a, b));
+		}
+	}
+
+	@Test
+	void insertAndRemoveKeepOrderAndReuseUnchangedArrays() {
+		long[] values = {2, 4, 6};
+		assertThat(SortedLongs.insert(values, 4)).isSameAs(values);
+		assertThat(SortedLongs.insert(values, 5)).containsExactly(2, 4, 5, 6);
+		assertThat(SortedLongs.insert(values, 1)).containsExactly(1, 2, 4, 6);
+		assertThat(SortedLongs.remove(values, 3)).isSameAs(values);
+		assertThat(SortedLongs.remove(values, 6)).containsExactly(2, 4);
+		assertThat(values).containsExactly(2, 4, 6);
+		assertThat(SortedLongs.sortDistinct(new long[] {5, 1, 5, 3, 1})).containsExactly(1, 3, 5);
+	}
+}
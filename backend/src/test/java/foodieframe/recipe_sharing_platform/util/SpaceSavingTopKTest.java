@@ -0,0 +1,94 @@
+package foodieframe.recipe_sharing_platform.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpaceSavingTopKTest {
+
+	private static Map<Long, long[]> snapshot(SpaceSavingTopK summary) {
+		Map<Long, long[]> entries = new HashMap<>();
+		for (int i = 0; i < summary.size(); i++) {
+			entries.put(summary.keyAt(i), new long[] {summary.countAt(i), summary.errorAt(i)});
+		}
+		return entries;
+	}
+
+	@Test
+	void countsExactlyUntilFull() {
+		SpaceSavingTopK summary = new SpaceSavingTopK(3);
+		summary.offer(1, 5);
+		summary.offer(2, 3);
+		summary.offer(1, 2);
+
+		Map<Long, long[]> entries = snapshot(summary);
+		assertThat(entries).containsOnlyKeys(1L, 2L);
+		assertThat(entries.get(1L)).containsExactly(7, 0);
+		assertThat(entries.get(2L)).containsExactly(3, 0);
+	}
+
+	@Test
+	void newKeyEvictsMinimumAndInheritsItsCount() {
+		SpaceSavingTopK summary = new SpaceSavingTopK(3);
+		summary.offer(1, 5);
+		summary.offer(2, 3);
+		summary.offer(3, 1);
+		summary.offer(4, 1);
+
+		Map<Long, long[]> entries = snapshot(summary);
+		assertThat(entries).containsOnlyKeys(1L, 2L, 4L);
+		assertThat(entries.get(4L)).containsExactly(2, 1);
+		// The minimum is kept at the root
+		assertThat(summary.keyAt(0)).isEqualTo(4L);
+
+		// Next newcomer takes the new minimum, key 4 at count 2
+		summary.offer(5, 1);
+		entries = snapshot(summary);
+		assertThat(entries).containsOnlyKeys(1L, 2L, 5L);
+		assertThat(entries.get(5L)).containsExactly(3, 2);
+	}
+
+	@Test
+	void heavyHittersAreAlwaysMonitored() {
+		int capacity = 20;
+		SpaceSavingTopK summary = new SpaceSavingTopK(capacity);
+		Random random = new Random(5);
+		Map<Long, Long> counts = new HashMap<>();
+		long total = 50_000;
+		for (long i = 0; i < total; i++) {
+			long key = random.nextInt(3) == 0 ? random.nextInt(5) : 100 + random.nextInt(5000);
+			summary.offer(key, 1);
+			counts.merge(key, 1L, Long::sum);
+		}
+
+		Map<Long, long[]> entries = snapshot(summary);
+		assertThat(entries).hasSize(capacity);
+		for (Map.Entry<Long, Long> entry : counts.entrySet()) {
+			if (entry.getValue() > total / capacity) {
+				assertThat(entries).containsKey(entry.getKey());
+			}
+		}
+		// Each monitored count is an upper bound that is at most error above the truth
+		entries.forEach((key, countAndError) -> {
+			long actual = counts.get(key);
+			assertThat(countAndError[0]).isGreaterThanOrEqualTo(actual);
+			assertThat(countAndError[0] - countAndError[1]).isLessThanOrEqualTo(actual);
+		});
+	}
+
+	@Test
+	void clearEmptiesSummary() {
+		SpaceSavingTopK summary = new SpaceSavingTopK(2);
+		summary.offer(1, 1);
+		summary.offer(2, 1);
+		summary.clear();
+		assertThat(summary.size()).isZero();
+
+		summary.offer(3, 1);
+		assertThat(snapshot(summary)).containsOnlyKeys(3L);
+	}
+}
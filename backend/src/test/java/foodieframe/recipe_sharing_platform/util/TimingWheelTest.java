@@ -0,0 +1,164 @@
+package foodieframe.recipe_sharing_platform.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+
+	// Advance one tick at a time and record the tick each payload fired on
+	private static Map<Long, Long> runTo(TimingWheel<Long> wheel, long from, long to) {
+		Map<Long, Long> fired = new HashMap<>();
+		for (long now = from; now <= to; now++) {
+			for (Long payload : wheel.advance(now)) {
+				fired.put(payload, now);
+			}
+		}
+		return fired;
+	}
+
+	@Test
+	void firesOnFirstTickAtOrAfterDueTime() {
+		TimingWheel<String> wheel = new TimingWheel<>(10, 1000);
+		wheel.schedule(1025, "reminder");
+
+		assertThat(wheel.advance(1029)).isEmpty();
+		assertThat(wheel.advance(1030)).containsExactly("reminder");
+		assertThat(wheel.size()).isZero();
+	}
+
+	@Test
+	void pastDueTimesFireOnNextTick() {
+		TimingWheel<String> wheel = new TimingWheel<>(1, 0);
+		wheel.advance(500);
+		wheel.schedule(10, "late");
+
+		assertThat(wheel.advance(500)).isEmpty();
+		assertThat(wheel.advance(501)).containsExactly("late");
+	}
+
+	@Test
+	void cascadesExactlyAtLevelBoundaries() {
+		TimingWheel<Long> wheel = new TimingWheel<>(1, 0);
+		long[] due = {1, 63, 64, 65, 4095, 4096, 4097, 64 * 4096 - 1, 64 * 4096, 64 * 4096 + 1};
+		for (long tick : due) {
+			wheel.schedule(tick, tick);
+		}
+
+		Map<Long, Long> fired = runTo(wheel, 1, 64 * 4096 + 1);
+		assertThat(fired).hasSize(due.length);
+		fired.forEach((payload, tick) -> assertThat(tick).isEqualTo(payload));
+		assertThat(wheel.size()).isZero();
+	}
+
+	@Test
+	void cancelledTimeoutsNeverFire() {
+		TimingWheel<Long> wheel = new TimingWheel<>(1, 0);
+		// Same level-0 slot: head, middle and tail of its list
+		TimingWheel.Timeout<Long> first = wheel.schedule(5, 1L);
+		wheel.schedule(5, 2L);
+		TimingWheel.Timeout<Long> last = wheel.schedule(5, 3L);
+		// Parked on a coarser level until it cascades
+		TimingWheel.Timeout<Long> upper = wheel.schedule(5000, 4L);
+		assertThat(wheel.size()).isEqualTo(4);
+
+		assertThat(wheel.cancel(first)).isTrue();
+		assertThat(wheel.cancel(last)).isTrue();
+		assertThat(wheel.cancel(first)).isFalse();
+		assertThat(wheel.size()).isEqualTo(2);
+		assertThat(wheel.advance(5)).containsExactly(2L);
+
+		// Cancel after cascading down from level 1
+		wheel.advance(4990);
+		assertThat(wheel.cancel(upper)).isTrue();
+		assertThat(wheel.advance(6000)).isEmpty();
+		assertThat(wheel.cancel(upper)).isFalse();
+		assertThat(wheel.size()).isZero();
+	}
+
+	@Test
+	void firedTimeoutCannotBeCancelled() {
+		TimingWheel<Long> wheel = new TimingWheel<>(1, 0);
+		TimingWheel.Timeout<Long> timeout = wheel.schedule(3, 1L);
+		assertThat(wheel.advance(3)).containsExactly(1L);
+		assertThat(wheel.cancel(timeout)).isFalse();
+		assertThat(wheel.size()).isZero();
+	}
+
+	@Test
+	void timeoutsBeyondHorizonAreParkedUntilInRange() {
+		// Two levels cover 4096 ticks
+		TimingWheel<Long> wheel = new TimingWheel<>(1, 0, 2);
+		long[] due = {4095, 4096, 10_000, 3 * 4096 + 7, 5 * 4096};
+		for (long tick : due) {
+			wheel.schedule(tick, tick);
+		}
+
+		Map<Long, Long> fired = runTo(wheel, 1, 5 * 4096);
+		assertThat(fired).hasSize(due.length);
+		fired.forEach((payload, tick) -> assertThat(tick).isEqualTo(payload));
+	}
+
+	@Test
+	void emptyWheelFastForwardsAndStaysAligned() {
+		TimingWheel<Long> wheel = new TimingWheel<>(1, 0);
+		// Lands mid-slot on every level, so later placements start unaligned
+		long now = 123_456_789_011L;
+		assertThat(wheel.advance(now)).isEmpty();
+
+		long[] offsets = {1, 37, 64, 130, 5000};
+		for (long offset : offsets) {
+			wheel.schedule(now + offset, now + offset);
+		}
+		Map<Long, Long> fired = runTo(wheel, now + 1, now + 5000);
+		assertThat(fired).hasSize(offsets.length);
+		fired.forEach((payload, tick) -> assertThat(tick).isEqualTo(payload));
+	}
+
+	@Test
+	void matchesBruteForceUnderRandomOperations() {
+		Random random = new Random(42);
+		TimingWheel<Long> wheel = new TimingWheel<>(1, 0, 2);
+		Map<Long, TimingWheel.Timeout<Long>> pending = new HashMap<>();
+		Map<Long, Long> dueOf = new HashMap<>();
+		Set<Long> fired = new HashSet<>();
+		long now = 0;
+		long nextId = 0;
+
+		for (int step = 0; step < 20_000; step++) {
+			int op = random.nextInt(10);
+			if (op < 5) {
+				// Mostly near, sometimes past the two-level horizon
+				long due = now + (random.nextInt(8) == 0 ? random.nextInt(20_000) : random.nextInt(300));
+				long id = nextId++;
+				pending.put(id, wheel.schedule(due, id));
+				dueOf.put(id, due);
+			} else if (op < 7 && !pending.isEmpty()) {
+				List<Long> ids = new ArrayList<>(pending.keySet());
+				long id = ids.get(random.nextInt(ids.size()));
+				assertThat(wheel.cancel(pending.remove(id))).isTrue();
+			} else {
+				now += random.nextInt(50);
+				for (Long id : wheel.advance(now)) {
+					assertThat(dueOf.get(id)).isLessThanOrEqualTo(now);
+					assertThat(pending.remove(id)).isNotNull();
+					fired.add(id);
+				}
+				// Nothing still pending may be overdue
+				for (Long id : pending.keySet()) {
+					assertThat(dueOf.get(id)).isGreaterThan(now);
+				}
+			}
+			assertThat(wheel.size()).isEqualTo(pending.size());
+		}
+		assertThat(fired).isNotEmpty();
+	}
+}
@@ -0,0 +1,154 @@
+package foodieframe.recipe_sharing_platform.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UndirectedGraphTest {
+
+	private static UndirectedGraph chain(int nodes) {
+		UndirectedGraph graph = new UndirectedGraph();
+		for (long node = 1; node < nodes; node++) {
+			graph.link(node, node + 1);
+		}
+		return graph;
+	}
+
+	// Plain breadth-first distance, or -1 if unreachable
+	private static int distance(UndirectedGraph graph, long from, long to) {
+		Map<Long, Integer> depths = new HashMap<>();
+		Deque<Long> queue = new ArrayDeque<>();
+		depths.put(from, 0);
+		queue.add(from);
+		while (!queue.isEmpty()) {
+			long node = queue.poll();
+			if (node == to) {
+				return depths.get(node);
+			}
+			for (long neighbour : graph.neighbours(node)) {
+				if (depths.putIfAbsent(neighbour, depths.get(node) + 1) == null) {
+					queue.add(neighbour);
+				}
+			}
+		}
+		return -1;
+	}
+
+	private static void assertValidPath(UndirectedGraph graph, long[] path, long from, long to) {
+		assertThat(path[0]).isEqualTo(from);
+		assertThat(path[path.length - 1]).isEqualTo(to);
+		for (int i = 1; i < path.length; i++) {
+			assertThat(graph.connected(path[i - 1], path[i])).isTrue();
+		}
+	}
+
+	@Test
+	void pathToSelfIsSingleNode() {
+		UndirectedGraph.PathResult result = new UndirectedGraph().shortestPath(5, 5, 3, 10);
+		assertThat(result.getPath()).containsExactly(5);
+		assertThat(result.isExhausted()).isFalse();
+	}
+
+	@Test
+	void prefersShortcutOverLongerRoute() {
+		UndirectedGraph graph = chain(6);
+		graph.link(2, 5);
+
+		UndirectedGraph.PathResult result = graph.shortestPath(1, 6, 10, 1000);
+		assertThat(result.getPath()).containsExactly(1, 2, 5, 6);
+	}
+
+	@Test
+	void maxLengthCutsOffLongerPaths() {
+		UndirectedGraph graph = chain(5);
+
+		assertThat(graph.shortestPath(1, 5, 4, 1000).getPath()).containsExactly(1, 2, 3, 4, 5);
+		UndirectedGraph.PathResult tooFar = graph.shortestPath(1, 5, 3, 1000);
+		assertThat(tooFar.getPath()).isNull();
+		assertThat(tooFar.isExhausted()).isFalse();
+	}
+
+	@Test
+	void unreachableNodeIsNotExhausted() {
+		UndirectedGraph graph = chain(3);
+		graph.link(10, 11);
+
+		UndirectedGraph.PathResult result = graph.shortestPath(1, 11, 6, 1000);
+		assertThat(result.getPath()).isNull();
+		assertThat(result.isExhausted()).isFalse();
+	}
+
+	@Test
+	void budgetRunningOutSetsExhausted() {
+		// Two hubs with many leaves, joined through a long chain
+		UndirectedGraph graph = chain(4);
+		for (long leaf = 100; leaf < 200; leaf++) {
+			graph.link(1, leaf);
+			graph.link(4, leaf + 100);
+		}
+
+		UndirectedGraph.PathResult starved = graph.shortestPath(1, 4, 6, 50);
+		assertThat(starved.getPath()).isNull();
+		assertThat(starved.isExhausted()).isTrue();
+		assertThat(graph.shortestPath(1, 4, 6, 1000).getPath()).containsExactly(1, 2, 3, 4);
+	}
+
+	@Test
+	void matchesBreadthFirstDistanceOnRandomGraphs() {
+		Random random = new Random(13);
+		for (int trial = 0; trial < 50; trial++) {
+			UndirectedGraph graph = new UndirectedGraph();
+			int nodes = 50 + random.nextInt(150);
+			int edges = nodes + random.nextInt(nodes);
+			for (int i = 0; i < edges; i++) {
+				long a = random.nextInt(nodes);
+				long b = random.nextInt(nodes);
+				if (a != b) {
+					graph.link(a, b);
+				}
+			}
+			for (int query = 0; query < 20; query++) {
+				long from = random.nextInt(nodes);
+				long to = random.nextInt(nodes);
+				int maxLength = 1 + random.nextInt(6);
+				int expected = distance(graph, from, to);
+				UndirectedGraph.PathResult result = graph.shortestPath(from, to, maxLength, Integer.MAX_VALUE);
+				assertThat(result.isExhausted()).isFalse();
+				if (expected < 0 || expected > maxLength) {
+					assertThat(result.getPath()).isNull();
+				} else {
+					assertThat(result.getPath()).hasSize(expected + 1);
+					assertValidPath(graph, result.getPath(), from, to);
+				}
+			}
+		}
+	}
+
+	@Test
+	void bulkLoadMatchesLinkingOneByOne() {
+		UndirectedGraph.Builder builder = new UndirectedGraph.Builder();
+		UndirectedGraph linked = new UndirectedGraph();
+		Random random = new Random(17);
+		for (int i = 0; i < 500; i++) {
+			long a = random.nextInt(60);
+			long b = random.nextInt(60);
+			if (a != b) {
+				builder.addEdge(a, b);
+				linked.link(a, b);
+			}
+		}
+		UndirectedGraph loaded = new UndirectedGraph();
+		loaded.addAll(builder);
+
+		assertThat(loaded.nodeCount()).isEqualTo(linked.nodeCount());
+		for (long node = 0; node < 60; node++) {
+			assertThat(loaded.neighbours(node)).containsExactly(linked.neighbours(node));
+		}
+	}
+}
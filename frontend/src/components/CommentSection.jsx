@@ -1,5 +1,5 @@
 import { useState, useEffect } from 'react';
-import { interactionService, userService } from '../services/api';
+import { interactionService, liveService, userService } from '../services/api';
 import { useAuth } from '../context/AuthContext';
 
 
@@ -15,6 +15,16 @@ const CommentSection = ({ recipeId }) => {
     console.log('Current user:', currentUser);
     fetchComments();
   }, [recipeId]);
+
+  // Refetch once per pushed batch instead of polling
+  useEffect(() => {
+    const close = liveService.subscribeToPost(recipeId, (changes) => {
+      if (changes.some(change => change.payload.interactionType === 'COMMENT')) {
+        fetchComments();
+      }
+    });
+    return close;
+  }, [recipeId]);
   const fetchComments = async () => {
     try {
       const response = await interactionService.getRecipeComments(recipeId);
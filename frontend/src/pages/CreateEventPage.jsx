@@ -2,7 +2,7 @@ import { useState, useEffect, useRef } from 'react';
 import { useNavigate } from 'react-router-dom';
 import { eventService } from '../services/api';
 import { useAuth } from '../context/AuthContext';
-import { FiSave, FiX, FiCalendar, FiClock, FiMapPin, FiCamera, FiFileText, FiUpload, FiLink } from 'react-icons/fi';
+import { FiSave, FiX, FiCalendar, FiClock, FiMapPin, FiCamera, FiFileText, FiUpload, FiLink, FiUsers } from 'react-icons/fi';
 
 const CreateEventPage = () => {
   const { currentUser, loading } = useAuth();
@@ -13,6 +13,8 @@ const CreateEventPage = () => {
     date: new Date().toISOString().split('T')[0], // Set default date to today
     time: '12:00',
     location: '',
+    capacity: '', // Blank means unlimited seats
+    durationMinutes: '', // Blank means two hours
     image: '' // Empty by default, will be filled by URL or file upload
   });
   const [submitting, setSubmitting] = useState(false);
@@ -100,23 +102,9 @@ const CreateEventPage = () => {
         return;
       }
 
-      // Ensure time has minimum length of 6 characters
-      let timeValue = newEvent.time;
-      if (timeValue.length < 6) {
-        timeValue = timeValue + " (24-hour format)";
-      }
-
-      // Ensure date has minimum length of 6 characters
-      let dateValue = newEvent.date;
-      if (dateValue.length < 6) {
-        const date = new Date(dateValue);
-        dateValue = date.toDateString(); // Format: Wed Jan 01 2025
-      }
-
+      // Date (YYYY-MM-DD) and time (HH:mm) are sent as entered; the server parses them
       const eventData = {
         ...newEvent,
-        time: timeValue,
-        date: dateValue,
         userId: currentUser.user.id
       };
       
@@ -132,6 +120,10 @@ const CreateEventPage = () => {
       const response = await eventService.createEvent(eventData);
       console.log("Event created successfully:", response);
 
+      const conflicts = response.data.conflictingEventIds || [];
+      if (conflicts.length > 0) {
+        alert(`Heads up: this event overlaps ${conflicts.length} of your other event${conflicts.length > 1 ? 's' : ''}.`);
+      }
       navigate(`/events/${response.data.id}`);
     } catch (error) {
       console.error("Error creating event:", error);
@@ -226,6 +218,34 @@ const CreateEventPage = () => {
                         onChange={handleInputChange}
                         required
                         className="mt-1 block w-full rounded-md border-teal-300 bg-white shadow-sm focus:border-green-500 focus:ring-green-500 transition-all" placeholder="Enter your event venue or address" />
+                    </div>
+                    <div className="bg-gradient-to-r from-teal-50 to-green-50 p-5 rounded-lg border border-teal-100 shadow-sm transition-all hover:shadow-md">
+                      <div className="flex items-center mb-2">
+                        <FiUsers className="text-teal-500 mr-2 text-xl" />
+                        <label htmlFor="capacity" className="block text-sm font-medium text-teal-700">Seats</label>
+                      </div>
+                      <input
+                        type="number"
+                        id="capacity"
+                        name="capacity"
+                        min="1"
+                        value={newEvent.capacity}
+                        onChange={handleInputChange}
+                        className="mt-1 block w-full rounded-md border-teal-300 bg-white shadow-sm focus:border-green-500 focus:ring-green-500 transition-all" placeholder="Leave blank for unlimited" />
+                    </div>
+                    <div className="bg-gradient-to-r from-teal-50 to-green-50 p-5 rounded-lg border border-teal-100 shadow-sm transition-all hover:shadow-md">
+                      <div className="flex items-center mb-2">
+                        <FiClock className="text-teal-500 mr-2 text-xl" />
+                        <label htmlFor="durationMinutes" className="block text-sm font-medium text-teal-700">Duration (minutes)</label>
+                      </div>
+                      <input
+                        type="number"
+                        id="durationMinutes"
+                        name="durationMinutes"
+                        min="1"
+                        value={newEvent.durationMinutes}
+                        onChange={handleInputChange}
+                        className="mt-1 block w-full rounded-md border-teal-300 bg-white shadow-sm focus:border-green-500 focus:ring-green-500 transition-all" placeholder="Leave blank for 2 hours" />
                     </div>                    <div className="bg-gradient-to-r from-pink-50 to-red-50 p-5 rounded-lg border border-pink-100 shadow-sm transition-all hover:shadow-md">
                       <div className="flex items-center mb-2">
                         <FiCamera className="text-pink-500 mr-2 text-xl" />
@@ -136,25 +136,12 @@ const EditEventPage = () => {
         return;
       }
 
-      // Ensure time has minimum length
-      let timeValue = editedEvent.time;
-      if (timeValue.length < 6) {
-        timeValue = timeValue + " (24-hour format)";
-      }
-
-      // Ensure date has minimum length
-      let dateValue = editedEvent.date;
-      if (dateValue.length < 6) {
-        const date = new Date(dateValue);
-        dateValue = date.toDateString();
-      }
-
       const updatedEventData = {
         ...event,
         title: editedEvent.title,
         description: editedEvent.description,
-        date: dateValue,
-        time: timeValue,
+        date: editedEvent.date,
+        time: editedEvent.time,
         location: editedEvent.location,
         userId: event.userId // preserve owner
       };
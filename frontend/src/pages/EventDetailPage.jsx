@@ -19,6 +19,8 @@ const EventDetailPage = () => {
     image: ''
   });
   const [showDeleteConfirm, setShowDeleteConfirm] = useState(false);
+  const [rsvp, setRsvp] = useState(null);
+  const [rsvpLoading, setRsvpLoading] = useState(false);
 
   useEffect(() => {
     const fetchEvent = async () => {
@@ -46,6 +48,39 @@ const EventDetailPage = () => {
     }
   }, [id]);
 
+  useEffect(() => {
+    if (id && currentUser) {
+      eventService.getRsvp(id, currentUser.user.id)
+        .then(setRsvp)
+        .catch(() => setRsvp(null));
+    }
+  }, [id, currentUser]);
+
+  // Refresh the event too so the seat count reflects the change
+  const handleRsvp = async () => {
+    if (!currentUser) {
+      navigate('/login');
+      return;
+    }
+    setRsvpLoading(true);
+    try {
+      if (rsvp) {
+        await eventService.cancelRsvp(id, currentUser.user.id);
+        setRsvp(null);
+      } else {
+        const response = await eventService.rsvp(id, currentUser.user.id);
+        setRsvp(response.data);
+      }
+      const refreshed = await eventService.getEventById(id);
+      setEvent(refreshed.data);
+    } catch (error) {
+      console.error("Error updating RSVP:", error);
+      alert("Failed to update your RSVP. Please try again.");
+    } finally {
+      setRsvpLoading(false);
+    }
+  };
+
   const handleInputChange = (e) => {
     const { name, value } = e.target;
     setEditedEvent({
@@ -294,12 +329,26 @@ const EventDetailPage = () => {
               <p className="text-gray-700 whitespace-pre-line">{event.description}</p>
             </div>
             
-            {/* RSVP Section placeholder - can be expanded later */}
+            {/* RSVP Section */}
             <div className="border-t border-gray-200 pt-6">
-              <button className="px-6 py-3 bg-green-600 text-white rounded-lg hover:bg-green-700 transition duration-300">
-                Join Event
+              <button
+                onClick={handleRsvp}
+                disabled={rsvpLoading}
+                className={`px-6 py-3 text-white rounded-lg transition duration-300 disabled:opacity-50 ${
+                  rsvp ? 'bg-gray-600 hover:bg-gray-700' : 'bg-green-600 hover:bg-green-700'
+                }`}
+              >
+                {rsvp
+                  ? (rsvp.status === 'GOING' ? 'Cancel RSVP' : 'Leave Waitlist')
+                  : (event.capacity && event.attendeeCount >= event.capacity ? 'Join Waitlist' : 'Join Event')}
               </button>
-              <p className="mt-2 text-gray-600 text-sm">Join us for this exciting event!</p>
+              <p className="mt-2 text-gray-600 text-sm">
+                {rsvp?.status === 'GOING' && "You're going! "}
+                {rsvp?.status === 'WAITLISTED' && `You're #${rsvp.waitlistPosition} on the waitlist. `}
+                {event.capacity
+                  ? `${event.attendeeCount} of ${event.capacity} seats taken.`
+                  : `${event.attendeeCount} going.`}
+              </p>
             </div>
           </div>
         </div>
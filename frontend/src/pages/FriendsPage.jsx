@@ -2,18 +2,20 @@ import { useState, useEffect } from 'react';
 import { Link } from 'react-router-dom';
 import { friendService, userService, authService } from '../services/api';
 
+const FRIENDS_PAGE_SIZE = 20;
+
 const FriendsPage = () => {
-    const [friends, setFriends] = useState([]);
-    const [pendingRequests, setPendingRequests] = useState([]);
-    const [sentRequests, setSentRequests] = useState([]);
     const [friendsDetails, setFriendsDetails] = useState([]);
     const [pendingRequestsDetails, setPendingRequestsDetails] = useState([]);
     const [sentRequestsDetails, setSentRequestsDetails] = useState([]);
+    const [friendsPage, setFriendsPage] = useState({ page: 0, hasMore: false, total: 0 });
+    const [loadingMore, setLoadingMore] = useState(false);
     const [loading, setLoading] = useState(true);
     const [error, setError] = useState(null);
     const [searchQuery, setSearchQuery] = useState('');
     const [searchResults, setSearchResults] = useState([]);
     const [searching, setSearching] = useState(false);
+    const [suggestions, setSuggestions] = useState([]);
     const [activeTab, setActiveTab] = useState('friends');
 
     const currentUser = authService.getCurrentUser();
@@ -29,50 +31,16 @@ const FriendsPage = () => {
             try {
                 setLoading(true);
 
-                // Fetch friends list
-                const friendsResponse = await friendService.getUserFriends(currentUser.user.id);
-                setFriends(friendsResponse.data || []);
-
-                // Fetch pending friend requests received
-                const pendingResponse = await friendService.getPendingRequests(currentUser.user.id);
-                setPendingRequests(pendingResponse.data || []);
-
-                // Fetch pending friend requests sent
-                const sentResponse = await friendService.getSentFriendRequests(currentUser.user.id);
-                setSentRequests(sentResponse.data || []);
-
-                // Fetch user details for friends
-                if (friendsResponse.data && friendsResponse.data.length > 0) {
-                    const friendsDetailsPromises = friendsResponse.data.map(friendship => {
-                        // Get the ID of the other user in the friendship
-                        const otherId = friendship.userId === currentUser.user.id ?
-                            friendship.friendId : friendship.userId;
-                        return userService.getUserById(otherId);
-                    });
-
-                    const detailsResponses = await Promise.all(friendsDetailsPromises);
-                    setFriendsDetails(detailsResponses.map(res => res.data));
-                }
-
-                // Fetch user details for pending requests
-                if (pendingResponse.data && pendingResponse.data.length > 0) {
-                    const pendingDetailsPromises = pendingResponse.data.map(request =>
-                        userService.getUserById(request.userId)
-                    );
-
-                    const pendingDetailsResponses = await Promise.all(pendingDetailsPromises);
-                    setPendingRequestsDetails(pendingDetailsResponses.map(res => res.data));
-                }
-
-                // Fetch user details for sent requests
-                if (sentResponse.data && sentResponse.data.length > 0) {
-                    const sentDetailsPromises = sentResponse.data.map(request =>
-                        userService.getUserById(request.friendId)
-                    );
-
-                    const sentDetailsResponses = await Promise.all(sentDetailsPromises);
-                    setSentRequestsDetails(sentDetailsResponses.map(res => res.data));
-                }
+                // Each list arrives with the other users' profiles already joined in
+                const [friendsResponse, pendingResponse, sentResponse] = await Promise.all([
+                    friendService.getFriendPage(currentUser.user.id, { size: FRIENDS_PAGE_SIZE }),
+                    friendService.getPendingRequestPage(currentUser.user.id, { size: 100 }),
+                    friendService.getSentRequestPage(currentUser.user.id, { size: 100 })
+                ]);
+                setFriendsDetails(friendsResponse.data.friends);
+                setFriendsPage({ page: 0, hasMore: friendsResponse.data.hasMore, total: friendsResponse.data.total });
+                setPendingRequestsDetails(pendingResponse.data.friends);
+                setSentRequestsDetails(sentResponse.data.friends);
 
                 setLoading(false);
             } catch (error) {
@@ -83,7 +51,34 @@ const FriendsPage = () => {
         };
 
         fetchData();
-    }, [currentUser]);
+        // getCurrentUser() parses a new object on every render, so key on the ID
+        // eslint-disable-next-line react-hooks/exhaustive-deps
+    }, [currentUser?.user.id]);
+
+    useEffect(() => {
+        if (!currentUser) return;
+
+        // Loaded on its own so a failure here does not hide the rest of the page
+        friendService.getSuggestions(currentUser.user.id, 6)
+            .then(response => setSuggestions(response.data || []))
+            .catch(error => console.error('Error fetching friend suggestions:', error));
+        // getCurrentUser() parses a new object on every render, so key on the ID
+        // eslint-disable-next-line react-hooks/exhaustive-deps
+    }, [currentUser?.user.id]);
+
+    const handleLoadMoreFriends = async () => {
+        try {
+            setLoadingMore(true);
+            const nextPage = friendsPage.page + 1;
+            const response = await friendService.getFriendPage(currentUser.user.id, { page: nextPage, size: FRIENDS_PAGE_SIZE });
+            setFriendsDetails([...friendsDetails, ...response.data.friends]);
+            setFriendsPage({ page: nextPage, hasMore: response.data.hasMore, total: response.data.total });
+        } catch (error) {
+            console.error('Error loading more friends:', error);
+        } finally {
+            setLoadingMore(false);
+        }
+    };
 
     const handleSearch = async () => {
         if (!searchQuery.trim()) return;
@@ -113,11 +108,14 @@ const FriendsPage = () => {
             await friendService.sendFriendRequest(currentUser.user.id, friendId);
 
             // Update UI to reflect the friend request was sent
-            const userDetails = searchResults.find(user => user.id === friendId);
+            const suggestion = suggestions.find(s => s.userId === friendId);
+            const userDetails = searchResults.find(user => user.id === friendId)
+                || (suggestion && { id: suggestion.userId, name: suggestion.name, username: suggestion.username });
             setSentRequestsDetails([...sentRequestsDetails, userDetails]);
 
-            // Remove from search results
+            // Remove from search results and suggestions
             setSearchResults(searchResults.filter(user => user.id !== friendId));
+            setSuggestions(suggestions.filter(suggestion => suggestion.userId !== friendId));
         } catch (error) {
             console.error('Error sending friend request:', error);
         }
@@ -132,6 +130,7 @@ const FriendsPage = () => {
             // Move user from pending to friends
             const userDetails = pendingRequestsDetails.find(user => user.id === userId);
             setFriendsDetails([...friendsDetails, userDetails]);
+            setFriendsPage({ ...friendsPage, total: friendsPage.total + 1 });
 
             // Remove from pending requests
             setPendingRequestsDetails(pendingRequestsDetails.filter(user => user.id !== userId));
@@ -161,6 +160,7 @@ const FriendsPage = () => {
 
             // Remove from friends list
             setFriendsDetails(friendsDetails.filter(user => user.id !== friendId));
+            setFriendsPage({ ...friendsPage, total: friendsPage.total - 1 });
         } catch (error) {
             console.error('Error removing friend:', error);
         }
@@ -261,6 +261,39 @@ const FriendsPage = () => {
                     )}
                 </div>
 
+                {/* People you may know */}
+                {suggestions.length > 0 && (
+                    <div className="mb-6 bg-white p-4 rounded-lg shadow-sm">
+                        <h3 className="font-semibold text-gray-700 mb-2">People You May Know</h3>
+                        <div className="grid grid-cols-1 md:grid-cols-2 lg:grid-cols-3 gap-2">
+                            {suggestions.map(suggestion => (
+                                <div key={suggestion.userId} className="flex items-center justify-between p-2 bg-gray-50 rounded-md">
+                                    <div className="flex items-center space-x-2">
+                                        <div className="w-10 h-10 rounded-full bg-gray-300 flex items-center justify-center text-gray-600">
+                                            {suggestion.name.charAt(0).toUpperCase()}
+                                        </div>
+                                        <div>
+                                            <Link to={`/profile/${suggestion.userId}`} className="font-medium hover:underline">
+                                                {suggestion.name}
+                                            </Link>
+                                            <p className="text-sm text-gray-500">
+                                                {suggestion.mutualFriends} mutual {suggestion.mutualFriends === 1 ? 'friend' : 'friends'}
+                                                {suggestion.sharedGroups > 0 && ` · ${suggestion.sharedGroups} shared ${suggestion.sharedGroups === 1 ? 'group' : 'groups'}`}
+                                            </p>
+                                        </div>
+                                    </div>
+                                    <button
+                                        onClick={() => handleSendFriendRequest(suggestion.userId)}
+                                        className="bg-blue-600 text-white px-3 py-1 rounded-md hover:bg-blue-700 text-sm"
+                                    >
+                                        Add Friend
+                                    </button>
+                                </div>
+                            ))}
+                        </div>
+                    </div>
+                )}
+
                 {/* Tabs */}
                 <div className="mb-4 border-b">
                     <ul className="flex flex-wrap -mb-px text-sm font-medium text-center">
@@ -271,7 +304,7 @@ const FriendsPage = () => {
                                     : 'hover:text-gray-600 hover:border-gray-300 border-transparent'}`}
                                 onClick={() => setActiveTab('friends')}
                             >
-                                Friends {friendsDetails.length > 0 && `(${friendsDetails.length})`}
+                                Friends {friendsPage.total > 0 && `(${friendsPage.total})`}
                             </button>
                         </li>
                         <li className="mr-2">
@@ -336,6 +369,17 @@ const FriendsPage = () => {
                                 ))}
                             </div>
                         )}
+                        {friendsPage.hasMore && (
+                            <div className="mt-4 text-center">
+                                <button
+                                    onClick={handleLoadMoreFriends}
+                                    className="bg-gray-200 text-gray-700 px-4 py-2 rounded-md hover:bg-gray-300"
+                                    disabled={loadingMore}
+                                >
+                                    {loadingMore ? 'Loading...' : 'Show more'}
+                                </button>
+                            </div>
+                        )}
                     </div>
                 )}
 
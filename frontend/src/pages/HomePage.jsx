@@ -1,6 +1,6 @@
 import { useState, useEffect } from 'react';
 import { Link } from 'react-router-dom';
-import { recipeService, eventService, userService, categoryService } from '../services/api';
+import { recipeService, eventService, userService, categoryService, authService, recipeGroupService } from '../services/api';
 import RecipeCard from '../components/RecipeCard';
 
 const HomePage = () => {
@@ -140,8 +140,8 @@ const HomePage = () => {
       try {
         // Fetch events
         setEventsLoading(true);
-        const eventsResponse = await eventService.getAllEvents();
-        setEvents(eventsResponse.data?.slice(0, 3) || []);
+        const eventsResponse = await eventService.getUpcomingEvents({ limit: 3 });
+        setEvents(eventsResponse.data?.events || []);
         setEventsLoading(false);
       } catch (error) {
         console.error('Error fetching events:', error);
@@ -149,13 +149,16 @@ const HomePage = () => {
         setEventsLoading(false);
       }
 
-      // Note: In a real application, you would have an API endpoint for suggested groups
-      // For now, we'll use placeholder data but structure it like it came from an API
-      setSuggestedGroups([
-        { id: 1, name: 'Italian Cooking Group', mutualFriends: 12 },
-        { id: 2, name: 'Healthy Cooking Tips', mutualFriends: 8 },
-        { id: 3, name: 'Desserts & Baking', mutualFriends: 5 }
-      ]);
+      try {
+        // Fetch groups suggested from friends' memberships and similar groups
+        const currentUser = authService.getCurrentUser();
+        if (currentUser?.user?.id) {
+          const groupsResponse = await recipeGroupService.getSuggestedGroups(currentUser.user.id, 3);
+          setSuggestedGroups(groupsResponse.data || []);
+        }
+      } catch (error) {
+        console.error('Error fetching suggested groups:', error);
+      }
     };
 
     fetchData();
@@ -463,14 +466,21 @@ const HomePage = () => {
             <div className="bg-white bg-opacity-10 backdrop-blur-sm rounded-lg shadow p-4 mb-6 sticky top-20">
               <h3 className="font-semibold text-black mb-4">Suggested for You</h3>
               <div className="space-y-4">
+                {suggestedGroups.length === 0 && (
+                  <p className="text-sm text-gray-500">No group suggestions yet.</p>
+                )}
                 {suggestedGroups.map((group) => (
-                  <div key={group.id} className="flex items-center">
+                  <Link key={group.groupId} to="/groups" className="flex items-center">
                     <div className="w-10 h-10 rounded-full bg-gray-300 flex-shrink-0"></div>
                     <div className="ml-3">
                       <p className="text-sm font-medium text-gray-900">{group.name}</p>
-                      <p className="text-xs text-gray-500">{group.mutualFriends} mutual friends</p>
+                      <p className="text-xs text-gray-500">
+                        {group.mutualFriends > 0
+                          ? `${group.mutualFriends} mutual friend${group.mutualFriends === 1 ? '' : 's'}`
+                          : `${group.memberCount} member${group.memberCount === 1 ? '' : 's'}`}
+                      </p>
                     </div>
-                  </div>
+                  </Link>
                 ))}
               </div>
             </div>
@@ -488,10 +498,10 @@ const HomePage = () => {
                   events.map((event) => (
                     <div key={event.id}>
                       <div className="flex items-center justify-between">
-                        <p className="text-sm font-medium text-gray-900">{event.name}</p>
-                        <p className="text-xs text-black0">{formatEventDate(event.date)}</p>
+                        <p className="text-sm font-medium text-gray-900">{event.title}</p>
+                        <p className="text-xs text-black0">{formatEventDate(event.startsAt)}</p>
                       </div>
-                      <p className="text-xs text-black-1">{event.attendees} people going</p>
+                      <p className="text-xs text-black-1">{event.attendeeCount} people going</p>
                     </div>
                   ))
                 )}
@@ -14,35 +14,62 @@ const RecipeGroupsPage = () => {
         privacy: 'PUBLIC'
     });
     const [activeTab, setActiveTab] = useState('all');
+    const [sort, setSort] = useState('NEWEST');
+    const [nextCursor, setNextCursor] = useState(null);
+    const [loadingMore, setLoadingMore] = useState(false);
 
     const currentUser = authService.getCurrentUser();
 
+    // Fetch the first page of public groups whenever the sort order changes
     useEffect(() => {
-        const fetchData = async () => {
+        const fetchGroups = async () => {
             try {
-                setLoading(true);
+                const response = await recipeGroupService.getGroupDirectory({ sort });
+                setGroups(response.data.groups);
+                setNextCursor(response.data.nextCursor);
+            } catch (error) {
+                console.error('Error fetching recipe groups:', error);
+                setError('Failed to load recipe groups. Please try again later.');
+            } finally {
+                setLoading(false);
+            }
+        };
 
-                // Fetch all public groups
-                const groupsResponse = await recipeGroupService.getAllGroups();
-                const publicGroups = groupsResponse.data.filter(group => group.privacy === 'PUBLIC');
-                setGroups(publicGroups);
+        fetchGroups();
+    }, [sort]);
 
-                // If user is logged in, fetch their groups
-                if (currentUser) {
-                    const userGroupsResponse = await recipeGroupService.getGroupsByCreator(currentUser.user.id);
-                    setUserGroups(userGroupsResponse.data);
-                }
+    // If user is logged in, fetch their groups
+    useEffect(() => {
+        if (!currentUser) return;
 
-                setLoading(false);
+        const fetchUserGroups = async () => {
+            try {
+                const userGroupsResponse = await recipeGroupService.getGroupsByCreator(currentUser.user.id);
+                setUserGroups(userGroupsResponse.data);
             } catch (error) {
                 console.error('Error fetching recipe groups:', error);
                 setError('Failed to load recipe groups. Please try again later.');
-                setLoading(false);
             }
         };
 
-        fetchData();
-    }, [currentUser]);
+        fetchUserGroups();
+        // getCurrentUser() returns a new object on every render, so key on the user ID
+        // eslint-disable-next-line react-hooks/exhaustive-deps
+    }, [currentUser?.user.id]);
+
+    const handleLoadMore = async () => {
+        try {
+            setLoadingMore(true);
+            const response = await recipeGroupService.getGroupDirectory({ sort, cursor: nextCursor });
+            setGroups([...groups, ...response.data.groups]);
+            setNextCursor(response.data.nextCursor);
+        } catch (error) {
+            console.error('Error fetching more recipe groups:', error);
+            setError('Failed to load more groups. Please try again later.');
+        } finally {
+            setLoadingMore(false);
+        }
+    };
 
     const handleInputChange = (e) => {
         const { name, value } = e.target;
@@ -70,8 +97,9 @@ const RecipeGroupsPage = () => {
 
             // Update local state with new group
             setUserGroups([...userGroups, response.data]);
-            if (response.data.privacy === 'PUBLIC') {
-                setGroups([...groups, response.data]);
+            // A new group belongs at the top of the newest-first list; other orders pick it up on reload
+            if (response.data.privacy === 'PUBLIC' && sort === 'NEWEST') {
+                setGroups([response.data, ...groups]);
             }
 
             // Reset form
@@ -220,6 +248,19 @@ const RecipeGroupsPage = () => {
                 {/* Group List */}
                 {activeTab === 'all' && (
                     <div>
+                        <div className="flex justify-end mb-4">
+                            <select
+                                value={sort}
+                                onChange={(e) => setSort(e.target.value)}
+                                disabled={loadingMore}
+                                className="p-2 border rounded-md bg-white text-sm"
+                            >
+                                <option value="NEWEST">Newest</option>
+                                <option value="MEMBERS">Most members</option>
+                                <option value="ACTIVE">Most active this week</option>
+                                <option value="NAME">Name</option>
+                            </select>
+                        </div>
                         {groups.length === 0 ? (
                             <div className="text-center p-8 bg-white rounded-lg shadow-sm">
                                 <p className="text-gray-600">No recipe groups found.</p>
@@ -232,9 +273,12 @@ const RecipeGroupsPage = () => {
                                             <h3 className="text-xl font-bold text-white">{group.name}</h3>
                                         </div>
                                         <div className="p-4">
-                                            <p className="text-gray-600 mb-4">
+                                            <p className="text-gray-600 mb-2">
                                                 {group.description || 'No description provided.'}
                                             </p>
+                                            <p className="text-sm text-gray-500 mb-4">
+                                                {group.memberCount} {group.memberCount === 1 ? 'member' : 'members'}
+                                            </p>
                                             <Link to={`/groups/${group.id}`} className="text-blue-600 hover:text-blue-800 font-medium">
                                                 View Group
                                             </Link>
@@ -243,6 +287,17 @@ const RecipeGroupsPage = () => {
                                 ))}
                             </div>
                         )}
+                        {nextCursor && (
+                            <div className="flex justify-center mt-6">
+                                <button
+                                    onClick={handleLoadMore}
+                                    disabled={loadingMore}
+                                    className="bg-white border px-4 py-2 rounded-md text-gray-700 hover:bg-gray-100 disabled:opacity-50"
+                                >
+                                    {loadingMore ? 'Loading...' : 'Load more'}
+                                </button>
+                            </div>
+                        )}
                     </div>
                 )}
 
@@ -41,11 +41,14 @@ export const authService = {
   }
 };
 
+// Logged-in user's ID, sent as viewerId so lists leave out users blocked either way
+const viewerParams = () => ({ viewerId: authService.getCurrentUser()?.user?.id });
+
 // Recipe services - now mapped to post endpoints with enhanced error handling
 export const recipeService = {
   getAllRecipes: async () => {
     try {
-      const response = await axiosInstance.get('/posts');
+      const response = await axiosInstance.get('/posts', { params: viewerParams() });
       return response;
     } catch (error) {
       console.error('Error fetching recipes:', error);
@@ -91,7 +94,7 @@ export const recipeService = {
   createRecipe: (recipe) => axiosInstance.post('/posts', recipe),
   updateRecipe: (id, recipe) => axiosInstance.put(`/posts/${id}`, recipe),
   deleteRecipe: (id) => axiosInstance.delete(`/posts/${id}`),
-  getUserRecipes: (userId) => axiosInstance.get(`/posts/user/${userId}`),
+  getUserRecipes: (userId) => axiosInstance.get(`/posts/user/${userId}`, { params: viewerParams() }),
 };
 
 // Add a response interceptor to handle errors globally
@@ -129,7 +132,7 @@ axiosInstance.interceptors.response.use(
 
 // Post services
 export const postService = {
-  getAllPosts: () => axiosInstance.get('/posts'),
+  getAllPosts: () => axiosInstance.get('/posts', { params: viewerParams() }),
   getPostById: (id) => axiosInstance.get(`/posts/${id}`),
   createPost: (post) => axiosInstance.post('/posts', post),
   updatePost: (id, post) => axiosInstance.put(`/posts/${id}`, post),
@@ -140,6 +143,7 @@ export const postService = {
 export const userService = {
   createUser: (user) => axiosInstance.post('/users', user),
   getUserById: (id) => axiosInstance.get(`/users/${id}`),
+  getUsersByName: (name) => axiosInstance.get('/users/search', { params: { name, ...viewerParams() } }),
   updateUser: (id, user) => axiosInstance.put(`/users/${id}`, user),
   deleteUser: (id) => axiosInstance.delete(`/users/${id}`),
   registerUser: async (userData) => {
@@ -167,6 +171,72 @@ export const eventService = {
     }
   },
 
+  // Soonest-first page of events starting between from and to (ISO instant or YYYY-MM-DD; both optional)
+  getUpcomingEvents: async ({ from, to, cursor, limit = 20 } = {}) => {
+    try {
+      const response = await axiosInstance.get('/events/upcoming', { params: { from, to, cursor, limit } });
+      return response;
+    } catch (error) {
+      console.error("Error fetching upcoming events:", error);
+      throw error?.response?.data || error.message || 'Failed to fetch upcoming events';
+    }
+  },
+
+  // Events within radiusKm of a point, nearest first, in the same time window as getUpcomingEvents
+  getNearbyEvents: async ({ lat, lon, radiusKm = 10, from, to, limit = 20 }) => {
+    try {
+      const response = await axiosInstance.get('/events/nearby', { params: { lat, lon, radiusKm, from, to, limit } });
+      return response;
+    } catch (error) {
+      console.error("Error fetching nearby events:", error);
+      throw error?.response?.data || error.message || 'Failed to fetch nearby events';
+    }
+  },
+
+  // RSVP to an event; resolves to GOING, or WAITLISTED with a waitlistPosition once it is full
+  rsvp: async (eventId, userId) => {
+    try {
+      const response = await axiosInstance.post(`/events/${eventId}/rsvps/users/${userId}`);
+      return response;
+    } catch (error) {
+      console.error(`Error RSVPing to event ${eventId}:`, error);
+      throw error?.response?.data || error.message || 'Failed to RSVP';
+    }
+  },
+
+  // The user's RSVP to an event, or null if they have none
+  getRsvp: async (eventId, userId) => {
+    try {
+      const response = await axiosInstance.get(`/events/${eventId}/rsvps/users/${userId}`);
+      return response.data;
+    } catch (error) {
+      if (error?.response?.status === 404) return null;
+      console.error(`Error fetching RSVP for event ${eventId}:`, error);
+      throw error?.response?.data || error.message || 'Failed to fetch RSVP';
+    }
+  },
+
+  cancelRsvp: async (eventId, userId) => {
+    try {
+      const response = await axiosInstance.delete(`/events/${eventId}/rsvps/users/${userId}`);
+      return response;
+    } catch (error) {
+      console.error(`Error cancelling RSVP for event ${eventId}:`, error);
+      throw error?.response?.data || error.message || 'Failed to cancel RSVP';
+    }
+  },
+
+  // Events overlapping a window (or another event via eventId); only the user's own and RSVPed ones with userId
+  getConflicts: async ({ userId, eventId, from, to, limit = 50 } = {}) => {
+    try {
+      const response = await axiosInstance.get('/events/conflicts', { params: { userId, eventId, from, to, limit } });
+      return response;
+    } catch (error) {
+      console.error("Error fetching event conflicts:", error);
+      throw error?.response?.data || error.message || 'Failed to fetch event conflicts';
+    }
+  },
+
   getEventById: async (id) => {
     try {
       const response = await axiosInstance.get(`/events/${id}`);
@@ -242,7 +312,7 @@ export const eventService = {
   
   searchEvents: async (searchTerm) => {
     try {
-      const response = await axiosInstance.get(`/events/search?term=${encodeURIComponent(searchTerm)}`);
+      const response = await axiosInstance.get('/events/search', { params: { term: searchTerm, ...viewerParams() } });
       return response;
     } catch (error) {
       console.error(`Error searching events with term "${searchTerm}":`, error);
@@ -295,6 +365,21 @@ export const interactionService = {
     axiosInstance.delete(`/interactions/recipes/${recipeId}/type/${type}`),
 };
 
+// Live updates service (Server-Sent Events)
+export const liveService = {
+  // Calls onBatch with each array of changes on the post; returns a function that closes the stream
+  subscribeToPost: (postId, onBatch) => {
+    const source = new EventSource(`${API_URL}/comments/post/${postId}/stream`, { withCredentials: true });
+    source.addEventListener('batch', (event) => onBatch(JSON.parse(event.data)));
+    return () => source.close();
+  },
+  subscribeToEvent: (eventId, onBatch) => {
+    const source = new EventSource(`${API_URL}/comments/event/${eventId}/stream`, { withCredentials: true });
+    source.addEventListener('batch', (event) => onBatch(JSON.parse(event.data)));
+    return () => source.close();
+  },
+};
+
 // Set authorization header if user is logged in
 const user = authService.getCurrentUser();
 if (user && user.token) {
@@ -452,6 +537,39 @@ export const friendService = {
     }
   },
 
+  // Get one page of a user's friends with their profiles; order is 'name' or 'recent'
+  getFriendPage: async (userId, { order = 'name', page = 0, size = 20 } = {}) => {
+    try {
+      const response = await axiosInstance.get(`/friends/users/${userId}/profiles`, { params: { order, page, size } });
+      return response;
+    } catch (error) {
+      console.error(`Error fetching friends for user ${userId}:`, error);
+      throw error?.response?.data || error.message || 'Failed to fetch friends';
+    }
+  },
+
+  // Get one page of friend requests received, with the senders' profiles
+  getPendingRequestPage: async (userId, { order = 'recent', page = 0, size = 20 } = {}) => {
+    try {
+      const response = await axiosInstance.get(`/friends/users/${userId}/pending/profiles`, { params: { order, page, size } });
+      return response;
+    } catch (error) {
+      console.error(`Error fetching pending friend requests for user ${userId}:`, error);
+      throw error?.response?.data || error.message || 'Failed to fetch pending requests';
+    }
+  },
+
+  // Get one page of friend requests sent, with the recipients' profiles
+  getSentRequestPage: async (userId, { order = 'recent', page = 0, size = 20 } = {}) => {
+    try {
+      const response = await axiosInstance.get(`/friends/users/${userId}/sent/profiles`, { params: { order, page, size } });
+      return response;
+    } catch (error) {
+      console.error(`Error fetching sent friend requests for user ${userId}:`, error);
+      throw error?.response?.data || error.message || 'Failed to fetch sent requests';
+    }
+  },
+
   // Get pending friend requests
   getPendingRequests: async (userId) => {
     try {
@@ -463,6 +581,39 @@ export const friendService = {
     }
   },
 
+  // Get how many friends two users have in common and the first few of them
+  getMutualFriends: async (userId, otherUserId, limit = 10) => {
+    try {
+      const response = await axiosInstance.get(`/friends/users/${userId}/mutual/${otherUserId}`, { params: { limit } });
+      return response;
+    } catch (error) {
+      console.error(`Error fetching mutual friends of ${userId} and ${otherUserId}:`, error);
+      throw error?.response?.data || error.message || 'Failed to fetch mutual friends';
+    }
+  },
+
+  // Get the degree of separation between two users (up to 3) and one chain of friends linking them
+  getConnection: async (userId, otherUserId) => {
+    try {
+      const response = await axiosInstance.get(`/friends/users/${userId}/connection/${otherUserId}`);
+      return response;
+    } catch (error) {
+      console.error(`Error fetching connection between ${userId} and ${otherUserId}:`, error);
+      throw error?.response?.data || error.message || 'Failed to fetch connection';
+    }
+  },
+
+  // Get people a user may know, ranked by mutual friends and shared groups
+  getSuggestions: async (userId, limit = 10) => {
+    try {
+      const response = await axiosInstance.get(`/friends/users/${userId}/suggestions`, { params: { limit } });
+      return response;
+    } catch (error) {
+      console.error(`Error fetching friend suggestions for user ${userId}:`, error);
+      throw error?.response?.data || error.message || 'Failed to fetch friend suggestions';
+    }
+  },
+
   // Check if users are friends
   areFriends: async (userId1, userId2) => {
     try {
@@ -499,6 +650,19 @@ export const recipeGroupService = {
     }
   },
 
+  // Get a page of public groups; sort is NEWEST, MEMBERS, ACTIVE or NAME, and q searches by name prefix
+  getGroupDirectory: async ({ sort, q, cursor = null, limit = 20 } = {}) => {
+    try {
+      const response = await axiosInstance.get('/recipe-groups/directory', {
+        params: { sort: sort || undefined, q: q || undefined, cursor: cursor || undefined, limit }
+      });
+      return response;
+    } catch (error) {
+      console.error('Error fetching group directory:', error);
+      throw error?.response?.data || error.message || 'Failed to fetch groups';
+    }
+  },
+
   // Get a group by ID
   getGroupById: async (groupId) => {
     try {
@@ -585,6 +749,67 @@ export const recipeGroupService = {
       console.error(`Error checking if user ${userId} is member of group ${groupId}:`, error);
       return false; // Default to false on error
     }
+  },
+
+  // Get public groups suggested to a user, best first
+  getSuggestedGroups: async (userId, limit = 5) => {
+    try {
+      const response = await axiosInstance.get('/recipe-groups/suggested', { params: { userId, limit } });
+      return response;
+    } catch (error) {
+      console.error(`Error fetching suggested groups for user ${userId}:`, error);
+      throw error?.response?.data || error.message || 'Failed to fetch suggested groups';
+    }
+  },
+
+  // Add many users at once; users is an array of IDs, usernames or emails, or a CSV string of "user[,role]" lines
+  importMembers: async (groupId, adminId, users, { role = 'MEMBER', status = 'ACTIVE' } = {}) => {
+    try {
+      const isCsv = typeof users === 'string';
+      const response = await axiosInstance.post(`/recipe-groups/${groupId}/members/bulk`, users, {
+        params: { adminId, role, status },
+        headers: isCsv ? { 'Content-Type': 'text/csv' } : undefined
+      });
+      return response;
+    } catch (error) {
+      console.error(`Error importing members into group ${groupId}:`, error);
+      throw error?.response?.data || error.message || 'Failed to import members';
+    }
+  },
+
+  // Share a post into a group as one of its active members
+  sharePost: async (groupId, postId, userId) => {
+    try {
+      const response = await axiosInstance.post(`/recipe-groups/${groupId}/posts`, { postId, userId });
+      return response;
+    } catch (error) {
+      console.error(`Error sharing post ${postId} into group ${groupId}:`, error);
+      throw error?.response?.data || error.message || 'Failed to share post';
+    }
+  },
+
+  // Get a newest-first page of a group's posts; pass the previous page's nextCursor to continue
+  getGroupPosts: async (groupId, cursor = null, limit = 20) => {
+    try {
+      const response = await axiosInstance.get(`/recipe-groups/${groupId}/posts`, {
+        params: { ...viewerParams(), cursor: cursor || undefined, limit }
+      });
+      return response;
+    } catch (error) {
+      console.error(`Error fetching posts for group ${groupId}:`, error);
+      throw error?.response?.data || error.message || 'Failed to fetch group posts';
+    }
+  },
+
+  // Take a post out of a group
+  unsharePost: async (groupId, postId, userId) => {
+    try {
+      const response = await axiosInstance.delete(`/recipe-groups/${groupId}/posts/${postId}`, { params: { userId } });
+      return response;
+    } catch (error) {
+      console.error(`Error removing post ${postId} from group ${groupId}:`, error);
+      throw error?.response?.data || error.message || 'Failed to remove post from group';
+    }
   }
 };
 
@@ -657,4 +882,46 @@ export const categoryService = {
   }
 };
 
+export const notificationService = {
+  getNotifications: async (userId, limit = 20) => {
+    try {
+      const response = await axiosInstance.get(`/notifications/users/${userId}`, { params: { limit } });
+      return response;
+    } catch (error) {
+      console.error(`Error fetching notifications for user ${userId}:`, error);
+      throw error?.response?.data || error.message || 'Failed to fetch notifications';
+    }
+  },
+
+  getUnreadCount: async (userId) => {
+    try {
+      const response = await axiosInstance.get(`/notifications/users/${userId}/unread-count`);
+      return response;
+    } catch (error) {
+      console.error(`Error fetching unread notification count for user ${userId}:`, error);
+      throw error?.response?.data || error.message || 'Failed to fetch unread count';
+    }
+  },
+
+  markRead: async (userId, notificationId) => {
+    try {
+      const response = await axiosInstance.put(`/notifications/users/${userId}/${notificationId}/read`);
+      return response;
+    } catch (error) {
+      console.error(`Error marking notification ${notificationId} as read:`, error);
+      throw error?.response?.data || error.message || 'Failed to mark notification as read';
+    }
+  },
+
+  markAllRead: async (userId) => {
+    try {
+      const response = await axiosInstance.put(`/notifications/users/${userId}/read-all`);
+      return response;
+    } catch (error) {
+      console.error(`Error marking notifications as read for user ${userId}:`, error);
+      throw error?.response?.data || error.message || 'Failed to mark notifications as read';
+    }
+  }
+};
+
 export default axiosInstance;
\ No newline at end of file